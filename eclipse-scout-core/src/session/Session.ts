@@ -335,6 +335,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     }
     request.userAgent = this.userAgent;
     request.sessionStartupParams = this._createSessionStartupParams();
+    request.capabilities = this._createCapabilities();
 
     // Send request
     let ajaxOptions = this.defaultAjaxOptions(request);
@@ -358,6 +359,14 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     }
   }
 
+  /**
+   * Creates the list of optional protocol features supported by this UI, sent to the server as "capabilities" (see JsonStartupRequest.java).
+   * The server only uses a feature if it is supported by the UI.
+   */
+  protected _createCapabilities(): string[] {
+    return ['tableRowDiff', 'tableRowWindow'];
+  }
+
   /**
    * Creates an object to send to the server as "startupParams".
    *
@@ -1604,6 +1613,7 @@ export interface RemoteRequestData {
   version?: string;
   userAgent?: UserAgent;
   sessionStartupParams?: SessionStartupParams;
+  capabilities?: string[];
   showBusyIndicator?: boolean;
   pollForBackgroundJobs?: boolean;
 }
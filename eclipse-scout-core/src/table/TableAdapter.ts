@@ -8,9 +8,9 @@
  * SPDX-License-Identifier: EPL-2.0
  */
 import {
-  AdapterData, App, arrays, BooleanColumn, Cell, ChildModelOf, Column, ColumnModel, ColumnUserFilter, defaultValues, Event, Filter, ModelAdapter, NumberColumn, ObjectOrModel, objects, RemoteEvent, scout, Table,
+  AdapterData, App, arrays, BooleanColumn, Cell, ChildModelOf, Column, ColumnModel, ColumnUserFilter, defaultValues, Event, Filter, ModelAdapter, NumberColumn, ObjectOrModel, objects, Range, RemoteEvent, scout, Table,
   TableAggregationFunctionChangedEvent, TableAppLinkActionEvent, TableCancelCellEditEvent, TableColumnBackgroundEffectChangedEvent, TableColumnMovedEvent, TableColumnOrganizeActionEvent, TableColumnResizedEvent, TableCompleteCellEditEvent,
-  TableDropEvent, TableFilterAddedEvent, TableFilterRemovedEvent, TableGroupEvent, TableModel, TablePrepareCellEditEvent, TableReloadEvent, TableRow, TableRowActionEvent, TableRowClickEvent, TableRowModel, TableRowsCheckedEvent,
+  TableDropEvent, TableFilterAddedEvent, TableFilterRemovedEvent, TableFooter, TableGroupEvent, TableModel, TablePrepareCellEditEvent, TableReloadEvent, TableRow, TableRowActionEvent, TableRowClickEvent, TableRowModel, TableRowsCheckedEvent,
   TableRowsExpandedEvent, TableRowsSelectedEvent, TableSortEvent, TableUserFilter, ValueField
 } from '../index';
 import $ from 'jquery';
@@ -20,15 +20,76 @@ export class TableAdapter extends ModelAdapter {
 
   /** @internal */
   _rebuildingTable: boolean;
+  /** Number of rows not sent by the server yet, see JsonTable.java, property 'remainingRowCount'. */
+  remainingRowCount: number;
+  /** Number of rows of the table including the rows not sent yet, only set if {@link remainingRowCount} is > 0. */
+  totalRowCount: number;
+  protected _fetchingRows: boolean;
 
   constructor() {
     super();
     this._addRemoteProperties(['contextColumn']);
+    this.remainingRowCount = 0;
+    this.totalRowCount = 0;
+    this._fetchingRows = false;
   }
 
-  protected override _initProperties(model: TableModel) {
+  protected override _initProperties(model: TableModel & { remainingRowCount?: number; totalRowCount?: number }) {
     super._initProperties(model);
     model.compactHandler = null; // Disable Scout JS compact handling, will be done on the server
+    this.remainingRowCount = model.remainingRowCount || 0;
+    this.totalRowCount = model.totalRowCount || 0;
+    delete model.remainingRowCount;
+    delete model.totalRowCount;
+  }
+
+  protected _syncRemainingRowCount(remainingRowCount: number) {
+    this.remainingRowCount = remainingRowCount || 0;
+    if (this.widget && this.widget.rendered) {
+      // The rows sent may not fill the viewport
+      this._onViewRangeRendered(this.widget.viewRangeRendered);
+    }
+    this._renderFooterInfo();
+  }
+
+  protected _syncTotalRowCount(totalRowCount: number) {
+    this.totalRowCount = totalRowCount || 0;
+    this._renderFooterInfo();
+  }
+
+  protected _renderFooterInfo() {
+    let footer = this.widget && this.widget.footer;
+    if (footer && footer.rendered) {
+      footer._renderInfo();
+    }
+  }
+
+  /**
+   * If the server did not send all rows yet, the next rows are requested as soon as the rendered rows reach the end of the rows already sent.
+   * @internal
+   */
+  _onViewRangeRendered(viewRange: Range) {
+    if (this.remainingRowCount <= 0 || this._fetchingRows) {
+      return;
+    }
+    let rowCount = this.widget.visibleRows.length;
+    if (viewRange.to < rowCount - viewRange.size()) {
+      return;
+    }
+    this._fetchingRows = true;
+    this._send('fetchRows', {}, {
+      showBusyIndicator: false
+    });
+    // The response does not necessarily change the remaining row count (e.g. if the rows sent were deleted meanwhile)
+    this.session.onRequestsDone(this._onRowsFetched.bind(this));
+  }
+
+  protected _onRowsFetched() {
+    this._fetchingRows = false;
+    if (this.widget && this.widget.rendered) {
+      // The rows sent may not fill the viewport
+      this._onViewRangeRendered(this.widget.viewRangeRendered);
+    }
   }
 
   /** @internal */
@@ -55,6 +116,14 @@ export class TableAdapter extends ModelAdapter {
     });
   }
 
+  /**
+   * Lets the server select all rows if it did not send all rows yet.
+   * @internal
+   */
+  _sendSelectAllRows() {
+    this._send('selectAllRows');
+  }
+
   protected _sendRowClick(rowId: string, mouseButton: number, columnId: string) {
     let data = {
       rowId: rowId,
@@ -418,9 +487,30 @@ export class TableAdapter extends ModelAdapter {
   }
 
   protected _onRowsUpdated(rows: TableRow | TableRow[]) {
+    rows = arrays.ensure(rows).map(row => this._applyCellUpdates(row));
     this.widget.updateRows(rows);
   }
 
+  /**
+   * If the server only sends the changed cells of a row (see JsonTable.java, property 'cellUpdates'),
+   * the remaining cells are taken from the current row. 'cellUpdates' is a flat array of alternating cell index and cell.
+   */
+  protected _applyCellUpdates(row: TableRow & { cellUpdates?: any[] }): TableRow {
+    let cellUpdates = row.cellUpdates;
+    if (!cellUpdates) {
+      return row;
+    }
+    // Rows may still be waiting in the update buffer, use these cells because they are more recent
+    let currentRow = this.widget.updateBuffer.bufferedRow(row.id) || this.widget.rowsMap[row.id];
+    let cells: any[] = currentRow ? currentRow.cells.slice() : [];
+    for (let i = 0; i < cellUpdates.length; i += 2) {
+      cells[cellUpdates[i]] = cellUpdates[i + 1];
+    }
+    delete row.cellUpdates;
+    row.cells = cells;
+    return row;
+  }
+
   protected _onRowsSelected(rowIds: string[]) {
     let rows = this.widget.rowsByIds(rowIds);
     this.addFilterForWidgetEventType('rowsSelected');
@@ -690,12 +780,31 @@ export class TableAdapter extends ModelAdapter {
         // In a JS only app the flag 'uiSortPossible' is never set and thus defaults to true. Additionally, we check if each column can install
         // its comparator used to sort. If installation failed for some reason, sorting is not possible. In a remote app the server sets the
         // 'uiSortPossible' flag, which decides if the column must be sorted by the server or can be sorted by the client.
-        let uiSortPossible = scout.nvl(this.uiSortPossible, true);
+        // If the server did not send all rows yet, the rows are sorted by the server as well.
+        let uiSortPossible = scout.nvl(this.uiSortPossible, true) && !(this.modelAdapter as TableAdapter).remainingRowCount;
         return uiSortPossible && this._isSortingPossibleOrig(sortColumns);
       }
       return this._isSortingPossibleOrig(sortColumns);
     }, true);
 
+    // _renderViewRange
+    objects.replacePrototypeFunction(Table, '_renderViewRange', function(this: Table & { modelAdapter: TableAdapter; _renderViewRangeOrig }, viewRange: Range) {
+      this._renderViewRangeOrig(viewRange);
+      if (this.modelAdapter) {
+        this.modelAdapter._onViewRangeRendered(viewRange);
+      }
+    }, true);
+
+    // selectAll
+    objects.replacePrototypeFunction(Table, 'selectAll', function(this: Table & { modelAdapter: TableAdapter; selectAllOrig }) {
+      if (this.modelAdapter && this.modelAdapter.remainingRowCount > 0) {
+        // The server selects the rows not sent yet as well and sends them together with the selection
+        this.modelAdapter._sendSelectAllRows();
+        return;
+      }
+      this.selectAllOrig();
+    }, true);
+
     // sort
     objects.replacePrototypeFunction(Table, 'sort', function(this: Table & { sortOrig }, column: Column<any>, direction?: 'asc' | 'desc', multiSort?: boolean, remove?: boolean) {
       if (this.modelAdapter && column.guiOnly) {
@@ -740,7 +849,8 @@ export class TableAdapter extends ModelAdapter {
 
     // _ensureCell
     objects.replacePrototypeFunction(Column, '_ensureCell', function(this: Column & { _ensureCellOrig; _ensureValue }, vararg: any) {
-      if (this.table.modelAdapter) {
+      if (this.table.modelAdapter && !(vararg instanceof Cell)) {
+        // Note: cells not contained in the 'cellUpdates' of an updated row are taken over from the current row and are already Cell instances.
         // Note: we do almost the same thing as in _ensureCellOrig, the difference is that
         // we treat a plain object always as cell-model and we always must apply defaultValues
         // to this cell model. In the JS only case a plain-object has no special meaning and
@@ -789,6 +899,22 @@ export class TableAdapter extends ModelAdapter {
     }, true);
   }
 
+  static modifyTableFooterPrototype() {
+    if (!App.get().remote) {
+      return;
+    }
+
+    // _rowCount
+    objects.replacePrototypeFunction(TableFooter, '_rowCount', function(this: TableFooter & { _rowCountOrig }, rows: TableRow[]) {
+      let modelAdapter = this.table.modelAdapter as TableAdapter;
+      if (modelAdapter && modelAdapter.remainingRowCount > 0) {
+        // The rows are sent in windows, the rows not sent yet are counted as well
+        return modelAdapter.totalRowCount;
+      }
+      return this._rowCountOrig(rows);
+    }, true);
+  }
+
   static modifyBooleanColumnPrototype() {
     if (!App.get().remote) {
       return;
@@ -807,4 +933,5 @@ export class TableAdapter extends ModelAdapter {
 
 App.addListener('bootstrap', TableAdapter.modifyTablePrototype);
 App.addListener('bootstrap', TableAdapter.modifyColumnPrototype);
+App.addListener('bootstrap', TableAdapter.modifyTableFooterPrototype);
 App.addListener('bootstrap', TableAdapter.modifyBooleanColumnPrototype);
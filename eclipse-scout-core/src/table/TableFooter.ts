@@ -9,7 +9,7 @@
  */
 import {
   Event, EventHandler, fields, FocusFilterFieldKeyStroke, graphics, HtmlComponent, InitModelOf, InputFieldKeyStrokeContext, MenuBarLayout, PropertyChangeEvent, scout, SomeRequired, Status, strings, Table, TableControl,
-  TableFilterAddedEvent, TableFilterRemovedEvent, TableFooterLayout, TableFooterModel, TableRowsInsertedEvent, TableRowsSelectedEvent, TableTextUserFilter, TableUserFilter, Tooltip, Widget
+  TableFilterAddedEvent, TableFilterRemovedEvent, TableFooterLayout, TableFooterModel, TableRow, TableRowsInsertedEvent, TableRowsSelectedEvent, TableTextUserFilter, TableUserFilter, Tooltip, Widget
 } from '../index';
 import $ from 'jquery';
 
@@ -282,7 +282,7 @@ export class TableFooter extends Widget implements TableFooterModel {
 
   protected _renderInfoLoad() {
     let $info = this._$infoLoad,
-      numRows = this.table.rows.length,
+      numRows = this._rowCount(this.table.rows),
       estRows = this.table.estimatedRowCount,
       maxRows = this.table.maxRowCount;
 
@@ -321,9 +321,16 @@ export class TableFooter extends Widget implements TableFooterModel {
     }
   }
 
+  /**
+   * @returns the number of rows displayed in the info boxes for the given rows of the table.
+   */
+  protected _rowCount(rows: TableRow[]): number {
+    return rows.length;
+  }
+
   protected _renderInfoFilter() {
     let $info = this._$infoFilter;
-    let numRowsFiltered = this.table.filteredRows().length;
+    let numRowsFiltered = this._rowCount(this.table.filteredRows());
     let filteredBy = this.table.filteredBy().join(', '); // filteredBy() returns an array
 
     $info.empty();
@@ -360,7 +367,7 @@ export class TableFooter extends Widget implements TableFooterModel {
 
   protected _renderInfoSelection() {
     let $info = this._$infoSelection,
-      numRows = this.table.filteredRows().length,
+      numRows = this._rowCount(this.table.filteredRows()),
       numRowsSelected = this.table.selectedRows.length,
       all = numRows > 0 && numRows === numRowsSelected;
 
@@ -777,7 +784,7 @@ export class TableFooter extends Widget implements TableFooterModel {
     if (this._compactStyle) {
       this._toggleTableInfoTooltip(this._$infoLoad, 'TableInfoLoadTooltip');
     } else {
-      let numRows = this.table.rows.length;
+      let numRows = this._rowCount(this.table.rows);
       let estRows = this.table.estimatedRowCount;
       let maxRows = this.table.maxRowCount;
       if (estRows && maxRows && numRows < estRows && numRows < maxRows) {
@@ -56,6 +56,13 @@ export class TableUpdateBuffer {
     });
   }
 
+  /**
+   * @returns the buffered row with the given id or undefined if no update of this row is buffered.
+   */
+  bufferedRow(rowId: string): ObjectOrModel<TableRow> {
+    return this._rowMap[rowId];
+  }
+
   /**
    * Calls {@link Table.updateRows} with the buffered rows and renders the viewport if the rendering was blocked.
    */
@@ -7,7 +7,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-import {defaultValues, RemoteEvent, RemoteResponse, Table, TableAdapter, TableRow, TableTextUserFilter} from '../../src/index';
+import {defaultValues, Range, RemoteEvent, RemoteResponse, Table, TableAdapter, TableRow, TableTextUserFilter} from '../../src/index';
 import {LocaleSpecHelper, SpecTable, SpecTableAdapter, TableModelWithCells, TableSpecHelper} from '../../src/testing/index';
 
 describe('TableAdapter', () => {
@@ -177,6 +177,110 @@ describe('TableAdapter', () => {
 
   });
 
+  describe('fetchRows', () => {
+
+    it('is sent if the rendered rows reach the end of the rows sent by the server', () => {
+      let model = helper.createModelFixture(2, 5);
+      model['remainingRowCount'] = 10;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+
+      adapter._onViewRangeRendered(new Range(0, 2));
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+
+      adapter._onViewRangeRendered(new Range(2, 5));
+      jasmine.clock().tick(0);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEvents(new RemoteEvent(table.id, 'fetchRows', {}));
+
+      // Not sent again until the server answered
+      adapter._onViewRangeRendered(new Range(2, 5));
+      jasmine.clock().tick(0);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+
+      receiveResponseForAjaxCall(jasmine.Ajax.requests.mostRecent(), {
+        status: 200,
+        responseText: JSON.stringify({
+          events: [createPropertyChangeEvent(table, {
+            remainingRowCount: 5
+          })]
+        })
+      });
+      expect(adapter.remainingRowCount).toBe(5);
+      adapter._onViewRangeRendered(new Range(2, 5));
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(2);
+    });
+
+    it('is sent again if the response did not change the remaining row count', () => {
+      let model = helper.createModelFixture(2, 5);
+      model['remainingRowCount'] = 10;
+      let adapter = helper.createTableAdapter(model);
+      adapter.createWidget(model, session.desktop);
+
+      adapter._onViewRangeRendered(new Range(2, 5));
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(adapter.remainingRowCount).toBe(10);
+
+      adapter._onViewRangeRendered(new Range(2, 5));
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(2);
+    });
+
+    it('is not sent if the server sent all rows', () => {
+      let model = helper.createModelFixture(2, 5);
+      let adapter = helper.createTableAdapter(model);
+      adapter.createWidget(model, session.desktop);
+
+      adapter._onViewRangeRendered(new Range(0, 5));
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+    });
+
+  });
+
+  describe('totalRowCount', () => {
+
+    it('is read from the model and updated by the server', () => {
+      let model = helper.createModelFixture(2, 5);
+      model['remainingRowCount'] = 10;
+      model['totalRowCount'] = 15;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+      expect(adapter.totalRowCount).toBe(15);
+      expect(table['totalRowCount']).toBeUndefined();
+
+      session._processSuccessResponse({
+        events: [createPropertyChangeEvent(table, {
+          totalRowCount: 20,
+          remainingRowCount: 15
+        })]
+      });
+      expect(adapter.totalRowCount).toBe(20);
+      expect(adapter.remainingRowCount).toBe(15);
+    });
+
+  });
+
+  describe('selectAllRows', () => {
+
+    it('is sent to let the server select the rows not sent yet', () => {
+      let model = helper.createModelFixture(2, 5);
+      model['remainingRowCount'] = 10;
+      model['totalRowCount'] = 15;
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+
+      adapter._sendSelectAllRows();
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      expect(mostRecentJsonRequest()).toContainEvents(new RemoteEvent(table.id, 'selectAllRows', {}));
+    });
+
+  });
+
   describe('onModelAction', () => {
 
     function createRowsInsertedEvent(model, rows) {
@@ -508,6 +612,21 @@ describe('TableAdapter', () => {
         adapter.onModelAction(event);
         expect(table.rows[0].b).toBe(234);
       });
+
+      it('merges cellUpdates with the current cells', () => {
+        let oldCell0 = table.rows[0].cells[0];
+        let row = {
+          id: table.rows[0].id,
+          cellUpdates: [1, 'newCellText1']
+        };
+        let event = createRowsUpdatedEvent(model, [row]);
+        adapter.onModelAction(event);
+        expect(table.rows[0].cells.length).toBe(2);
+        expect(table.rows[0].cells[0]).toBe(oldCell0);
+        expect(table.rows[0].cells[0].text).toBe('cellText0');
+        expect(table.rows[0].cells[1].text).toBe('newCellText1');
+        expect(table.rows[0].cellUpdates).toBeUndefined();
+      });
     });
 
     describe('columnStructureChanged event', () => {
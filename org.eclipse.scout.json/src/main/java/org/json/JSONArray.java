@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -606,6 +609,25 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Writes this array as compact JSON (same as {@link #toString()}) to the given writer without building the whole string
+   * in memory. The writer is flushed, but not closed.
+   *
+   * @throws JSONException
+   *           if this array contains a value which cannot be encoded, e.g. {@link Double#NaN}. Parts of the JSON may have
+   *           been written to the writer already.
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    stringer.flush();
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
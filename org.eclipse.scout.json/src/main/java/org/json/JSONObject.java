@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -709,6 +712,25 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Writes this object as compact JSON (same as {@link #toString()}) to the given writer without building the whole string
+   * in memory. The writer is flushed, but not closed.
+   *
+   * @throws JSONException
+   *           if this object contains a value which cannot be encoded, e.g. {@link Double#NaN}. Parts of the JSON may have
+   *           been written to the writer already.
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    stringer.flush();
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
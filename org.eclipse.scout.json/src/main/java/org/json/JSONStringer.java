@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -54,6 +57,9 @@ import java.util.List;
  * </ul>
  * Calls that would result in a malformed JSON string will fail with a {@link JSONException}.
  * <p>
+ * A stringer created with {@link #JSONStringer(Writer)} streams its output to a writer instead of keeping it in
+ * memory. See {@link JSONObject#write(Writer)} and {@link JSONArray#write(Writer)}.
+ * <p>
  * This class provides no facility for pretty-printing (ie. indenting) output. To encode indented output, use
  * {@link JSONObject#toString(int)} or {@link JSONArray#toString(int)}.
  * <p>
@@ -67,10 +73,21 @@ import java.util.List;
  */
 public class JSONStringer {
 
+  /**
+   * Number of buffered characters after which the output of a streaming stringer is written to its writer.
+   */
+  static final int FLUSH_THRESHOLD = 8192;
+
   /** The output data, containing at most one top-level array or object. */
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
 
+  /**
+   * Target of a streaming stringer, <code>null</code> if the output is kept in {@link #out}.
+   */
+  private final Writer m_writer;
+  private boolean m_written;
+
   /**
    * Lexical scoping elements within this stringer, necessary to insert the appropriate separator characters (ie. commas
    * and colons) and to detect nesting errors.
@@ -121,12 +138,29 @@ public class JSONStringer {
 
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer which writes its output to the given writer. Output is buffered and written in chunks of a few
+   * kilobytes, {@link #flush()} must be called after the top-level value is complete. I/O errors are thrown as
+   * {@link UncheckedIOException}.
+   * <p>
+   * {@link #toString()} always returns null for such stringers.
+   */
+  public JSONStringer(Writer writer) {
+    if (writer == null) {
+      throw new IllegalArgumentException("writer must not be null");
+    }
+    m_indent = null;
+    m_writer = writer;
   }
 
   /**
@@ -169,7 +203,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_written)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,6 +226,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    writeIfFull();
     return this;
   }
 
@@ -251,6 +286,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
+    writeIfFull();
     return this;
   }
 
@@ -265,6 +301,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    writeIfFull();
     return this;
   }
 
@@ -281,6 +318,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(JSONObject.numberToString(value));
+    writeIfFull();
     return this;
   }
 
@@ -295,6 +333,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    writeIfFull();
     return this;
   }
 
@@ -419,6 +458,44 @@ public class JSONStringer {
     }
   }
 
+  /**
+   * Writes the buffered output to the writer of a streaming stringer and flushes the writer. Does nothing if this
+   * stringer is not streaming.
+   */
+  public void flush() throws IOException {
+    if (m_writer == null) {
+      return;
+    }
+    writeBuffer();
+    m_writer.flush();
+  }
+
+  private void writeIfFull() {
+    if (m_writer == null || out.length() < FLUSH_THRESHOLD) {
+      return;
+    }
+    try {
+      writeBuffer();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Moves the buffered output to the writer using {@link Writer#append(CharSequence)}. Writers which override this
+   * method to read the characters directly (instead of converting them to a {@link String} first) do not allocate any
+   * memory.
+   */
+  private void writeBuffer() throws IOException {
+    if (out.length() == 0) {
+      return;
+    }
+    m_writer.append(out);
+    out.setLength(0);
+    m_written = true;
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
@@ -429,6 +506,6 @@ public class JSONStringer {
    */
   @Override
   public String toString() {
-    return out.length() == 0 ? null : out.toString();
+    return m_writer != null || out.length() == 0 ? null : out.toString();
   }
 }
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import junit.framework.TestCase;
 
 /*
@@ -374,4 +377,42 @@ public class JSONStringerTest extends TestCase {
     catch (JSONException e) {
     }
   }
+
+  public void testStreamingStringer() throws IOException { // BSI
+    StringWriter writer = new StringWriter();
+    JSONStringer stringer = new JSONStringer(writer);
+    stringer.object().key("a").value("x").key("b").array().value(1).value(true).endArray().endObject();
+    assertEquals("", writer.toString());
+    stringer.flush();
+    assertEquals("{\"a\":\"x\",\"b\":[1,true]}", writer.toString());
+    assertNull(stringer.toString());
+    try {
+      stringer.object();
+      fail();
+    }
+    catch (JSONException e) {
+      // expected: multiple top-level roots
+    }
+  }
+
+  public void testWriteLargeObject() throws IOException { // BSI
+    JSONObject object = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 2000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("text", "row \"" + i + "\"\n");
+      rows.put(row);
+    }
+    object.put("rows", rows);
+
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertTrue(writer.toString().length() > JSONStringer.FLUSH_THRESHOLD);
+    assertEquals(object.toString(), writer.toString());
+
+    writer = new StringWriter();
+    rows.write(writer);
+    assertEquals(rows.toString(), writer.toString());
+  }
 }
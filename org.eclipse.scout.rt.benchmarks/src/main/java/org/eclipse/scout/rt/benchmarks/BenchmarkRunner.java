@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Scout JMH benchmarks.
+ * <p>
+ * Results are written as JSON to <code>target/jmh-result-&lt;version&gt;.json</code>, so that the results of two
+ * releases can be compared, e.g. using <a href="https://jmh.morethan.io">JMH Visualizer</a>. All JMH command line
+ * options are supported and take precedence.
+ * <p>
+ * <b>Example:</b>
+ *
+ * <pre>
+ * mvn -pl org.eclipse.scout.rt.benchmarks -am package -DskipTests
+ * java -jar org.eclipse.scout.rt.benchmarks/target/org.eclipse.scout.rt.benchmarks-*.jar [jmh options] [benchmark regex]
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (commandLineOptions.getIncludes().isEmpty()) {
+      options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+    }
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      options.result(defaultResultFile());
+    }
+    new Runner(options.build()).run();
+  }
+
+  static String defaultResultFile() {
+    String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+    if (version == null) {
+      version = "dev";
+    }
+    return "target" + File.separator + "jmh-result-" + version + ".json";
+  }
+}
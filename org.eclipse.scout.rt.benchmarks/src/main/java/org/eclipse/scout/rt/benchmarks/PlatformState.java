@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks;
+
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.Platform;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Starts the Scout platform once per benchmark fork. Benchmarks requiring beans declare a parameter of this type or
+ * extend it.
+ */
+@State(Scope.Benchmark)
+public class PlatformState {
+
+  @Setup(Level.Trial)
+  public void startPlatform() {
+    Platform.get().awaitPlatformStarted();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopPlatform() {
+    IPlatform platform = Platform.peek();
+    if (platform != null && platform.getState() != IPlatform.State.PlatformStopped) {
+      platform.stop();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.dataobject;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.PlatformState;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.date.DateUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization of data objects using the {@link IDataObjectMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataObjectMapperBenchmark extends PlatformState {
+
+  private IDataObjectMapper m_mapper;
+  private BenchmarkPersonDo m_person;
+  private String m_json;
+
+  @Setup(Level.Trial)
+  public void setupDataObject() {
+    m_mapper = BEANS.get(IDataObjectMapper.class);
+    m_person = BEANS.get(BenchmarkPersonDo.class)
+        .withId(42L)
+        .withName("John Doe")
+        .withBirthday(DateUtility.parse("1970-01-01", "yyyy-MM-dd"))
+        .withSalary(new BigDecimal("12345.60"))
+        .withActive(true);
+    for (int i = 0; i < 10; i++) {
+      m_person.addresses().add(BEANS.get(BenchmarkAddressDo.class)
+          .withStreet("Street " + i)
+          .withCity("City " + i)
+          .withZipCode(String.valueOf(1000 + i)));
+    }
+    m_json = m_mapper.writeValue(m_person);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return m_mapper.writeValue(m_person);
+  }
+
+  @Benchmark
+  public BenchmarkPersonDo deserialize() {
+    return m_mapper.readValue(m_json, BenchmarkPersonDo.class);
+  }
+
+  /**
+   * Deserialization into generic data objects, i.e. without resolving the type name.
+   */
+  @Benchmark
+  public IDataObject deserializeRaw() {
+    return m_mapper.readValueRaw(m_json);
+  }
+}
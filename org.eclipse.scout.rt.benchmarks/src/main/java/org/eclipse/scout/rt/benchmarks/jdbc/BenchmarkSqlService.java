@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.jdbc;
+
+import org.eclipse.scout.rt.server.jdbc.derby.AbstractDerbySqlService;
+
+/**
+ * SQL service using an embedded in-memory Derby database as a stand-in for a real database server.
+ */
+public class BenchmarkSqlService extends AbstractDerbySqlService {
+
+  @Override
+  protected String getConfiguredJdbcMappingName() {
+    return "jdbc:derby:memory:scoutBenchmarks;create=true";
+  }
+
+  @Override
+  protected String getConfiguredUsername() {
+    return "benchmark";
+  }
+
+  @Override
+  protected String getConfiguredPassword() {
+    return "benchmark";
+  }
+
+  @Override
+  protected int getConfiguredJdbcPoolSize() {
+    return 4;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.jdbc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.PlatformState;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.jdbc.SqlRowMappers;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bind processing of {@link StatementProcessor} and statement execution against an embedded Derby database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementProcessorBenchmark extends PlatformState {
+
+  private static final int ROW_COUNT = 1000;
+  private static final String SELECT_STATEMENT = ""
+      + "SELECT PERSON_NR, NAME, SALARY "
+      + "FROM   BENCHMARK_PERSON "
+      + "WHERE  PERSON_NR BETWEEN :fromNr AND :toNr "
+      + "AND    NAME LIKE :name "
+      + "AND    SALARY >= :minSalary";
+
+  private BenchmarkSqlService m_sqlService;
+  private Object[] m_binds;
+
+  @Setup(Level.Trial)
+  public void setupDatabase() {
+    m_sqlService = BEANS.get(BenchmarkSqlService.class);
+    m_binds = new Object[]{new NVPair("fromNr", 100L), new NVPair("toNr", 199L), new NVPair("name", "Person%"), new NVPair("minSalary", 0L)};
+
+    Long[] personNrs = new Long[ROW_COUNT];
+    String[] names = new String[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      personNrs[i] = (long) i;
+      names[i] = "Person " + i;
+    }
+    RunContexts.empty().run(() -> {
+      m_sqlService.update("CREATE TABLE BENCHMARK_PERSON (PERSON_NR BIGINT NOT NULL PRIMARY KEY, NAME VARCHAR(100), SALARY DECIMAL(10, 2))");
+      m_sqlService.insertBatch("INSERT INTO BENCHMARK_PERSON (PERSON_NR, NAME, SALARY) VALUES (:{personNr}, :{name}, 1000)",
+          new NVPair("personNr", personNrs), new NVPair("name", names));
+    });
+  }
+
+  /**
+   * Parsing the statement and resolving its binds, without any database access.
+   */
+  @Benchmark
+  public StatementProcessor processBinds() {
+    return new StatementProcessor(m_sqlService, SELECT_STATEMENT, m_binds);
+  }
+
+  @Benchmark
+  public Object[][] select() {
+    return RunContexts.empty().call(() -> m_sqlService.select(SELECT_STATEMENT, m_binds));
+  }
+
+  @Benchmark
+  public long selectCursor() {
+    return RunContexts.empty().call(() -> {
+      try (var cursor = m_sqlService.selectCursor(SELECT_STATEMENT, SqlRowMappers.column(1, Long.class), m_binds)) {
+        return cursor.stream().mapToLong(Long::longValue).sum();
+      }
+    });
+  }
+}
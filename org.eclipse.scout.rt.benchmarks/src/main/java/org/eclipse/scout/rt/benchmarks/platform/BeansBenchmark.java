@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.PlatformState;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean lookups through {@link BEANS}. The <code>*Contended</code> variants run the same lookups concurrently with 64
+ * threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeansBenchmark extends PlatformState {
+
+  @Benchmark
+  public PlatformExceptionTranslator get() {
+    return BEANS.get(PlatformExceptionTranslator.class);
+  }
+
+  @Benchmark
+  public IUnregisteredBenchmarkBean optMissing() {
+    return BEANS.opt(IUnregisteredBenchmarkBean.class);
+  }
+
+  @Benchmark
+  public List<IPlatformListener> all() {
+    return BEANS.all(IPlatformListener.class);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public PlatformExceptionTranslator getContended() {
+    return get();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public List<IPlatformListener> allContended() {
+    return all();
+  }
+
+  /**
+   * Bean without implementation.
+   */
+  @ApplicationScoped
+  public interface IUnregisteredBenchmarkBean {
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jobs blocking for a short time (simulating I/O such as database or remote service calls), executed on platform threads
+ * and on virtual threads (see {@link JobManagerVirtualThreadsProperty}). Virtual threads require a Java 21 runtime,
+ * otherwise both modes run on platform threads.
+ * <p>
+ * Each invocation schedules {@link #jobCount} jobs and waits for all of them to complete.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobManagerBenchmark {
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  @Param({"1000"})
+  public int jobCount;
+
+  @Param({"5"})
+  public long blockingMillis;
+
+  private IExecutionSemaphore m_semaphore;
+
+  @Setup(Level.Trial)
+  public void startPlatform() {
+    // the job manager reads its configuration upon platform start
+    System.setProperty(BEANS.get(JobManagerVirtualThreadsProperty.class).getKey(), String.valueOf(virtualThreads));
+    Platform.get().awaitPlatformStarted();
+    m_semaphore = Jobs.newExecutionSemaphore(50);
+  }
+
+  @TearDown(Level.Trial)
+  public void stopPlatform() {
+    IPlatform platform = Platform.peek();
+    if (platform != null && platform.getState() != IPlatform.State.PlatformStopped) {
+      platform.stop();
+    }
+  }
+
+  @Benchmark
+  public void blockingJobs() {
+    awaitAll(schedule(null));
+  }
+
+  /**
+   * Same as {@link #blockingJobs()}, but at most 50 jobs run concurrently.
+   */
+  @Benchmark
+  public void blockingJobsWithExecutionSemaphore() {
+    awaitAll(schedule(m_semaphore));
+  }
+
+  protected List<IFuture<Void>> schedule(IExecutionSemaphore semaphore) {
+    List<IFuture<Void>> futures = new ArrayList<>(jobCount);
+    for (int i = 0; i < jobCount; i++) {
+      futures.add(Jobs.schedule(() -> SleepUtil.sleepSafe(blockingMillis, TimeUnit.MILLISECONDS), Jobs.newInput()
+          .withName("blocking job")
+          .withRunContext(RunContexts.empty())
+          .withExecutionSemaphore(semaphore)));
+    }
+    return futures;
+  }
+
+  protected void awaitAll(List<IFuture<Void>> futures) {
+    for (IFuture<Void> future : futures) {
+      future.awaitDone(1, TimeUnit.MINUTES);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.PlatformState;
+import org.eclipse.scout.rt.platform.text.TEXTS;
+import org.eclipse.scout.rt.platform.text.TextIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Text lookups through {@link TEXTS} (see {@link TextIndex}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextsBenchmark extends PlatformState {
+
+  @Benchmark
+  public String get() {
+    return TEXTS.get("ui.CalendarToday");
+  }
+
+  @Benchmark
+  public String getWithArguments() {
+    return TEXTS.get("ui.CountOfApproxTotal", "10", "100");
+  }
+
+  @Benchmark
+  public String getMissing() {
+    return TEXTS.get("ui.UnknownBenchmarkKey");
+  }
+}
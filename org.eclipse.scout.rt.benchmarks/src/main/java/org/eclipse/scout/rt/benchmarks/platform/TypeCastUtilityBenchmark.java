@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversions performed by {@link TypeCastUtility#castValue(Object, Class)}, e.g. when reading JDBC results into form
+ * data or data objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeCastUtilityBenchmark {
+
+  private final String m_numberText = "1234567";
+  private final Long m_long = 1234567L;
+  private final BigDecimal m_bigDecimal = new BigDecimal("1234567.89");
+  private final Date m_date = new Date();
+  private final Object[] m_longs = {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L};
+
+  @Benchmark
+  public Long sameType() {
+    return TypeCastUtility.castValue(m_long, Long.class);
+  }
+
+  @Benchmark
+  public Long stringToLong() {
+    return TypeCastUtility.castValue(m_numberText, Long.class);
+  }
+
+  @Benchmark
+  public Integer bigDecimalToInteger() {
+    return TypeCastUtility.castValue(m_bigDecimal, Integer.class);
+  }
+
+  @Benchmark
+  public BigDecimal longToBigDecimal() {
+    return TypeCastUtility.castValue(m_long, BigDecimal.class);
+  }
+
+  @Benchmark
+  public java.sql.Timestamp dateToTimestamp() {
+    return TypeCastUtility.castValue(m_date, java.sql.Timestamp.class);
+  }
+
+  @Benchmark
+  public long[] objectArrayToPrimitiveArray() {
+    return TypeCastUtility.castValue(m_longs, long[].class);
+  }
+}
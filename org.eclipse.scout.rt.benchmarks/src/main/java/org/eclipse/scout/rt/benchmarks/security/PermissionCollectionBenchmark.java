@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.security.AbstractPermission;
+import org.eclipse.scout.rt.security.DefaultPermissionCollection;
+import org.eclipse.scout.rt.security.IPermission;
+import org.eclipse.scout.rt.security.PermissionLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Permission checks against a {@link DefaultPermissionCollection} which is still modifiable or read-only (and therefore
+ * compiled).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCollectionBenchmark {
+
+  @Param({"false", "true"})
+  public boolean readOnly;
+
+  @Param({"500"})
+  public int permissionCount;
+
+  private DefaultPermissionCollection m_permissions;
+  private IPermission m_granted;
+  private IPermission m_notGranted;
+
+  @Setup
+  public void setup() {
+    m_permissions = new DefaultPermissionCollection();
+    for (int i = 0; i < permissionCount; i++) {
+      m_permissions.add(new P_BenchmarkPermission("benchmark.permission." + i), i % 2 == 0 ? PermissionLevel.ALL : PermissionLevel.NONE);
+    }
+    if (readOnly) {
+      m_permissions.setReadOnly();
+    }
+    m_granted = new P_BenchmarkPermission("benchmark.permission.0");
+    m_notGranted = new P_BenchmarkPermission("benchmark.permission.1");
+  }
+
+  @Benchmark
+  public boolean impliesGranted() {
+    return m_permissions.implies(m_granted);
+  }
+
+  @Benchmark
+  public boolean impliesNotGranted() {
+    return m_permissions.implies(m_notGranted);
+  }
+
+  @Benchmark
+  public PermissionLevel getGrantedPermissionLevel() {
+    return m_permissions.getGrantedPermissionLevel(m_granted);
+  }
+
+  public static class P_BenchmarkPermission extends AbstractPermission {
+    private static final long serialVersionUID = 1L;
+
+    public P_BenchmarkPermission(String name) {
+      super(name);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentRingBuffer;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationNodeQueue;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Notification storm on a client node which does not consume: every put drops the oldest notification. Compares the
+ * {@link ConcurrentRingBuffer} used by {@link ClientNotificationNodeQueue} with a {@link LinkedBlockingDeque} dropping
+ * its oldest element (the former implementation), both written by several threads.
+ * <p>
+ * {@link #putAndConsume()} measures a single thread putting and consuming a batch of notifications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientNotificationNodeQueueBenchmark {
+
+  @Param({"200"})
+  public int capacity;
+
+  private ClientNotificationMessage m_message;
+  private ConcurrentRingBuffer<ClientNotificationMessage> m_ringBuffer;
+  private LinkedBlockingDeque<ClientNotificationMessage> m_blockingDeque;
+  private ClientNotificationNodeQueue m_queue;
+  private List<ClientNotificationMessage> m_batch;
+
+  @Setup
+  public void setup() {
+    m_message = new ClientNotificationMessage(ClientNotificationAddress.createAllNodesAddress(), "notification", true, "cid");
+    m_ringBuffer = new ConcurrentRingBuffer<>(capacity);
+    m_blockingDeque = new LinkedBlockingDeque<>(capacity);
+    m_queue = new ClientNotificationNodeQueue(capacity, 0);
+    m_queue.setNodeId(NodeId.of("benchmark"));
+    m_batch = new ArrayList<>();
+    for (int i = 0; i < capacity / 2; i++) {
+      m_batch.add(m_message);
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void ringBufferStorm() {
+    m_ringBuffer.add(m_message);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void blockingDequeStorm() {
+    while (!m_blockingDeque.offer(m_message)) {
+      m_blockingDeque.poll();
+    }
+  }
+
+  @Benchmark
+  public List<ClientNotificationMessage> putAndConsume() {
+    m_queue.put(m_batch);
+    return m_queue.consume(capacity, 0, TimeUnit.MILLISECONDS);
+  }
+}
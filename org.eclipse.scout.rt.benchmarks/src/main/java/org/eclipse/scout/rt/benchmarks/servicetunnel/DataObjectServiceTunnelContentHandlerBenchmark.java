@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.servicetunnel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.PlatformState;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.value.DoEntityListValueDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.DataObjectServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Service tunnel round trip (write and read incl. compression) with {@link BinaryServiceTunnelContentHandler} (Java
+ * serialization) and {@link DataObjectServiceTunnelContentHandler}.
+ * <ul>
+ * <li>Request: service call with scalar arguments (strings, numbers, date, locale), as typical for lookup or load
+ * operations</li>
+ * <li>Response: rows with the same values as in {@link ServiceTunnelContentHandlerBenchmark}, returned as
+ * <code>Object[][]</code> or as list of (untyped) data objects</li>
+ * </ul>
+ * The size of the written messages is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataObjectServiceTunnelContentHandlerBenchmark extends PlatformState {
+
+  @Param({"100", "10000"})
+  public int rowCount;
+
+  private BinaryServiceTunnelContentHandler m_binaryContentHandler;
+  private DataObjectServiceTunnelContentHandler m_dataObjectContentHandler;
+  private ServiceTunnelRequest m_request;
+  private ServiceTunnelResponse m_binaryResponse;
+  private ServiceTunnelResponse m_dataObjectResponse;
+
+  @Setup
+  public void setup() {
+    m_binaryContentHandler = new BinaryServiceTunnelContentHandler();
+    m_binaryContentHandler.initialize();
+    m_dataObjectContentHandler = new DataObjectServiceTunnelContentHandler();
+    m_dataObjectContentHandler.initialize();
+    m_request = new ServiceTunnelRequest("org.eclipse.scout.benchmark.IBenchmarkService", "load",
+        new Class[]{Long.class, String.class, String.class, Date.class, BigDecimal.class, Boolean.class, Locale.class, Integer.class},
+        new Object[]{4711L, "Customer", "Street", new Date(1_600_000_000_000L), new BigDecimal("12.50"), Boolean.TRUE, Locale.GERMAN, 100});
+    m_binaryResponse = new ServiceTunnelResponse(createRows());
+    m_dataObjectResponse = new ServiceTunnelResponse(DoEntityListValueDo.of(createRowDos()));
+  }
+
+  protected Object[][] createRows() {
+    Object[][] rows = new Object[rowCount][];
+    long time = 1_600_000_000_000L;
+    for (int i = 0; i < rowCount; i++) {
+      rows[i] = new Object[]{(long) i, "Customer " + i, "Street " + (i % 97), new Date(time + i * 3_600_000L), BigDecimal.valueOf(i * 37, 2), i % 3 == 0, "Remark for row " + i};
+    }
+    return rows;
+  }
+
+  protected List<IDoEntity> createRowDos() {
+    List<IDoEntity> rows = new ArrayList<>(rowCount);
+    for (Object[] row : createRows()) {
+      DoEntity rowDo = BEANS.get(DoEntity.class);
+      rowDo.put("id", row[0]);
+      rowDo.put("name", row[1]);
+      rowDo.put("street", row[2]);
+      rowDo.put("date", row[3]);
+      rowDo.put("amount", row[4]);
+      rowDo.put("active", row[5]);
+      rowDo.put("remark", row[6]);
+      rows.add(rowDo);
+    }
+    return rows;
+  }
+
+  @Benchmark
+  public ServiceTunnelRequest binaryRequest() throws IOException, ClassNotFoundException {
+    return m_binaryContentHandler.readRequest(new ByteArrayInputStream(writeRequest(m_binaryContentHandler).toByteArray()));
+  }
+
+  @Benchmark
+  public ServiceTunnelRequest dataObjectRequest() throws IOException, ClassNotFoundException {
+    return m_dataObjectContentHandler.readRequest(new ByteArrayInputStream(writeRequest(m_dataObjectContentHandler).toByteArray()));
+  }
+
+  @Benchmark
+  public ServiceTunnelResponse binaryResponse() throws IOException, ClassNotFoundException {
+    return m_binaryContentHandler.readResponse(new ByteArrayInputStream(writeResponse(m_binaryContentHandler, m_binaryResponse).toByteArray()));
+  }
+
+  @Benchmark
+  public ServiceTunnelResponse dataObjectResponse() throws IOException, ClassNotFoundException {
+    return m_dataObjectContentHandler.readResponse(new ByteArrayInputStream(writeResponse(m_dataObjectContentHandler, m_dataObjectResponse).toByteArray()));
+  }
+
+  protected ByteArrayOutputStream writeRequest(BinaryServiceTunnelContentHandler contentHandler) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    contentHandler.writeRequest(out, m_request);
+    return out;
+  }
+
+  protected ByteArrayOutputStream writeResponse(BinaryServiceTunnelContentHandler contentHandler, ServiceTunnelResponse response) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    contentHandler.writeResponse(out, response);
+    return out;
+  }
+}
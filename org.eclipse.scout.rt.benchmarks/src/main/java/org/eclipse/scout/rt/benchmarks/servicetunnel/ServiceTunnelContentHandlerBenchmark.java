@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.servicetunnel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.scout.rt.benchmarks.PlatformState;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelObjectReplacer;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Service tunnel round trip (serialize, compress, decompress, deserialize) of table data as contained in a large
+ * <code>TableData</code>.
+ * <ul>
+ * <li>{@link #roundTrip()}: {@link BinaryServiceTunnelContentHandler} with pooled compressors</li>
+ * <li>{@link #roundTripUnpooled()}: same format with a new {@link Deflater}/{@link Inflater} and default stream buffers
+ * per call</li>
+ * <li>{@link #bufferedRequest()}/{@link #streamedRequest()}: writing a request to the transport with and without
+ * buffering it in a byte array first</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceTunnelContentHandlerBenchmark extends PlatformState {
+
+  @Param({"100", "10000"})
+  public int rowCount;
+
+  private BinaryServiceTunnelContentHandler m_contentHandler;
+  private IObjectSerializer m_objectSerializer;
+  private ServiceTunnelRequest m_request;
+  private ServiceTunnelResponse m_response;
+
+  @Setup
+  public void setup() {
+    m_contentHandler = new BinaryServiceTunnelContentHandler();
+    m_contentHandler.initialize();
+    m_objectSerializer = SerializationUtility.createObjectSerializer(new ServiceTunnelObjectReplacer());
+    Object[][] rows = createRows();
+    m_request = new ServiceTunnelRequest("org.eclipse.scout.benchmark.IBenchmarkService", "store", new Class[]{Object[][].class}, new Object[]{rows});
+    m_response = new ServiceTunnelResponse(rows);
+  }
+
+  protected Object[][] createRows() {
+    Object[][] rows = new Object[rowCount][];
+    long time = 1_600_000_000_000L;
+    for (int i = 0; i < rowCount; i++) {
+      rows[i] = new Object[]{(long) i, "Customer " + i, "Street " + (i % 97), new Date(time + i * 3_600_000L), BigDecimal.valueOf(i * 37, 2), i % 3 == 0, "Remark for row " + i};
+    }
+    return rows;
+  }
+
+  @Benchmark
+  public ServiceTunnelResponse roundTrip() throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    m_contentHandler.writeResponse(out, m_response);
+    return m_contentHandler.readResponse(new ByteArrayInputStream(out.toByteArray()));
+  }
+
+  @Benchmark
+  public ServiceTunnelResponse roundTripUnpooled() throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(BinaryServiceTunnelContentHandler.CODEC_DEFLATE);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      m_objectSerializer.serialize(new DeflaterOutputStream(out, deflater), m_response);
+    }
+    finally {
+      deflater.end();
+    }
+    InputStream in = new ByteArrayInputStream(out.toByteArray());
+    in.read();
+    Inflater inflater = new Inflater();
+    try {
+      return m_objectSerializer.deserialize(new InflaterInputStream(in, inflater), ServiceTunnelResponse.class);
+    }
+    finally {
+      inflater.end();
+    }
+  }
+
+  @Benchmark
+  public void bufferedRequest() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    m_contentHandler.writeRequest(buffer, m_request);
+    OutputStream.nullOutputStream().write(buffer.toByteArray());
+  }
+
+  @Benchmark
+  public void streamedRequest() throws IOException {
+    m_contentHandler.writeRequest(OutputStream.nullOutputStream(), m_request);
+  }
+}
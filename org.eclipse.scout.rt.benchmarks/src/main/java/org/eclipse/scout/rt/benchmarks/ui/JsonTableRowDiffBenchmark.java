@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.ui;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowDiffEnabledProperty;
+import org.eclipse.scout.rt.ui.html.json.table.JsonTable;
+import org.eclipse.scout.rt.ui.html.json.table.JsonTableCellDiff;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of a <code>rowsUpdated</code> event of a large table in which one cell per row changed. The rows are
+ * sent with all cells (default) or with the changed cells only (see {@link TableRowDiffEnabledProperty} and
+ * {@link JsonTableCellDiff}).
+ * <p>
+ * Each invocation alternates between two versions of the rows, so every row differs in one cell from the previous
+ * invocation. The size of the serialized events is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonTableRowDiffBenchmark {
+
+  @Param({"10000"})
+  public int rowCount;
+
+  @Param({"10"})
+  public int columnCount;
+
+  private JSONArray[][] m_cells;
+  private JsonTableCellDiff m_cellDiff;
+  private int m_version;
+
+  @Setup
+  public void setup() {
+    m_cells = new JSONArray[2][rowCount];
+    for (int row = 0; row < rowCount; row++) {
+      m_cells[0][row] = createCells(row, -1);
+      m_cells[1][row] = createCells(row, row % columnCount);
+    }
+    m_cellDiff = new JsonTableCellDiff();
+    for (int row = 0; row < rowCount; row++) {
+      m_cellDiff.remember(rowId(row), m_cells[0][row]);
+    }
+    m_version = 0;
+  }
+
+  @Benchmark
+  public String fullRows() {
+    JSONArray[] cells = nextVersion();
+    JSONArray jsonRows = new JSONArray();
+    for (int row = 0; row < rowCount; row++) {
+      jsonRows.put(createRow(row).put(JsonTable.PROP_CELLS, cells[row]));
+    }
+    return toEvent(jsonRows);
+  }
+
+  @Benchmark
+  public String cellUpdates() {
+    JSONArray[] cells = nextVersion();
+    JSONArray jsonRows = new JSONArray();
+    for (int row = 0; row < rowCount; row++) {
+      JSONArray cellUpdates = m_cellDiff.diff(rowId(row), cells[row]);
+      jsonRows.put(createRow(row).put(JsonTable.PROP_CELL_UPDATES, cellUpdates));
+    }
+    return toEvent(jsonRows);
+  }
+
+  protected JSONArray[] nextVersion() {
+    m_version = 1 - m_version;
+    return m_cells[m_version];
+  }
+
+  protected String rowId(int row) {
+    return "row" + row;
+  }
+
+  protected JSONObject createRow(int row) {
+    JSONObject jsonRow = new JSONObject();
+    jsonRow.put("id", rowId(row));
+    return jsonRow;
+  }
+
+  /**
+   * Alternates text-only cells (sent as plain string) and cells with value and style (sent as object).
+   */
+  protected JSONArray createCells(int row, int changedColumn) {
+    JSONArray cells = new JSONArray();
+    for (int column = 0; column < columnCount; column++) {
+      int value = column == changedColumn ? -row - 1 : row;
+      if (column % 2 == 0) {
+        cells.put("Text " + value + " of column " + column);
+      }
+      else {
+        JSONObject cell = new JSONObject();
+        cell.put("value", value * 1000L + column);
+        cell.put("text", String.format("%,d", value * 1000L + column));
+        cell.put("horizontalAlignment", 1);
+        cell.put("cssClass", value < 0 ? "negative" : "positive");
+        cells.put(cell);
+      }
+    }
+    return cells;
+  }
+
+  protected String toEvent(JSONArray jsonRows) {
+    JSONObject jsonEvent = new JSONObject();
+    jsonEvent.put("type", JsonTable.EVENT_ROWS_UPDATED);
+    jsonEvent.put(JsonTable.PROP_ROWS, jsonRows);
+    return jsonEvent.toString();
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class MemoryPressureMonitorTest {
+
+  private P_MemoryPressureMonitor m_monitor;
+
+  @Before
+  public void before() {
+    m_monitor = new P_MemoryPressureMonitor();
+  }
+
+  @Test
+  public void testNoReleaseWithoutPressure() {
+    m_monitor.register(createSession());
+    m_monitor.m_underPressure = false;
+    assertFalse(m_monitor.checkMemoryPressure());
+    assertTrue(m_monitor.m_released.isEmpty());
+  }
+
+  @Test
+  public void testReleaseLeastRecentlyActive() throws InterruptedException {
+    List<IClientSession> sessions = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      IClientSession session = createSession();
+      sessions.add(session);
+      m_monitor.register(session);
+    }
+    // sessions 2 and 5 are the least recently active ones
+    for (int i : new int[]{0, 1, 3, 4, 6, 7}) {
+      Thread.sleep(2);
+      m_monitor.touch(sessions.get(i));
+    }
+
+    m_monitor.m_underPressure = true;
+    assertTrue(m_monitor.checkMemoryPressure());
+    assertEquals(new HashSet<>(Arrays.asList(sessions.get(2), sessions.get(5))), new HashSet<>(m_monitor.m_released));
+
+    // at most one release per interval
+    assertFalse(m_monitor.checkMemoryPressure());
+    assertEquals(2, m_monitor.m_released.size());
+  }
+
+  @Test
+  public void testCheckRateLimited() {
+    m_monitor.register(createSession());
+    m_monitor.m_checkIntervalMillis = 60_000L;
+    m_monitor.m_underPressure = false;
+    assertFalse(m_monitor.checkMemoryPressure());
+    assertEquals(1, m_monitor.m_checkCount);
+
+    // heap is not checked again within the check interval
+    m_monitor.m_underPressure = true;
+    assertFalse(m_monitor.checkMemoryPressure());
+    assertEquals(1, m_monitor.m_checkCount);
+    assertTrue(m_monitor.m_released.isEmpty());
+
+    m_monitor.m_checkIntervalMillis = 0L;
+    assertTrue(m_monitor.checkMemoryPressure());
+    assertEquals(2, m_monitor.m_checkCount);
+  }
+
+  @Test
+  public void testTenuredPools() {
+    // the JVMs used for testing all have an old generation
+    assertFalse(m_monitor.findTenuredPools().isEmpty());
+    for (MemoryPoolMXBean pool : m_monitor.findTenuredPools()) {
+      assertEquals(MemoryType.HEAP, pool.getType());
+      assertNotNull(pool.getCollectionUsage());
+    }
+  }
+
+  @Test
+  public void testSkipStoppingSessions() {
+    IClientSession stopping = createSession();
+    when(stopping.isStopping()).thenReturn(true);
+    IClientSession active = createSession();
+    m_monitor.register(stopping);
+    m_monitor.register(active);
+
+    assertEquals(Arrays.asList(active), m_monitor.getSessionsToRelease());
+
+    m_monitor.unregister(active);
+    assertNull(m_monitor.getLastActivity(active));
+    assertTrue(m_monitor.getSessionsToRelease().isEmpty());
+  }
+
+  protected IClientSession createSession() {
+    IClientSession session = mock(IClientSession.class);
+    when(session.isActive()).thenReturn(true);
+    when(session.getDesktop()).thenReturn(mock(IDesktop.class));
+    return session;
+  }
+
+  protected static class P_MemoryPressureMonitor extends MemoryPressureMonitor {
+    private boolean m_underPressure;
+    private long m_checkIntervalMillis;
+    private int m_checkCount;
+    private final List<IClientSession> m_released = new ArrayList<>();
+
+    @Override
+    protected long getCheckIntervalMillis() {
+      return m_checkIntervalMillis;
+    }
+
+    @Override
+    protected boolean isUnderPressure() {
+      m_checkCount++;
+      return m_underPressure;
+    }
+
+    @Override
+    protected void releaseUnusedPages(IClientSession session) {
+      m_released.add(session);
+    }
+  }
+}
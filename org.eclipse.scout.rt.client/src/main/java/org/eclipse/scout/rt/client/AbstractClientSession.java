@@ -251,6 +251,8 @@ public abstract class AbstractClientSession extends AbstractPropertyObserver imp
         return new SmallMemoryPolicy();
       case "medium":
         return new MediumMemoryPolicy();
+      case "pressure":
+        return new PressureAwareMemoryPolicy(this);
       default:
         return new LargeMemoryPolicy();
     }
@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.client;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -23,10 +24,10 @@ public final class ClientConfigProperties {
 
     @Override
     protected String parse(String value) {
-      if (ObjectUtility.isOneOf(value, "small", "medium", "large")) {
+      if (ObjectUtility.isOneOf(value, "small", "medium", "large", "pressure")) {
         return value;
       }
-      throw new PlatformException("Invalid value for property '" + getKey() + "': '" + value + "'. Valid values are small, medium or large");
+      throw new PlatformException("Invalid value for property '" + getKey() + "': '" + value + "'. Valid values are small, medium, large or pressure");
     }
 
     @Override
@@ -36,7 +37,9 @@ public final class ClientConfigProperties {
 
     @Override
     public String description() {
-      return "Specifies how long the client keeps fetched data before it is discarded. One of 'small', 'medium' or 'large'. The default value is 'large'.";
+      return "Specifies how long the client keeps fetched data before it is discarded. One of 'small', 'medium', 'large' or 'pressure'.\n"
+          + "'pressure' behaves like 'large' but releases unused pages of the least recently active sessions when the heap is under pressure (see 'scout.client.memoryPressureThreshold').\n"
+          + "The default value is 'large'.";
     }
 
     @Override
@@ -76,4 +79,48 @@ public final class ClientConfigProperties {
       return 10L;
     }
   }
+
+  /**
+   * @since 23.2
+   */
+  public static class MemoryPressureThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.client.memoryPressureThreshold";
+    }
+
+    @Override
+    public String description() {
+      return "Used old generation heap after garbage collection in percent of its max. size above which the 'pressure' memory policy releases unused pages of the least recently active client sessions.\n"
+          + "A value of 100 or more disables the release. The default value is 85.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 85;
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class MemoryPressureReleaseIntervalProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.client.memoryPressureReleaseInterval";
+    }
+
+    @Override
+    public String description() {
+      return "Minimal time (in seconds) between two releases of unused pages triggered by the 'pressure' memory policy.\n"
+          + "The garbage collector needs some time to reclaim the released pages. The default value is 30 seconds.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 30L;
+    }
+  }
 }
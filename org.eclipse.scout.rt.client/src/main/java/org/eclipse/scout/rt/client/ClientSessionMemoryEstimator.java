@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.tree.ITreeNode;
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.client.ui.desktop.outline.IOutline;
+import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IPage;
+import org.eclipse.scout.rt.client.ui.form.IForm;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.util.visitor.DepthFirstTreeVisitor;
+import org.eclipse.scout.rt.platform.util.visitor.TreeVisitResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Estimates the heap retained by the model of a client session: the pages of all outlines with their tables and
+ * detail forms, and the open views and dialogs.
+ * <p>
+ * The estimation is based on the number of pages, table cells and form fields multiplied with an average size per
+ * element. It is meant to compare sessions with each other and to spot sessions with huge tables, not to measure the
+ * exact retained size. The model is read without acquiring the model job lock, the result is a best-effort snapshot.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class ClientSessionMemoryEstimator {
+  private static final Logger LOG = LoggerFactory.getLogger(ClientSessionMemoryEstimator.class);
+
+  public static final long PAGE_BYTES = 2048;
+  public static final long TABLE_ROW_BYTES = 256;
+  public static final long TABLE_CELL_BYTES = 96;
+  public static final long FORM_FIELD_BYTES = 1024;
+
+  /**
+   * @return estimated number of bytes retained by the given session or -1 if the model could not be read (e.g. because
+   *         it was modified concurrently)
+   */
+  public long estimate(IClientSession session) {
+    IDesktop desktop = session.getDesktop();
+    if (desktop == null) {
+      return 0;
+    }
+    try {
+      Map<IForm, Boolean> forms = new IdentityHashMap<>();
+      long bytes = 0;
+      for (IOutline outline : desktop.getAvailableOutlines()) {
+        bytes += estimateOutline(outline, forms);
+      }
+      desktop.getViews().forEach(form -> forms.put(form, Boolean.TRUE));
+      desktop.getDialogs().forEach(form -> forms.put(form, Boolean.TRUE));
+      for (IForm form : forms.keySet()) {
+        bytes += estimateForm(form);
+      }
+      return bytes;
+    }
+    catch (RuntimeException e) {
+      LOG.debug("Could not estimate memory of client session {}", session.getId(), e);
+      return -1;
+    }
+  }
+
+  protected long estimateOutline(IOutline outline, Map<IForm, Boolean> forms) {
+    long[] bytes = new long[1];
+    outline.visitTree(new DepthFirstTreeVisitor<>() {
+      @Override
+      public TreeVisitResult preVisit(ITreeNode node, int level, int index) {
+        bytes[0] += PAGE_BYTES;
+        if (node instanceof IPage) {
+          IPage<?> page = (IPage<?>) node;
+          bytes[0] += estimateTable(page.getTable(false));
+          IForm detailForm = page.getDetailForm();
+          if (detailForm != null) {
+            forms.put(detailForm, Boolean.TRUE);
+          }
+        }
+        return TreeVisitResult.CONTINUE;
+      }
+    });
+    return bytes[0];
+  }
+
+  protected long estimateTable(ITable table) {
+    if (table == null) {
+      return 0;
+    }
+    return table.getRowCount() * (TABLE_ROW_BYTES + table.getColumnCount() * TABLE_CELL_BYTES);
+  }
+
+  protected long estimateForm(IForm form) {
+    return form.getAllFields().size() * FORM_FIELD_BYTES;
+  }
+}
@@ -20,7 +20,7 @@ import org.eclipse.scout.rt.client.ui.desktop.outline.pages.ISearchForm;
  * Handling of various framework aspects regarding memory allocation, caching and lazy-ness
  * <p>
  * The use of which profile to be used in {@link IClientSession} can be set in the config.properties as
- * <code>org.eclipse.scout.memory=small | medium | large</code>
+ * <code>scout.client.memoryPolicy=small | medium | large | pressure</code>
  * <ul>
  * <li>small: low profile hardware, citrix and alike, memory consumption below 256m, no caching where not explicitly
  * needed. {@link SmallMemoryPolicy}</li>
@@ -28,6 +28,8 @@ import org.eclipse.scout.rt.client.ui.desktop.outline.pages.ISearchForm;
  * to gain speed. {@link MediumMemoryPolicy}</li>
  * <li>large: client pc's and customer workstations, memory consumption can be 512m or more, caching whenever needed for
  * optimal speed. {@link LargeMemoryPolicy}</li>
+ * <li>pressure: like large, but releases unused pages of the least recently active sessions when the heap is under
+ * pressure. {@link PressureAwareMemoryPolicy}</li>
  * </ul>
  */
 public interface IMemoryPolicy {
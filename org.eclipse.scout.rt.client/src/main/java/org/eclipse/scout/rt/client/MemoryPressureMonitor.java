@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.client.ClientConfigProperties.MemoryPressureReleaseIntervalProperty;
+import org.eclipse.scout.rt.client.ClientConfigProperties.MemoryPressureThresholdProperty;
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
+import org.eclipse.scout.rt.client.job.ModelJobs;
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the last activity of all client sessions using the {@link PressureAwareMemoryPolicy} and releases the
+ * unused pages of the least recently active sessions when the heap is under pressure.
+ * <p>
+ * The heap is under pressure if the old generation still exceeds {@link MemoryPressureThresholdProperty} percent of its
+ * max. size after the last garbage collection, i.e. garbage not collected yet is not taken into account. The heap is
+ * checked at most once per second, so checking it after each user interaction is cheap. The unused pages are released
+ * at most once per {@link MemoryPressureReleaseIntervalProperty}, because the garbage collector needs some time to
+ * actually reclaim them.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class MemoryPressureMonitor {
+  private static final Logger LOG = LoggerFactory.getLogger(MemoryPressureMonitor.class);
+
+  // weak keys: sessions which are not stopped properly must not be retained
+  private final Map<IClientSession, Long> m_lastActivity = Collections.synchronizedMap(new WeakHashMap<>());
+  private final AtomicLong m_lastCheck = new AtomicLong();
+  private final AtomicLong m_lastRelease = new AtomicLong();
+  private final int m_threshold;
+  private final long m_releaseIntervalMillis;
+  private final List<MemoryPoolMXBean> m_tenuredPools;
+
+  public MemoryPressureMonitor() {
+    m_threshold = CONFIG.getPropertyValue(MemoryPressureThresholdProperty.class);
+    m_releaseIntervalMillis = TimeUnit.SECONDS.toMillis(CONFIG.getPropertyValue(MemoryPressureReleaseIntervalProperty.class));
+    m_tenuredPools = findTenuredPools();
+  }
+
+  public void register(IClientSession session) {
+    m_lastActivity.put(session, System.currentTimeMillis());
+  }
+
+  public void unregister(IClientSession session) {
+    m_lastActivity.remove(session);
+  }
+
+  /**
+   * Marks the given session as active now.
+   */
+  public void touch(IClientSession session) {
+    m_lastActivity.replace(session, System.currentTimeMillis());
+  }
+
+  /**
+   * @return the time of the last activity of the given session in millis since 01.01.1970 or <code>null</code> if the
+   *         session is not registered
+   */
+  public Long getLastActivity(IClientSession session) {
+    return m_lastActivity.get(session);
+  }
+
+  /**
+   * Releases the unused pages of the least recently active sessions if the heap is under pressure and the last release
+   * is at least {@link MemoryPressureReleaseIntervalProperty} ago. Returns immediately if the heap was checked less than
+   * {@link #getCheckIntervalMillis()} ago.
+   *
+   * @return <code>true</code> if a release was triggered
+   */
+  public boolean checkMemoryPressure() {
+    if (m_threshold >= 100) {
+      return false;
+    }
+    long now = System.currentTimeMillis();
+    long lastCheck = m_lastCheck.get();
+    if (now - lastCheck < getCheckIntervalMillis() || !m_lastCheck.compareAndSet(lastCheck, now)) {
+      return false;
+    }
+    if (!isUnderPressure()) {
+      return false;
+    }
+    long lastRelease = m_lastRelease.get();
+    if (now - lastRelease < m_releaseIntervalMillis || !m_lastRelease.compareAndSet(lastRelease, now)) {
+      return false;
+    }
+    List<IClientSession> sessions = getSessionsToRelease();
+    LOG.info("Heap is under pressure, releasing unused pages of {} least recently active client sessions [threshold={}%]", sessions.size(), m_threshold);
+    sessions.forEach(this::releaseUnusedPages);
+    return true;
+  }
+
+  /**
+   * @return minimal time between two checks of the heap
+   */
+  protected long getCheckIntervalMillis() {
+    return 1000L;
+  }
+
+  /**
+   * @return <code>true</code> if a tenured pool exceeds the threshold after the last garbage collection. If the garbage
+   *         collector has no tenured pool, the used heap is compared with the threshold instead.
+   */
+  protected boolean isUnderPressure() {
+    if (m_tenuredPools.isEmpty()) {
+      return exceedsThreshold(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage());
+    }
+    for (MemoryPoolMXBean pool : m_tenuredPools) {
+      if (exceedsThreshold(pool.getCollectionUsage())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected boolean exceedsThreshold(MemoryUsage usage) {
+    if (usage == null) {
+      return false;
+    }
+    long max = usage.getMax() < 0 ? usage.getCommitted() : usage.getMax();
+    return usage.getUsed() > max / 100L * m_threshold;
+  }
+
+  /**
+   * @return the heap pools holding long-living objects (e.g. <i>G1 Old Gen</i>), i.e. the pools supporting both usage
+   *         and collection usage thresholds. The eden and survivor pools only support collection usage thresholds.
+   */
+  protected List<MemoryPoolMXBean> findTenuredPools() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported() && pool.isCollectionUsageThresholdSupported())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the least recently active quarter (at least one) of the registered sessions which are running and have a
+   *         desktop, least recently active first
+   */
+  protected List<IClientSession> getSessionsToRelease() {
+    List<Entry<IClientSession, Long>> entries;
+    synchronized (m_lastActivity) {
+      entries = new ArrayList<>(m_lastActivity.entrySet());
+    }
+    List<IClientSession> sessions = entries.stream()
+        .filter(e -> e.getKey().isActive() && !e.getKey().isStopping() && e.getKey().getDesktop() != null)
+        .sorted(Entry.comparingByValue(Comparator.naturalOrder()))
+        .map(Entry::getKey)
+        .collect(Collectors.toList());
+    return sessions.subList(0, Math.min(sessions.size(), Math.max(1, sessions.size() / 4)));
+  }
+
+  /**
+   * Schedules {@link IDesktop#releaseUnusedPages()} in the model thread of the given session. This unloads all pages
+   * (including their tables and detail forms) which are neither selected nor a parent of the selected page.
+   */
+  protected void releaseUnusedPages(IClientSession session) {
+    ModelJobs.schedule(() -> {
+      IDesktop desktop = session.getDesktop();
+      if (desktop != null) {
+        desktop.releaseUnusedPages();
+      }
+    }, ModelJobs.newInput(ClientRunContexts.empty().withSession(session, true))
+        .withName("Releasing unused pages due to memory pressure"));
+  }
+}
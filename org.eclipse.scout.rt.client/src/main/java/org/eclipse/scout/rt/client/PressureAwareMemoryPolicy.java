@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client;
+
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IPageWithTable;
+import org.eclipse.scout.rt.platform.BEANS;
+
+/**
+ * Caches like {@link LargeMemoryPolicy}, but releases the unused pages of the least recently active client sessions
+ * when the heap is under pressure (see {@link MemoryPressureMonitor}).
+ * <p>
+ * Selecting a page or loading a table page marks the session as active. The heap is checked after a page was selected
+ * and after table page data was loaded.
+ *
+ * @since 23.2
+ */
+public class PressureAwareMemoryPolicy extends LargeMemoryPolicy {
+
+  private final IClientSession m_session;
+
+  public PressureAwareMemoryPolicy(IClientSession session) {
+    m_session = session;
+  }
+
+  @Override
+  public void addNotify() {
+    super.addNotify();
+    getMonitor().register(m_session);
+  }
+
+  @Override
+  public void removeNotify() {
+    getMonitor().unregister(m_session);
+    super.removeNotify();
+  }
+
+  @Override
+  public void afterOutlineSelectionChanged(IDesktop desktop) {
+    super.afterOutlineSelectionChanged(desktop);
+    getMonitor().touch(m_session);
+    getMonitor().checkMemoryPressure();
+  }
+
+  @Override
+  public void beforeTablePageLoadData(IPageWithTable<?> page) {
+    super.beforeTablePageLoadData(page);
+    getMonitor().touch(m_session);
+  }
+
+  @Override
+  public void afterTablePageLoadData(IPageWithTable<?> page) {
+    super.afterTablePageLoadData(page);
+    getMonitor().checkMemoryPressure();
+  }
+
+  protected MemoryPressureMonitor getMonitor() {
+    return BEANS.get(MemoryPressureMonitor.class);
+  }
+
+  @Override
+  public String toString() {
+    return "PressureAware";
+  }
+}
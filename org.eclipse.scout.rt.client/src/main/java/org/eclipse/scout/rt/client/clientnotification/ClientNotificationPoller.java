@@ -25,6 +25,7 @@ import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.RunContext;
@@ -45,6 +46,7 @@ import org.eclipse.scout.rt.shared.SharedConfigProperties.NotificationSubjectPro
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnel;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnel;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,7 +86,7 @@ public class ClientNotificationPoller {
   }
 
   protected void startPoller() {
-    m_pollerFuture = Jobs.schedule(new P_NotificationPoller(this::touch), Jobs.newInput()
+    m_pollerFuture = Jobs.schedule(new P_NotificationPoller(this::touch, isPush()), Jobs.newInput()
         .withRunContext(createRunContext())
         .withName(ClientNotificationPoller.class.getSimpleName()));
   }
@@ -99,6 +101,14 @@ public class ClientNotificationPoller {
     m_pollerFuture = null;
   }
 
+  /**
+   * @return <code>true</code> if the notifications are pushed by the server over a persistent HTTP response instead of
+   *         being polled, see {@link NotificationPushEnabled}
+   */
+  protected boolean isPush() {
+    return CONFIG.getPropertyValue(NotificationPushEnabled.class) && BEANS.get(IServiceTunnel.class) instanceof HttpServiceTunnel;
+  }
+
   protected RunContext createRunContext() {
     return ClientRunContexts.empty()
         .withSubject(BEANS.get(NotificationSubjectProperty.class).getValue())
@@ -120,9 +130,11 @@ public class ClientNotificationPoller {
   private static final class P_NotificationPoller implements IRunnable {
 
     private final Runnable m_livenessCheck;
+    private final boolean m_push;
 
-    public P_NotificationPoller(Runnable livenessCheck) {
+    public P_NotificationPoller(Runnable livenessCheck, boolean push) {
       m_livenessCheck = livenessCheck;
+      m_push = push;
     }
 
     @Override
@@ -140,8 +152,17 @@ public class ClientNotificationPoller {
               .withParentRunMonitor(outerRunMonitor)
               .run(() -> {
                 try {
-                  LOG.debug("Getting notifications from backend [clientNodeId={}]", IIds.toString(NodeId.current()));
-                  handleMessagesReceived(BEANS.get(IClientNotificationService.class).getNotifications(NodeId.current()));
+                  if (m_push) {
+                    LOG.debug("Receiving notifications pushed by backend [clientNodeId={}]", IIds.toString(NodeId.current()));
+                    ((HttpServiceTunnel) BEANS.get(IServiceTunnel.class)).receiveClientNotifications(NodeId.current(), notifications -> {
+                      m_livenessCheck.run();
+                      handleMessagesReceived(notifications);
+                    });
+                  }
+                  else {
+                    LOG.debug("Getting notifications from backend [clientNodeId={}]", IIds.toString(NodeId.current()));
+                    handleMessagesReceived(BEANS.get(IClientNotificationService.class).getNotifications(NodeId.current()));
+                  }
                 }
                 finally {
                   outerRunMonitor.unregisterCancellable(tempRunMonitor);
@@ -252,6 +273,26 @@ public class ClientNotificationPoller {
     }
   }
 
+  public static class NotificationPushEnabled extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the backend pushes client notifications over a persistent HTTP response instead of them being polled by a request per batch.\n"
+          + "This avoids a request per batch and the delay between two polls. The response is renewed after 'scout.clientnotification.maxPushStreamDuration' on the backend. "
+          + "If the backend does not support push mode, notifications are polled. The default value is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.push";
+    }
+  }
+
   public static class NotificationPollerLivenessCheckIntervalMillis extends AbstractPositiveLongConfigProperty {
 
     @Override
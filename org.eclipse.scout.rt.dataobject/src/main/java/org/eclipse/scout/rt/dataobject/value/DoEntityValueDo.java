@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject.value;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.TypeName;
+import org.eclipse.scout.rt.platform.BEANS;
+
+/**
+ * @since 23.2
+ */
+@TypeName("scout.DoEntityValue")
+public class DoEntityValueDo extends DoEntity implements IValueDo<IDoEntity> {
+
+  public static DoEntityValueDo of(IDoEntity value) {
+    return BEANS.get(DoEntityValueDo.class).withValue(value);
+  }
+
+  @Override
+  public DoValue<IDoEntity> value() {
+    return doValue(VALUE_ATTRIBUTE);
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public DoEntityValueDo withValue(IDoEntity value) {
+    value().set(value);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public IDoEntity getValue() {
+    return value().get();
+  }
+}
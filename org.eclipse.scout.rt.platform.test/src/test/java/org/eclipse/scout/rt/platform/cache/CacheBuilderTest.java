@@ -46,6 +46,44 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testMaximumWeight() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + "#testMaximumWeight")
+        .withValueResolver(key -> "value_" + key)
+        .withMaximumWeight(100L, (key, value) -> value.length())
+        .withReplaceIfExists(true)
+        .build();
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals("value_" + i, cache.get(i));
+    }
+    assertEquals("value_99", cache.get(99));
+
+    CacheStatistics statistics = BEANS.get(ICacheRegistryService.class).getStatistics(CACHE_ID + "#testMaximumWeight");
+    assertNotNull(statistics);
+    assertTrue(statistics.getWeightedSize() <= 100);
+    assertEquals(statistics.getSize(), cache.getUnmodifiableMap().size());
+    assertTrue(statistics.getEvictionCount() > 0);
+    assertTrue(statistics.getHitCount() > 0);
+    assertTrue(BEANS.get(ICacheRegistryService.class).getStatistics().containsKey(CACHE_ID + "#testMaximumWeight"));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMaximumWeightTransactional() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheBuilder
+        .withCacheId(CACHE_ID + "#testMaximumWeightTransactional")
+        .withValueResolver(key -> "value_" + key)
+        .withMaximumWeight(100L, null)
+        .withTransactional(true)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.junit.Test;
+
+public class CacheStatisticsTest {
+  private static final String CACHE_ID = "CacheStatisticsTestCacheId";
+
+  protected ICache<Integer, String> createCache(String id, Integer maxConcurrentResolve) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder
+        .withCacheId(CACHE_ID + "#" + id)
+        .withValueResolver(key -> {
+          if (key == 13) {
+            throw new ProcessingException("Test exception - thrown");
+          }
+          return "value_" + key;
+        })
+        .withMaxConcurrentResolve(maxConcurrentResolve)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  @Test
+  public void testStatistics() {
+    ICache<Integer, String> cache = createCache("testStatistics", null);
+    cache.get(1);
+    cache.get(1);
+    cache.getAll(Arrays.asList(1, 2, 3));
+    assertThrows(ProcessingException.class, () -> cache.get(13));
+    cache.invalidate(new KeyCacheEntryFilter<>(Arrays.asList(1)), false);
+
+    CacheStatistics statistics = BEANS.get(ICacheRegistryService.class).getStatistics(cache.getCacheId());
+    assertNotNull(statistics);
+    assertEquals(cache.getCacheId(), statistics.getCacheId());
+    assertEquals(2, statistics.getSize());
+    assertEquals(2, statistics.getHitCount());
+    assertEquals(4, statistics.getMissCount());
+    assertEquals(2, statistics.getLoadSuccessCount());
+    assertEquals(1, statistics.getLoadFailureCount());
+    assertEquals(1, statistics.getInvalidationCount());
+    assertEquals(0, statistics.getEvictionCount());
+    assertEquals(2d / 6, statistics.getHitRate(), 0.0001);
+    assertTrue(statistics.getTotalLoadTime() >= 0);
+  }
+
+  @Test
+  public void testStatisticsWithWrapper() {
+    ICache<Integer, String> cache = createCache("testStatisticsWithWrapper", 2);
+    assertTrue(cache instanceof BoundedResolveCacheWrapper);
+    cache.get(1);
+    cache.get(1);
+    cache.getAll(Arrays.asList(1));
+
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals(2, statistics.getHitCount());
+    assertEquals(1, statistics.getMissCount());
+    assertEquals(1, statistics.getLoadSuccessCount());
+    assertTrue(BEANS.get(ICacheRegistryService.class).getStatistics().containsKey(cache.getCacheId()));
+  }
+}
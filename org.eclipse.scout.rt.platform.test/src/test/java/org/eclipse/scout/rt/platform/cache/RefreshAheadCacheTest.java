@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.junit.Test;
+
+public class RefreshAheadCacheTest {
+
+  @SuppressWarnings("unchecked")
+  protected ICache<Integer, String> createCache(String id, ICacheValueResolver<Integer, String> resolver) {
+    return BEANS.get(ICacheBuilder.class)
+        .withCacheId(id)
+        .withValueResolver(resolver)
+        .withTimeToLive(1L, TimeUnit.MINUTES, false)
+        .withRefreshAhead(TimeUnit.MINUTES.toMillis(1) - 100, TimeUnit.MILLISECONDS)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  @Test
+  public void testCacheInstance() {
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheTest#testCacheInstance", key -> "value");
+    assertTrue(cache instanceof RefreshAheadCache);
+  }
+
+  @Test
+  public void testStaleValueIsReturnedWhileRefreshing() {
+    AtomicInteger counter = new AtomicInteger();
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheTest#testStaleValueIsReturnedWhileRefreshing", key -> key + "." + counter.incrementAndGet());
+
+    assertEquals("1.1", cache.get(1));
+    assertEquals("1.1", cache.get(1)); // not yet due
+
+    SleepUtil.sleepSafe(200, TimeUnit.MILLISECONDS);
+    assertEquals("1.1", cache.get(1)); // stale value, triggers refresh
+
+    for (int i = 0; i < 100 && "1.1".equals(cache.getCachedValue(1)); i++) {
+      SleepUtil.sleepSafe(10, TimeUnit.MILLISECONDS);
+    }
+    assertEquals("1.2", cache.get(1));
+    assertEquals(2, counter.get());
+  }
+
+  @Test
+  public void testFailedRefreshKeepsStaleValue() {
+    AtomicInteger counter = new AtomicInteger();
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheTest#testFailedRefreshKeepsStaleValue", key -> {
+      if (counter.incrementAndGet() > 1) {
+        throw new IllegalStateException("Test exception - thrown");
+      }
+      return "value_" + key;
+    });
+
+    assertEquals("value_1", cache.get(1));
+    SleepUtil.sleepSafe(200, TimeUnit.MILLISECONDS);
+    assertEquals("value_1", cache.get(1));
+
+    for (int i = 0; i < 100 && counter.get() < 2; i++) {
+      SleepUtil.sleepSafe(10, TimeUnit.MILLISECONDS);
+    }
+    assertEquals("value_1", cache.get(1));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRefreshAheadRequiresTimeToLive() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> builder = BEANS.get(ICacheBuilder.class);
+    builder
+        .withCacheId("RefreshAheadCacheTest#testRefreshAheadRequiresTimeToLive")
+        .withValueResolver(key -> "value")
+        .withRefreshAhead(1L, TimeUnit.SECONDS)
+        .withReplaceIfExists(true)
+        .build();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.junit.Test;
+
+public class SingleFlightResolveCacheWrapperTest {
+
+  @Test
+  public void testConcurrentGetResolvesOnce() throws Exception {
+    AtomicInteger resolveCount = new AtomicInteger();
+    CountDownLatch resolving = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch waiting = new CountDownLatch(1);
+    ICache<Integer, String> cache = new P_SingleFlightResolveCacheWrapper(key -> {
+      resolveCount.incrementAndGet();
+      resolving.countDown();
+      release.await();
+      return "value_" + key;
+    }, waiting);
+
+    IFuture<String> future1 = Jobs.schedule(() -> cache.get(1), Jobs.newInput());
+    assertTrue(resolving.await(1, TimeUnit.MINUTES));
+    IFuture<String> future2 = Jobs.schedule(() -> cache.get(1), Jobs.newInput());
+    assertTrue(waiting.await(1, TimeUnit.MINUTES));
+
+    release.countDown();
+    assertEquals("value_1", future1.awaitDoneAndGet(1, TimeUnit.MINUTES));
+    assertEquals("value_1", future2.awaitDoneAndGet(1, TimeUnit.MINUTES));
+    assertEquals(1, resolveCount.get());
+  }
+
+  @Test
+  public void testExceptionIsPropagatedToWaitingCallers() throws Exception {
+    CountDownLatch resolving = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch waiting = new CountDownLatch(1);
+    ICache<Integer, String> cache = new P_SingleFlightResolveCacheWrapper(key -> {
+      resolving.countDown();
+      release.await();
+      throw new ProcessingException("Test exception - thrown");
+    }, waiting);
+
+    IFuture<String> future1 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withExceptionHandling(null, false));
+    assertTrue(resolving.await(1, TimeUnit.MINUTES));
+    IFuture<String> future2 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withExceptionHandling(null, false));
+    assertTrue(waiting.await(1, TimeUnit.MINUTES));
+
+    release.countDown();
+    assertResolveFailed(future1);
+    assertResolveFailed(future2);
+  }
+
+  @Test
+  public void testNullKey() {
+    ICache<Integer, String> cache = new P_SingleFlightResolveCacheWrapper(key -> "value_" + key, new CountDownLatch(1));
+    assertNull(cache.get(null));
+    assertEquals("value_2", cache.get(2));
+  }
+
+  private static void assertResolveFailed(IFuture<String> future) {
+    try {
+      future.awaitDoneAndGet(1, TimeUnit.MINUTES);
+      fail("ProcessingException expected");
+    }
+    catch (ProcessingException e) {
+      assertEquals("Test exception - thrown", e.getDisplayMessage());
+    }
+  }
+
+  @FunctionalInterface
+  private interface IBlockingResolver {
+    String resolve(Integer key) throws InterruptedException;
+  }
+
+  private static class P_SingleFlightResolveCacheWrapper extends SingleFlightResolveCacheWrapper<Integer, String> {
+    private final CountDownLatch m_waiting;
+
+    P_SingleFlightResolveCacheWrapper(IBlockingResolver resolver, CountDownLatch waiting) {
+      super(new BasicCache<>("SingleFlightResolveCacheWrapperTest", key -> {
+        try {
+          return resolver.resolve(key);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new ProcessingException("Interrupted", e);
+        }
+      }, new ConcurrentHashMap<>()));
+      m_waiting = waiting;
+    }
+
+    @Override
+    protected String awaitPendingResolve(CompletableFuture<String> pendingResolve) {
+      m_waiting.countDown();
+      return super.awaitPendingResolve(pendingResolve);
+    }
+  }
+}
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.platform.internal;
 import static org.junit.Assert.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
@@ -118,6 +119,29 @@ public class BeanHierarchyTest {
     assertEquals(Arrays.asList(bean3), h.sortedBeanCopy());
   }
 
+  @Test
+  public void testQueryResultsFollowModifications() {
+    BeanHierarchy<AbstractBaseClass> h = new BeanHierarchy<>(AbstractBaseClass.class);
+    BeanImplementor<AbstractBaseClass> beanA = new BeanImplementor<>(new BeanMetaData(SubClassA.class));
+    BeanImplementor<AbstractBaseClass> beanB = new BeanImplementor<>(new BeanMetaData(SubClassB.class).withOrder(IBean.DEFAULT_BEAN_ORDER - 1));
+    assertTrue(h.queryAll().isEmpty());
+
+    h.addBean(beanA);
+    List<IBean<AbstractBaseClass>> all = h.queryAll();
+    assertEquals(Arrays.asList(beanA), all);
+    assertSame(all, h.queryAll()); // cached until the next modification
+
+    h.addBean(beanB);
+    assertEquals(Arrays.asList(beanB, beanA), h.queryAll());
+    assertEquals(Arrays.asList(beanB), h.querySingle());
+
+    h.removeBean(beanB);
+    assertEquals(Arrays.asList(beanA), h.queryAll());
+    assertEquals(Arrays.asList(beanA), h.querySingle());
+    assertEquals(Arrays.asList(beanA), h.getBeans());
+    assertThrows(UnsupportedOperationException.class, () -> h.getBeans().add(beanB));
+  }
+
   public interface ITestInterface {
   }
 
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
+import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.ParallelStartup;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformParallelStartupProperty;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Starts a platform with {@link PlatformParallelStartupProperty} enabled.
+ *
+ * @since 23.2
+ */
+public class PlatformParallelStartupTest {
+
+  private static final String PARALLEL_STARTUP_KEY = new PlatformParallelStartupProperty().getKey();
+
+  private String m_oldParallelStartup;
+  private List<String> m_protocol;
+
+  @Before
+  public void before() {
+    m_oldParallelStartup = System.setProperty(PARALLEL_STARTUP_KEY, "true");
+    m_protocol = new CopyOnWriteArrayList<>();
+  }
+
+  @After
+  public void after() {
+    if (m_oldParallelStartup == null) {
+      System.clearProperty(PARALLEL_STARTUP_KEY);
+    }
+    else {
+      System.setProperty(PARALLEL_STARTUP_KEY, m_oldParallelStartup);
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void testParallelListeners() {
+    P_SequentialListener sequentialListener = new P_SequentialListener(m_protocol);
+    P_ParallelListener parallelListener = new P_ParallelListener(m_protocol, null);
+    TestingPlatformImplementor platform = new TestingPlatformImplementor(
+        new BeanMetaData(P_SequentialListener.class, sequentialListener).withApplicationScoped(true),
+        new BeanMetaData(P_ParallelListener.class, parallelListener).withApplicationScoped(true),
+        new BeanMetaData(IBeanDecorationFactory.class, new P_RecordingDecorationFactory(m_protocol)).withApplicationScoped(true));
+    platform.start();
+    platform.awaitPlatformStarted();
+    assertEquals(State.PlatformStarted, platform.getState());
+
+    // state order is unchanged
+    assertEquals(Arrays.asList(State.BeanManagerPrepared, State.BeanManagerValid, State.PlatformStarted), sequentialListener.getStates());
+    assertEquals(Arrays.asList(State.BeanManagerPrepared, State.BeanManagerValid, State.PlatformStarted), parallelListener.getStates());
+
+    // the parallel listener ran in a worker thread which could access the bean manager while the startup thread held the platform lock
+    assertTrue(parallelListener.getThreadNames().stream().allMatch(name -> name.startsWith("scout-platform-startup")));
+    assertEquals(Arrays.asList(platform.getBeanManager(), platform.getBeanManager(), platform.getBeanManager()), parallelListener.getBeanManagers());
+
+    // listeners are decorated once the decoration factory is initialized
+    List<String> decorated = m_protocol.stream().filter(entry -> entry.startsWith("decorated")).collect(Collectors.toList());
+    assertTrue(decorated.contains("decorated " + P_ParallelListener.class.getSimpleName() + " " + State.BeanManagerValid));
+    assertTrue(decorated.contains("decorated " + P_ParallelListener.class.getSimpleName() + " " + State.PlatformStarted));
+    assertTrue(decorated.contains("decorated " + P_SequentialListener.class.getSimpleName() + " " + State.PlatformStarted));
+
+    assertFalse(platform.getStartupTimeline().isEmpty());
+    platform.stop();
+  }
+
+  @Test(timeout = 30000)
+  public void testParallelListenerFails() {
+    P_SequentialListener sequentialListener = new P_SequentialListener(m_protocol);
+    P_ParallelListener parallelListener = new P_ParallelListener(m_protocol, State.BeanManagerValid);
+    TestingPlatformImplementor platform = new TestingPlatformImplementor(
+        new BeanMetaData(P_SequentialListener.class, sequentialListener).withApplicationScoped(true).withOrder(1),
+        new BeanMetaData(P_ParallelListener.class, parallelListener).withApplicationScoped(true).withOrder(2));
+
+    try {
+      platform.start();
+      fail("Platform is not expected to be started");
+    }
+    catch (TestingPlatformStartupException e) {
+      // expected
+    }
+    assertEquals(State.PlatformInvalid, platform.getState());
+    assertEquals(Arrays.asList(State.BeanManagerPrepared, State.BeanManagerValid, State.PlatformInvalid), sequentialListener.getStates());
+    try {
+      platform.awaitPlatformStarted();
+      fail("Platform is not expected to be started");
+    }
+    catch (PlatformException e) {
+      assertEquals("The platform is in an invalid state.", e.getMessage());
+    }
+  }
+
+  private static class TestingPlatformImplementor extends PlatformImplementor {
+
+    private final BeanMetaData[] m_initialBeans;
+
+    public TestingPlatformImplementor(BeanMetaData... initialBeans) {
+      m_initialBeans = initialBeans;
+    }
+
+    @Override
+    protected BeanManagerImplementor createBeanManager() {
+      BeanManagerImplementor beanManager = new BeanManagerImplementor();
+      for (BeanMetaData bean : m_initialBeans) {
+        beanManager.registerBean(bean);
+      }
+      return beanManager;
+    }
+
+    @Override
+    protected void validateConfiguration() {
+      // do not validate
+    }
+  }
+
+  private static class P_SequentialListener implements IPlatformListener {
+
+    private final List<String> m_protocol;
+    private final List<State> m_states = new CopyOnWriteArrayList<>();
+
+    P_SequentialListener(List<String> protocol) {
+      m_protocol = protocol;
+    }
+
+    @Override
+    public void stateChanged(PlatformEvent event) {
+      m_protocol.add(getClass().getSimpleName() + " " + event.getState());
+      if (event.getState() != State.PlatformStopping && event.getState() != State.PlatformStopped) {
+        m_states.add(event.getState());
+      }
+    }
+
+    List<State> getStates() {
+      return m_states;
+    }
+  }
+
+  @ParallelStartup
+  private static class P_ParallelListener implements IPlatformListener {
+
+    private final List<String> m_protocol;
+    private final State m_failInState;
+    private final List<State> m_states = new CopyOnWriteArrayList<>();
+    private final List<String> m_threadNames = new CopyOnWriteArrayList<>();
+    private final List<IBeanManager> m_beanManagers = new CopyOnWriteArrayList<>();
+
+    P_ParallelListener(List<String> protocol, State failInState) {
+      m_protocol = protocol;
+      m_failInState = failInState;
+    }
+
+    @Override
+    public void stateChanged(PlatformEvent event) {
+      if (!PlatformImplementor.isParallelStartupState(event.getState())) {
+        return;
+      }
+      m_protocol.add(getClass().getSimpleName() + " " + event.getState());
+      m_states.add(event.getState());
+      m_threadNames.add(Thread.currentThread().getName());
+      // must not block although the startup thread holds the platform lock
+      m_beanManagers.add(event.getSource().getBeanManager());
+      if (event.getState() == m_failInState) {
+        throw new TestingPlatformStartupException();
+      }
+    }
+
+    List<State> getStates() {
+      return m_states;
+    }
+
+    List<String> getThreadNames() {
+      return m_threadNames;
+    }
+
+    List<IBeanManager> getBeanManagers() {
+      return m_beanManagers;
+    }
+  }
+
+  private static class P_RecordingDecorationFactory implements IBeanDecorationFactory {
+
+    private final List<String> m_protocol;
+
+    P_RecordingDecorationFactory(List<String> protocol) {
+      m_protocol = protocol;
+    }
+
+    @Override
+    public <T> IBeanDecorator<T> decorate(IBean<T> bean, Class<? extends T> queryType) {
+      return context -> {
+        if (context.getTargetArgs().length == 1 && context.getTargetArgs()[0] instanceof PlatformEvent) {
+          m_protocol.add("decorated " + bean.getBeanClazz().getSimpleName() + " " + ((PlatformEvent) context.getTargetArgs()[0]).getState());
+        }
+        return context.proceed();
+      };
+    }
+  }
+
+  private static class TestingPlatformStartupException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PlatformStartupExecutorTest {
+
+  private static ExecutorService s_executor;
+
+  private List<Class<?>> m_protocol;
+
+  @BeforeClass
+  public static void beforeClass() {
+    s_executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    s_executor.shutdownNow();
+  }
+
+  @Before
+  public void before() {
+    m_protocol = new CopyOnWriteArrayList<>();
+  }
+
+  @Test(timeout = 10000)
+  public void testParallelTasksRunConcurrently() {
+    CountDownLatch latch = new CountDownLatch(2);
+    Runnable awaitOther = () -> {
+      latch.countDown();
+      await(latch);
+    };
+    PlatformStartupTask a = parallel(FixtureA.class, awaitOther);
+    PlatformStartupTask b = parallel(FixtureB.class, awaitOther);
+
+    run(a, b);
+    assertTrue(a.hasRun());
+    assertTrue(b.hasRun());
+    assertNotEquals(a.getThreadName(), b.getThreadName());
+  }
+
+  @Test
+  public void testDependencies() {
+    CountDownLatch latchA = new CountDownLatch(1);
+    PlatformStartupTask a = parallel(FixtureA.class, () -> await(latchA));
+    PlatformStartupTask b = parallel(FixtureB.class, protocol(FixtureB.class), FixtureA.class);
+    PlatformStartupTask c = parallel(FixtureC.class, () -> {
+      m_protocol.add(FixtureC.class);
+      latchA.countDown();
+    });
+
+    run(b, a, c);
+    assertEquals(Arrays.asList(FixtureC.class, FixtureB.class), m_protocol);
+    assertSame(a, b.getBlockedBy());
+    assertNull(c.getBlockedBy());
+  }
+
+  @Test
+  public void testSequentialTaskWaitsForAllTasksBefore() {
+    PlatformStartupTask a = parallel(FixtureA.class, () -> {
+      sleep(100);
+      m_protocol.add(FixtureA.class);
+    });
+    PlatformStartupTask b = sequential(FixtureB.class, protocol(FixtureB.class));
+    PlatformStartupTask c = parallel(FixtureC.class, protocol(FixtureC.class));
+
+    run(a, b, c);
+    assertEquals(Arrays.asList(FixtureA.class, FixtureB.class, FixtureC.class), m_protocol);
+    assertSame(a, b.getBlockedBy());
+    assertSame(b, c.getBlockedBy());
+    assertEquals(Thread.currentThread().getName(), b.getThreadName());
+    assertTrue(a.isCriticalPath());
+    assertTrue(b.isCriticalPath());
+    assertTrue(c.isCriticalPath());
+  }
+
+  @Test
+  public void testFailure() {
+    RuntimeException failure = new RuntimeException("expected");
+    PlatformStartupTask a = parallel(FixtureA.class, () -> {
+      throw failure;
+    });
+    PlatformStartupTask b = parallel(FixtureB.class, protocol(FixtureB.class), FixtureA.class);
+    PlatformStartupTask c = sequential(FixtureC.class, protocol(FixtureC.class));
+
+    RuntimeException e = assertThrows(RuntimeException.class, () -> run(a, b, c));
+    assertSame(failure, e);
+    assertSame(failure, a.getFailure());
+    assertFalse(b.hasRun());
+    assertFalse(c.hasRun());
+    assertTrue(m_protocol.isEmpty());
+  }
+
+  @Test
+  public void testCyclicDependencies() {
+    PlatformStartupTask a = parallel(FixtureA.class, protocol(FixtureA.class), FixtureC.class);
+    PlatformStartupTask b = sequential(FixtureB.class, protocol(FixtureB.class));
+    PlatformStartupTask c = parallel(FixtureC.class, protocol(FixtureC.class));
+
+    // a waits for c which waits for b which waits for a
+    assertThrows(PlatformException.class, () -> run(a, b, c));
+    assertTrue(m_protocol.isEmpty());
+  }
+
+  protected void run(PlatformStartupTask... tasks) {
+    new PlatformStartupExecutor(s_executor).run(Arrays.asList(tasks));
+  }
+
+  protected Runnable protocol(Class<?> clazz) {
+    return () -> m_protocol.add(clazz);
+  }
+
+  protected static PlatformStartupTask parallel(Class<?> clazz, Runnable runnable, Class<?>... dependsOn) {
+    return new PlatformStartupTask("test", clazz, true, dependsOn, runnable);
+  }
+
+  protected static PlatformStartupTask sequential(Class<?> clazz, Runnable runnable) {
+    return new PlatformStartupTask("test", clazz, false, null, runnable);
+  }
+
+  protected static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError(e);
+    }
+  }
+
+  protected static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError(e);
+    }
+  }
+
+  private static class FixtureA {
+  }
+
+  private static class FixtureB {
+  }
+
+  private static class FixtureC {
+  }
+}
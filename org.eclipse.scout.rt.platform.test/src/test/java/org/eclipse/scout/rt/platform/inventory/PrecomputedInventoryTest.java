@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilderTest.FixtureJandexInventoryObject;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PrecomputedInventoryTest {
+
+  private Path m_outputDir;
+
+  @Before
+  public void before() throws IOException {
+    m_outputDir = Files.createTempDirectory("scout-inventory");
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_outputDir.toFile());
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    new PrecomputedInventoryWriter().write(m_outputDir);
+
+    try (URLClassLoader classLoader = createClassLoader()) {
+      PrecomputedInventory inventory = PrecomputedInventory.find(classLoader);
+      assertNotNull(inventory);
+      assertTrue(inventory.getBeanClassNames().contains(PlatformDevModeProperty.class.getName()));
+      assertTrue(inventory.loadBeanClasses().contains(PlatformDevModeProperty.class));
+
+      Index index = inventory.readIndex();
+      assertNotNull(index.getClassByName(DotName.createSimple(FixtureJandexInventoryObject.class.getName())));
+      assertNotNull(index.getClassByName(DotName.createSimple(PrecomputedInventory.class.getName())));
+    }
+  }
+
+  @Test
+  public void testNoInventory() throws IOException {
+    try (URLClassLoader classLoader = createClassLoader()) {
+      assertNull(PrecomputedInventory.find(classLoader));
+    }
+  }
+
+  @Test
+  public void testOutdatedInventory() throws IOException {
+    List<String> moduleFingerprints = PrecomputedInventory.computeModuleFingerprints(getClass().getClassLoader());
+    assertFalse(moduleFingerprints.isEmpty());
+    Path beansFile = m_outputDir.resolve(PrecomputedInventory.BEANS_PATH);
+    Files.createDirectories(beansFile.getParent());
+    Files.createFile(m_outputDir.resolve(PrecomputedInventory.INDEX_PATH));
+
+    // additional module
+    List<String> outdatedFingerprints = new ArrayList<>(moduleFingerprints);
+    outdatedFingerprints.add("removed-module.jar 42 2a");
+    writeBeans(beansFile, outdatedFingerprints);
+    try (URLClassLoader classLoader = createClassLoader()) {
+      assertNull(PrecomputedInventory.find(classLoader));
+    }
+
+    // modified index of a module
+    outdatedFingerprints = new ArrayList<>(moduleFingerprints);
+    outdatedFingerprints.set(0, outdatedFingerprints.get(0) + "0");
+    writeBeans(beansFile, outdatedFingerprints);
+    try (URLClassLoader classLoader = createClassLoader()) {
+      assertNull(PrecomputedInventory.find(classLoader));
+    }
+
+    // written by an older version without fingerprints
+    writeBeans(beansFile, Collections.emptyList());
+    try (URLClassLoader classLoader = createClassLoader()) {
+      assertNull(PrecomputedInventory.find(classLoader));
+    }
+
+    // order does not matter
+    List<String> reversedFingerprints = new ArrayList<>(moduleFingerprints);
+    Collections.reverse(reversedFingerprints);
+    writeBeans(beansFile, reversedFingerprints);
+    try (URLClassLoader classLoader = createClassLoader()) {
+      PrecomputedInventory inventory = PrecomputedInventory.find(classLoader);
+      assertNotNull(inventory);
+      assertEquals(Collections.singletonList(PlatformDevModeProperty.class.getName()), inventory.getBeanClassNames());
+    }
+  }
+
+  @Test
+  public void testModuleFingerprint() throws IOException {
+    Path module = m_outputDir.resolve("module");
+    Path scoutXml = module.resolve(JandexInventoryBuilder.SCOUT_XML_PATH);
+    Files.createDirectories(scoutXml.getParent());
+    Files.createFile(scoutXml);
+    URL scoutXmlUrl = scoutXml.toUri().toURL();
+    assertEquals("module -", PrecomputedInventory.computeModuleFingerprint(scoutXmlUrl));
+
+    Files.write(module.resolve(JandexInventoryBuilder.JANDEX_INDEX_PATH), "index".getBytes(UTF_8));
+    String fingerprint = PrecomputedInventory.computeModuleFingerprint(scoutXmlUrl);
+    assertEquals("module 5 " + Long.toHexString(crc32("index")), fingerprint);
+
+    // same fingerprint if the module is packaged as jar
+    Path jar = m_outputDir.resolve("module.jar");
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry(JandexInventoryBuilder.SCOUT_XML_PATH));
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry(JandexInventoryBuilder.JANDEX_INDEX_PATH));
+      out.write("index".getBytes(UTF_8));
+      out.closeEntry();
+    }
+    URL jarScoutXmlUrl = new URL("jar:" + jar.toUri().toURL() + "!/" + JandexInventoryBuilder.SCOUT_XML_PATH);
+    assertEquals("module.jar 5 " + Long.toHexString(crc32("index")), PrecomputedInventory.computeModuleFingerprint(jarScoutXmlUrl));
+  }
+
+  protected long crc32(String s) {
+    CRC32 crc = new CRC32();
+    crc.update(s.getBytes(UTF_8));
+    return crc.getValue();
+  }
+
+  protected void writeBeans(Path beansFile, List<String> moduleFingerprints) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (String fingerprint : moduleFingerprints) {
+      sb.append(PrecomputedInventory.MODULE_PREFIX).append(fingerprint).append("\n");
+    }
+    sb.append(PlatformDevModeProperty.class.getName());
+    Files.write(beansFile, sb.toString().getBytes(UTF_8));
+  }
+
+  protected URLClassLoader createClassLoader() throws IOException {
+    return new URLClassLoader(new URL[]{m_outputDir.toUri().toURL()}, getClass().getClassLoader());
+  }
+}
@@ -9,12 +9,13 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.*;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,4 +40,21 @@ public class NamedThreadFactoryTest {
     latch.await(1, TimeUnit.SECONDS);
     assertNull(childThreadMdcValue.get());
   }
+
+  @Test
+  public void testThreadInfo() throws InterruptedException {
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final Thread thread = new NamedThreadFactory("info-test-thread").newThread(() -> {
+      ThreadInfo.CURRENT.get().updateThreadName("decorated", "info");
+      threadName.set(Thread.currentThread().getName());
+      ThreadInfo.CURRENT.get().reset();
+    });
+    assertFalse(thread.isDaemon());
+    assertEquals("info-test-thread-1", thread.getName());
+
+    thread.start();
+    thread.join(TimeUnit.SECONDS.toMillis(10));
+    assertEquals("decorated-1 info", threadName.get());
+    assertEquals("info-test-thread-1", thread.getName());
+  }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadFactoryTest {
+
+  @Before
+  public void before() {
+    Assume.assumeTrue("virtual threads not supported", VirtualThreadFactory.isSupported());
+  }
+
+  @Test
+  public void testThreadInfo() throws InterruptedException {
+    final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final Thread thread = new VirtualThreadFactory("virtual-test-thread").newThread(() -> {
+      threadInfo.set(ThreadInfo.CURRENT.get());
+      threadInfo.get().updateThreadName("decorated", null);
+      threadName.set(Thread.currentThread().getName());
+    });
+    assertTrue(thread.isDaemon()); // virtual threads are always daemon threads
+    assertEquals("virtual-test-thread-1", thread.getName());
+
+    thread.start();
+    thread.join(TimeUnit.SECONDS.toMillis(10));
+    assertNotNull(threadInfo.get());
+    assertEquals("decorated-1", threadName.get());
+    assertNull(ThreadInfo.CURRENT.get());
+  }
+}
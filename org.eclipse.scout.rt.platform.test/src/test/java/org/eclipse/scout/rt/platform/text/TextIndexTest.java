@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.text;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.DefaultTextPostProcessor;
+import org.eclipse.scout.rt.platform.nls.DynamicNls;
+import org.eclipse.scout.rt.platform.nls.ITextPostProcessor;
+import org.eclipse.scout.rt.platform.nls.NlsUtility;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for {@link TextIndex}
+ */
+@RunWith(PlatformTestRunner.class)
+public class TextIndexTest {
+
+  @Test
+  public void testSameTextsAsProvider() {
+    TestTextProviderService provider = BEANS.get(TestTextProviderService.class);
+    TextIndex index = new TextIndex(Collections.singletonList(provider));
+
+    for (String key : Arrays.asList("key1", "key6", "anyKey")) {
+      assertEquals(provider.getText(Locale.ENGLISH, key), index.getText(Locale.ENGLISH, key));
+      assertEquals(provider.getText(Locale.ENGLISH, key, "X"), index.getText(Locale.ENGLISH, key, "X"));
+      assertEquals(provider.getText(Locale.ENGLISH, key, (String) null), index.getText(Locale.ENGLISH, key, (String) null));
+      assertEquals(provider.getText(null, key, "X"), index.getText(null, key, "X"));
+    }
+    assertNull(index.getText(Locale.ENGLISH, null));
+    assertEquals("value X", index.getText(Locale.ENGLISH, "key6", "X"));
+  }
+
+  @Test
+  public void testBind() {
+    for (String text : Arrays.asList("no arguments", "{0}", "a {0} b {1} c", "{1}{0}{1}", "out of range {2}", "leading zeros {00}", "not an argument {x} {")) {
+      TextIndex.P_Text indexedText = new TextIndex.P_Text(text, new ITextPostProcessor[0], 0);
+      assertEquals(text, indexedText.bind());
+      assertEquals(NlsUtility.bindText(text, "A", null), indexedText.bind("A", null));
+      assertEquals(NlsUtility.bindText(text, "A", "B"), indexedText.bind("A", "B"));
+    }
+    assertSame("no arguments", new TextIndex.P_Text("no arguments", new ITextPostProcessor[0], 0).bind("A"));
+  }
+
+  @Test
+  public void testProviderOrder() {
+    ITextProviderService custom = new ITextProviderService() {
+      @Override
+      public String getText(Locale locale, String key, String... messageArguments) {
+        return "key1".equals(key) ? "custom" : null;
+      }
+
+      @Override
+      public Map<String, String> getTextMap(Locale locale) {
+        return Collections.singletonMap("key1", "custom");
+      }
+    };
+    TestTextProviderService provider = BEANS.get(TestTextProviderService.class);
+
+    TextIndex index = new TextIndex(Arrays.asList(custom, provider));
+    assertEquals("custom", index.getText(Locale.ENGLISH, "key1"));
+    assertEquals("Value 2", index.getText(Locale.ENGLISH, "key2"));
+
+    index = new TextIndex(Arrays.asList(provider, custom));
+    assertEquals("Value 1", index.getText(Locale.ENGLISH, "key1"));
+  }
+
+  @Test
+  public void testStale() {
+    TextIndex index = new TextIndex(Collections.singletonList(BEANS.get(TestTextProviderService.class)));
+    assertFalse(index.isStale());
+    DynamicNls.markModified();
+    assertTrue(index.isStale());
+  }
+
+  @Test
+  public void testPostProcessing() {
+    TextIndex.P_Text text = new TextIndex.P_Text("Straße {0}", new ITextPostProcessor[]{new DefaultTextPostProcessor()}, 0);
+    assertEquals("Straße 1", text.getText(Locale.GERMAN, "key", "1"));
+    assertEquals("Strasse 1", text.getText(new Locale("de", "CH"), "key", "1"));
+  }
+
+  @Test
+  public void testPostProcessingOfMissingText() {
+    // created without bean manager, i.e. without resource bundle
+    AbstractDynamicNlsTextProviderService empty = new AbstractDynamicNlsTextProviderService() {
+      @Override
+      public String getDynamicNlsBaseName() {
+        return null;
+      }
+    };
+    empty.getDynamicNls().withTextPostProcessor((locale, key, text, messageArguments) -> text == null && "key1".equals(key) ? "post processed" : text);
+    TestTextProviderService provider = BEANS.get(TestTextProviderService.class);
+    List<ITextProviderService> providers = Arrays.asList(empty, provider);
+
+    TextIndex index = new TextIndex(providers);
+    assertEquals("post processed", index.getText(Locale.ENGLISH, "key1"));
+    assertEquals("Value 2", index.getText(Locale.ENGLISH, "key2"));
+    assertNull(index.getText(Locale.ENGLISH, "anyKey"));
+    for (String key : Arrays.asList("key1", "key2", "key6", "anyKey")) {
+      assertEquals(getTextOfFirstProvider(providers, key), index.getText(Locale.ENGLISH, key));
+    }
+  }
+
+  protected String getTextOfFirstProvider(List<ITextProviderService> providers, String key) {
+    for (ITextProviderService provider : providers) {
+      String text = provider.getText(Locale.ENGLISH, key);
+      if (text != null) {
+        return text;
+      }
+    }
+    return null;
+  }
+}
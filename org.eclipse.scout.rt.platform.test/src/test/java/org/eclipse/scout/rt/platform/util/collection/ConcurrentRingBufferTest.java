@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.junit.Test;
+
+public class ConcurrentRingBufferTest {
+
+  @Test
+  public void testFifo() {
+    ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(10);
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+    buffer.addAll(Arrays.asList(1, 2, 3));
+    buffer.add(4);
+    assertEquals(4, buffer.size());
+    assertEquals(Integer.valueOf(1), buffer.poll());
+    List<Integer> drained = new ArrayList<>();
+    assertEquals(2, buffer.drainTo(drained, 2));
+    assertEquals(Arrays.asList(2, 3), drained);
+    assertEquals(Integer.valueOf(4), buffer.poll());
+    assertNull(buffer.poll());
+    assertEquals(0, buffer.getOverwrittenCount());
+  }
+
+  @Test
+  public void testOverwriteOldest() {
+    ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(5);
+    for (int i = 0; i < 12; i++) {
+      buffer.add(i);
+    }
+    assertEquals(5, buffer.size());
+    assertEquals(7, buffer.getOverwrittenCount());
+
+    List<Integer> drained = new ArrayList<>();
+    assertEquals(5, buffer.drainTo(drained, 100));
+    assertEquals(Arrays.asList(7, 8, 9, 10, 11), drained);
+    assertEquals(7, buffer.getOverwrittenCount());
+    assertTrue(buffer.isEmpty());
+
+    // wraps around after consumption
+    buffer.addAll(Arrays.asList(12, 13, 14));
+    drained.clear();
+    buffer.drainTo(drained, 100);
+    assertEquals(Arrays.asList(12, 13, 14), drained);
+    assertEquals(7, buffer.getOverwrittenCount());
+  }
+
+  @Test
+  public void testAddAll() {
+    ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(5);
+    buffer.addAll(Collections.emptyList());
+    assertTrue(buffer.isEmpty());
+
+    // null elements are rejected before any element is added
+    assertThrows(AssertionException.class, () -> buffer.addAll(Arrays.asList(1, null, 3)));
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+
+    buffer.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7));
+    assertEquals(5, buffer.size());
+    assertEquals(3, buffer.getOverwrittenCount());
+    List<Integer> drained = new ArrayList<>();
+    buffer.drainTo(drained, 100);
+    assertEquals(Arrays.asList(3, 4, 5, 6, 7), drained);
+  }
+
+  @Test
+  public void testPollTimeout() throws InterruptedException {
+    ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(5);
+    long start = System.nanoTime();
+    assertNull(buffer.poll(50, TimeUnit.MILLISECONDS));
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  public void testPollWokenUpByProducer() throws InterruptedException {
+    ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(5);
+    Thread producer = new Thread(() -> {
+      try {
+        Thread.sleep(50);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      buffer.add(42);
+    });
+    producer.start();
+    assertEquals(Integer.valueOf(42), buffer.poll(30, TimeUnit.SECONDS));
+    producer.join();
+  }
+
+  /**
+   * Every element added by concurrent producers is either consumed exactly once or counted as overwritten.
+   */
+  @Test
+  public void testConcurrentProducers() throws InterruptedException {
+    int producerCount = 4;
+    int elementsPerProducer = 100_000;
+    ConcurrentRingBuffer<Integer> buffer = new ConcurrentRingBuffer<>(64);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < producerCount; p++) {
+      int producerIndex = p;
+      Thread producer = new Thread(() -> {
+        try {
+          startLatch.await();
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int i = 0; i < elementsPerProducer; i++) {
+          buffer.add(producerIndex * elementsPerProducer + i);
+        }
+      });
+      producer.start();
+      producers.add(producer);
+    }
+
+    boolean[] consumed = new boolean[producerCount * elementsPerProducer];
+    int[] lastConsumedPerProducer = new int[producerCount];
+    Arrays.fill(lastConsumedPerProducer, -1);
+    long consumedCount = 0;
+    startLatch.countDown();
+    while (consumedCount + buffer.getOverwrittenCount() < consumed.length) {
+      Integer element = buffer.poll(1, TimeUnit.MILLISECONDS);
+      if (element == null) {
+        continue;
+      }
+      assertFalse("consumed twice: " + element, consumed[element]);
+      consumed[element] = true;
+      int producerIndex = element / elementsPerProducer;
+      assertTrue("order of producer not preserved", element > lastConsumedPerProducer[producerIndex]);
+      lastConsumedPerProducer[producerIndex] = element;
+      consumedCount++;
+    }
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    assertNull(buffer.poll());
+    assertEquals(consumed.length, consumedCount + buffer.getOverwrittenCount());
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+public class ConcurrentTinyLfuMapTest {
+
+  @Test
+  public void testMaximumSize() {
+    List<Integer> evicted = new ArrayList<>();
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<Integer, String>(100) {
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        evicted.add(key);
+      }
+    };
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, "value_" + i);
+      assertTrue(map.size() <= 100);
+    }
+    assertEquals(100, map.size());
+    assertEquals(100, map.getWeightedSize());
+    assertEquals(900, map.getEvictionCount());
+    assertEquals(900, evicted.size());
+  }
+
+  @Test
+  public void testFrequentlyUsedEntriesSurviveScan() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    for (int i = 0; i < 50; i++) {
+      map.put(i, "hot_" + i);
+    }
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 50; i++) {
+        assertEquals("hot_" + i, map.get(i));
+      }
+    }
+
+    // scan of keys accessed only once
+    for (int i = 1000; i < 2000; i++) {
+      map.put(i, "cold_" + i);
+    }
+
+    for (int i = 0; i < 50; i++) {
+      assertEquals("hot_" + i, map.get(i));
+    }
+    assertEquals(100, map.size());
+  }
+
+  @Test
+  public void testReadsWhileLockedAreRecorded() throws InterruptedException {
+    AtomicBoolean readHotEntries = new AtomicBoolean(true);
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<Integer, String>(100) {
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        if (readHotEntries.getAndSet(false)) {
+          // called while holding the lock of the map
+          Thread reader = new Thread(() -> {
+            for (int round = 0; round < 5; round++) {
+              for (int i = 0; i < 50; i++) {
+                get(i);
+              }
+            }
+          });
+          reader.start();
+          try {
+            reader.join();
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    };
+    for (int i = 0; i < 50; i++) {
+      map.put(i, "hot_" + i);
+    }
+    for (int i = 100; i <= 150; i++) {
+      map.put(i, "warm_" + i);
+    }
+    assertFalse(readHotEntries.get());
+
+    // scan of keys accessed a few times
+    for (int i = 1000; i < 2000; i++) {
+      map.put(i, "cold_" + i);
+      map.get(i);
+      map.get(i);
+    }
+
+    for (int i = 0; i < 50; i++) {
+      assertEquals("hot_" + i, map.get(i));
+    }
+  }
+
+  @Test
+  public void testSketchKeepsFrequenciesWhenGrowing() {
+    FrequencySketch sketch = new FrequencySketch(16);
+    for (int i = 0; i < 5; i++) {
+      sketch.increment("a");
+    }
+    sketch.ensureCapacity(1000);
+    assertTrue(sketch.capacity() >= 1000);
+    assertTrue(sketch.frequency("a") >= 5);
+  }
+
+  @Test
+  public void testMaximumWeight() {
+    ConcurrentTinyLfuMap<String, String> map = new ConcurrentTinyLfuMap<>(100, (key, value) -> value.length());
+    map.put("a", "0123456789");
+    map.put("b", "01234567890123456789");
+    assertEquals(30, map.getWeightedSize());
+
+    map.put("a", "01234");
+    assertEquals(25, map.getWeightedSize());
+
+    for (int i = 0; i < 100; i++) {
+      map.put("key" + i, "0123456789");
+      assertTrue(map.getWeightedSize() <= 100);
+    }
+
+    // entry heavier than the maximum weight is not retained
+    map.put("huge", new String(new char[101]));
+    assertNull(map.get("huge"));
+    assertTrue(map.getWeightedSize() <= 100);
+  }
+
+  @Test
+  public void testConcurrentMapOperations() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(10);
+    assertNull(map.putIfAbsent(1, "a"));
+    assertEquals("a", map.putIfAbsent(1, "b"));
+    assertEquals("a", map.get(1));
+
+    assertFalse(map.replace(1, "b", "c"));
+    assertTrue(map.replace(1, "a", "c"));
+    assertEquals("c", map.replace(1, "d"));
+    assertNull(map.replace(2, "d"));
+
+    assertFalse(map.remove(1, "c"));
+    assertTrue(map.remove(1, "d"));
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeightedSize());
+
+    map.put(1, "a");
+    map.put(2, "b");
+    map.entrySet().removeIf(e -> e.getKey() == 1);
+    assertEquals(1, map.size());
+    assertEquals("b", map.get(2));
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getWeightedSize());
+    map.put(3, "c");
+    assertEquals("c", map.get(3));
+  }
+
+  @Test
+  public void testStatistics() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(10);
+    map.put(1, "a");
+    map.get(1);
+    map.get(1);
+    map.get(2);
+    assertEquals(2, map.getHitCount());
+    assertEquals(1, map.getMissCount());
+    assertEquals(0, map.getEvictionCount());
+  }
+}
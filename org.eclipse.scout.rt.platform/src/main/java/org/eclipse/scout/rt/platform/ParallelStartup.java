@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformParallelStartupProperty;
+
+/**
+ * Marks an {@link IPlatformListener} or a {@link CreateImmediately} bean which does not depend on the listeners and
+ * beans started before it (according to {@link Order}), except on the ones declared in {@link #dependsOn()}.
+ * <p>
+ * If the parallel startup is enabled (see {@link PlatformParallelStartupProperty}), such listeners and beans are run in
+ * parallel on a bounded thread pool as soon as their dependencies completed. Listeners and beans without this annotation
+ * are run in the startup thread after all listeners and beans before them completed. The platform changes to the next
+ * {@link IPlatform.State} only after all listeners of the current state completed.
+ *
+ * @since 23.2
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ParallelStartup {
+
+  /**
+   * @return listeners or {@link CreateImmediately} beans which must complete before this one is started. A class
+   *         matches all listeners or beans of the same startup step (notification of a state change, creation of the
+   *         {@link CreateImmediately} beans) which are assignable to it. Classes not matching any of them are ignored.
+   */
+  Class<?>[] dependsOn() default {};
+}
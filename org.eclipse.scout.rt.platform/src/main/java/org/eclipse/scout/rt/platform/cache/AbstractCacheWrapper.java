@@ -28,6 +28,26 @@ public abstract class AbstractCacheWrapper<K, V> implements ICache<K, V> {
     return m_delegate;
   }
 
+  /**
+   * @return statistics counter of the wrapped cache or <code>null</code> if it does not record statistics
+   * @since 23.2
+   */
+  protected CacheStatisticsCounter getStatisticsCounter() {
+    return getAdapter(CacheStatisticsCounter.class);
+  }
+
+  /**
+   * Records hits found by this wrapper without delegating to the wrapped cache.
+   *
+   * @since 23.2
+   */
+  protected void recordHits(long count) {
+    CacheStatisticsCounter counter = getStatisticsCounter();
+    if (counter != null) {
+      counter.recordHits(count);
+    }
+  }
+
   @Override
   public String getCacheId() {
     return m_delegate.getCacheId();
@@ -17,10 +17,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 
 /**
  * Basic implementation of {@link ICache}.
@@ -30,6 +32,8 @@ import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
  * <li>This cache is only thread safe if the provided cacheMap is thread safe.
  * <li>There might be multiple concurrent resolve operations running for the same key unless one is using
  * {@link BoundedResolveCacheWrapper} to limit these operations.
+ * <li>Hits, misses, loads and invalidations are recorded in a {@link CacheStatisticsCounter}, see
+ * {@link #getAdapter(Class)}.
  * </ul>
  *
  * @since 5.2
@@ -39,6 +43,7 @@ public class BasicCache<K, V> implements ICache<K, V> {
   protected final String m_cacheId;
   protected final ICacheValueResolver<K, V> m_resolver;
   protected final Map<K, V> m_cacheMap;
+  protected final CacheStatisticsCounter m_statistics = new CacheStatisticsCounter();
 
   protected final AbstractTransactionalMap<K, ?> m_transactionalMap; // is null if not transactional cache
 
@@ -92,11 +97,15 @@ public class BasicCache<K, V> implements ICache<K, V> {
       return null;
     }
     V value = m_cacheMap.get(key);
-    if (value == null) {
+    if (value != null) {
+      m_statistics.recordHits(1);
+    }
+    else {
+      m_statistics.recordMisses(1);
       if (m_transactionalMap != null) {
         m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
       }
-      value = m_resolver.resolve(key);
+      value = resolve(key);
       if (value != null) {
         V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
         value = alreadySetValue != null ? alreadySetValue : value;
@@ -120,6 +129,8 @@ public class BasicCache<K, V> implements ICache<K, V> {
         iterator.remove();
       }
     }
+    m_statistics.recordHits(result.size());
+    m_statistics.recordMisses(keys.size());
     if (keys.isEmpty()) {
       // all keys could be resolved with cache
       return result;
@@ -128,7 +139,7 @@ public class BasicCache<K, V> implements ICache<K, V> {
     if (m_transactionalMap != null) {
       m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
     }
-    Map<K, V> resolvedValues = m_resolver.resolveAll(keys);
+    Map<K, V> resolvedValues = resolveAll(keys);
     for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
       Entry<K, V> entry = iterator.next();
       // remove any null values from the resolved values map
@@ -146,8 +157,46 @@ public class BasicCache<K, V> implements ICache<K, V> {
     return result;
   }
 
+  /**
+   * Calls {@link ICacheValueResolver#resolve(Object)} and records the load time.
+   */
+  protected V resolve(K key) {
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      V value = m_resolver.resolve(key);
+      success = true;
+      return value;
+    }
+    finally {
+      recordLoad(System.nanoTime() - start, success);
+    }
+  }
+
+  /**
+   * Calls {@link ICacheValueResolver#resolveAll(Set)} and records the load time.
+   */
+  protected Map<K, V> resolveAll(Set<K> keys) {
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      Map<K, V> values = m_resolver.resolveAll(keys);
+      success = true;
+      return values;
+    }
+    finally {
+      recordLoad(System.nanoTime() - start, success);
+    }
+  }
+
+  protected void recordLoad(long loadTimeNanos, boolean success) {
+    m_statistics.recordLoad(loadTimeNanos, success);
+    BEANS.get(CacheMetricProvider.class).recordLoadTime(getCacheId(), loadTimeNanos, success);
+  }
+
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    m_statistics.recordInvalidation();
     boolean markInsertsDirty = true;
 
     if (filter instanceof AllCacheEntryFilter) {
@@ -170,8 +219,37 @@ public class BasicCache<K, V> implements ICache<K, V> {
     }
   }
 
+  /**
+   * Supported adapters:
+   * <ul>
+   * <li>{@link CacheStatistics}: snapshot of the current statistics
+   * <li>{@link CacheStatisticsCounter}: live counters, used by wrappers to record their own events
+   * </ul>
+   */
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == CacheStatistics.class) {
+      return clazz.cast(createStatistics());
+    }
+    if (clazz == CacheStatisticsCounter.class) {
+      return clazz.cast(m_statistics);
+    }
     return null;
   }
+
+  /**
+   * @return snapshot of the current statistics
+   */
+  protected CacheStatistics createStatistics() {
+    Map<?, ?> innerMap = m_cacheMap;
+    if (innerMap instanceof ConcurrentExpiringMap) {
+      innerMap = ((ConcurrentExpiringMap<?, ?>) innerMap).getElementMap();
+    }
+    if (innerMap instanceof ConcurrentTinyLfuMap) {
+      ConcurrentTinyLfuMap<?, ?> map = (ConcurrentTinyLfuMap<?, ?>) innerMap;
+      return m_statistics.toStatistics(getCacheId(), map.size(), map.getWeightedSize(), map.getEvictionCount());
+    }
+    int size = m_cacheMap.size();
+    return m_statistics.toStatistics(getCacheId(), size, size, 0);
+  }
 }
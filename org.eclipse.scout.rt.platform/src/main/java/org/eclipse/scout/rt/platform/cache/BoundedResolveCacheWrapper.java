@@ -36,8 +36,10 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
   public V get(K key) {
     V value = getCachedValue(key);
     if (value != null) {
+      recordHits(1);
       return value;
     }
+    long start = System.nanoTime();
     try {
       m_semaphore.acquire();
     }
@@ -46,6 +48,7 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
       Thread.currentThread().interrupt();
       throw new ThreadInterruptedError("Interrupted during acquire", e);
     }
+    recordResolveWait(System.nanoTime() - start);
     try {
       return super.get(key);
     }
@@ -66,8 +69,10 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
       result.put(key, value);
     }
     if (result.size() == keys.size()) {
+      recordHits(result.size());
       return result;
     }
+    long start = System.nanoTime();
     try {
       m_semaphore.acquire();
     }
@@ -76,6 +81,7 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
       Thread.currentThread().interrupt();
       return super.getAll(keys);
     }
+    recordResolveWait(System.nanoTime() - start);
     try {
       return super.getAll(keys);
     }
@@ -83,4 +89,11 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
       m_semaphore.release();
     }
   }
+
+  protected void recordResolveWait(long waitTimeNanos) {
+    CacheStatisticsCounter counter = getStatisticsCounter();
+    if (counter != null) {
+      counter.recordResolveWait(waitTimeNanos);
+    }
+  }
 }
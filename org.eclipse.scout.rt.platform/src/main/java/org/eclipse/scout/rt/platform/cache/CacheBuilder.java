@@ -17,12 +17,15 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.ExpiringElement;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
 
@@ -46,7 +49,11 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private Long m_maximumWeight;
+  private ToIntBiFunction<? super K, ? super V> m_weigher;
   private Integer m_maxConcurrentResolve;
+  private boolean m_singleFlightResolve;
+  private Long m_refreshAhead;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
 
@@ -63,6 +70,9 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (getCacheId() == null) {
       throw new IllegalStateException("cacheId is null");
     }
+    if (getRefreshAhead() != null && (getTimeToLive() == null || getRefreshAhead() >= getTimeToLive())) {
+      throw new IllegalStateException("refreshAhead requires a time to live greater than the refresh-ahead duration");
+    }
     Map<K, V> cacheMap = createCacheMap();
     ICache<K, V> cache = createBasicCache(cacheMap);
     cache = addBeforeCustomWrappers(cache);
@@ -92,7 +102,13 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected Map<K, V> createCacheMap() {
-    if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
+    if (getMaximumWeight() != null) {
+      if (isTransactional()) {
+        throw new IllegalStateException("maximumWeight is not supported for transactional caches");
+      }
+      return createWeightBoundedMap();
+    }
+    else if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
     else if (isCreateExpiringMap()) {
@@ -116,18 +132,39 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     }
   }
 
+  protected Map<K, V> createWeightBoundedMap() {
+    ToIntBiFunction<? super K, ? super V> weigher = getWeigher();
+    if (getTimeToLive() == null) {
+      return new ConcurrentTinyLfuMap<>(getMaximumWeight(), weigher);
+    }
+    ToIntBiFunction<K, ExpiringElement<V>> elementWeigher = weigher == null ? null : (key, element) -> weigher.applyAsInt(key, element.getValue());
+    return new ConcurrentExpiringMap<>(new ConcurrentTinyLfuMap<>(getMaximumWeight(), elementWeigher), getTimeToLive(), isTouchOnGet(), 0);
+  }
+
   protected boolean isCreateExpiringMap() {
     return getTimeToLive() != null || getSizeBound() != null;
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getValueResolver(), cacheMap);
+    return createBasicCache(getValueResolver(), cacheMap);
+  }
+
+  protected ICache<K, V> createBasicCache(ICacheValueResolver<K, V> valueResolver, Map<K, V> cacheMap) {
+    if (getRefreshAhead() != null && cacheMap instanceof ConcurrentExpiringMap) {
+      long refreshAfter = getTimeToLive() - getRefreshAhead();
+      return new RefreshAheadCache<>(getCacheId(), valueResolver, (ConcurrentExpiringMap<K, V>) cacheMap, refreshAfter);
+    }
+    return new BasicCache<>(getCacheId(), valueResolver, cacheMap);
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
     if (getMaxConcurrentResolve() != null) {
       cache = new BoundedResolveCacheWrapper<>(cache, getMaxConcurrentResolve());
     }
+    if (isSingleFlightResolve()) {
+      // waiting for a pending resolve must not occupy a permit of the bounded resolve wrapper
+      cache = new SingleFlightResolveCacheWrapper<>(cache);
+    }
     return cache;
   }
 
@@ -301,6 +338,24 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+    if (maximumWeight != null && maximumWeight <= 0L) {
+      throw new IllegalArgumentException("maximumWeight must be positive");
+    }
+    m_maximumWeight = maximumWeight;
+    m_weigher = weigher;
+    return this;
+  }
+
+  public Long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  public ToIntBiFunction<? super K, ? super V> getWeigher() {
+    return m_weigher;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
@@ -314,6 +369,37 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_maxConcurrentResolve;
   }
 
+  @Override
+  public CacheBuilder<K, V> withSingleFlightResolve(boolean singleFlightResolve) {
+    m_singleFlightResolve = singleFlightResolve;
+    return this;
+  }
+
+  public boolean isSingleFlightResolve() {
+    return m_singleFlightResolve;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withRefreshAhead(Long refreshAheadDuration, TimeUnit refreshAheadUnit) {
+    if (refreshAheadDuration == null || refreshAheadUnit == null) {
+      m_refreshAhead = null;
+    }
+    else {
+      if (refreshAheadDuration <= 0L) {
+        throw new IllegalArgumentException("refreshAheadDuration must be positive");
+      }
+      m_refreshAhead = refreshAheadUnit.toMillis(refreshAheadDuration);
+    }
+    return this;
+  }
+
+  /**
+   * @return refresh-ahead duration in milliseconds
+   */
+  public Long getRefreshAhead() {
+    return m_refreshAhead;
+  }
+
   @Override
   public CacheBuilder<K, V> withAdditionalCustomWrapper(Class<? extends ICache> cacheClass, Object... arguments) {
     if (cacheClass != null) {
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} which serves the statistics of all caches registered in the {@link ICacheRegistryService}.
+ * Each measurement has a {@value #CACHE_ID_ATTRIBUTE} attribute.
+ *
+ * @see CacheStatistics
+ * @since 23.2
+ */
+public class CacheMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CacheMetricProvider.class);
+
+  public static final String CACHE_ID_ATTRIBUTE = "scout.cache.id";
+  public static final String OTEL_METRIC_CACHE_LOAD_DURATION = "scout.cache.load.duration";
+
+  private static final AttributeKey<String> CACHE_ID = AttributeKey.stringKey(CACHE_ID_ATTRIBUTE);
+  private static final AttributeKey<Boolean> LOAD_SUCCESS = AttributeKey.booleanKey("scout.cache.load.success");
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+  private volatile DoubleHistogram m_loadDuration;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    m_loadDuration = meter.histogramBuilder(OTEL_METRIC_CACHE_LOAD_DURATION)
+        .setDescription("The time it took to resolve values which were not found in a cache.")
+        .setUnit("ms")
+        .build();
+
+    ObservableLongMeasurement hits = meter.counterBuilder("scout.cache.hits")
+        .setDescription("The number of lookups which found a cached value.")
+        .setUnit("{lookup}")
+        .buildObserver();
+    ObservableLongMeasurement misses = meter.counterBuilder("scout.cache.misses")
+        .setDescription("The number of lookups which did not find a cached value.")
+        .setUnit("{lookup}")
+        .buildObserver();
+    ObservableLongMeasurement loadFailures = meter.counterBuilder("scout.cache.load.failures")
+        .setDescription("The number of value resolves which failed with an exception.")
+        .setUnit("{load}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.cache.evictions")
+        .setDescription("The number of entries evicted because of a size or weight bound.")
+        .setUnit("{entry}")
+        .buildObserver();
+    ObservableLongMeasurement invalidations = meter.counterBuilder("scout.cache.invalidations")
+        .setDescription("The number of invalidations.")
+        .setUnit("{invalidation}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.cache.size")
+        .setDescription("The number of cached entries.")
+        .setUnit("{entry}")
+        .buildObserver();
+    ObservableLongMeasurement weightedSize = meter.upDownCounterBuilder("scout.cache.weighted_size")
+        .setDescription("The total weight of all cached entries.")
+        .setUnit("{weight}")
+        .buildObserver();
+    m_observables.add(meter.batchCallback(() -> {
+      for (CacheStatistics statistics : getStatistics().values()) {
+        Attributes attributes = Attributes.of(CACHE_ID, statistics.getCacheId());
+        hits.record(statistics.getHitCount(), attributes);
+        misses.record(statistics.getMissCount(), attributes);
+        loadFailures.record(statistics.getLoadFailureCount(), attributes);
+        evictions.record(statistics.getEvictionCount(), attributes);
+        invalidations.record(statistics.getInvalidationCount(), attributes);
+        size.record(statistics.getSize(), attributes);
+        weightedSize.record(statistics.getWeightedSize(), attributes);
+      }
+    },
+        hits,
+        misses,
+        loadFailures,
+        evictions,
+        invalidations,
+        size,
+        weightedSize));
+  }
+
+  protected Map<String, CacheStatistics> getStatistics() {
+    return BEANS.get(ICacheRegistryService.class).getStatistics();
+  }
+
+  /**
+   * Records the duration of a call to an {@link ICacheValueResolver}. Does nothing if the metrics are not registered.
+   */
+  public void recordLoadTime(String cacheId, long loadTimeNanos, boolean success) {
+    DoubleHistogram loadDuration = m_loadDuration;
+    if (loadDuration != null) {
+      loadDuration.record(loadTimeNanos / 1_000_000d, Attributes.of(CACHE_ID, cacheId, LOAD_SUCCESS, success));
+    }
+  }
+
+  @Override
+  public void close() {
+    m_loadDuration = null;
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+
+  public static class LoadDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_CACHE_LOAD_DURATION;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 2d, 5d, 10d, 25d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
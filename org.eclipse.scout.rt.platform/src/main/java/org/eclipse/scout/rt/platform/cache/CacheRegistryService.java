@@ -9,7 +9,9 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -50,6 +52,11 @@ public class CacheRegistryService implements ICacheRegistryService {
     return getMap().get(cacheId);
   }
 
+  @Override
+  public Set<String> getCacheIds() {
+    return Collections.unmodifiableSet(getMap().keySet());
+  }
+
   protected Map<String, ICache> getMap() {
     return m_map;
   }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.beans.ConstructorProperties;
+import java.io.Serializable;
+
+/**
+ * Immutable snapshot of the statistics of a cache.
+ *
+ * @see ICacheRegistryService#getStatistics(String)
+ * @see CacheStatisticsCounter
+ * @since 23.2
+ */
+public class CacheStatistics implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final String m_cacheId;
+  private final long m_size;
+  private final long m_weightedSize;
+  private final long m_hitCount;
+  private final long m_missCount;
+  private final long m_loadSuccessCount;
+  private final long m_loadFailureCount;
+  private final long m_totalLoadTime;
+  private final long m_evictionCount;
+  private final long m_invalidationCount;
+  private final long m_publishedInvalidationCount;
+  private final long m_totalResolveWaitTime;
+
+  @ConstructorProperties({"cacheId", "size", "weightedSize", "hitCount", "missCount", "loadSuccessCount", "loadFailureCount", "totalLoadTime",
+      "evictionCount", "invalidationCount", "publishedInvalidationCount", "totalResolveWaitTime"})
+  public CacheStatistics(String cacheId, long size, long weightedSize, long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+      long evictionCount, long invalidationCount, long publishedInvalidationCount, long totalResolveWaitTime) {
+    m_cacheId = cacheId;
+    m_size = size;
+    m_weightedSize = weightedSize;
+    m_hitCount = hitCount;
+    m_missCount = missCount;
+    m_loadSuccessCount = loadSuccessCount;
+    m_loadFailureCount = loadFailureCount;
+    m_totalLoadTime = totalLoadTime;
+    m_evictionCount = evictionCount;
+    m_invalidationCount = invalidationCount;
+    m_publishedInvalidationCount = publishedInvalidationCount;
+    m_totalResolveWaitTime = totalResolveWaitTime;
+  }
+
+  public String getCacheId() {
+    return m_cacheId;
+  }
+
+  /**
+   * @return number of cached entries
+   */
+  public long getSize() {
+    return m_size;
+  }
+
+  /**
+   * @return total weight of all cached entries, same as {@link #getSize()} if the cache is not bounded by weight
+   */
+  public long getWeightedSize() {
+    return m_weightedSize;
+  }
+
+  public long getHitCount() {
+    return m_hitCount;
+  }
+
+  public long getMissCount() {
+    return m_missCount;
+  }
+
+  /**
+   * @return number of successful calls to the value resolver (a batch resolve counts once)
+   */
+  public long getLoadSuccessCount() {
+    return m_loadSuccessCount;
+  }
+
+  /**
+   * @return number of calls to the value resolver which threw an exception
+   */
+  public long getLoadFailureCount() {
+    return m_loadFailureCount;
+  }
+
+  /**
+   * @return total time spent in the value resolver in nanoseconds
+   */
+  public long getTotalLoadTime() {
+    return m_totalLoadTime;
+  }
+
+  /**
+   * @return number of entries evicted because of a weight bound
+   */
+  public long getEvictionCount() {
+    return m_evictionCount;
+  }
+
+  public long getInvalidationCount() {
+    return m_invalidationCount;
+  }
+
+  /**
+   * @return number of invalidations propagated to other nodes
+   */
+  public long getPublishedInvalidationCount() {
+    return m_publishedInvalidationCount;
+  }
+
+  /**
+   * @return total time in nanoseconds callers waited for a permit to resolve a value (see
+   *         {@link ICacheBuilder#withMaxConcurrentResolve(Integer)})
+   */
+  public long getTotalResolveWaitTime() {
+    return m_totalResolveWaitTime;
+  }
+
+  /**
+   * @return ratio of lookups which found a cached value, 1 if there were no lookups yet
+   */
+  public double getHitRate() {
+    long requestCount = m_hitCount + m_missCount;
+    return requestCount == 0 ? 1d : (double) m_hitCount / requestCount;
+  }
+
+  /**
+   * @return average time of a call to the value resolver in nanoseconds, 0 if there were no calls yet
+   */
+  public double getAverageLoadTime() {
+    long loadCount = m_loadSuccessCount + m_loadFailureCount;
+    return loadCount == 0 ? 0d : (double) m_totalLoadTime / loadCount;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [cacheId=" + m_cacheId + ", size=" + m_size + ", weightedSize=" + m_weightedSize + ", hitCount=" + m_hitCount + ", missCount=" + m_missCount
+        + ", loadSuccessCount=" + m_loadSuccessCount + ", loadFailureCount=" + m_loadFailureCount + ", totalLoadTime=" + m_totalLoadTime
+        + ", evictionCount=" + m_evictionCount + ", invalidationCount=" + m_invalidationCount + ", publishedInvalidationCount=" + m_publishedInvalidationCount
+        + ", totalResolveWaitTime=" + m_totalResolveWaitTime + "]";
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters of a single cache. Each {@link BasicCache} owns an instance, which is available to cache
+ * wrappers through <code>getAdapter(CacheStatisticsCounter.class)</code>.
+ *
+ * @see CacheStatistics
+ * @since 23.2
+ */
+public class CacheStatisticsCounter {
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_loadSuccessCount = new LongAdder();
+  private final LongAdder m_loadFailureCount = new LongAdder();
+  private final LongAdder m_totalLoadTime = new LongAdder();
+  private final LongAdder m_invalidationCount = new LongAdder();
+  private final LongAdder m_publishedInvalidationCount = new LongAdder();
+  private final LongAdder m_totalResolveWaitTime = new LongAdder();
+
+  public void recordHits(long count) {
+    m_hitCount.add(count);
+  }
+
+  public void recordMisses(long count) {
+    m_missCount.add(count);
+  }
+
+  /**
+   * @param loadTimeNanos
+   *          time spent in the {@link ICacheValueResolver}
+   * @param success
+   *          false if the resolver threw an exception
+   */
+  public void recordLoad(long loadTimeNanos, boolean success) {
+    if (success) {
+      m_loadSuccessCount.increment();
+    }
+    else {
+      m_loadFailureCount.increment();
+    }
+    m_totalLoadTime.add(loadTimeNanos);
+  }
+
+  public void recordInvalidation() {
+    m_invalidationCount.increment();
+  }
+
+  /**
+   * Records an invalidation which was propagated to other nodes, e.g. cluster members or clients.
+   */
+  public void recordPublishedInvalidation() {
+    m_publishedInvalidationCount.increment();
+  }
+
+  /**
+   * Records the time a caller waited until it was allowed to resolve a value (see {@link BoundedResolveCacheWrapper}).
+   */
+  public void recordResolveWait(long waitTimeNanos) {
+    m_totalResolveWaitTime.add(waitTimeNanos);
+  }
+
+  public CacheStatistics toStatistics(String cacheId, long size, long weightedSize, long evictionCount) {
+    return new CacheStatistics(cacheId, size, weightedSize,
+        m_hitCount.sum(), m_missCount.sum(),
+        m_loadSuccessCount.sum(), m_loadFailureCount.sum(), m_totalLoadTime.sum(),
+        evictionCount, m_invalidationCount.sum(), m_publishedInvalidationCount.sum(), m_totalResolveWaitTime.sum());
+  }
+}
@@ -11,10 +11,12 @@ package org.eclipse.scout.rt.platform.cache;
 
 import java.io.Serializable;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 
 /**
  * All caches should be build through this builder. After building a cache, <b>do not</b> surround it with another
@@ -33,7 +35,8 @@ public interface ICacheBuilder<K, V> {
    * Calls {@link CacheRegistryService} which creates a new cache according to this builder
    *
    * @throws IllegalStateException
-   *           if no cacheId or value-resolver is set
+   *           if no cacheId or value-resolver is set, if a refresh-ahead duration is set without a greater time to
+   *           live or if a maximum weight is set for a transactional cache
    * @throws IllegalArgumentException
    *           if an additional custom wrapper does not have a public constructor with a single argument of type
    *           {@link ICache} or cannot be instantiated
@@ -187,6 +190,30 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * If set to a non-null value, the total weight of all cached values is bounded. In contrast to
+   * {@link #withSizeBound(Integer)}, the bound is enforced after each write operation and values are evicted according
+   * to the W-TinyLFU policy, which takes the access frequency into account and is resistant to scans (see
+   * {@link ConcurrentTinyLfuMap}).
+   * <p>
+   * If set, {@link #withSizeBound(Integer)} has no effect. May be combined with
+   * {@link #withTimeToLive(Long, TimeUnit, boolean)}. Not supported for transactional caches.
+   * <p>
+   * The resulting cache records hit, miss and eviction statistics (see
+   * {@link ICacheRegistryService#getStatistics(String)}).
+   *
+   * @param maximumWeight
+   *          maximum total weight of all cached values
+   * @param weigher
+   *          computes the weight of a cache entry, e.g. its approximate memory size. Must return a value &gt;= 0. If
+   *          <code>null</code>, every entry has a weight of 1, i.e. maximumWeight is the maximum number of entries.
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maximumWeight is not positive
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withMaximumWeight(Long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
@@ -201,6 +228,41 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve);
 
+  /**
+   * If set to true, there is at most one concurrent resolve operation per key. Concurrent {@link ICache#get(Object)}
+   * calls for the same key wait for the pending resolve and share its value instead of resolving the value again.
+   * <p>
+   * <b>Note:</b> In a transactional cache without {@link #withTransactionalFastForward(boolean)}, waiting callers
+   * receive a value which was resolved within the transaction of another caller.
+   *
+   * @param singleFlightResolve
+   *          true to deduplicate concurrent resolve operations of the same key. (Default false)
+   * @return this builder
+   * @see SingleFlightResolveCacheWrapper
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withSingleFlightResolve(boolean singleFlightResolve);
+
+  /**
+   * If both arguments are not null, an entry which is read within the given duration before it expires is resolved
+   * again in the background. Meanwhile, the current value is still returned. Requires a time to live (see
+   * {@link #withTimeToLive(Long, TimeUnit, boolean)}) greater than the refresh-ahead duration.
+   * <p>
+   * Typically used together with <tt>touchOnGet=false</tt>, so that frequently read entries are kept up-to-date without
+   * ever blocking a caller on their expiration.
+   *
+   * @param refreshAheadDuration
+   *          refresh-ahead duration
+   * @param refreshAheadUnit
+   *          refresh-ahead unit
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if refreshAheadDuration is not positive
+   * @see RefreshAheadCache
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withRefreshAhead(Long refreshAheadDuration, TimeUnit refreshAheadUnit);
+
   /**
    * Adds a cache wrapper to the constructed cache instance. In the cache instance these additional wrappers are ordered
    * in the same sequence as they were added. The cache wrapper is created always through a constructor that takes as
@@ -9,6 +9,10 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -59,4 +63,34 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return ids of all registered caches
+   * @since 23.2
+   */
+  Set<String> getCacheIds();
+
+  /**
+   * @return current statistics of a previously registered cache or <code>null</code>, if not found or if the cache
+   *         does not record statistics.
+   * @since 23.2
+   */
+  default CacheStatistics getStatistics(String cacheId) {
+    ICache<Object, Object> cache = opt(cacheId);
+    return cache != null ? cache.getAdapter(CacheStatistics.class) : null;
+  }
+
+  /**
+   * @return current statistics of all registered caches recording statistics, by cache id
+   * @since 23.2
+   */
+  default Map<String, CacheStatistics> getStatistics() {
+    Map<String, CacheStatistics> statistics = new TreeMap<>();
+    for (String cacheId : getCacheIds()) {
+      CacheStatistics cacheStatistics = getStatistics(cacheId);
+      if (cacheStatistics != null) {
+        statistics.put(cacheId, cacheStatistics);
+      }
+    }
+    return statistics;
+  }
 }
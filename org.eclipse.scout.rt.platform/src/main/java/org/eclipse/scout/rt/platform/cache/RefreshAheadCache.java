@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.ExpiringElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BasicCache} which reloads entries in the background before they expire.
+ * <p>
+ * Whenever an entry is read whose age exceeds <tt>refreshAfterMillis</tt>, a job is scheduled which resolves the
+ * value again and replaces the entry. Meanwhile the current value is still returned. If the entry is invalidated while
+ * being refreshed, the refreshed value is discarded.
+ * <p>
+ * The age of an entry is measured since it was put into the map, or since its last read access if the map is touched
+ * on get (see {@link ConcurrentExpiringMap#isTouchOnGet()}).
+ *
+ * @since 23.2
+ */
+public class RefreshAheadCache<K, V> extends BasicCache<K, V> {
+  private static final Logger LOG = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+  protected final ConcurrentExpiringMap<K, V> m_expiringMap;
+  protected final long m_refreshAfterMillis;
+  private final Set<K> m_refreshingKeys = ConcurrentHashMap.newKeySet();
+
+  public RefreshAheadCache(String cacheId, ICacheValueResolver<K, V> resolver, ConcurrentExpiringMap<K, V> cacheMap, long refreshAfterMillis) {
+    super(cacheId, resolver, cacheMap);
+    Assertions.assertTrue(refreshAfterMillis > 0, "refreshAfterMillis must be positive");
+    m_expiringMap = cacheMap;
+    m_refreshAfterMillis = refreshAfterMillis;
+  }
+
+  @Override
+  public V getCachedValue(K key) {
+    V value = super.getCachedValue(key);
+    if (value != null) {
+      refreshIfDue(key);
+    }
+    return value;
+  }
+
+  @Override
+  public V get(K key) {
+    V value = super.get(key);
+    if (value != null) {
+      refreshIfDue(key);
+    }
+    return value;
+  }
+
+  @Override
+  public Map<K, V> getAll(Collection<? extends K> keys) {
+    Map<K, V> result = super.getAll(keys);
+    result.keySet().forEach(this::refreshIfDue);
+    return result;
+  }
+
+  /**
+   * Schedules a refresh of the given key if its entry is older than <tt>refreshAfterMillis</tt> and no refresh is
+   * pending for this key yet.
+   */
+  protected void refreshIfDue(K key) {
+    ExpiringElement<V> element = m_expiringMap.getElementMap().get(key);
+    if (element == null || System.currentTimeMillis() - element.getTimestamp() < m_refreshAfterMillis) {
+      return;
+    }
+    if (!m_refreshingKeys.add(key)) {
+      return;
+    }
+    try {
+      Jobs.schedule(() -> refresh(key, element.getValue()), Jobs.newInput()
+          .withName("Refreshing cache entry [cacheId={}]", getCacheId())
+          .withRunContext(createRefreshRunContext()));
+    }
+    catch (RuntimeException e) {
+      m_refreshingKeys.remove(key);
+      LOG.warn("Could not schedule refresh of cache entry [cacheId={}, key={}]", getCacheId(), key, e);
+    }
+  }
+
+  /**
+   * Resolves the value of the given key again and replaces the stale value, unless the entry was changed or removed
+   * meanwhile. A failed resolve keeps the stale value until it expires.
+   */
+  protected void refresh(K key, V staleValue) {
+    try {
+      V value = resolve(key);
+      if (value == null) {
+        m_cacheMap.remove(key, staleValue);
+      }
+      else {
+        m_cacheMap.replace(key, staleValue, value);
+      }
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Could not refresh cache entry [cacheId={}, key={}]", getCacheId(), key, e);
+    }
+    finally {
+      m_refreshingKeys.remove(key);
+    }
+  }
+
+  /**
+   * @return {@link RunContext} the refresh job runs in. The refresh always runs in a separate transaction.
+   */
+  protected RunContext createRefreshRunContext() {
+    return RunContexts.copyCurrent(true).withTransactionScope(TransactionScope.REQUIRES_NEW);
+  }
+}
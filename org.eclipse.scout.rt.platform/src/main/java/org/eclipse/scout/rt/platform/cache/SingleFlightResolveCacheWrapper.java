@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+
+/**
+ * This wrapper ensures that at most one resolve operation is running per key. Concurrent {@link #get(Object)} calls
+ * for a key which is currently resolved wait for that resolve operation and return its value (or throw its exception)
+ * instead of resolving the value again.
+ * <p>
+ * {@link #getAll(java.util.Collection)} is not affected by this wrapper.
+ * <p>
+ * <b>The cache implementation on which this wrapper is based on must be still thread safe.</b>
+ *
+ * @since 23.2
+ */
+public class SingleFlightResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private final ConcurrentMap<K, CompletableFuture<V>> m_pendingResolves = new ConcurrentHashMap<>();
+
+  public SingleFlightResolveCacheWrapper(ICache<K, V> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return null;
+    }
+    V value = getCachedValue(key);
+    if (value != null) {
+      recordHits(1);
+      return value;
+    }
+
+    CompletableFuture<V> resolve = new CompletableFuture<>();
+    CompletableFuture<V> pendingResolve = m_pendingResolves.putIfAbsent(key, resolve);
+    if (pendingResolve != null) {
+      CacheStatisticsCounter counter = getStatisticsCounter();
+      if (counter != null) {
+        counter.recordMisses(1);
+      }
+      return awaitPendingResolve(pendingResolve);
+    }
+    try {
+      value = super.get(key);
+      resolve.complete(value);
+      return value;
+    }
+    catch (RuntimeException | Error e) { // NOSONAR
+      resolve.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      m_pendingResolves.remove(key, resolve);
+    }
+  }
+
+  protected V awaitPendingResolve(CompletableFuture<V> pendingResolve) {
+    try {
+      return pendingResolve.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while waiting for a pending resolve", e);
+    }
+    catch (ExecutionException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache.management;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+
+@ApplicationScoped
+@CreateImmediately
+public class CacheMonitorMBean implements ICacheMonitorMBean {
+
+  /*
+   * JMX registration
+   */
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.platform", PlatformIdentifier.get(), "Caches");
+  }
+
+  @PostConstruct
+  protected void postConstruct() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void preDestroy() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  /*
+   * MBean implementation
+   */
+
+  @Override
+  public int getCacheCount() {
+    return BEANS.get(ICacheRegistryService.class).getCacheIds().size();
+  }
+
+  @Override
+  public CacheStatistics[] getCacheStatistics() {
+    return BEANS.get(ICacheRegistryService.class).getStatistics().values().toArray(new CacheStatistics[0]);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache.management;
+
+import javax.management.MXBean;
+
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+
+/**
+ * Jmx monitor for all caches registered in the {@link ICacheRegistryService}
+ *
+ * @since 23.2
+ */
+@MXBean
+public interface ICacheMonitorMBean {
+
+  /**
+   * @return the count of registered caches
+   */
+  int getCacheCount();
+
+  /**
+   * @return statistics of all registered caches ordered by cache id
+   */
+  CacheStatistics[] getCacheStatistics();
+}
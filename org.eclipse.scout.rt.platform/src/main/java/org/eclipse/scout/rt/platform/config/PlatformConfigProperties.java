@@ -145,6 +145,74 @@ public final class PlatformConfigProperties {
     }
   }
 
+  /**
+   * @since 23.2
+   */
+  public static class PrecomputedInventoryProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.inventory.precomputed";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the class inventory and the beans precomputed at build time (see PrecomputedInventoryWriter) are used if present on the classpath.\n"
+          + "If disabled, the Jandex indexes of all modules are read and the beans are collected on every startup.\n"
+          + "By default the precomputed inventory is used unless the Jandex indexes are rebuilt (see property 'scout.jandex.rebuild').";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      // do not use the CONFIG class here because the platform is not ready yet
+      return new JandexRebuildProperty().getValue() == RebuildStrategy.IF_MISSING;
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class PlatformParallelStartupProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.platform.parallelStartup";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if platform listeners and @CreateImmediately beans annotated with @ParallelStartup are run in parallel during the platform startup.\n"
+          + "All other listeners and beans are run one after another in the startup thread as before. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class PlatformStartupThreadsProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.platform.startupThreads";
+    }
+
+    @Override
+    public String description() {
+      return "The maximum number of threads running platform listeners and @CreateImmediately beans in parallel during the platform startup (see property 'scout.platform.parallelStartup').\n"
+          + "The default value is the number of available processors, but at least 4.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return Math.max(4, Runtime.getRuntime().availableProcessors());
+    }
+  }
+
   public static class JobManagerCorePoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -240,6 +308,27 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether jobs should run on virtual threads instead of platform threads. Virtual threads are cheap to create and to block, "
+          + "which is beneficial if most jobs wait for I/O (e.g. database or remote service calls). If enabled, the properties '%s' and '%s' are ignored. "
+          + "Requires a Java runtime with virtual thread support (Java 21 or newer), otherwise platform threads are used. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(), BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
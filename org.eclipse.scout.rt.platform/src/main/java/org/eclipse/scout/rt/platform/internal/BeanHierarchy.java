@@ -19,8 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Order;
@@ -29,21 +28,21 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * The beans of a hierarchy are published as an immutable snapshot which is replaced (copy-on-write) whenever a bean is
+ * added or removed. Queries read the current snapshot without locking; the query results are computed once per
+ * snapshot and cached in it.
+ * <p>
+ * This class is thread safe. Concurrent modifications are applied one after the other, a query running concurrently
+ * to a modification returns the result of the snapshot before or after the modification.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
-  private final List<IBean<T>> m_beans;
-  private final ReadWriteLock m_queryCacheLock;
-
-  private List<IBean<T>> m_single;
-  private List<IBean<T>> m_all;
+  private final AtomicReference<P_Snapshot<T>> m_snapshot;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
-    m_beans = new ArrayList<>();
-    m_queryCacheLock = new ReentrantReadWriteLock();
+    m_snapshot = new AtomicReference<>(new P_Snapshot<>(Collections.emptyList()));
   }
 
   public Class<T> getClazz() {
@@ -51,10 +50,10 @@ public class BeanHierarchy<T> {
   }
 
   /**
-   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}
+   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace} (unmodifiable)
    */
   public List<IBean<T>> getBeans() {
-    return m_beans;
+    return m_snapshot.get().m_beans;
   }
 
   /**
@@ -64,19 +63,29 @@ public class BeanHierarchy<T> {
    *         {@code beanClazz}.
    */
   public IBean<T> getExactBean(Class<?> beanClazz) {
-    List<IBean<T>> beans = CollectionUtility.arrayList(m_beans);
+    List<IBean<T>> beans = CollectionUtility.arrayList(getBeans());
     beans.sort(ORDER_COMPARATOR);
     return getExactBean(beans, beanClazz);
   }
 
   public void addBean(IBean<T> bean) {
-    invalidate();
-    m_beans.add(bean);
+    m_snapshot.updateAndGet(snapshot -> {
+      List<IBean<T>> beans = new ArrayList<>(snapshot.m_beans.size() + 1);
+      beans.addAll(snapshot.m_beans);
+      beans.add(bean);
+      return new P_Snapshot<>(beans);
+    });
   }
 
   public void removeBean(IBean<T> bean) {
-    invalidate();
-    m_beans.remove(bean);
+    m_snapshot.updateAndGet(snapshot -> {
+      if (!snapshot.m_beans.contains(bean)) {
+        return snapshot;
+      }
+      List<IBean<T>> beans = new ArrayList<>(snapshot.m_beans);
+      beans.remove(bean);
+      return new P_Snapshot<>(beans);
+    });
   }
 
   /**
@@ -97,25 +106,25 @@ public class BeanHierarchy<T> {
     return query(false);
   }
 
+  /**
+   * Discards the cached query results. They are computed again on the next query.
+   */
   protected void invalidate() {
-    m_queryCacheLock.writeLock().lock();
-    try {
-      m_single = null;
-      m_all = null;
-    }
-    finally {
-      m_queryCacheLock.writeLock().unlock();
-    }
+    m_snapshot.updateAndGet(snapshot -> new P_Snapshot<>(snapshot.m_beans));
   }
 
   /**
-   * @return A copy of m_beans with duplicate beans removed sorted first by {@link #ORDER_COMPARATOR} and second by
+   * @return A copy of the beans with duplicate beans removed sorted first by {@link #ORDER_COMPARATOR} and second by
    *         bean-insertion-order.
    */
   protected List<IBean<T>> sortedBeanCopy() {
-    ArrayList<IBean<T>> sorted = new ArrayList<>(m_beans);
+    return sortedBeanCopy(getBeans());
+  }
 
-    // m_beans contains the beans in insertion order.
+  protected List<IBean<T>> sortedBeanCopy(List<IBean<T>> beans) {
+    ArrayList<IBean<T>> sorted = new ArrayList<>(beans);
+
+    // beans contains the beans in insertion order.
     // In case there are duplicates (with the same order) the one last added should win.
     // Therefore the list must be reversed so that the "newest" beans come first.
     // As the following sort is stable, "newer" beans (having the same order) will stay first.
@@ -131,104 +140,93 @@ public class BeanHierarchy<T> {
     return sorted;
   }
 
-  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
   protected List<IBean<T>> query(boolean querySingle) {
-    boolean isInitialized = false;
-    m_queryCacheLock.readLock().lock();
-    try {
-      isInitialized = m_single != null && m_all != null;
+    P_Snapshot<T> snapshot = m_snapshot.get();
+    if (snapshot.m_single == null || snapshot.m_all == null) {
+      P_Snapshot<T> computed = computeQueryResults(snapshot.m_beans);
+      // publish the results unless the beans were modified meanwhile, the results are valid for this snapshot anyway
+      m_snapshot.compareAndSet(snapshot, computed);
+      snapshot = computed;
     }
-    finally {
-      m_queryCacheLock.readLock().unlock();
+
+    if (querySingle) {
+      return snapshot.m_single;
     }
+    return snapshot.m_all;
+  }
 
-    if (!isInitialized) {
-      m_queryCacheLock.writeLock().lock();
-      try {
-        isInitialized = m_single != null && m_all != null;
-        if (!isInitialized) {
-          List<IBean<T>> list = sortedBeanCopy();
-          //manage replaced beans
-          final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
-          for (IBean<T> bean : list) {
-            if (bean.hasAnnotation(Replace.class)) {
-              Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
-              Class<?> superClazz = bean.getBeanClazz().getSuperclass();
-              Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
-
-              IBean<?> existingBean = extendsMap.get(superClazz);
-              if (existingBean == null) {
-                //only add if first to override, respects @Order annotation
-                extendsMap.put(superClazz, bean);
-              }
-              else {
-                // there is no calculation performed on bean orders (typically these are literals).
-                // therefore we accept direct equality check without epsilon.
-                Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
-                    "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
-                    existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
-              }
-            }
-          }
-
-          //find most specific version of @Replaced class
-          Class<T> refClazz = m_clazz;
-          while (extendsMap.containsKey(refClazz)) {
-            refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
-          }
-
-          //remove replaced beans
-          list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
-
-          if (list.isEmpty()) {
-            m_all = Collections.emptyList();
-            m_single = Collections.emptyList();
-          }
-          else {
-            m_all = Collections.unmodifiableList(new ArrayList<>(list));
-
-            IBean<T> exactBean = getExactBean(list, refClazz);
-            if (exactBean != null) {
-              // we have an exact match: use it
-              m_single = Collections.singletonList(exactBean);
-            }
-            else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-              // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-              m_single = Collections.emptyList();
-            }
-            else if (list.size() == 1) {
-              m_single = Collections.singletonList(list.get(0));
-            }
-            else {
-              //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-              List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-              Iterator<IBean<T>> iterator = list.iterator();
-
-              // first bean
-              IBean<T> curBean = iterator.next();
-              double lowestOrder = orderOf(curBean);
-              lowestOrderBeans.add(curBean);
-
-              // all others having the same order
-              while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-                lowestOrderBeans.add(curBean);
-              }
-              m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-            }
-          }
+  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
+  protected P_Snapshot<T> computeQueryResults(List<IBean<T>> beans) {
+    List<IBean<T>> list = sortedBeanCopy(beans);
+    //manage replaced beans
+    final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
+    for (IBean<T> bean : list) {
+      if (bean.hasAnnotation(Replace.class)) {
+        Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
+        Class<?> superClazz = bean.getBeanClazz().getSuperclass();
+        Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
+
+        IBean<?> existingBean = extendsMap.get(superClazz);
+        if (existingBean == null) {
+          //only add if first to override, respects @Order annotation
+          extendsMap.put(superClazz, bean);
+        }
+        else {
+          // there is no calculation performed on bean orders (typically these are literals).
+          // therefore we accept direct equality check without epsilon.
+          Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
+              "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
+              existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
         }
-      }
-      finally {
-        m_queryCacheLock.writeLock().unlock();
       }
     }
 
-    if (querySingle) {
-      return m_single;
+    //find most specific version of @Replaced class
+    Class<T> refClazz = m_clazz;
+    while (extendsMap.containsKey(refClazz)) {
+      refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
     }
-    return m_all;
+
+    //remove replaced beans
+    list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
+
+    if (list.isEmpty()) {
+      return new P_Snapshot<>(beans, Collections.emptyList(), Collections.emptyList());
+    }
+
+    List<IBean<T>> all = Collections.unmodifiableList(new ArrayList<>(list));
+    List<IBean<T>> single;
+    IBean<T> exactBean = getExactBean(list, refClazz);
+    if (exactBean != null) {
+      // we have an exact match: use it
+      single = Collections.singletonList(exactBean);
+    }
+    else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+      // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+      single = Collections.emptyList();
+    }
+    else if (list.size() == 1) {
+      single = Collections.singletonList(list.get(0));
+    }
+    else {
+      //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+      List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+      Iterator<IBean<T>> iterator = list.iterator();
+
+      // first bean
+      IBean<T> curBean = iterator.next();
+      double lowestOrder = orderOf(curBean);
+      lowestOrderBeans.add(curBean);
+
+      // all others having the same order
+      while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+        lowestOrderBeans.add(curBean);
+      }
+      single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
+    }
+    return new P_Snapshot<>(beans, single, all);
   }
 
   /**
@@ -259,4 +257,24 @@ public class BeanHierarchy<T> {
     }
     return IBean.DEFAULT_BEAN_ORDER;
   }
+
+  /**
+   * Immutable state of a {@link BeanHierarchy}: the beans in insertion order and the query results computed from them
+   * (<code>null</code> until the first query).
+   */
+  protected static final class P_Snapshot<T> {
+    private final List<IBean<T>> m_beans;
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    P_Snapshot(List<IBean<T>> beans) {
+      this(beans, null, null);
+    }
+
+    P_Snapshot(List<IBean<T>> beans, List<IBean<T>> single, List<IBean<T>> all) {
+      m_beans = beans instanceof ArrayList ? Collections.unmodifiableList(beans) : beans;
+      m_single = single;
+      m_all = all;
+    }
+  }
 }
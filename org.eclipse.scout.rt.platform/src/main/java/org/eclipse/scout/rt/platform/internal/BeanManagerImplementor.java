@@ -13,12 +13,12 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -27,6 +27,7 @@ import org.eclipse.scout.rt.platform.CreateImmediately;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.exception.InitializationException;
 import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
 import org.eclipse.scout.rt.platform.interceptor.internal.BeanProxyImplementor;
@@ -40,9 +41,13 @@ public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
 
+  /**
+   * Serializes the registration and unregistration of beans. Queries do not lock, they read the immutable snapshots
+   * published by the {@link BeanHierarchy}s.
+   */
   private final ReentrantReadWriteLock m_lock;
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
-  private IBeanDecorationFactory m_beanDecorationFactory;
+  private volatile IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
     this(null);
@@ -50,10 +55,13 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = new ConcurrentHashMap<>();
     m_beanDecorationFactory = f;
   }
 
+  /**
+   * @return the lock which serializes modifications of the registered beans. Queries do not acquire this lock.
+   */
   public ReentrantReadWriteLock getReadWriteLock() {
     return m_lock;
   }
@@ -63,39 +71,27 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
-    finally {
-      m_lock.readLock().unlock();
+    else {
+      List<IBean<T>> singleBean = h.querySingle();
+      return getDecoratedBeans(singleBean, beanClazz);
     }
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    List<IBean<T>> allBeans = h.queryAll();
+    return getDecoratedBeans(allBeans, beanClazz);
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -111,6 +107,33 @@ public class BeanManagerImplementor implements IBeanManager {
     return set;
   }
 
+  /**
+   * @return the same beans as {@link #getBeans(Class)} but without decorations, i.e. with their actual bean class and
+   *         annotations. Use {@link #decorate(IBean, Class)} to get the decorated bean.
+   * @since 23.2
+   */
+  protected <T> List<IBean<T>> getUndecoratedBeans(Class<T> beanClazz) {
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
+    }
+    return h.queryAll();
+  }
+
+  /**
+   * @return the given bean decorated as {@link #getBeans(Class)} would return it
+   * @since 23.2
+   */
+  protected <T> IBean<T> decorate(IBean<T> bean, Class<T> beanClazz) {
+    IBeanDecorationFactory beanDecorationFactory = getBeanDecorationFactory();
+    if (beanDecorationFactory == null || !beanClazz.isInterface()) {
+      return bean;
+    }
+    return getDecoratedBean(bean, beanClazz, beanDecorationFactory);
+  }
+
   protected <T> List<IBean<T>> getDecoratedBeans(List<IBean<T>> beans, Class<T> beanClazz) {
     IBeanDecorationFactory beanDecorationFactory = getBeanDecorationFactory();
     if (beanDecorationFactory == null || !beanClazz.isInterface()) {
@@ -192,33 +215,21 @@ public class BeanManagerImplementor implements IBeanManager {
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy h = m_beanHierarchies.get(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -268,14 +279,8 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy h = m_beanHierarchies.get(clazz);
+    return h != null && !h.getBeans().isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
@@ -331,10 +336,23 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   public void startCreateImmediatelyBeans() {
+    for (IBean<?> bean : getCreateImmediatelyBeans()) {
+      bean.getInstance();
+    }
+  }
+
+  /**
+   * @return all beans marked with {@link CreateImmediately} with respect to {@link Order}
+   * @throws InitializationException
+   *           if such a bean is not application scoped
+   * @since 23.2
+   */
+  public List<IBean<?>> getCreateImmediatelyBeans() {
+    List<IBean<?>> beans = new ArrayList<>();
     for (IBean bean : getBeans(Object.class)) {
       if (isCreateImmediately(bean)) {
         if (isApplicationScoped(bean)) {
-          bean.getInstance();
+          beans.add(bean);
         }
         else {
           throw new InitializationException(String.format(
@@ -345,6 +363,7 @@ public class BeanManagerImplementor implements IBeanManager {
         }
       }
     }
+    return beans;
   }
 
   public static boolean isCreateImmediately(IBean<?> bean) {
@@ -11,13 +11,19 @@ package org.eclipse.scout.rt.platform.internal;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IBean;
@@ -25,15 +31,20 @@ import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.IBeanManager;
 import org.eclipse.scout.rt.platform.IPlatform;
 import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.ParallelStartup;
 import org.eclipse.scout.rt.platform.PlatformEvent;
 import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.IConfigurationValidator;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformParallelStartupProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformStartupThreadsProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.inventory.ClassInventory;
 import org.eclipse.scout.rt.platform.inventory.IClassInventory;
+import org.eclipse.scout.rt.platform.inventory.PrecomputedInventory;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory;
 import org.eclipse.scout.rt.platform.util.BooleanUtility;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.StringUtility;
@@ -51,12 +62,20 @@ public class PlatformImplementor implements IPlatform {
 
   private static final LazyValue<Boolean> IN_DEVELOPMENT_MODE = new LazyValue<>(() -> BooleanUtility.nvl(CONFIG.getPropertyValue(PlatformDevModeProperty.class)));
   private static final Logger LOG = LoggerFactory.getLogger(PlatformImplementor.class);
+  /**
+   * Platform started by the current thread if it is a worker of the parallel startup (see {@link ParallelStartup}).
+   */
+  private static final ThreadLocal<PlatformImplementor> STARTUP_WORKER = new ThreadLocal<>();
 
   private final ReentrantReadWriteLock m_platformLock = new ReentrantReadWriteLock(true);
   private volatile CountDownLatch m_platformStarted = new CountDownLatch(1);
   private volatile CountDownLatch m_platformStarting = new CountDownLatch(1);
   private final AtomicReference<State> m_state; // may be read at any time by any thread
-  private BeanManagerImplementor m_beanManager;
+  private volatile BeanManagerImplementor m_beanManager;
+  private final Map<String, Long> m_startupTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+  private long m_startupBegin;
+  private final List<PlatformStartupTask> m_startupTimeline = Collections.synchronizedList(new ArrayList<>());
+  private volatile ExecutorService m_startupExecutor;
 
   public PlatformImplementor() {
     m_state = new AtomicReference<>(State.PlatformStopped);
@@ -69,6 +88,17 @@ public class PlatformImplementor implements IPlatform {
 
   @Override
   public IBeanManager getBeanManager() {
+    // fast path once the platform is started: the bean manager does not change until the platform is stopped
+    if (getState() == State.PlatformStarted) {
+      BeanManagerImplementor beanManager = m_beanManager;
+      if (beanManager != null) {
+        return beanManager;
+      }
+    }
+    // workers of the parallel startup act on behalf of the startup thread holding the lock
+    if (STARTUP_WORKER.get() == this) {
+      return m_beanManager;
+    }
     // use lock to ensure the caller waits until the platform has been started completely
     m_platformLock.readLock().lock();
     try {
@@ -131,16 +161,20 @@ public class PlatformImplementor implements IPlatform {
         }
 
         try {
-          validateHeadless();
-          m_beanManager = createBeanManager();
+          m_startupTimings.clear();
+          m_startupTimeline.clear();
+          m_startupBegin = System.nanoTime();
+          m_startupExecutor = createStartupExecutor();
+          runStartupPhase("validateHeadless", this::validateHeadless);
+          runStartupPhase("createBeanManager", () -> m_beanManager = createBeanManager());
           //now all IPlatformListener are registered and can receive platform events
-          changeState(State.BeanManagerPrepared, true);
+          runStartupPhase("beanManagerPreparedListeners", () -> changeState(State.BeanManagerPrepared, true));
 
-          validateConfiguration();
-          initBeanDecorationFactory();
+          runStartupPhase("validateConfiguration", this::validateConfiguration);
+          runStartupPhase("initBeanDecorationFactory", this::initBeanDecorationFactory);
 
-          changeState(State.BeanManagerValid, true);
-          startCreateImmediatelyBeans();
+          runStartupPhase("beanManagerValidListeners", () -> changeState(State.BeanManagerValid, true));
+          runStartupPhase("createImmediatelyBeans", this::startCreateImmediatelyBeans);
         }
         catch (RuntimeException | Error e) {
           LOG.error("Error during platform startup", e);
@@ -153,13 +187,124 @@ public class PlatformImplementor implements IPlatform {
         //lock has to be released after the State.BeanManagerValid change to make sure everything is initialized correctly, before beans can be accessed.
         m_platformLock.writeLock().unlock();
       }
-      changeState(State.PlatformStarted, true);
+      runStartupPhase("platformStartedListeners", () -> changeState(State.PlatformStarted, true));
+      logStartupTimings();
     }
     finally {
+      shutdownStartupExecutor();
       notifyPlatformStarted();
     }
   }
 
+  /**
+   * @return the thread pool running the listeners and beans annotated with {@link ParallelStartup} or
+   *         <code>null</code> if the parallel startup is disabled
+   */
+  protected ExecutorService createStartupExecutor() {
+    // do not use the CONFIG class here because the platform is not ready yet
+    if (!BooleanUtility.nvl(new PlatformParallelStartupProperty().getValue())) {
+      return null;
+    }
+    return Executors.newFixedThreadPool(new PlatformStartupThreadsProperty().getValue(), new NamedThreadFactory("scout-platform-startup") {
+      @Override
+      protected Thread createThread(Runnable runnable) {
+        return super.createThread(() -> {
+          STARTUP_WORKER.set(PlatformImplementor.this);
+          try {
+            runnable.run();
+          }
+          finally {
+            STARTUP_WORKER.remove();
+          }
+        });
+      }
+    });
+  }
+
+  protected void shutdownStartupExecutor() {
+    ExecutorService executor = m_startupExecutor;
+    m_startupExecutor = null;
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Runs the given tasks using the startup executor and adds them to the startup timeline.
+   */
+  protected void runStartupTasks(List<PlatformStartupTask> tasks) {
+    try {
+      new PlatformStartupExecutor(m_startupExecutor).run(tasks);
+    }
+    finally {
+      m_startupTimeline.addAll(tasks);
+    }
+  }
+
+  protected PlatformStartupTask createStartupTask(String step, IBean<?> bean, Runnable runnable) {
+    ParallelStartup parallelStartup = bean.getBeanAnnotation(ParallelStartup.class);
+    return new PlatformStartupTask(step, bean.getBeanClazz(), parallelStartup != null, parallelStartup != null ? parallelStartup.dependsOn() : null, runnable);
+  }
+
+  protected void runStartupPhase(String phase, Runnable runnable) {
+    long t0 = System.nanoTime();
+    try {
+      runnable.run();
+    }
+    finally {
+      m_startupTimings.put(phase, System.nanoTime() - t0);
+    }
+  }
+
+  protected void logStartupTimings() {
+    if (!LOG.isInfoEnabled()) {
+      return;
+    }
+    LOG.info("Platform started in {} ms [{}]", StringUtility.formatNanos(System.nanoTime() - m_startupBegin), getStartupTimings().entrySet().stream()
+        .map(e -> e.getKey() + "=" + StringUtility.formatNanos(e.getValue()))
+        .collect(Collectors.joining(", ")));
+
+    List<PlatformStartupTask> timeline = getStartupTimeline();
+    if (timeline.isEmpty()) {
+      return;
+    }
+    LOG.info("Platform startup critical path [{}]", timeline.stream()
+        .filter(PlatformStartupTask::isCriticalPath)
+        .map(task -> task + "=" + StringUtility.formatNanos(task.getDurationNanos()))
+        .collect(Collectors.joining(", ")));
+    if (LOG.isDebugEnabled()) {
+      for (PlatformStartupTask task : timeline) {
+        if (task.hasRun()) {
+          LOG.debug("Startup task {} started at {} ms, took {} ms in thread '{}'{}", task, StringUtility.formatNanos(task.getStartNanos() - m_startupBegin),
+              StringUtility.formatNanos(task.getDurationNanos()), task.getThreadName(), task.isCriticalPath() ? " (critical path)" : "");
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the listener notifications and bean creations of the last platform start which were run by the parallel
+   *         startup (see {@link ParallelStartup}), grouped by startup step. Empty if the parallel startup is disabled.
+   * @since 23.2
+   */
+  public List<PlatformStartupTask> getStartupTimeline() {
+    synchronized (m_startupTimeline) {
+      return new ArrayList<>(m_startupTimeline);
+    }
+  }
+
+  /**
+   * @return the duration in nanoseconds of each phase of the last platform start, in the order the phases completed.
+   *         The phases <code>collectBeans</code> and <code>registerBeans</code> are part of
+   *         <code>createBeanManager</code>.
+   * @since 23.2
+   */
+  public Map<String, Long> getStartupTimings() {
+    synchronized (m_startupTimings) {
+      return new LinkedHashMap<>(m_startupTimings);
+    }
+  }
+
   protected void validateHeadless() {
     final boolean scoutHeadless = ConfigUtility.getPropertyBoolean(SCOUT_HEADLESS_PROPERTY, true);
     String awtHeadlessStr = System.getProperty(AWT_HEADLESS_PROPERTY);
@@ -214,19 +359,34 @@ public class PlatformImplementor implements IPlatform {
 
   protected BeanManagerImplementor createBeanManager() {
     BeanManagerImplementor beanManager = newBeanManagerImplementor();
-    IClassInventory inv = ClassInventory.get();
     long t0 = System.nanoTime();
-    Set<Class> allBeans = new BeanFilter().collect(inv);
+    Set<Class> allBeans = collectBeans();
     long t1 = System.nanoTime();
+    m_startupTimings.put("collectBeans", t1 - t0);
     LOG.info("Collected {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t1 - t0));
     for (Class<?> bean : allBeans) {
       beanManager.registerClass(bean);
     }
     long t2 = System.nanoTime();
+    m_startupTimings.put("registerBeans", t2 - t1);
     LOG.info("Registered {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t2 - t1));
     return beanManager;
   }
 
+  /**
+   * @return all bean classes of the {@link PrecomputedInventory} if available, otherwise the ones collected from the
+   *         {@link ClassInventory}
+   */
+  @SuppressWarnings("rawtypes")
+  protected Set<Class> collectBeans() {
+    PrecomputedInventory precomputedInventory = PrecomputedInventory.get();
+    if (precomputedInventory != null) {
+      return precomputedInventory.loadBeanClasses();
+    }
+    IClassInventory inv = ClassInventory.get();
+    return new BeanFilter().collect(inv);
+  }
+
   protected void initBeanDecorationFactory() {
     if (m_beanManager.getBeanDecorationFactory() != null) {
       return;
@@ -241,7 +401,13 @@ public class PlatformImplementor implements IPlatform {
   }
 
   protected void startCreateImmediatelyBeans() {
-    m_beanManager.startCreateImmediatelyBeans();
+    if (m_startupExecutor == null) {
+      m_beanManager.startCreateImmediatelyBeans();
+      return;
+    }
+    runStartupTasks(m_beanManager.getCreateImmediatelyBeans().stream()
+        .map(bean -> createStartupTask("createImmediatelyBeans", bean, bean::getInstance))
+        .collect(Collectors.toList()));
   }
 
   @Override
@@ -316,6 +482,10 @@ public class PlatformImplementor implements IPlatform {
       return; // can happen if there is an error creating the bean manager. cannot move to status invalid. just do nothing.
     }
     PlatformEvent event = new PlatformEvent(this, newState);
+    if (m_startupExecutor != null && isParallelStartupState(newState)) {
+      fireStateEventInParallel(event);
+      return;
+    }
     for (IBean<IPlatformListener> bean : m_beanManager.getBeans(IPlatformListener.class)) {
       try {
         IPlatformListener listener = bean.getInstance();
@@ -341,6 +511,26 @@ public class PlatformImplementor implements IPlatform {
     }
   }
 
+  protected static boolean isParallelStartupState(State state) {
+    return state == State.BeanManagerPrepared || state == State.BeanManagerValid || state == State.PlatformStarted;
+  }
+
+  @SuppressWarnings("squid:S1181")
+  protected void fireStateEventInParallel(PlatformEvent event) {
+    List<PlatformStartupTask> tasks = new ArrayList<>();
+    for (IBean<IPlatformListener> bean : m_beanManager.getUndecoratedBeans(IPlatformListener.class)) {
+      tasks.add(createStartupTask(event.getState().name(), bean, () -> m_beanManager.decorate(bean, IPlatformListener.class).getInstance().stateChanged(event)));
+    }
+    try {
+      runStartupTasks(tasks);
+    }
+    catch (RuntimeException | Error e) {
+      LOG.error("Error during event listener notification.", e);
+      changeState(State.PlatformInvalid, true);
+      throw e;
+    }
+  }
+
   @Override
   public boolean inDevelopmentMode() {
     return IN_DEVELOPMENT_MODE.get(); // cannot be null
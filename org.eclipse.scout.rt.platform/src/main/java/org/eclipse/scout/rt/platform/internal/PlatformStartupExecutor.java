@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.eclipse.scout.rt.platform.ParallelStartup;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+
+/**
+ * Runs the {@link PlatformStartupTask}s of a startup step.
+ * <p>
+ * Parallel tasks (see {@link ParallelStartup}) are submitted to the given {@link Executor} as soon as the tasks they
+ * depend on and the last sequential task before them completed. Sequential tasks are run in the calling thread after
+ * all tasks before them completed.
+ *
+ * @since 23.2
+ */
+public class PlatformStartupExecutor {
+
+  private final Executor m_executor;
+
+  public PlatformStartupExecutor(Executor executor) {
+    m_executor = executor;
+  }
+
+  /**
+   * Runs the given tasks and waits until all of them completed. If a task fails, the tasks waiting for it are not run
+   * and the exception of the first failed task (in the order of the given list) is thrown once all started tasks
+   * completed.
+   *
+   * @throws PlatformException
+   *           if the dependencies of the tasks are cyclic
+   */
+  public void run(List<PlatformStartupTask> tasks) {
+    Map<PlatformStartupTask, List<PlatformStartupTask>> predecessors = collectPredecessors(tasks);
+    Map<PlatformStartupTask, CompletableFuture<Void>> completions = new HashMap<>();
+    for (PlatformStartupTask task : sortTopologically(tasks, predecessors)) {
+      if (task.isParallel()) {
+        List<PlatformStartupTask> taskPredecessors = predecessors.get(task);
+        completions.put(task, allOf(taskPredecessors, completions).thenRunAsync(() -> runTask(task, taskPredecessors), m_executor));
+      }
+      else {
+        completions.put(task, new CompletableFuture<>());
+      }
+    }
+
+    try {
+      for (PlatformStartupTask task : tasks) {
+        if (!task.isParallel() && !runSequentialTask(task, predecessors.get(task), completions)) {
+          break;
+        }
+      }
+    }
+    finally {
+      // release the parallel tasks waiting for sequential tasks which did not run
+      PlatformException notRun = new PlatformException("Startup task was not run because a previous task failed");
+      for (PlatformStartupTask task : tasks) {
+        if (!task.isParallel()) {
+          completions.get(task).completeExceptionally(notRun);
+        }
+      }
+      CompletableFuture.allOf(completions.values().toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+    }
+    markCriticalPath(tasks);
+    throwOnFailure(tasks, completions);
+  }
+
+  protected boolean runSequentialTask(PlatformStartupTask task, List<PlatformStartupTask> taskPredecessors, Map<PlatformStartupTask, CompletableFuture<Void>> completions) {
+    CompletableFuture<Void> completion = completions.get(task);
+    try {
+      allOf(taskPredecessors, completions).join();
+      runTask(task, taskPredecessors);
+      completion.complete(null);
+      return true;
+    }
+    catch (RuntimeException | Error e) { // NOSONAR
+      completion.completeExceptionally(e);
+      return false;
+    }
+  }
+
+  protected void runTask(PlatformStartupTask task, List<PlatformStartupTask> taskPredecessors) {
+    task.setBlockedBy(taskPredecessors.stream()
+        .filter(PlatformStartupTask::hasRun)
+        .max(Comparator.comparingLong(PlatformStartupTask::getEndNanos))
+        .orElse(null));
+    task.run();
+  }
+
+  /**
+   * A sequential task waits for all tasks before it. A parallel task waits for the last sequential task before it and
+   * for the tasks it depends on.
+   */
+  protected Map<PlatformStartupTask, List<PlatformStartupTask>> collectPredecessors(List<PlatformStartupTask> tasks) {
+    Map<PlatformStartupTask, List<PlatformStartupTask>> predecessors = new HashMap<>();
+    PlatformStartupTask lastSequential = null;
+    for (int i = 0; i < tasks.size(); i++) {
+      PlatformStartupTask task = tasks.get(i);
+      if (task.isParallel()) {
+        Set<PlatformStartupTask> taskPredecessors = new LinkedHashSet<>();
+        if (lastSequential != null) {
+          taskPredecessors.add(lastSequential);
+        }
+        for (PlatformStartupTask other : tasks) {
+          if (other != task && task.dependsOn(other)) {
+            taskPredecessors.add(other);
+          }
+        }
+        predecessors.put(task, new ArrayList<>(taskPredecessors));
+      }
+      else {
+        predecessors.put(task, new ArrayList<>(tasks.subList(0, i)));
+        lastSequential = task;
+      }
+    }
+    return predecessors;
+  }
+
+  protected List<PlatformStartupTask> sortTopologically(List<PlatformStartupTask> tasks, Map<PlatformStartupTask, List<PlatformStartupTask>> predecessors) {
+    List<PlatformStartupTask> sorted = new ArrayList<>(tasks.size());
+    Set<PlatformStartupTask> remaining = new LinkedHashSet<>(tasks);
+    while (!remaining.isEmpty()) {
+      List<PlatformStartupTask> ready = new ArrayList<>();
+      for (PlatformStartupTask task : remaining) {
+        if (predecessors.get(task).stream().noneMatch(remaining::contains)) {
+          ready.add(task);
+        }
+      }
+      if (ready.isEmpty()) {
+        throw new PlatformException("Cyclic @{} dependencies between {}", ParallelStartup.class.getSimpleName(), remaining);
+      }
+      sorted.addAll(ready);
+      ready.forEach(remaining::remove);
+    }
+    return sorted;
+  }
+
+  /**
+   * Marks the chain of tasks which determined the duration of the step: starting with the task completing last, each
+   * task is preceded by the task it waited for last.
+   */
+  protected void markCriticalPath(List<PlatformStartupTask> tasks) {
+    PlatformStartupTask task = tasks.stream()
+        .filter(PlatformStartupTask::hasRun)
+        .max(Comparator.comparingLong(PlatformStartupTask::getEndNanos))
+        .orElse(null);
+    while (task != null) {
+      task.setCriticalPath(true);
+      task = task.getBlockedBy();
+    }
+  }
+
+  protected void throwOnFailure(List<PlatformStartupTask> tasks, Map<PlatformStartupTask, CompletableFuture<Void>> completions) {
+    for (PlatformStartupTask task : tasks) {
+      Throwable failure = task.getFailure();
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+    }
+    // no task failed but a task could not be run, e.g. because the executor rejected it
+    for (PlatformStartupTask task : tasks) {
+      if (!task.hasRun()) {
+        CompletableFuture<Void> completion = completions.get(task);
+        Throwable cause = completion.isCompletedExceptionally() ? completion.handle((v, e) -> e).join() : null;
+        throw new PlatformException("Startup task {} was not run", task, cause);
+      }
+    }
+  }
+
+  protected static CompletableFuture<Void> allOf(List<PlatformStartupTask> tasks, Map<PlatformStartupTask, CompletableFuture<Void>> completions) {
+    return CompletableFuture.allOf(tasks.stream()
+        .map(completions::get)
+        .toArray(CompletableFuture<?>[]::new));
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A listener notification or a bean creation run by the {@link PlatformStartupExecutor}. After it ran, the task holds
+ * the timing used for the startup timeline (see {@link PlatformImplementor#getStartupTimeline()}).
+ *
+ * @since 23.2
+ */
+public class PlatformStartupTask {
+
+  private final String m_step;
+  private final Class<?> m_beanClazz;
+  private final boolean m_parallel;
+  private final List<Class<?>> m_dependsOn;
+  private final Runnable m_runnable;
+
+  private volatile long m_startNanos;
+  private volatile long m_endNanos;
+  private volatile String m_threadName;
+  private volatile Throwable m_failure;
+  private volatile PlatformStartupTask m_blockedBy;
+  private volatile boolean m_criticalPath;
+
+  /**
+   * @param step
+   *          startup step the task belongs to, e.g. the new platform state
+   * @param beanClazz
+   *          class of the listener or bean
+   * @param parallel
+   *          <code>true</code> if the task may run in parallel to the tasks before it
+   * @param dependsOn
+   *          classes of the tasks which must complete before a parallel task is started
+   * @param runnable
+   *          the work
+   */
+  public PlatformStartupTask(String step, Class<?> beanClazz, boolean parallel, Class<?>[] dependsOn, Runnable runnable) {
+    m_step = step;
+    m_beanClazz = beanClazz;
+    m_parallel = parallel;
+    m_dependsOn = dependsOn == null ? Collections.emptyList() : Arrays.asList(dependsOn);
+    m_runnable = runnable;
+  }
+
+  public String getStep() {
+    return m_step;
+  }
+
+  public Class<?> getBeanClazz() {
+    return m_beanClazz;
+  }
+
+  public boolean isParallel() {
+    return m_parallel;
+  }
+
+  public List<Class<?>> getDependsOn() {
+    return m_dependsOn;
+  }
+
+  /**
+   * @return <code>true</code> if this task has to wait for the given one
+   */
+  public boolean dependsOn(PlatformStartupTask task) {
+    return m_dependsOn.stream().anyMatch(dependency -> dependency.isAssignableFrom(task.getBeanClazz()));
+  }
+
+  protected void run() {
+    m_threadName = Thread.currentThread().getName();
+    m_startNanos = System.nanoTime();
+    try {
+      m_runnable.run();
+    }
+    catch (RuntimeException | Error e) { // NOSONAR
+      m_failure = e;
+      throw e;
+    }
+    finally {
+      m_endNanos = System.nanoTime();
+    }
+  }
+
+  /**
+   * @return {@link System#nanoTime()} when the task started or <code>0</code> if it did not run
+   */
+  public long getStartNanos() {
+    return m_startNanos;
+  }
+
+  /**
+   * @return {@link System#nanoTime()} when the task completed or <code>0</code> if it did not run
+   */
+  public long getEndNanos() {
+    return m_endNanos;
+  }
+
+  public long getDurationNanos() {
+    return m_endNanos - m_startNanos;
+  }
+
+  public boolean hasRun() {
+    return m_startNanos != 0;
+  }
+
+  public String getThreadName() {
+    return m_threadName;
+  }
+
+  /**
+   * @return the exception thrown by this task or <code>null</code>
+   */
+  public Throwable getFailure() {
+    return m_failure;
+  }
+
+  /**
+   * @return the task this one waited for last before it could start or <code>null</code> if it did not wait
+   */
+  public PlatformStartupTask getBlockedBy() {
+    return m_blockedBy;
+  }
+
+  protected void setBlockedBy(PlatformStartupTask blockedBy) {
+    m_blockedBy = blockedBy;
+  }
+
+  /**
+   * @return <code>true</code> if this task is part of the critical path of its startup step, i.e. the chain of tasks
+   *         which determined the duration of the step
+   */
+  public boolean isCriticalPath() {
+    return m_criticalPath;
+  }
+
+  protected void setCriticalPath(boolean criticalPath) {
+    m_criticalPath = criticalPath;
+  }
+
+  @Override
+  public String toString() {
+    return m_step + "/" + m_beanClazz.getName();
+  }
+}
@@ -19,6 +19,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Singleton with all the classes that were scanned in maven modules that contain /src/main/resources/META-INF/scout.xml
+ * <p>
+ * Uses the {@link PrecomputedInventory} if available.
  */
 public final class ClassInventory {
 
@@ -32,15 +34,23 @@ public final class ClassInventory {
   static {
     try {
       long t0 = System.nanoTime();
-      JandexInventoryBuilder inventoryBuilder = new JandexInventoryBuilder();
-      if (LOG.isInfoEnabled()) {
-        LOG.info("Building jandex class inventory using rebuild strategy {}...", inventoryBuilder.getRebuildStrategy());
+      IndexView index;
+      PrecomputedInventory precomputedInventory = PrecomputedInventory.get();
+      if (precomputedInventory != null) {
+        index = precomputedInventory.readIndex();
+      }
+      else {
+        JandexInventoryBuilder inventoryBuilder = new JandexInventoryBuilder();
+        if (LOG.isInfoEnabled()) {
+          LOG.info("Building jandex class inventory using rebuild strategy {}...", inventoryBuilder.getRebuildStrategy());
+        }
+        inventoryBuilder.scanAllModules();
+        index = inventoryBuilder.finish();
       }
-      inventoryBuilder.scanAllModules();
-      IndexView index = inventoryBuilder.finish();
       long nanos = System.nanoTime() - t0;
       if (LOG.isInfoEnabled()) {
-        LOG.info("Finished building jandex class inventory in {} ms. Total class count: {}", StringUtility.formatNanos(nanos), index.getKnownClasses().size());
+        LOG.info("Finished {} jandex class inventory in {} ms. Total class count: {}", precomputedInventory != null ? "reading precomputed" : "building",
+            StringUtility.formatNanos(nanos), index.getKnownClasses().size());
       }
       INSTANCE = new JandexClassInventory(index);
     }
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PrecomputedInventoryProperty;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder;
+import org.eclipse.scout.rt.platform.util.LazyValue;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class inventory and beans precomputed at build time by the {@link PrecomputedInventoryWriter}.
+ * <p>
+ * The precomputed inventory consists of one Jandex index merged from the indexes of all Scout modules and the list of
+ * all bean classes. If present, the {@link ClassInventory} reads the merged index instead of reading (and possibly
+ * rebuilding) the index of every module and the platform registers the listed beans without collecting them from the
+ * class inventory.
+ * <p>
+ * The precomputed inventory is ignored if {@link PrecomputedInventoryProperty} is disabled or if the Scout modules on the
+ * classpath differ from the ones at build time. Each module is identified by a fingerprint consisting of its jar file
+ * or directory name and the size and CRC-32 checksum of its Jandex index (see
+ * {@link #computeModuleFingerprints(ClassLoader)}).
+ *
+ * @since 23.2
+ */
+public final class PrecomputedInventory {
+  private static final Logger LOG = LoggerFactory.getLogger(PrecomputedInventory.class);
+
+  public static final String INDEX_PATH = "META-INF/scout-inventory/jandex.idx";
+  public static final String BEANS_PATH = "META-INF/scout-inventory/beans.txt";
+  public static final String MODULE_PREFIX = "# module=";
+
+  private static final LazyValue<Optional<PrecomputedInventory>> INSTANCE = new LazyValue<>(PrecomputedInventory::lookup);
+
+  private final URL m_indexUrl;
+  private final List<String> m_beanClassNames;
+
+  private PrecomputedInventory(URL indexUrl, List<String> beanClassNames) {
+    m_indexUrl = indexUrl;
+    m_beanClassNames = beanClassNames;
+  }
+
+  /**
+   * @return the precomputed inventory or <code>null</code> if there is none or if it must not be used
+   */
+  public static PrecomputedInventory get() {
+    return INSTANCE.get().orElse(null);
+  }
+
+  private static Optional<PrecomputedInventory> lookup() {
+    // do not use the CONFIG class here because the platform is not ready yet
+    if (!new PrecomputedInventoryProperty().getValue()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(find(PrecomputedInventory.class.getClassLoader()));
+  }
+
+  /**
+   * @return the precomputed inventory visible to the given class loader or <code>null</code> if there is none or if it
+   *         is outdated
+   */
+  static PrecomputedInventory find(ClassLoader classLoader) {
+    try {
+      List<URL> beanUrls = Collections.list(classLoader.getResources(BEANS_PATH));
+      if (beanUrls.isEmpty()) {
+        return null;
+      }
+      if (beanUrls.size() > 1) {
+        LOG.warn("Ignoring precomputed inventory because it is present more than once on the classpath: {}", beanUrls);
+        return null;
+      }
+      URL indexUrl = classLoader.getResource(INDEX_PATH);
+      if (indexUrl == null) {
+        LOG.warn("Ignoring precomputed inventory because '{}' is missing.", INDEX_PATH);
+        return null;
+      }
+      List<String> moduleFingerprints = computeModuleFingerprints(classLoader);
+      List<String> beanClassNames = new ArrayList<>();
+      List<String> precomputedModuleFingerprints = readBeans(beanUrls.get(0), beanClassNames);
+      if (!precomputedModuleFingerprints.equals(moduleFingerprints)) {
+        List<String> added = new ArrayList<>(moduleFingerprints);
+        added.removeAll(precomputedModuleFingerprints);
+        List<String> removed = new ArrayList<>(precomputedModuleFingerprints);
+        removed.removeAll(moduleFingerprints);
+        LOG.warn("Ignoring outdated precomputed inventory '{}'. The modules on the classpath changed since build time [new or modified: {}, removed or modified: {}].",
+            beanUrls.get(0), added, removed);
+        return null;
+      }
+      return new PrecomputedInventory(indexUrl, beanClassNames);
+    }
+    catch (IOException e) {
+      throw new PlatformException("Error while reading precomputed inventory", e);
+    }
+  }
+
+  /**
+   * Reads the bean class names into the given list.
+   *
+   * @return the sorted fingerprints of the modules the inventory was built for, empty if unknown
+   */
+  static List<String> readBeans(URL beansUrl, List<String> beanClassNames) throws IOException {
+    List<String> moduleFingerprints = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(beansUrl.openStream(), UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (line.startsWith(MODULE_PREFIX)) {
+          moduleFingerprints.add(line.substring(MODULE_PREFIX.length()).trim());
+        }
+        else if (!line.isEmpty() && !line.startsWith("#")) {
+          beanClassNames.add(line);
+        }
+      }
+    }
+    Collections.sort(moduleFingerprints);
+    return moduleFingerprints;
+  }
+
+  /**
+   * A fingerprint consists of the name of the module (jar file or directory name, which is the same at build time and
+   * at runtime) and the size and CRC-32 checksum of its Jandex index. The checksum of an index in a jar file is read
+   * from the jar's directory without reading the index itself.
+   *
+   * @return the sorted fingerprints of all Scout modules visible to the given class loader
+   */
+  static List<String> computeModuleFingerprints(ClassLoader classLoader) throws IOException {
+    List<String> fingerprints = new ArrayList<>();
+    for (URL scoutXmlUrl : Collections.list(classLoader.getResources(JandexInventoryBuilder.SCOUT_XML_PATH))) {
+      fingerprints.add(computeModuleFingerprint(scoutXmlUrl));
+    }
+    Collections.sort(fingerprints);
+    return fingerprints;
+  }
+
+  static String computeModuleFingerprint(URL scoutXmlUrl) throws IOException {
+    String s = scoutXmlUrl.toExternalForm();
+    String moduleUrl = s.substring(0, s.length() - JandexInventoryBuilder.SCOUT_XML_PATH.length());
+    String moduleName = moduleUrl.endsWith("!/") ? moduleUrl.substring(0, moduleUrl.length() - 2) : moduleUrl.substring(0, moduleUrl.length() - 1);
+    moduleName = moduleName.substring(moduleName.lastIndexOf('/') + 1);
+
+    URLConnection connection = new URL(moduleUrl + JandexInventoryBuilder.JANDEX_INDEX_PATH).openConnection();
+    try {
+      if (connection instanceof JarURLConnection) {
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        try (JarFile jarFile = jarConnection.getJarFile()) {
+          ZipEntry entry = jarConnection.getJarEntry();
+          if (entry.getSize() >= 0 && entry.getCrc() >= 0) {
+            return moduleName + " " + entry.getSize() + " " + Long.toHexString(entry.getCrc());
+          }
+          try (InputStream in = jarFile.getInputStream(entry)) {
+            return computeFingerprint(moduleName, in);
+          }
+        }
+      }
+      try (InputStream in = connection.getInputStream()) {
+        return computeFingerprint(moduleName, in);
+      }
+    }
+    catch (FileNotFoundException e) { // NOSONAR
+      // the index is built at runtime
+      return moduleName + " -";
+    }
+  }
+
+  private static String computeFingerprint(String moduleName, InputStream index) throws IOException {
+    CheckedInputStream in = new CheckedInputStream(index, new CRC32());
+    byte[] buffer = new byte[8192];
+    long size = 0;
+    int n;
+    while ((n = in.read(buffer)) >= 0) {
+      size += n;
+    }
+    return moduleName + " " + size + " " + Long.toHexString(in.getChecksum().getValue());
+  }
+
+  /**
+   * @return the merged Jandex index of all modules
+   */
+  public Index readIndex() {
+    try (InputStream in = new BufferedInputStream(m_indexUrl.openStream())) {
+      return new IndexReader(in).read();
+    }
+    catch (IOException e) {
+      throw new PlatformException("Error reading precomputed index '{}'", m_indexUrl, e);
+    }
+  }
+
+  public List<String> getBeanClassNames() {
+    return Collections.unmodifiableList(m_beanClassNames);
+  }
+
+  /**
+   * @return all bean classes, loaded in parallel
+   */
+  @SuppressWarnings("rawtypes")
+  public Set<Class> loadBeanClasses() {
+    Set<Class> beans = Collections.synchronizedSet(new HashSet<>(m_beanClassNames.size()));
+    m_beanClassNames
+        .parallelStream()
+        .forEach(name -> {
+          try {
+            beans.add(Class.forName(name));
+          }
+          catch (ClassNotFoundException | LinkageError e) {
+            LOG.warn("Could not resolve precomputed bean class [{}]", name, e);
+          }
+        });
+    return beans;
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.internal.BeanFilter;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexClassInventory;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder;
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the {@link PrecomputedInventory} of the current classpath at build time.
+ * <p>
+ * Must be run with the runtime classpath of the application, typically in the <code>prepare-package</code> phase of
+ * the module building the application (e.g. the war module):
+ *
+ * <pre>
+ * &lt;plugin&gt;
+ *   &lt;groupId&gt;org.codehaus.mojo&lt;/groupId&gt;
+ *   &lt;artifactId&gt;exec-maven-plugin&lt;/artifactId&gt;
+ *   &lt;executions&gt;
+ *     &lt;execution&gt;
+ *       &lt;id&gt;precompute-scout-inventory&lt;/id&gt;
+ *       &lt;phase&gt;prepare-package&lt;/phase&gt;
+ *       &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *       &lt;configuration&gt;
+ *         &lt;mainClass&gt;org.eclipse.scout.rt.platform.inventory.PrecomputedInventoryWriter&lt;/mainClass&gt;
+ *         &lt;arguments&gt;&lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;&lt;/arguments&gt;
+ *         &lt;classpathScope&gt;runtime&lt;/classpathScope&gt;
+ *       &lt;/configuration&gt;
+ *     &lt;/execution&gt;
+ *   &lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ *
+ * The platform is not started. The beans are collected the same way as on platform startup, i.e. all Scout modules
+ * must be on the classpath.
+ *
+ * @since 23.2
+ */
+public class PrecomputedInventoryWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(PrecomputedInventoryWriter.class);
+
+  /**
+   * @param args
+   *          the output directory, usually the classes directory of the application module
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: PrecomputedInventoryWriter <outputDirectory>");
+    }
+    new PrecomputedInventoryWriter().write(Paths.get(args[0]));
+  }
+
+  public void write(Path outputDirectory) throws IOException {
+    long t0 = System.nanoTime();
+    JandexInventoryBuilder inventoryBuilder = new JandexInventoryBuilder(RebuildStrategy.IF_MODIFIED);
+    inventoryBuilder.scanAllModules();
+    Index index = mergeIndex(inventoryBuilder.finish());
+    List<String> beanClassNames = collectBeanClassNames(index);
+    // after scanning, the indexes of modules without a pre-built index are written (if possible)
+    List<String> moduleFingerprints = PrecomputedInventory.computeModuleFingerprints(getClass().getClassLoader());
+
+    Path indexFile = outputDirectory.resolve(PrecomputedInventory.INDEX_PATH);
+    Files.createDirectories(indexFile.getParent());
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(indexFile))) {
+      new IndexWriter(out).write(index);
+    }
+    try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(outputDirectory.resolve(PrecomputedInventory.BEANS_PATH)), UTF_8))) {
+      out.write("# Scout beans, generated by " + getClass().getName() + "\n");
+      for (String fingerprint : moduleFingerprints) {
+        out.write(PrecomputedInventory.MODULE_PREFIX + fingerprint + "\n");
+      }
+      for (String name : beanClassNames) {
+        out.write(name);
+        out.write('\n');
+      }
+    }
+    LOG.info("Wrote precomputed inventory with {} classes and {} beans of {} modules to '{}' in {} ms", index.getKnownClasses().size(), beanClassNames.size(), moduleFingerprints.size(), outputDirectory,
+        (System.nanoTime() - t0) / 1_000_000L);
+  }
+
+  /**
+   * Jandex cannot write a composite index. Therefore all classes known by the indexes of the modules are indexed again.
+   */
+  protected Index mergeIndex(IndexView compositeIndex) throws IOException {
+    Indexer indexer = new Indexer();
+    ClassLoader classLoader = getClass().getClassLoader();
+    for (ClassInfo classInfo : compositeIndex.getKnownClasses()) {
+      String resource = classInfo.name().toString().replace('.', '/') + ".class";
+      try (InputStream in = classLoader.getResourceAsStream(resource)) {
+        if (in == null) {
+          throw new PlatformException("Class file '{}' not found", resource);
+        }
+        indexer.index(in);
+      }
+    }
+    return indexer.complete();
+  }
+
+  @SuppressWarnings("rawtypes")
+  protected List<String> collectBeanClassNames(IndexView index) {
+    Set<Class> beans = new BeanFilter().collect(new JandexClassInventory(index));
+    return beans.stream()
+        .map(Class::getName)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+}
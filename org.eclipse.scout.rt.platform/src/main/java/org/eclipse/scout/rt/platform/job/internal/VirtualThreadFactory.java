@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Thread factory for named virtual threads and to handle uncaught exceptions.
+ * <p>
+ * Virtual threads are available as of Java 21. Because Scout is compiled against an older Java version, the virtual
+ * thread builder is accessed reflectively. Use {@link #isSupported()} to check whether the current Java runtime supports
+ * virtual threads.
+ * <p>
+ * <b>Note:</b> A virtual thread cannot unmount from its carrier thread while it holds a monitor (i.e. blocking within a
+ * <code>synchronized</code> block). Long blocking operations within synchronized code therefore occupy a carrier
+ * thread.
+ *
+ * @since 23.2
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    Assertions.assertTrue(isSupported(), "Virtual threads are not supported by this Java runtime [version={}]", Runtime.version());
+  }
+
+  @Override
+  protected Thread createThread(final Runnable runnable) {
+    return VIRTUAL_THREAD_FACTORY.newThread(runnable);
+  }
+
+  /**
+   * @return <code>true</code> if the current Java runtime supports virtual threads
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * @return result of <code>Thread.ofVirtual().factory()</code> or <code>null</code> if not supported
+   */
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      final MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+      final MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+      return (ThreadFactory) factory.invoke(ofVirtual.invoke());
+    }
+    catch (final Throwable t) { // NOSONAR
+      return null;
+    }
+  }
+}
@@ -21,13 +21,17 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.text.TextIndex;
 
 @Bean
 public class DynamicNls {
 
+  private static final AtomicLong MODIFICATION_COUNT = new AtomicLong();
+
   private final List<NlsResourceBundleCache> m_resourceBundles;
   private final Set<ITextPostProcessor> m_textPostProcessors;
 
@@ -38,6 +42,25 @@ public class DynamicNls {
 
   public void registerResourceBundle(String resourceBundleName, Class<?> wrapperClass) {
     m_resourceBundles.add(0, new NlsResourceBundleCache(resourceBundleName, wrapperClass));
+    markModified();
+  }
+
+  /**
+   * @return a counter incremented whenever a resource bundle or a text post processor of any {@link DynamicNls}
+   *         changes. Used to detect stale copies of texts, e.g. by {@link TextIndex}.
+   * @since 23.2
+   */
+  public static long getModificationCount() {
+    return MODIFICATION_COUNT.get();
+  }
+
+  /**
+   * Increments the {@link #getModificationCount()}.
+   *
+   * @since 23.2
+   */
+  public static void markModified() {
+    MODIFICATION_COUNT.incrementAndGet();
   }
 
   /**
@@ -50,6 +73,7 @@ public class DynamicNls {
   public DynamicNls withTextPostProcessor(ITextPostProcessor postProcessor) {
     if (postProcessor != null) {
       m_textPostProcessors.add(postProcessor);
+      markModified();
     }
     return this;
   }
@@ -66,6 +90,7 @@ public class DynamicNls {
     clearTextPostProcessors();
     if (processors != null && !processors.isEmpty()) {
       m_textPostProcessors.addAll(orderedHashSetWithoutNullElements(processors));
+      markModified();
     }
     return this;
   }
@@ -81,7 +106,11 @@ public class DynamicNls {
     if (predicate == null) {
       return false;
     }
-    return m_textPostProcessors.removeIf(predicate);
+    boolean removed = m_textPostProcessors.removeIf(predicate);
+    if (removed) {
+      markModified();
+    }
+    return removed;
   }
 
   /**
@@ -105,7 +134,10 @@ public class DynamicNls {
    * @return This {@link DynamicNls} instance.
    */
   public DynamicNls clearTextPostProcessors() {
-    m_textPostProcessors.clear();
+    if (!m_textPostProcessors.isEmpty()) {
+      m_textPostProcessors.clear();
+      markModified();
+    }
     return this;
   }
 
@@ -48,6 +48,7 @@ public class NlsResourceBundleCache {
       try {
         BEANS.get(NlsFileWatcher.class).watch(m_resourceBundleName, (path) -> {
             m_resourceBundles.clear();
+            DynamicNls.markModified();
             LOG.info("Cleared bundle cache for nls resource bundle {}", m_resourceBundleName);
         }, m_wrapperClass.getClassLoader());
       }
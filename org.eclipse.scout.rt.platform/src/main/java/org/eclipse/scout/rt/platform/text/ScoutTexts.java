@@ -27,6 +27,9 @@ import org.eclipse.scout.rt.platform.BEANS;
  * This implementation caches all available {@link ITextProviderService}s for better performance (otherwise 2/3 of a
  * {@link #getText(String, String...)} invocation would be spend for collecting {@link ITextProviderService}s). Invoke
  * {@link #reloadTextProviders()} after modifying the set of text provider services.
+ * <p>
+ * The texts of the providers are looked up in a {@link TextIndex}. It is created on first use and replaced when the
+ * text providers are reloaded or a resource bundle changes.
  *
  * @see TEXTS
  * @see ITextProviderService
@@ -38,6 +41,7 @@ public class ScoutTexts {
    * Cached list of ordered {@link ITextProviderService}s
    */
   private volatile List<? extends ITextProviderService> m_textProviders;
+  private volatile TextIndex m_textIndex;
 
   public ScoutTexts() {
     reloadTextProviders();
@@ -68,12 +72,31 @@ public class ScoutTexts {
     return m_textProviders;
   }
 
+  /**
+   * @return the {@link TextIndex} of the current text providers
+   * @since 23.2
+   */
+  protected TextIndex getTextIndex() {
+    TextIndex index = m_textIndex;
+    List<? extends ITextProviderService> providers = getTextProviders();
+    if (index == null || index.getProviders() != providers || index.isStale()) {
+      index = createTextIndex(providers);
+      m_textIndex = index;
+    }
+    return index;
+  }
+
+  /**
+   * @since 23.2
+   */
+  protected TextIndex createTextIndex(List<? extends ITextProviderService> providers) {
+    return new TextIndex(providers);
+  }
+
   protected String getTextInternal(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
-    for (ITextProviderService provider : getTextProviders()) {
-      String result = provider.getText(locale, key, messageArguments);
-      if (result != null) {
-        return result;
-      }
+    String result = getTextIndex().getText(locale, key, messageArguments);
+    if (result != null) {
+      return result;
     }
     return fallback;
   }
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.scout.rt.platform.nls.DynamicNls;
+import org.eclipse.scout.rt.platform.nls.ITextPostProcessor;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.nls.NlsUtility;
+
+/**
+ * Index of the texts of a list of {@link ITextProviderService}s, used by {@link ScoutTexts}.
+ * <p>
+ * Consecutive providers which look up their texts in a {@link DynamicNls} (see
+ * {@link AbstractDynamicNlsTextProviderService}) are merged into one immutable map per locale, built on first use. The
+ * message argument placeholders of a text are parsed once, a text without message arguments is returned without
+ * copying it. Other providers, and providers or {@link DynamicNls} instances overriding the text lookup, are still
+ * asked for each text in their order.
+ * <p>
+ * The index becomes stale when a resource bundle or a text post processor of any {@link DynamicNls} changes (see
+ * {@link DynamicNls#getModificationCount()}) and has to be replaced then.
+ *
+ * @since 23.2
+ */
+public class TextIndex {
+
+  /**
+   * Same pattern as used by {@link NlsUtility#bindText(String, String...)}
+   */
+  private static final Pattern MESSAGE_ARGUMENT_PATTERN = Pattern.compile("\\{([0-9]+)}");
+
+  private final List<? extends ITextProviderService> m_providers;
+  private final long m_modificationCount;
+  private final List<P_Segment> m_segments;
+
+  public TextIndex(List<? extends ITextProviderService> providers) {
+    m_providers = providers;
+    // read before the texts so that concurrent modifications make this index stale
+    m_modificationCount = DynamicNls.getModificationCount();
+    m_segments = createSegments(providers);
+  }
+
+  /**
+   * @return the providers this index was created for
+   */
+  public List<? extends ITextProviderService> getProviders() {
+    return m_providers;
+  }
+
+  /**
+   * @return <code>true</code> if a resource bundle or a text post processor changed since this index was created
+   */
+  public boolean isStale() {
+    return m_modificationCount != DynamicNls.getModificationCount();
+  }
+
+  /**
+   * @return the text of the first provider knowing the given key (as {@link ITextProviderService#getText(Locale,
+   *         String, String...)} would return it) or <code>null</code> if no provider knows it
+   */
+  public String getText(Locale locale, @NlsKey String key, String... messageArguments) {
+    for (P_Segment segment : m_segments) {
+      String result = segment.getText(locale, key, messageArguments);
+      if (result != null) {
+        return result;
+      }
+    }
+    return null;
+  }
+
+  protected List<P_Segment> createSegments(List<? extends ITextProviderService> providers) {
+    List<P_Segment> segments = new ArrayList<>();
+    List<DynamicNls> nlsGroup = new ArrayList<>();
+    for (ITextProviderService provider : providers) {
+      DynamicNls nls = getIndexableDynamicNls(provider);
+      if (nls != null) {
+        nlsGroup.add(nls);
+        continue;
+      }
+      if (!nlsGroup.isEmpty()) {
+        segments.add(new P_NlsSegment(nlsGroup));
+        nlsGroup = new ArrayList<>();
+      }
+      segments.add(provider::getText);
+    }
+    if (!nlsGroup.isEmpty()) {
+      segments.add(new P_NlsSegment(nlsGroup));
+    }
+    return Collections.unmodifiableList(segments);
+  }
+
+  /**
+   * @return the {@link DynamicNls} of the given provider if its texts may be indexed, i.e. if neither the provider nor
+   *         the {@link DynamicNls} override the text lookup. Otherwise <code>null</code>.
+   */
+  protected DynamicNls getIndexableDynamicNls(ITextProviderService provider) {
+    if (!(provider instanceof AbstractDynamicNlsTextProviderService)
+        || !isDeclaredBy(provider.getClass(), AbstractDynamicNlsTextProviderService.class, "getText", Locale.class, String.class, String[].class)) {
+      return null;
+    }
+    DynamicNls nls = ((AbstractDynamicNlsTextProviderService) provider).getDynamicNls();
+    if (nls == null
+        || !isDeclaredBy(nls.getClass(), DynamicNls.class, "getText", Locale.class, String.class, String[].class)
+        || !isDeclaredBy(nls.getClass(), DynamicNls.class, "getTextInternal", Locale.class, String.class)
+        || !isDeclaredBy(nls.getClass(), DynamicNls.class, "getTextMap", Locale.class)
+        || !isDeclaredBy(nls.getClass(), DynamicNls.class, "getDefaultLocale")) {
+      return null;
+    }
+    return nls;
+  }
+
+  /**
+   * @return <code>true</code> if the given method of the given class is the one declared by the expected class
+   */
+  protected static boolean isDeclaredBy(Class<?> clazz, Class<?> expectedDeclaringClass, String methodName, Class<?>... parameterTypes) {
+    for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod(methodName, parameterTypes);
+        return c == expectedDeclaringClass;
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        // declared by a super class
+      }
+    }
+    return false;
+  }
+
+  @FunctionalInterface
+  protected interface P_Segment {
+    String getText(Locale locale, String key, String... messageArguments);
+  }
+
+  /**
+   * Merged texts of consecutive {@link DynamicNls} instances.
+   * <p>
+   * Like {@link DynamicNls#getText(Locale, String, String...)}, the text post processors of a {@link DynamicNls} are
+   * also applied if it does not know the key (with a <code>null</code> text). A text returned by them takes precedence
+   * over the texts of the following {@link DynamicNls} instances.
+   */
+  protected static class P_NlsSegment implements P_Segment {
+    private final List<DynamicNls> m_nlsList;
+    private final ITextPostProcessor[][] m_postProcessors;
+    private final Map<Locale, Map<String, P_Text>> m_textsByLocale = new ConcurrentHashMap<>();
+
+    protected P_NlsSegment(List<DynamicNls> nlsList) {
+      m_nlsList = nlsList;
+      m_postProcessors = new ITextPostProcessor[nlsList.size()][];
+      for (int i = 0; i < nlsList.size(); i++) {
+        m_postProcessors[i] = nlsList.get(i).getTextPostProcessors().toArray(new ITextPostProcessor[0]);
+      }
+    }
+
+    @Override
+    public String getText(Locale locale, String key, String... messageArguments) {
+      if (key == null) {
+        return null;
+      }
+      if (locale == null) {
+        locale = NlsLocale.get(); // same as DynamicNls#getDefaultLocale
+      }
+      P_Text text = m_textsByLocale.computeIfAbsent(locale, this::createTexts).get(key);
+      // DynamicNls instances before the one knowing the key
+      int missCount = text == null ? m_postProcessors.length : text.getNlsIndex();
+      for (int i = 0; i < missCount; i++) {
+        String result = postProcessMissingText(m_postProcessors[i], locale, key, messageArguments);
+        if (result != null) {
+          return result;
+        }
+      }
+      if (text == null) {
+        return null;
+      }
+      return text.getText(locale, key, messageArguments);
+    }
+
+    /**
+     * Same as {@link NlsUtility#postProcessText(Locale, String, String, java.util.Collection, String...)} with a
+     * <code>null</code> text.
+     */
+    protected String postProcessMissingText(ITextPostProcessor[] postProcessors, Locale locale, String key, String... messageArguments) {
+      String text = null;
+      for (ITextPostProcessor postProcessor : postProcessors) {
+        if (postProcessor != null) {
+          text = postProcessor.apply(locale, key, text, messageArguments);
+        }
+      }
+      return text;
+    }
+
+    protected Map<String, P_Text> createTexts(Locale locale) {
+      Map<String, P_Text> texts = new HashMap<>();
+      for (int i = 0; i < m_nlsList.size(); i++) {
+        int nlsIndex = i;
+        for (Entry<String, String> e : m_nlsList.get(i).getTextMap(locale).entrySet()) {
+          texts.computeIfAbsent(e.getKey(), k -> new P_Text(e.getValue(), m_postProcessors[nlsIndex], nlsIndex));
+        }
+      }
+      return Collections.unmodifiableMap(texts);
+    }
+  }
+
+  /**
+   * A text with its parsed message argument placeholders.
+   */
+  protected static class P_Text {
+    private final String m_text;
+    private final ITextPostProcessor[] m_postProcessors;
+    private final int m_nlsIndex;
+    /**
+     * Literal parts between the placeholders, one more than {@link #m_argumentIndexes}. <code>null</code> if the text
+     * has no placeholders.
+     */
+    private final String[] m_literals;
+    private final int[] m_argumentIndexes;
+
+    protected P_Text(String text, ITextPostProcessor[] postProcessors, int nlsIndex) {
+      m_text = text;
+      m_postProcessors = postProcessors;
+      m_nlsIndex = nlsIndex;
+
+      List<String> literals = new ArrayList<>();
+      List<Integer> argumentIndexes = new ArrayList<>();
+      if (text.indexOf('{') >= 0) {
+        Matcher m = MESSAGE_ARGUMENT_PATTERN.matcher(text);
+        int start = 0;
+        while (m.find(start)) {
+          int index;
+          try {
+            index = Integer.parseInt(m.group(1));
+          }
+          catch (NumberFormatException e) { // NOSONAR
+            // too large to be an argument index, NlsUtility#bindText is used for such a text
+            literals.clear();
+            argumentIndexes.clear();
+            break;
+          }
+          literals.add(text.substring(start, m.start()));
+          argumentIndexes.add(index);
+          start = m.end();
+        }
+        if (!argumentIndexes.isEmpty()) {
+          literals.add(text.substring(start));
+        }
+      }
+      if (argumentIndexes.isEmpty()) {
+        m_literals = null;
+        m_argumentIndexes = null;
+      }
+      else {
+        m_literals = literals.toArray(new String[0]);
+        m_argumentIndexes = argumentIndexes.stream().mapToInt(Integer::intValue).toArray();
+      }
+    }
+
+    /**
+     * @return index of the {@link DynamicNls} providing this text within its segment
+     */
+    protected int getNlsIndex() {
+      return m_nlsIndex;
+    }
+
+    protected String getText(Locale locale, String key, String... messageArguments) {
+      String text = bind(messageArguments);
+      // same as NlsUtility#postProcessText
+      for (ITextPostProcessor postProcessor : m_postProcessors) {
+        if (postProcessor != null) {
+          text = postProcessor.apply(locale, key, text, messageArguments);
+        }
+      }
+      return text;
+    }
+
+    /**
+     * Same result as {@link NlsUtility#bindText(String, String...)}.
+     */
+    protected String bind(String... messageArguments) {
+      if (messageArguments == null || messageArguments.length == 0) {
+        return m_text;
+      }
+      if (m_literals == null) {
+        return m_text.indexOf('{') >= 0 ? NlsUtility.bindText(m_text, messageArguments) : m_text;
+      }
+      StringBuilder b = new StringBuilder(m_text.length() + 16 * m_argumentIndexes.length);
+      for (int i = 0; i < m_argumentIndexes.length; i++) {
+        b.append(m_literals[i]);
+        int index = m_argumentIndexes[i];
+        if (index < messageArguments.length) {
+          if (messageArguments[index] != null) {
+            b.append(messageArguments[index]);
+          }
+        }
+        else {
+          b.append('{').append(index).append('}');
+        }
+      }
+      b.append(m_literals[m_literals.length - 1]);
+      return b.toString();
+    }
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * A bounded FIFO queue for many producers and a single consumer which overwrites its oldest elements when full.
+ * <p>
+ * Producers never block and never take a lock: {@link #add(Object)} claims the next sequence number using an atomic
+ * increment and stores the element in the slot of this sequence. If the consumer is more than {@link #getCapacity()}
+ * elements behind, the oldest elements are overwritten and counted as overwritten (see {@link #getOverwrittenCount()}).
+ * Apart from the slot arrays allocated upon construction, adding and consuming elements does not allocate memory.
+ * <p>
+ * Consuming methods ({@link #poll()}, {@link #poll(long, TimeUnit)}, {@link #drainTo(Collection, int)}) may be called
+ * by multiple threads, but are serialized using a lock. A consumer waiting for an element is woken up by the next
+ * producer.
+ * <p>
+ * This class does <em>not</em> allow <tt>null</tt> elements.
+ *
+ * @param <E>
+ *          the type of elements held in this buffer
+ * @since 23.2
+ */
+public class ConcurrentRingBuffer<E> {
+
+  /**
+   * Sequence of a slot whose element is being written or consumed
+   */
+  private static final long BUSY = Long.MIN_VALUE;
+  /**
+   * Sequence of a slot which never held an element
+   */
+  private static final long EMPTY = -1L;
+
+  private final int m_capacity;
+  /**
+   * Sequence number of the element stored in each slot, {@link #EMPTY} or {@link #BUSY}
+   */
+  private final AtomicLongArray m_sequences;
+  private final AtomicReferenceArray<E> m_elements;
+  /**
+   * Next sequence number to be claimed by a producer
+   */
+  private final AtomicLong m_tail = new AtomicLong();
+  private final AtomicLong m_overwrittenCount = new AtomicLong();
+  private final ReentrantLock m_consumerLock = new ReentrantLock();
+  /**
+   * Next sequence number to be consumed. Only written while holding {@link #m_consumerLock}.
+   */
+  private volatile long m_head;
+  private volatile Thread m_waitingConsumer;
+
+  public ConcurrentRingBuffer(int capacity) {
+    Assertions.assertTrue(capacity > 0, "capacity must be positive");
+    m_capacity = capacity;
+    m_sequences = new AtomicLongArray(capacity);
+    m_elements = new AtomicReferenceArray<>(capacity);
+    for (int i = 0; i < capacity; i++) {
+      m_sequences.set(i, EMPTY);
+    }
+  }
+
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  /**
+   * @return number of elements waiting to be consumed
+   */
+  public int size() {
+    long size = m_tail.get() - m_head;
+    return (int) Math.max(0L, Math.min(m_capacity, size));
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return number of elements overwritten before they were consumed
+   */
+  public long getOverwrittenCount() {
+    // elements overwritten since the last consumption are not counted by the consumer yet
+    long pending = m_tail.get() - m_head - m_capacity;
+    return m_overwrittenCount.get() + Math.max(0L, pending);
+  }
+
+  /**
+   * Adds an element to the end of this buffer. If the buffer is full, the oldest element is overwritten.
+   */
+  public void add(E element) {
+    Assertions.assertNotNull(element, "element must not be null");
+    publish(element, m_tail.getAndIncrement());
+    signalConsumer();
+  }
+
+  /**
+   * Adds all elements in iteration order. If the buffer is full, the oldest elements are overwritten.
+   * <p>
+   * The sequence numbers of all elements are claimed at once, i.e. the elements are not interleaved with elements of
+   * other producers, and a waiting consumer is signalled only once.
+   */
+  public void addAll(Collection<? extends E> elements) {
+    Object[] array = elements.toArray();
+    if (array.length == 0) {
+      return;
+    }
+    for (Object element : array) {
+      Assertions.assertNotNull(element, "element must not be null");
+    }
+    long sequence = m_tail.getAndAdd(array.length);
+    for (Object element : array) {
+      @SuppressWarnings("unchecked")
+      E e = (E) element;
+      publish(e, sequence++);
+    }
+    signalConsumer();
+  }
+
+  /**
+   * @return the oldest element or <code>null</code> if this buffer is empty
+   */
+  public E poll() {
+    m_consumerLock.lock();
+    try {
+      return pollInternal();
+    }
+    finally {
+      m_consumerLock.unlock();
+    }
+  }
+
+  /**
+   * Waits up to the given timeout for an element.
+   *
+   * @return the oldest element or <code>null</code> if no element was added within the timeout
+   */
+  public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    if (!m_consumerLock.tryLock(timeout, unit)) {
+      return null;
+    }
+    try {
+      Thread currentThread = Thread.currentThread();
+      while (true) {
+        E element = pollInternal();
+        if (element != null) {
+          return element;
+        }
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0L) {
+          return null;
+        }
+        m_waitingConsumer = currentThread;
+        try {
+          // check again after registration, the producer might not have seen the waiting consumer
+          if (m_tail.get() == m_head) {
+            LockSupport.parkNanos(this, remainingNanos);
+          }
+        }
+        finally {
+          m_waitingConsumer = null;
+        }
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    }
+    finally {
+      m_consumerLock.unlock();
+    }
+  }
+
+  /**
+   * Removes at most the given number of available elements without waiting and adds them to the given collection.
+   *
+   * @return number of elements transferred
+   */
+  public int drainTo(Collection<? super E> collection, int maxElements) {
+    m_consumerLock.lock();
+    try {
+      int count = 0;
+      while (count < maxElements) {
+        E element = pollInternal();
+        if (element == null) {
+          break;
+        }
+        collection.add(element);
+        count++;
+      }
+      return count;
+    }
+    finally {
+      m_consumerLock.unlock();
+    }
+  }
+
+  /**
+   * Stores the element in the slot of the given claimed sequence number.
+   */
+  protected void publish(E element, long sequence) {
+    int index = index(sequence);
+    while (true) {
+      long current = m_sequences.get(index);
+      if (current >= sequence) {
+        // a producer which claimed a newer sequence for the same slot was faster, the element is already overwritten
+        return;
+      }
+      if (current != BUSY && m_sequences.compareAndSet(index, current, BUSY)) {
+        break;
+      }
+      Thread.onSpinWait();
+    }
+    // the release store of the sequence publishes the element
+    m_elements.setPlain(index, element);
+    m_sequences.setRelease(index, sequence);
+  }
+
+  protected void signalConsumer() {
+    Thread waitingConsumer = m_waitingConsumer;
+    if (waitingConsumer != null) {
+      LockSupport.unpark(waitingConsumer);
+    }
+  }
+
+  /**
+   * Must be called while holding {@link #m_consumerLock}.
+   */
+  protected E pollInternal() {
+    while (true) {
+      long head = m_head;
+      long tail = m_tail.get();
+      if (head >= tail) {
+        return null;
+      }
+      if (tail - head > m_capacity) {
+        // producers lapped the consumer
+        m_overwrittenCount.addAndGet(tail - m_capacity - head);
+        head = tail - m_capacity;
+        m_head = head;
+      }
+      int index = index(head);
+      long sequence = m_sequences.get(index);
+      if (sequence == head && m_sequences.compareAndSet(index, head, BUSY)) {
+        E element = m_elements.getPlain(index);
+        m_elements.setPlain(index, null);
+        m_sequences.setRelease(index, head);
+        m_head = head + 1;
+        return element;
+      }
+      if (sequence > head) {
+        // overwritten by a newer element
+        m_overwrittenCount.incrementAndGet();
+        m_head = head + 1;
+      }
+      else {
+        // claimed by a producer but not yet published
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  protected int index(long sequence) {
+    return (int) (sequence % m_capacity);
+  }
+}
@@ -0,0 +1,686 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * A thread-safe concurrent map bounded by the total weight of its entries. Entries are evicted according to the
+ * W-TinyLFU policy:
+ * <ul>
+ * <li>New entries are added to a small admission window (1% of the maximum weight) which is managed in least recently
+ * used (LRU) order.</li>
+ * <li>Entries leaving the window are candidates for the main space. A candidate is only admitted if it was accessed
+ * more often than the entry which would have to be evicted in favor of it. Access frequencies are estimated using a
+ * {@link FrequencySketch}, which also remembers entries that were evicted recently.</li>
+ * <li>The main space is a segmented LRU: entries accessed again while in the probation segment are promoted to the
+ * protected segment (80% of the main space).</li>
+ * </ul>
+ * This makes the map resistant to scans (e.g. iterating over all keys once), which would flush a plain LRU cache.
+ * <p>
+ * The weight of an entry is computed once upon insertion or update using the given weigher. The maximum weight is
+ * enforced after each write operation. If no weigher is set, every entry has a weight of 1, i.e. the maximum weight is
+ * the maximum number of entries.
+ * <p>
+ * Read operations do not take the lock of the map: accesses are recorded in a read buffer, which is applied to the
+ * access order and the frequency sketch by the thread holding the lock. It is drained as soon as it contains a few
+ * reads and before every write operation, so no access is lost. A reader only waits for the lock if the read buffer is
+ * full. Write operations are serialized.
+ * <p>
+ * Every time an entry is evicted, {@link #execEntryEvicted(Object, Object)} is called.
+ * <p>
+ * This class does <em>not</em> allow <tt>null</tt> keys or values.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 23.2
+ */
+@SuppressWarnings("squid:S2160")
+public class ConcurrentTinyLfuMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  private static final double WINDOW_RATIO = 0.01d;
+  private static final double PROTECTED_RATIO = 0.8d;
+  /**
+   * Candidates with at least this frequency are admitted at random with a small probability even if the victim is more
+   * popular. This prevents an attacker from blocking the admission of new entries by flooding hash collisions.
+   */
+  private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+  /**
+   * Number of buffered reads after which a reader tries to drain the read buffer.
+   */
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = 64;
+  /**
+   * Number of buffered reads after which a reader waits for the lock to drain the read buffer.
+   */
+  private static final int READ_BUFFER_MAXIMUM_SIZE = 4096;
+
+  private final ConcurrentMap<K, Node<K, V>> m_data = new ConcurrentHashMap<>();
+  private final ToIntBiFunction<? super K, ? super V> m_weigher;
+  private final long m_maximumWeight;
+  private final long m_maximumWindowWeight;
+  private final long m_maximumProtectedWeight;
+
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+  // guarded by m_evictionLock
+  private final FrequencySketch m_sketch;
+  private final P_AccessOrderQueue<K, V> m_window = new P_AccessOrderQueue<>();
+  private final P_AccessOrderQueue<K, V> m_probation = new P_AccessOrderQueue<>();
+  private final P_AccessOrderQueue<K, V> m_protected = new P_AccessOrderQueue<>();
+  private long m_windowWeight;
+  private long m_protectedWeight;
+  private volatile long m_weightedSize;
+  private final Queue<Node<K, V>> m_readBuffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_readBufferSize = new AtomicInteger();
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+
+  /**
+   * Creates a new map holding at most the given number of entries.
+   */
+  public ConcurrentTinyLfuMap(long maximumSize) {
+    this(maximumSize, null);
+  }
+
+  /**
+   * @param maximumWeight
+   *          maximum total weight of all entries
+   * @param weigher
+   *          computes the weight of an entry, must return a value &gt;= 0. If <code>null</code>, every entry has a
+   *          weight of 1.
+   */
+  public ConcurrentTinyLfuMap(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+    Assertions.assertTrue(maximumWeight > 0, "maximumWeight must be positive");
+    m_maximumWeight = maximumWeight;
+    m_maximumWindowWeight = Math.max(1L, (long) (maximumWeight * WINDOW_RATIO));
+    m_maximumProtectedWeight = (long) ((maximumWeight - m_maximumWindowWeight) * PROTECTED_RATIO);
+    m_weigher = weigher;
+    m_sketch = new FrequencySketch(weigher == null ? maximumWeight : 16L);
+  }
+
+  public long getMaximumWeight() {
+    return m_maximumWeight;
+  }
+
+  /**
+   * @return total weight of all entries
+   */
+  public long getWeightedSize() {
+    return m_weightedSize;
+  }
+
+  /**
+   * @return number of {@link #get(Object)} calls which found a value
+   */
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  /**
+   * @return number of {@link #get(Object)} calls which did not find a value
+   */
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return number of entries evicted because the maximum weight was exceeded
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  @Override
+  public int size() {
+    return m_data.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return m_data.isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return m_data.containsKey(key);
+  }
+
+  @Override
+  public V get(Object key) {
+    Node<K, V> node = m_data.get(key);
+    if (node == null) {
+      m_missCount.increment();
+      return null;
+    }
+    m_hitCount.increment();
+    afterRead(node);
+    return node.m_value;
+  }
+
+  @Override
+  public V put(K key, V value) {
+    return put(key, value, false);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    return put(key, value, true);
+  }
+
+  protected V put(K key, V value, boolean onlyIfAbsent) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    int weight = weigh(key, value);
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      Node<K, V> node = m_data.get(key);
+      if (node == null) {
+        addNode(new Node<>(key, value, weight));
+        return null;
+      }
+      V oldValue = node.m_value;
+      if (!onlyIfAbsent) {
+        updateNode(node, value, weight);
+      }
+      onAccess(node);
+      evictEntries();
+      return oldValue;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public V remove(Object key) {
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      Node<K, V> node = m_data.remove(key);
+      if (node == null) {
+        return null;
+      }
+      removeNode(node);
+      return node.m_value;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      Node<K, V> node = m_data.get(key);
+      if (node == null || !node.m_value.equals(value)) {
+        return false;
+      }
+      m_data.remove(key, node);
+      removeNode(node);
+      return true;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Objects.requireNonNull(newValue);
+    int weight = weigh(key, newValue);
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      Node<K, V> node = m_data.get(key);
+      if (node == null || !node.m_value.equals(oldValue)) {
+        return false;
+      }
+      updateNode(node, newValue, weight);
+      onAccess(node);
+      evictEntries();
+      return true;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    Objects.requireNonNull(value);
+    int weight = weigh(key, value);
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      Node<K, V> node = m_data.get(key);
+      if (node == null) {
+        return null;
+      }
+      V oldValue = node.m_value;
+      updateNode(node, value, weight);
+      onAccess(node);
+      evictEntries();
+      return oldValue;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    m_evictionLock.lock();
+    try {
+      drainReadBuffer();
+      for (Node<K, V> node : m_data.values()) {
+        node.m_queue = Node.DEAD;
+      }
+      m_data.clear();
+      m_window.clear();
+      m_probation.clear();
+      m_protected.clear();
+      m_windowWeight = 0;
+      m_protectedWeight = 0;
+      m_weightedSize = 0;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new P_EntrySet();
+  }
+
+  /**
+   * Called when the map evicted an entry because the maximum weight was exceeded. This method is called while holding
+   * the lock of this map and must therefore not access this map.
+   */
+  protected void execEntryEvicted(K key, V value) {
+    // hook method for subclasses
+  }
+
+  protected int weigh(K key, V value) {
+    if (m_weigher == null) {
+      return 1;
+    }
+    int weight = m_weigher.applyAsInt(key, value);
+    Assertions.assertTrue(weight >= 0, "weight must not be negative [key={}, weight={}]", key, weight);
+    return weight;
+  }
+
+  private void afterRead(Node<K, V> node) {
+    m_readBuffer.add(node);
+    int bufferedReads = m_readBufferSize.incrementAndGet();
+    if (bufferedReads < READ_BUFFER_DRAIN_THRESHOLD) {
+      return;
+    }
+    if (bufferedReads < READ_BUFFER_MAXIMUM_SIZE) {
+      if (!m_evictionLock.tryLock()) {
+        return;
+      }
+    }
+    else {
+      m_evictionLock.lock();
+    }
+    try {
+      drainReadBuffer();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  // all methods below require m_evictionLock to be held
+
+  private void drainReadBuffer() {
+    for (int i = m_readBufferSize.get(); i > 0; i--) {
+      Node<K, V> node = m_readBuffer.poll();
+      if (node == null) {
+        return;
+      }
+      m_readBufferSize.decrementAndGet();
+      if (node.m_queue != Node.DEAD) {
+        onAccess(node);
+      }
+    }
+  }
+
+  private void addNode(Node<K, V> node) {
+    m_data.put(node.m_key, node);
+    if (m_weigher != null) {
+      m_sketch.ensureCapacity(m_data.size());
+    }
+    m_sketch.increment(node.m_key);
+    node.m_queue = Node.WINDOW;
+    m_window.addLast(node);
+    m_windowWeight += node.m_weight;
+    m_weightedSize += node.m_weight;
+    evictEntries();
+  }
+
+  private void updateNode(Node<K, V> node, V value, int weight) {
+    int weightDifference = weight - node.m_weight;
+    node.m_value = value;
+    node.m_weight = weight;
+    m_weightedSize += weightDifference;
+    if (node.m_queue == Node.WINDOW) {
+      m_windowWeight += weightDifference;
+    }
+    else if (node.m_queue == Node.PROTECTED) {
+      m_protectedWeight += weightDifference;
+    }
+  }
+
+  private void removeNode(Node<K, V> node) {
+    unlink(node);
+    node.m_queue = Node.DEAD;
+    m_weightedSize -= node.m_weight;
+  }
+
+  private void unlink(Node<K, V> node) {
+    switch (node.m_queue) {
+      case Node.WINDOW:
+        m_window.remove(node);
+        m_windowWeight -= node.m_weight;
+        break;
+      case Node.PROBATION:
+        m_probation.remove(node);
+        break;
+      case Node.PROTECTED:
+        m_protected.remove(node);
+        m_protectedWeight -= node.m_weight;
+        break;
+      default:
+        break;
+    }
+    node.m_queue = Node.DETACHED;
+  }
+
+  private void onAccess(Node<K, V> node) {
+    m_sketch.increment(node.m_key);
+    switch (node.m_queue) {
+      case Node.WINDOW:
+        m_window.moveToBack(node);
+        break;
+      case Node.PROBATION:
+        m_probation.remove(node);
+        node.m_queue = Node.PROTECTED;
+        m_protected.addLast(node);
+        m_protectedWeight += node.m_weight;
+        demoteFromProtected();
+        break;
+      case Node.PROTECTED:
+        m_protected.moveToBack(node);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void demoteFromProtected() {
+    while (m_protectedWeight > m_maximumProtectedWeight) {
+      Node<K, V> node = m_protected.peekFirst();
+      if (node == null) {
+        return;
+      }
+      m_protected.remove(node);
+      m_protectedWeight -= node.m_weight;
+      node.m_queue = Node.PROBATION;
+      m_probation.addLast(node);
+    }
+  }
+
+  private void evictEntries() {
+    // entries leaving the window compete with the least recently used entries of the main space
+    Deque<Node<K, V>> candidates = new ArrayDeque<>();
+    while (m_windowWeight > m_maximumWindowWeight) {
+      Node<K, V> node = m_window.peekFirst();
+      if (node == null) {
+        break;
+      }
+      unlink(node);
+      candidates.add(node);
+    }
+    for (Node<K, V> candidate : candidates) {
+      boolean admitted = true;
+      while (m_weightedSize > m_maximumWeight) {
+        Node<K, V> victim = m_probation.peekFirst();
+        if (victim == null) {
+          victim = m_protected.peekFirst();
+        }
+        if (victim == null || !admit(candidate.m_key, victim.m_key)) {
+          evict(candidate);
+          admitted = false;
+          break;
+        }
+        evict(victim);
+      }
+      if (admitted) {
+        candidate.m_queue = Node.PROBATION;
+        m_probation.addLast(candidate);
+      }
+    }
+
+    // window entries may exceed the maximum weight on their own
+    while (m_weightedSize > m_maximumWeight) {
+      Node<K, V> victim = m_probation.peekFirst();
+      if (victim == null) {
+        victim = m_protected.peekFirst();
+      }
+      if (victim == null) {
+        victim = m_window.peekFirst();
+      }
+      if (victim == null) {
+        return;
+      }
+      evict(victim);
+    }
+  }
+
+  private boolean admit(K candidateKey, K victimKey) {
+    int candidateFrequency = m_sketch.frequency(candidateKey);
+    int victimFrequency = m_sketch.frequency(victimKey);
+    if (candidateFrequency > victimFrequency) {
+      return true;
+    }
+    if (candidateFrequency >= ADMIT_HASHDOS_THRESHOLD) {
+      return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+    }
+    return false;
+  }
+
+  private void evict(Node<K, V> node) {
+    unlink(node);
+    node.m_queue = Node.DEAD;
+    m_weightedSize -= node.m_weight;
+    if (m_data.remove(node.m_key, node)) {
+      m_evictionCount.increment();
+      execEntryEvicted(node.m_key, node.m_value);
+    }
+  }
+
+  private static final class Node<K, V> {
+    static final byte DETACHED = 0;
+    static final byte WINDOW = 1;
+    static final byte PROBATION = 2;
+    static final byte PROTECTED = 3;
+    static final byte DEAD = 4;
+
+    final K m_key;
+    volatile V m_value;
+    int m_weight;
+
+    // guarded by m_evictionLock
+    byte m_queue;
+    Node<K, V> m_prev;
+    Node<K, V> m_next;
+
+    Node(K key, V value, int weight) {
+      m_key = key;
+      m_value = value;
+      m_weight = weight;
+    }
+  }
+
+  /**
+   * Doubly-linked list of nodes, the least recently used node first.
+   */
+  private static final class P_AccessOrderQueue<K, V> {
+    private Node<K, V> m_first;
+    private Node<K, V> m_last;
+
+    Node<K, V> peekFirst() {
+      return m_first;
+    }
+
+    void addLast(Node<K, V> node) {
+      node.m_prev = m_last;
+      node.m_next = null;
+      if (m_last == null) {
+        m_first = node;
+      }
+      else {
+        m_last.m_next = node;
+      }
+      m_last = node;
+    }
+
+    void remove(Node<K, V> node) {
+      if (node.m_prev == null) {
+        m_first = node.m_next;
+      }
+      else {
+        node.m_prev.m_next = node.m_next;
+      }
+      if (node.m_next == null) {
+        m_last = node.m_prev;
+      }
+      else {
+        node.m_next.m_prev = node.m_prev;
+      }
+      node.m_prev = null;
+      node.m_next = null;
+    }
+
+    void moveToBack(Node<K, V> node) {
+      if (node != m_last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+    void clear() {
+      m_first = null;
+      m_last = null;
+    }
+  }
+
+  private final class P_EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new P_EntryIterator();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      Node<K, V> node = m_data.get(e.getKey());
+      return node != null && node.m_value.equals(e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return ConcurrentTinyLfuMap.this.remove(e.getKey(), e.getValue());
+    }
+
+    @Override
+    public int size() {
+      return ConcurrentTinyLfuMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      ConcurrentTinyLfuMap.this.clear();
+    }
+  }
+
+  private final class P_EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<Node<K, V>> m_nodeIterator = m_data.values().iterator();
+    private K m_lastReturnedKey;
+
+    @Override
+    public boolean hasNext() {
+      return m_nodeIterator.hasNext();
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      Node<K, V> node = m_nodeIterator.next();
+      m_lastReturnedKey = node.m_key;
+      return new P_WriteThroughEntry(node.m_key, node.m_value);
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturnedKey == null) {
+        throw new IllegalStateException();
+      }
+      ConcurrentTinyLfuMap.this.remove(m_lastReturnedKey);
+      m_lastReturnedKey = null;
+    }
+  }
+
+  private final class P_WriteThroughEntry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    P_WriteThroughEntry(K key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      V v = super.setValue(value);
+      ConcurrentTinyLfuMap.this.put(getKey(), value);
+      return v;
+    }
+  }
+}
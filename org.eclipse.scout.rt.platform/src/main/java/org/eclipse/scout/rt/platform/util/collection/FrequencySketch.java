@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+/**
+ * Probabilistic estimate of how often an element was seen recently (count-min sketch with 4-bit counters).
+ * <p>
+ * Each element is mapped to four counters, which are stored in one of the <tt>long</tt> values of the table (16
+ * counters per <tt>long</tt>). The estimated frequency is the minimum of these counters and therefore at most 15. All
+ * counters are halved after a sample of <tt>10 * capacity</tt> increments so that the sketch adapts to changing access
+ * patterns.
+ * <p>
+ * This class is <em>not</em> thread-safe.
+ *
+ * @since 23.2
+ */
+final class FrequencySketch {
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+  private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final int MAXIMUM_TABLE_LENGTH = 1 << 20;
+
+  private long[] m_table;
+  private int m_tableMask;
+  private int m_sampleSize;
+  private int m_additions;
+
+  FrequencySketch(long expectedSize) {
+    ensureCapacity(expectedSize);
+  }
+
+  /**
+   * Resizes the table if it is too small for the expected number of elements. The counters are kept: an element is
+   * mapped to a slot of the larger table whose index has the same low bits as its slot in the smaller table, so every
+   * slot of the larger table starts with the counters of that slot.
+   */
+  void ensureCapacity(long expectedSize) {
+    int capacity = (int) Math.min(Math.max(expectedSize, 16L), MAXIMUM_TABLE_LENGTH);
+    if (m_table != null && m_table.length >= capacity) {
+      return;
+    }
+    long[] table = new long[Integer.highestOneBit(capacity - 1) << 1];
+    if (m_table != null) {
+      for (int i = 0; i < table.length; i++) {
+        table[i] = m_table[i & m_tableMask];
+      }
+    }
+    m_table = table;
+    m_tableMask = table.length - 1;
+    m_sampleSize = 10 * table.length;
+  }
+
+  int capacity() {
+    return m_table.length;
+  }
+
+  /**
+   * @return estimated number of occurrences of the element (0..15)
+   */
+  int frequency(Object e) {
+    int hash = spread(e.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((m_table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increments the counters of the element if they are not saturated yet.
+   */
+  void increment(Object e) {
+    int hash = spread(e.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++m_additions == m_sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xfL << offset;
+    if ((m_table[index] & mask) != mask) {
+      m_table[index] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halves all counters.
+   */
+  private void reset() {
+    int oddCount = 0;
+    for (int i = 0; i < m_table.length; i++) {
+      oddCount += Long.bitCount(m_table[i] & ONE_MASK);
+      m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+    }
+    m_additions = (m_additions - (oddCount >>> 2)) >>> 1;
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & m_tableMask;
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.security;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.AllPermission;
+import java.security.Permission;
+
+import org.eclipse.scout.rt.security.fixture.AFixturePermission;
+import org.eclipse.scout.rt.security.fixture.DFixturePermission;
+import org.eclipse.scout.rt.security.fixture.JFixturePermission;
+import org.eclipse.scout.rt.security.fixture.SFixturePermission;
+import org.eclipse.scout.rt.security.fixture.TestPermissionLevels;
+import org.junit.Test;
+
+/**
+ * Tests the compiled lookup of a read-only {@link DefaultPermissionCollection}. The results must be the same as for a
+ * collection which is not read-only yet.
+ */
+public class DefaultPermissionCollectionTest {
+
+  @Test
+  public void testStaticPermission() {
+    for (boolean readOnly : new boolean[]{false, true}) {
+      DefaultPermissionCollection permissions = new DefaultPermissionCollection();
+      permissions.add(new SFixturePermission(), PermissionLevel.ALL);
+      setReadOnly(permissions, readOnly);
+
+      assertTrue(permissions.implies((IPermission) new SFixturePermission()));
+      assertTrue(permissions.implies((Permission) new SFixturePermission()));
+      assertEquals(PermissionLevel.ALL, permissions.getGrantedPermissionLevel(new SFixturePermission()));
+      assertFalse(permissions.implies((IPermission) new AFixturePermission()));
+      assertEquals(PermissionLevel.NONE, permissions.getGrantedPermissionLevel(new AFixturePermission()));
+      assertFalse(permissions.implies((IPermission) null));
+    }
+  }
+
+  @Test
+  public void testStaticPermissionLevels() {
+    for (boolean readOnly : new boolean[]{false, true}) {
+      DefaultPermissionCollection permissions = new DefaultPermissionCollection();
+      permissions.add(new SFixturePermission(), PermissionLevel.NONE);
+      setReadOnly(permissions, readOnly);
+      assertFalse(permissions.implies((IPermission) new SFixturePermission()));
+      assertEquals(PermissionLevel.NONE, permissions.getGrantedPermissionLevel(new SFixturePermission()));
+
+      permissions = new DefaultPermissionCollection();
+      permissions.add(new SFixturePermission(), PermissionLevel.NONE);
+      permissions.add(new SFixturePermission(), PermissionLevel.ALL);
+      setReadOnly(permissions, readOnly);
+      assertTrue(permissions.implies((IPermission) new SFixturePermission()));
+      assertEquals(PermissionLevel.UNDEFINED, permissions.getGrantedPermissionLevel(new SFixturePermission()));
+
+      permissions = new DefaultPermissionCollection();
+      permissions.add(new SFixturePermission(), PermissionLevel.ALL);
+      permissions.add(new SFixturePermission(), PermissionLevel.ALL);
+      setReadOnly(permissions, readOnly);
+      assertTrue(permissions.implies((IPermission) new SFixturePermission()));
+      assertEquals(PermissionLevel.ALL, permissions.getGrantedPermissionLevel(new SFixturePermission()));
+    }
+  }
+
+  @Test
+  public void testDynamicPermission() {
+    for (boolean readOnly : new boolean[]{false, true}) {
+      DefaultPermissionCollection permissions = new DefaultPermissionCollection();
+      permissions.add(new AFixturePermission(), TestPermissionLevels.DENIED);
+      setReadOnly(permissions, readOnly);
+      assertFalse(permissions.implies((IPermission) new AFixturePermission()));
+      assertEquals(TestPermissionLevels.DENIED, permissions.getGrantedPermissionLevel(new AFixturePermission()));
+
+      permissions = new DefaultPermissionCollection();
+      permissions.add(new AFixturePermission(), TestPermissionLevels.DENIED);
+      permissions.add(new AFixturePermission(), TestPermissionLevels.GRANTED);
+      setReadOnly(permissions, readOnly);
+      assertTrue(permissions.implies((IPermission) new AFixturePermission()));
+      assertEquals(PermissionLevel.UNDEFINED, permissions.getGrantedPermissionLevel(new AFixturePermission()));
+      assertFalse(permissions.implies((IPermission) new DFixturePermission()));
+    }
+  }
+
+  @Test
+  public void testJavaPermission() {
+    for (boolean readOnly : new boolean[]{false, true}) {
+      DefaultPermissionCollection permissions = new DefaultPermissionCollection();
+      permissions.add(new JFixturePermission());
+      setReadOnly(permissions, readOnly);
+      assertTrue(permissions.implies(new JFixturePermission()));
+      assertFalse(permissions.implies(new AllPermission()));
+      assertFalse(permissions.implies((Permission) null));
+    }
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    DefaultPermissionCollection permissions = new DefaultPermissionCollection();
+    permissions.add(new SFixturePermission(), PermissionLevel.ALL);
+    permissions.add(new AFixturePermission(), TestPermissionLevels.GRANTED);
+    permissions.add(new JFixturePermission());
+    permissions.setReadOnly();
+
+    DefaultPermissionCollection copy = serializeAndDeserialize(permissions);
+    assertTrue(copy.isReadOnly());
+    assertTrue(copy.implies((IPermission) new SFixturePermission()));
+    assertEquals(PermissionLevel.ALL, copy.getGrantedPermissionLevel(new SFixturePermission()));
+    assertTrue(copy.implies((IPermission) new AFixturePermission()));
+    assertEquals(TestPermissionLevels.GRANTED, copy.getGrantedPermissionLevel(new AFixturePermission()));
+    assertTrue(copy.implies(new JFixturePermission()));
+    assertFalse(copy.implies((IPermission) new DFixturePermission()));
+  }
+
+  protected void setReadOnly(DefaultPermissionCollection permissions, boolean readOnly) {
+    if (readOnly) {
+      permissions.setReadOnly();
+    }
+  }
+
+  protected DefaultPermissionCollection serializeAndDeserialize(DefaultPermissionCollection permissions) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(permissions);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (DefaultPermissionCollection) in.readObject();
+    }
+  }
+}
@@ -40,7 +40,9 @@ import org.eclipse.scout.rt.platform.context.RunContext;
  * <tt>'CustomAccessControlService'</tt> and <tt>'CustomServerAccessControlService'</tt>.
  * <p>
  * This class caches permission collections. As default, the cache is transactional and with a time to live duration of
- * one hour. To change any of these properties override {@link #createCacheBuilder()}.
+ * one hour. To change any of these properties override {@link #createCacheBuilder()}. A read-only
+ * {@link DefaultPermissionCollection} compiles its permissions once, hence the compiled lookup structure is kept per
+ * user as long as the cache entry is valid.
  *
  * @param <K>
  *          the type of keys maintained the cache
@@ -135,6 +137,9 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
    * Implement this method to load a {@link PermissionCollection} for a given cache key. This method must be valid
    * <b>only</b> in the server. Client does never call this method but loads its value directly from the server cache.
    *
+   * The returned collection should be read-only (see {@link IPermissionCollection#setReadOnly()}) as it is shared by
+   * all threads of the user.
+   *
    * @return new PermissionCollection for the given cache key
    */
   protected abstract IPermissionCollection execLoadPermissions(K cacheKey);
@@ -11,12 +11,14 @@ package org.eclipse.scout.rt.security;
 
 import java.security.Permission;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -28,6 +30,13 @@ import org.eclipse.scout.rt.platform.util.EnumerationUtility;
  * <p>
  * Unlike other permission collections, this implementation utilize the fact than an {@link IPermission} can only be
  * implied by another {@link IPermission} with the same name.
+ * <p>
+ * As soon as the collection is read-only (see {@link #setReadOnly()}) its permissions are compiled into a lookup
+ * structure which answers {@link #implies(IPermission)} and {@link #getGrantedPermissionLevel(IPermission)} without
+ * creating any objects: each permission name refers to arrays of the granted permission classes together with their
+ * precomputed level. Permissions which evaluate data (i.e. override {@link AbstractPermission#matches(IPermission)},
+ * {@link AbstractPermission#implies(IPermission)} or {@link AbstractPermission#evalPermission(IPermission)}) are still
+ * asked one by one.
  */
 public class DefaultPermissionCollection extends AbstractPermissionCollection {
   private static final long serialVersionUID = 1L;
@@ -35,6 +44,8 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
   /** content is effective immutable and protected by {@link #isReadOnly()} */
   private final Map<String, List<IPermission>> m_permissions;
   private final List<Permission> m_javaPermissions;
+  /** created when read-only, see {@link #getCompiledPermissions()} */
+  private transient volatile P_CompiledPermissions m_compiledPermissions;
 
   public DefaultPermissionCollection() {
     m_permissions = new HashMap<>();
@@ -64,6 +75,7 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
   public void setReadOnly() {
     super.setReadOnly();
     assignPermissionCollectionInternal();
+    m_compiledPermissions = compilePermissions();
   }
 
   protected void assignPermissionCollectionInternal() {
@@ -81,6 +93,10 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
       return implies((IPermission) permission);
     }
     else {
+      P_CompiledPermissions compiledPermissions = getCompiledPermissions();
+      if (compiledPermissions != null) {
+        return compiledPermissions.implies(permission);
+      }
       return m_javaPermissions.stream().anyMatch(def -> def.implies(permission));
     }
   }
@@ -90,6 +106,10 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     if (permission == null) {
       return false;
     }
+    P_CompiledPermissions compiledPermissions = getCompiledPermissions();
+    if (compiledPermissions != null) {
+      return compiledPermissions.implies(permission);
+    }
     return m_permissions.getOrDefault(permission.getName(), Collections.emptyList()).stream().anyMatch(def -> def.implies(permission));
   }
 
@@ -98,6 +118,10 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     if (permission == null) {
       return PermissionLevel.UNDEFINED;
     }
+    P_CompiledPermissions compiledPermissions = getCompiledPermissions();
+    if (compiledPermissions != null) {
+      return compiledPermissions.getGrantedPermissionLevel(permission);
+    }
 
     Set<PermissionLevel> grantedLevels = stream(permission)
         .map(IPermission::getLevel)
@@ -132,4 +156,166 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     return EnumerationUtility.asEnumeration(
         Stream.concat(stream().map(Permission.class::cast), m_javaPermissions.stream()).iterator());
   }
+
+  /**
+   * @return the compiled permissions or <code>null</code> if this collection is not read-only yet. After
+   *         deserialization, the permissions are compiled again on first access.
+   */
+  private P_CompiledPermissions getCompiledPermissions() {
+    P_CompiledPermissions compiledPermissions = m_compiledPermissions;
+    if (compiledPermissions == null && isReadOnly()) {
+      // concurrent compilations create equal results
+      compiledPermissions = compilePermissions();
+      m_compiledPermissions = compiledPermissions;
+    }
+    return compiledPermissions;
+  }
+
+  private P_CompiledPermissions compilePermissions() {
+    Map<String, P_CompiledName> names = new HashMap<>();
+    m_permissions.forEach((name, permissions) -> names.put(name, new P_CompiledName(permissions)));
+    return new P_CompiledPermissions(names, m_javaPermissions.toArray(new Permission[0]));
+  }
+
+  /**
+   * @return <code>true</code> if permissions of the given class are equal to each other as long as their name and
+   *         level are equal, i.e. the class does not override any of the methods used to evaluate a permission.
+   */
+  private static boolean isStaticPermissionClass(Class<?> permissionClass) {
+    return STATIC_PERMISSION_CLASSES.get(permissionClass);
+  }
+
+  private static final ClassValue<Boolean> STATIC_PERMISSION_CLASSES = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      if (!AbstractPermission.class.isAssignableFrom(type)) {
+        return false;
+      }
+      for (Class<?> c = type; c != AbstractPermission.class; c = c.getSuperclass()) {
+        for (String methodName : new String[]{"matches", "implies", "evalPermission"}) {
+          try {
+            c.getDeclaredMethod(methodName, IPermission.class);
+            return false;
+          }
+          catch (NoSuchMethodException e) { // NOSONAR
+            // not overridden in this class
+          }
+        }
+      }
+      return true;
+    }
+  };
+
+  private static final class P_CompiledPermissions {
+    private final Map<String, P_CompiledName> m_names;
+    private final Permission[] m_javaPermissions;
+
+    private P_CompiledPermissions(Map<String, P_CompiledName> names, Permission[] javaPermissions) {
+      m_names = names;
+      m_javaPermissions = javaPermissions;
+    }
+
+    private boolean implies(Permission permission) {
+      for (Permission def : m_javaPermissions) {
+        if (def.implies(permission)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean implies(IPermission permission) {
+      P_CompiledName name = m_names.get(permission.getName());
+      return name != null && name.implies(permission);
+    }
+
+    private PermissionLevel getGrantedPermissionLevel(IPermission permission) {
+      P_CompiledName name = m_names.get(permission.getName());
+      return name == null ? PermissionLevel.NONE : name.getGrantedPermissionLevel(permission);
+    }
+  }
+
+  /**
+   * Permissions with the same name. Permissions of static classes (see {@link #isStaticPermissionClass(Class)}) are
+   * reduced to one slot per class, all other permissions are evaluated as they are.
+   */
+  private static final class P_CompiledName {
+    private final Class<?>[] m_staticClasses;
+    private final boolean[] m_staticImplied;
+    private final PermissionLevel[] m_staticLevels;
+    private final IPermission[] m_dynamicPermissions;
+
+    private P_CompiledName(List<IPermission> permissions) {
+      List<Class<?>> staticClasses = new ArrayList<>();
+      List<IPermission> dynamicPermissions = new ArrayList<>();
+      boolean[] staticImplied = new boolean[permissions.size()];
+      PermissionLevel[] staticLevels = new PermissionLevel[permissions.size()];
+      for (IPermission permission : permissions) {
+        if (!isStaticPermissionClass(permission.getClass())) {
+          dynamicPermissions.add(permission);
+          continue;
+        }
+        int i = staticClasses.indexOf(permission.getClass());
+        PermissionLevel level = permission.getLevel();
+        if (i < 0) {
+          i = staticClasses.size();
+          staticClasses.add(permission.getClass());
+          staticLevels[i] = level;
+        }
+        else {
+          staticLevels[i] = combineLevels(staticLevels[i], level);
+        }
+        staticImplied[i] |= level != PermissionLevel.NONE;
+      }
+      m_staticClasses = staticClasses.toArray(new Class<?>[0]);
+      m_staticImplied = Arrays.copyOf(staticImplied, m_staticClasses.length);
+      m_staticLevels = Arrays.copyOf(staticLevels, m_staticClasses.length);
+      m_dynamicPermissions = dynamicPermissions.toArray(new IPermission[0]);
+    }
+
+    private boolean implies(IPermission permission) {
+      Class<?> permissionClass = permission.getClass();
+      for (int i = 0; i < m_staticClasses.length; i++) {
+        if (m_staticClasses[i] == permissionClass) {
+          if (m_staticImplied[i]) {
+            return true;
+          }
+          break;
+        }
+      }
+      for (IPermission def : m_dynamicPermissions) {
+        if (def.implies(permission)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private PermissionLevel getGrantedPermissionLevel(IPermission permission) {
+      Class<?> permissionClass = permission.getClass();
+      boolean granted = false;
+      PermissionLevel grantedLevel = null;
+      for (int i = 0; i < m_staticClasses.length; i++) {
+        if (m_staticClasses[i] == permissionClass) {
+          granted = true;
+          grantedLevel = m_staticLevels[i];
+          break;
+        }
+      }
+      for (IPermission def : m_dynamicPermissions) {
+        if (def.matches(permission)) {
+          grantedLevel = granted ? combineLevels(grantedLevel, def.getLevel()) : def.getLevel();
+          granted = true;
+        }
+      }
+      return granted ? grantedLevel : PermissionLevel.NONE; // no such permission was granted
+    }
+
+    /**
+     * Permissions with different levels are matching: the concrete level depends on the data.
+     */
+    private static PermissionLevel combineLevels(PermissionLevel a, PermissionLevel b) {
+      return Objects.equals(a, b) ? a : PermissionLevel.UNDEFINED;
+    }
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#insertBatch(String, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class BatchModificationTest {
+
+  @Test
+  public void testInsertBatchInChunks() {
+    SqlServiceMock sql = new P_SqlServiceMock();
+    int[] updateCounts = sql.insertBatch("INSERT INTO T (A, B) VALUES (:{a}, :b)", new NVPair("a", new Long[]{1L, 2L, 3L}), new NVPair("b", "x"));
+
+    assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+    String protocol = sql.getProtocol().toString();
+    assertEquals(1, countOccurrences(protocol, "Connection.prepareStatement"));
+    assertEquals(3, countOccurrences(protocol, "PreparedStatement.addBatch"));
+    assertEquals(2, countOccurrences(protocol, "PreparedStatement.executeBatch"));
+  }
+
+  @Test
+  public void testInsertBatchWithoutRows() {
+    SqlServiceMock sql = new P_SqlServiceMock();
+    int[] updateCounts = sql.insertBatch("INSERT INTO T (A) VALUES (:{a})", new NVPair("a", new Long[0]));
+
+    assertEquals(0, updateCounts.length);
+    assertEquals(0, countOccurrences(sql.getProtocol().toString(), "PreparedStatement.executeBatch"));
+  }
+
+  private static int countOccurrences(String s, String part) {
+    int count = 0;
+    int index = s.indexOf(part);
+    while (index >= 0) {
+      count++;
+      index = s.indexOf(part, index + part.length());
+    }
+    return count;
+  }
+
+  private static class P_SqlServiceMock extends SqlServiceMock {
+
+    @Override
+    protected int getConfiguredJdbcBatchSize() {
+      return 2;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectCursor(String, ISqlRowMapper, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SelectCursorTest {
+
+  private static final Object[][] DATA = new Object[][]{
+      new Object[]{1L, "abc"},
+      new Object[]{2L, null},
+      new Object[]{3L, "def"},
+  };
+
+  private SqlServiceMock m_sqlService;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_sqlService.setResultData(DATA);
+  }
+
+  @Test
+  public void testObjectArray() {
+    try (ISqlCursor<Object[]> cursor = m_sqlService.selectCursor("SELECT A, B FROM T WHERE C = :c", SqlRowMappers.objectArray(), new NVPair("c", 1))) {
+      for (Object[] expectedRow : DATA) {
+        assertTrue(cursor.hasNext());
+        assertArrayEquals(expectedRow, cursor.next());
+      }
+      assertFalse(cursor.hasNext());
+      assertTrue(cursor.isClosed());
+      assertEquals(3, cursor.getRowCount());
+    }
+  }
+
+  @Test
+  public void testColumnStream() {
+    long[] values;
+    try (ISqlCursor<Long> cursor = m_sqlService.selectCursor("SELECT A FROM T", SqlRowMappers.column(1, Long.class))) {
+      values = cursor.stream().mapToLong(Long::longValue).toArray();
+    }
+    assertArrayEquals(new long[]{1L, 2L, 3L}, values);
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testClosedCursor() {
+    ISqlCursor<Object[]> cursor = m_sqlService.selectCursor("SELECT A, B FROM T", SqlRowMappers.objectArray());
+    cursor.next();
+    cursor.close();
+    assertTrue(cursor.isClosed());
+    assertFalse(cursor.hasNext());
+    cursor.next();
+  }
+
+  @Test
+  public void testToAttributeName() {
+    assertEquals("personNr", SqlRowMappers.toAttributeName("PERSON_NR"));
+    assertEquals("name", SqlRowMappers.toAttributeName("Name"));
+    assertEquals("a", SqlRowMappers.toAttributeName("_A"));
+  }
+}
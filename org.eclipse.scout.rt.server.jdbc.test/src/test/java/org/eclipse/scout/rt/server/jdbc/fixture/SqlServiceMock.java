@@ -89,6 +89,12 @@ public class SqlServiceMock extends AbstractSqlService {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    createPlainTextLog(s, bindBases);
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), new PreparedStatementCache(1), null, getJdbcBatchSize());
+  }
+
   @Override
   protected Connection getTransaction() {
     return new ConnectionMock(m_protocol, getResultData()).getConnection();
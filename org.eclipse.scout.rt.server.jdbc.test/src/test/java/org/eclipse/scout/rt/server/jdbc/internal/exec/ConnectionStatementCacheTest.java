@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConnectionStatementCacheTest {
+
+  private List<PreparedStatement> m_prepared;
+  private List<PreparedStatement> m_closed;
+  private Connection m_conn;
+  private StatementCacheStatistics m_statistics;
+  private ConnectionStatementCache m_cache;
+
+  @Before
+  public void before() {
+    m_prepared = new ArrayList<>();
+    m_closed = new ArrayList<>();
+    m_conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      if ("prepareStatement".equals(method.getName())) {
+        PreparedStatement ps = createPreparedStatement();
+        m_prepared.add(ps);
+        return ps;
+      }
+      return null;
+    });
+    m_statistics = new StatementCacheStatistics();
+    m_cache = new ConnectionStatementCache(m_conn, 2, m_statistics);
+  }
+
+  @Test
+  public void testReuseAcrossReleases() throws Exception {
+    PreparedStatement ps = m_cache.getPreparedStatement(m_conn, "SELECT A FROM T");
+    m_cache.releasePreparedStatement(ps);
+    assertSame(ps, m_cache.getPreparedStatement(m_conn, "SELECT  A\n  FROM T "));
+    m_cache.releasePreparedStatement(ps);
+
+    assertEquals(1, m_prepared.size());
+    assertTrue(m_closed.isEmpty());
+    assertEquals(1, m_statistics.getHitCount());
+    assertEquals(1, m_statistics.getMissCount());
+  }
+
+  @Test
+  public void testStatementInUseIsNotShared() throws Exception {
+    PreparedStatement outer = m_cache.getPreparedStatement(m_conn, "SELECT A FROM T");
+    PreparedStatement inner = m_cache.getPreparedStatement(m_conn, "SELECT A FROM T");
+    assertNotSame(outer, inner);
+
+    m_cache.releasePreparedStatement(inner);
+    assertEquals(List.of(inner), m_closed);
+    m_cache.releasePreparedStatement(outer);
+    assertEquals(List.of(inner), m_closed);
+    assertEquals(1, m_cache.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() throws Exception {
+    PreparedStatement a = m_cache.getPreparedStatement(m_conn, "SELECT A FROM T");
+    m_cache.releasePreparedStatement(a);
+    PreparedStatement b = m_cache.getPreparedStatement(m_conn, "SELECT B FROM T");
+    m_cache.releasePreparedStatement(b);
+    m_cache.releasePreparedStatement(m_cache.getPreparedStatement(m_conn, "SELECT A FROM T"));
+    PreparedStatement c = m_cache.getPreparedStatement(m_conn, "SELECT C FROM T");
+    m_cache.releasePreparedStatement(c);
+
+    assertEquals(2, m_cache.size());
+    assertEquals(List.of(b), m_closed);
+    assertEquals(1, m_statistics.getEvictionCount());
+  }
+
+  @Test
+  public void testStatementInUseIsClosedUponReleaseWhenEvicted() throws Exception {
+    PreparedStatement a = m_cache.getPreparedStatement(m_conn, "SELECT A FROM T");
+    m_cache.releasePreparedStatement(m_cache.getPreparedStatement(m_conn, "SELECT B FROM T"));
+    m_cache.releasePreparedStatement(m_cache.getPreparedStatement(m_conn, "SELECT C FROM T"));
+    assertTrue(m_closed.isEmpty());
+
+    m_cache.releasePreparedStatement(a);
+    assertEquals(List.of(a), m_closed);
+  }
+
+  @Test
+  public void testOtherConnectionIsNotCached() throws Exception {
+    ConnectionStatementCache cache = new ConnectionStatementCache(m_conn, 2, m_statistics);
+    Connection other = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> createPreparedStatement());
+    PreparedStatement ps = cache.getPreparedStatement(other, "SELECT A FROM T");
+    cache.releasePreparedStatement(ps);
+
+    assertEquals(0, cache.size());
+    assertEquals(List.of(ps), m_closed);
+  }
+
+  @Test
+  public void testNormalizeSql() {
+    assertEquals("SELECT A FROM T WHERE B = 'x  y'", ConnectionStatementCache.normalizeSql("  SELECT A\n\tFROM   T\r\nWHERE B = 'x  y'  "));
+    assertEquals("SELECT \"a  b\" FROM T", ConnectionStatementCache.normalizeSql("SELECT \"a  b\"  FROM T"));
+    assertEquals("SELECT A /* x  y */ FROM T", ConnectionStatementCache.normalizeSql("SELECT A  /* x  y */ FROM T"));
+    assertEquals("SELECT A -- x  y\n FROM T", ConnectionStatementCache.normalizeSql("SELECT A -- x  y\n  FROM T"));
+  }
+
+  private PreparedStatement createPreparedStatement() {
+    return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "close":
+          m_closed.add((PreparedStatement) proxy);
+          return null;
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          return null;
+      }
+    });
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ParsedStatementCacheTest {
+
+  private static final String STATEMENT = "SELECT A, B FROM T WHERE C = :c AND D IN :{d} AND E = $$sysdate INTO :a, :b";
+
+  @Test
+  public void testCacheHit() {
+    ParsedStatementCache cache = BEANS.get(ParsedStatementCache.class);
+    String stm = STATEMENT + " /* " + getClass().getName() + " */";
+    long hits = cache.getHitCount();
+    long misses = cache.getMissCount();
+
+    ParsedStatement parsed = cache.get(stm);
+    assertSame(parsed, cache.get(stm));
+    assertEquals(hits + 1, cache.getHitCount());
+    assertEquals(misses + 1, cache.getMissCount());
+  }
+
+  @Test
+  public void testModelsAreCopies() {
+    ParsedStatement parsed = ParsedStatement.parse(STATEMENT);
+    BindModel bindModel1 = parsed.createBindModel();
+    BindModel bindModel2 = parsed.createBindModel();
+    assertEquals(bindModel1.getAllTokens().length, bindModel2.getAllTokens().length);
+    assertEquals(2, bindModel1.getIOTokens().length);
+    for (int i = 0; i < bindModel1.getIOTokens().length; i++) {
+      assertNotSame(bindModel1.getIOTokens()[i], bindModel2.getIOTokens()[i]);
+    }
+
+    ValueInputToken batchToken = (ValueInputToken) bindModel1.getIOTokens()[1];
+    assertEquals("d", batchToken.getName());
+    assertTrue(batchToken.isBatch());
+    assertEquals("IN", batchToken.getParsedOp());
+
+    // modifying a token of one model does not affect other models
+    IToken token = bindModel1.getIOTokens()[0];
+    token.setReplaceToken("?");
+    assertEquals(token.getParsedToken(), parsed.createBindModel().getIOTokens()[0].getReplaceToken());
+    assertEquals(bindModel2.getFilteredStatement(), parsed.createBindModel().getFilteredStatement());
+
+    IntoModel intoModel = parsed.createIntoModel();
+    assertEquals(2, intoModel.getOutputTokens().length);
+    assertNotSame(intoModel.getOutputTokens()[0], parsed.createIntoModel().getOutputTokens()[0]);
+    assertEquals("a", intoModel.getOutputTokens()[0].getName());
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ConcurrentSqlConnectionPoolTest {
+
+  private SqlServiceMock m_service;
+  private ConcurrentSqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_service = new SqlServiceMock();
+    m_pool = new P_ConcurrentSqlConnectionPool();
+    m_pool.initialize("test", 1, TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testLeaseAndReuse() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    assertNotNull(conn);
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_service));
+  }
+
+  @Test
+  public void testHandOffToWaitingThread() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+
+    // wait until the job is enqueued as waiter
+    for (int i = 0; i < 100 && !m_pool.getInventory().contains("Waiting: 1"); i++) {
+      SleepUtil.sleepSafe(10, TimeUnit.MILLISECONDS);
+    }
+    assertFalse(future.isDone());
+
+    m_pool.releaseConnection(conn);
+    assertSame(conn, future.awaitDoneAndGet(1, TimeUnit.MINUTES));
+  }
+
+  @Test
+  public void testDirtyConnectionIsDiscarded() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    conn.close();
+    m_pool.releaseConnection(conn);
+
+    Connection newConn = m_pool.leaseConnection(m_service);
+    assertNotSame(conn, newConn);
+    assertFalse(newConn.isClosed());
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testLeaseAfterDestroy() throws Exception {
+    m_pool.destroy();
+    m_pool.leaseConnection(m_service);
+  }
+
+  private static class P_ConcurrentSqlConnectionPool extends ConcurrentSqlConnectionPool {
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) {
+      AtomicBoolean closed = new AtomicBoolean();
+      return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "close":
+            closed.set(true);
+            return null;
+          case "isClosed":
+            return closed.get();
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          case "equals":
+            return proxy == args[0];
+          case "toString":
+            return "ConnectionMock@" + System.identityHashCode(proxy);
+          default:
+            return null;
+        }
+      });
+    }
+  }
+}
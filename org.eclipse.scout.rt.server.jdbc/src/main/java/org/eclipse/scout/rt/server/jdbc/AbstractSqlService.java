@@ -45,8 +45,12 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcConnectionStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcCursorFetchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConcurrentProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
@@ -59,8 +63,12 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiUrlPkgPrefixe
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlPasswordProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMemberIdProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ConcurrentSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
@@ -74,7 +82,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
 
-  private volatile SqlConnectionPool m_pool;
+  private volatile ISqlConnectionPool m_pool;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -87,9 +95,13 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final boolean m_jdbcPoolConcurrent;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_jdbcConnectionStatementCacheSize;
+  private final int m_jdbcBatchSize;
+  private final int m_jdbcCursorFetchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,9 +128,13 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcConnectionStatementCacheSize = getPropertyValue(SqlJdbcConnectionStatementCacheSizeProperty.class, getConfiguredJdbcConnectionStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
+    m_jdbcCursorFetchSize = getPropertyValue(SqlJdbcCursorFetchSizeProperty.class, getConfiguredJdbcCursorFetchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolConcurrent = getPropertyValue(SqlJdbcPoolConcurrentProperty.class, getConfiguredJdbcPoolConcurrent());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -247,12 +263,53 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return <code>true</code> to use a {@link ConcurrentSqlConnectionPool} instead of a {@link SqlConnectionPool}.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(155)
+  protected boolean getConfiguredJdbcPoolConcurrent() {
+    return false;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @return maximum number of prepared statements cached per pooled connection across transactions, or <code>0</code>
+   *         to only cache statements within a transaction (see {@link #getConfiguredJdbcStatementCacheSize()}). Only
+   *         used with a direct JDBC connection. Note that cached statements keep database cursors open.
+   * @see ConnectionStatementCache
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(161)
+  protected int getConfiguredJdbcConnectionStatementCacheSize() {
+    return 0;
+  }
+
+  /**
+   * @return maximum number of rows sent to the database in one JDBC batch
+   * @see #insertBatch(String, Object...)
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return 1000;
+  }
+
+  /**
+   * @return JDBC fetch size used for cursors
+   * @see #selectCursor(String, ISqlRowMapper, Object...)
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(166)
+  protected int getConfiguredJdbcCursorFetchSize() {
+    return 500;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -436,6 +493,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcConnectionStatementCacheSize() {
+    return m_jdbcConnectionStatementCacheSize;
+  }
+
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
+  public int getJdbcCursorFetchSize() {
+    return m_jdbcCursorFetchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -484,19 +553,35 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public boolean isJdbcPoolConcurrent() {
+    return m_jdbcPoolConcurrent;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
   @Override
   public String getInventory() {
-    final SqlConnectionPool pool = m_pool;
+    final ISqlConnectionPool pool = m_pool;
     if (pool != null) {
       return pool.getInventory();
     }
     return null;
   }
 
+  /**
+   * @return statistics of the connection statement caches, or <code>null</code> if there is no connection pool
+   * @see #getConfiguredJdbcConnectionStatementCacheSize()
+   */
+  public StatementCacheStatistics getConnectionStatementCacheStatistics() {
+    final ISqlConnectionPool pool = m_pool;
+    if (pool != null) {
+      return pool.getStatementCacheStatistics();
+    }
+    return null;
+  }
+
   @Override
   public ISqlStyle getSqlStyle() {
     return m_sqlStyle;
@@ -548,15 +633,25 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected synchronized ISqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
+      m_pool = createSqlConnectionPool();
       m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
     }
     return m_pool;
   }
 
+  /**
+   * @return a new, not yet initialized connection pool
+   */
+  protected ISqlConnectionPool createSqlConnectionPool() {
+    if (isJdbcPoolConcurrent()) {
+      return BEANS.get(ConcurrentSqlConnectionPool.class);
+    }
+    return BEANS.get(SqlConnectionPool.class);
+  }
+
   /**
    * Destroys the current connection pool (created lazy upon releasing conneciton)
    */
@@ -588,10 +683,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   /**
-   * @return the statement cache used for this {@link ITransaction} transaction
+   * @return the statement cache of the pooled connection if enabled, otherwise the statement cache used for this
+   *         {@link ITransaction} transaction
    */
   protected final IStatementCache getStatementCache() {
     ITransaction tx = Assertions.assertNotNull(ITransaction.CURRENT.get(), "Transaction required");
+    if (isDirectJdbcConnection() && getJdbcConnectionStatementCacheSize() > 0) {
+      SqlTransactionMember member = (SqlTransactionMember) tx.getMember(getTransactionMemberId());
+      IStatementCache connectionCache = member != null ? member.getConnectionStatementCache() : null;
+      if (connectionCache != null) {
+        return connectionCache;
+      }
+    }
     IStatementCache res = (IStatementCache) tx.getMember(PreparedStatementCache.TRANSACTION_MEMBER_ID);
     if (res == null) {
       res = new PreparedStatementCache(getJdbcStatementCacheSize());
@@ -634,6 +737,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public <T> ISqlCursor<T> selectCursor(String s, ISqlRowMapper<T> mapper, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectCursor(getTransaction(), mapper, getJdbcCursorFetchSize());
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
@@ -649,6 +757,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] deleteBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processBatchModification(getTransaction(), getStatementCache(), null, getJdbcBatchSize());
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
@@ -795,6 +918,8 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
   private class SqlTransactionMember extends AbstractSqlTransactionMember {
     private final Connection m_conn;
+    private IStatementCache m_connectionStatementCache;
+    private boolean m_connectionStatementCacheResolved;
 
     public SqlTransactionMember(String transactionMemberId, Connection conn) {
       super(transactionMemberId);
@@ -805,6 +930,18 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
       return m_conn;
     }
 
+    /**
+     * @return the statement cache of the pooled connection, <code>null</code> if the connection is not pooled
+     */
+    public synchronized IStatementCache getConnectionStatementCache() {
+      if (!m_connectionStatementCacheResolved) {
+        ISqlConnectionPool pool = m_pool;
+        m_connectionStatementCache = pool != null ? pool.getStatementCache(m_conn) : null;
+        m_connectionStatementCacheResolved = true;
+      }
+      return m_connectionStatementCache;
+    }
+
     @Override
     public void commitPhase2() {
       try {
@@ -845,6 +982,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
 
     @Override
     public void release() {
+      closeOpenResources();
       releaseConnection(m_conn);
     }
   } // end private class
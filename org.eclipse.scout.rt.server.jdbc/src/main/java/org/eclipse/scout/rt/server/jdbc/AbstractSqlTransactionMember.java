@@ -11,7 +11,9 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.slf4j.Logger;
@@ -22,6 +24,7 @@ public abstract class AbstractSqlTransactionMember extends AbstractTransactionMe
 
   private final Object m_activeStatementsLock = new Object();
   private final HashSet<Statement> m_activeStatements = new HashSet<>();
+  private final HashSet<AutoCloseable> m_openResources = new HashSet<>();
   private boolean m_cancelled;
 
   /** true during completion phase (commit/rollback) */
@@ -69,6 +72,44 @@ public abstract class AbstractSqlTransactionMember extends AbstractTransactionMe
     }
   }
 
+  /**
+   * Registers a resource (e.g. an {@link ISqlCursor}) which is closed by {@link #closeOpenResources()} if it is still
+   * open when the transaction ends.
+   */
+  public void registerOpenResource(AutoCloseable resource) {
+    synchronized (m_activeStatementsLock) {
+      m_openResources.add(resource);
+    }
+  }
+
+  /**
+   * Removes a resource registered by {@link #registerOpenResource(AutoCloseable)}
+   */
+  public void unregisterOpenResource(AutoCloseable resource) {
+    synchronized (m_activeStatementsLock) {
+      m_openResources.remove(resource);
+    }
+  }
+
+  /**
+   * Closes all resources which are still open. Must be called before the connection is released.
+   */
+  protected void closeOpenResources() {
+    List<AutoCloseable> resources;
+    synchronized (m_activeStatementsLock) {
+      resources = new ArrayList<>(m_openResources);
+      m_openResources.clear();
+    }
+    for (AutoCloseable resource : resources) {
+      try {
+        resource.close();
+      }
+      catch (Exception e) {
+        LOG.warn("failed to close open resource {}", resource, e);
+      }
+    }
+  }
+
   @Override
   public void cancel() {
     Iterable<Statement> set;
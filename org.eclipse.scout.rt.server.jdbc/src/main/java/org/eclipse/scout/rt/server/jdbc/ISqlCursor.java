@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Pull-based cursor over the rows of a select statement. Rows are fetched from the database in chunks of the JDBC
+ * fetch size while iterating and mapped one by one, therefore memory usage does not depend on the number of rows.
+ * <p>
+ * The cursor is closed automatically when the last row was read. A cursor which is not read to the end must be closed,
+ * preferably using try-with-resources. Open cursors are closed at the latest when the transaction ends.
+ * <p>
+ * A cursor is not thread-safe.
+ *
+ * @see ISqlService#selectCursor(String, ISqlRowMapper, Object...)
+ */
+public interface ISqlCursor<T> extends Iterator<T>, AutoCloseable {
+
+  /**
+   * @return sequential stream over the remaining rows of this cursor. Closing the stream closes this cursor.
+   */
+  Stream<T> stream();
+
+  /**
+   * @return number of rows read so far
+   */
+  int getRowCount();
+
+  /**
+   * @return <code>true</code> if this cursor was closed
+   */
+  boolean isClosed();
+
+  /**
+   * Closes the underlying statement and result set. Subsequent calls have no effect.
+   */
+  @Override
+  void close();
+}
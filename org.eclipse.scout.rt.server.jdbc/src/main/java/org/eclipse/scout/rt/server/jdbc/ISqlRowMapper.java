@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * Maps the current row of a {@link ResultSet} to an object.
+ *
+ * @see SqlRowMappers
+ * @see ISqlService#selectCursor(String, ISqlRowMapper, Object...)
+ */
+@FunctionalInterface
+public interface ISqlRowMapper<T> {
+
+  /**
+   * Maps the current row. Implementations must not move the cursor of the {@link ResultSet}.
+   *
+   * @param rs
+   *          result set positioned on the row to map
+   * @param meta
+   *          meta data of the result set, the same instance is passed for every row of a result set
+   * @param sqlStyle
+   *          style used to read values from the result set
+   */
+  T mapRow(ResultSet rs, ResultSetMetaData meta, ISqlStyle sqlStyle) throws SQLException;
+}
@@ -237,6 +237,23 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Returns a pull-based cursor over the rows of the select statement. In contrast to
+   * {@link #select(String, Object...)} rows are fetched in chunks of the JDBC fetch size while the cursor is read and
+   * are mapped directly by the given mapper, therefore memory usage does not depend on the number of rows.
+   * <p>
+   * The cursor must be closed if it is not read to the end, preferably using try-with-resources. It is closed at the
+   * latest when the current transaction ends.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param mapper
+   *          maps each row, see {@link SqlRowMappers} for common mappers
+   */
+  <T> ISqlCursor<T> selectCursor(String s, ISqlRowMapper<T> mapper, Object... bindBases);
+
   /**
    * insert rows
    * <p>
@@ -267,6 +284,45 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batch execution
+   * <p>
+   * The statement is executed once for every row of the batch binds (arrays,
+   * {@link org.eclipse.scout.rt.platform.holders.ITableBeanHolder} or
+   * {@link org.eclipse.scout.rt.platform.holders.IBeanArrayHolder}). In contrast to {@link #insert(String, Object...)}
+   * the rows are sent to the database in chunks instead of one round trip per row.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of inserted rows for every batch row. An element may be {@link java.sql.Statement#SUCCESS_NO_INFO}
+   *         if the driver does not report update counts for batches.
+   */
+  int[] insertBatch(String s, Object... bindBases);
+
+  /**
+   * update rows using JDBC batch execution
+   * <p>
+   * See {@link #insertBatch(String, Object...)} and the interface comment of {@link ISqlService} for description of how
+   * to use bind variables
+   * </p>
+   *
+   * @return number of updated rows for every batch row
+   */
+  int[] updateBatch(String s, Object... bindBases);
+
+  /**
+   * delete rows using JDBC batch execution
+   * <p>
+   * See {@link #insertBatch(String, Object...)} and the interface comment of {@link ISqlService} for description of how
+   * to use bind variables
+   * </p>
+   *
+   * @return number of deleted rows for every batch row
+   */
+  int[] deleteBatch(String s, Object... bindBases);
+
   /**
    * call a stored procedure
    * <p>
@@ -19,8 +19,27 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * Executes the select statement and returns a cursor over its rows. The statement is not taken from a statement
+   * cache since it stays open until the cursor is closed.
+   *
+   * @param fetchSize
+   *          JDBC fetch size hint, <code>0</code> to use the default of the driver
+   */
+  <T> ISqlCursor<T> processSelectCursor(Connection conn, ISqlRowMapper<T> mapper, int fetchSize);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the statement once per input batch row (array, {@link org.eclipse.scout.rt.platform.holders.ITableBeanHolder}
+   * or {@link org.eclipse.scout.rt.platform.holders.IBeanArrayHolder} binds) using JDBC batch execution. Rows are sent to
+   * the database in chunks of at most <code>batchSize</code> rows.
+   *
+   * @return the update count of every input row in order. An element may be {@link java.sql.Statement#SUCCESS_NO_INFO}
+   *         if the driver does not report update counts for batches.
+   */
+  int[] processBatchModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
@@ -204,6 +204,39 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of parsed SQL statements kept in memory so that repeatedly executed statements are not parsed again. "
+          + "Use 0 to disable the cache. The default value is 1000.";
+    }
+  }
+
+  public static class SqlJdbcConnectionStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.connectionStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of SQL statements cached per pooled connection across transactions. Only used with a direct JDBC connection. "
+          + "The default value is 0 which disables the connection statement cache.";
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -216,4 +249,43 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcPoolConcurrentProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.concurrent";
+    }
+
+    @Override
+    public String description() {
+      return "If true a lock-free connection pool with a fair wait queue and asynchronous connection validation is used. Recommended for a high number of concurrent jobs. The default value is false.";
+    }
+  }
+
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one JDBC batch by insertBatch, updateBatch and deleteBatch. The default value is 1000.";
+    }
+  }
+
+  public static class SqlJdbcCursorFetchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.cursorFetchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Number of rows fetched from the database in one round trip while reading a cursor returned by selectCursor. The default value is 500.";
+    }
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.DataObjectAttributeDescriptor;
+import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * Factory for common {@link ISqlRowMapper}s.
+ * <p>
+ * <b>Example:</b>
+ *
+ * <pre>
+ * try (ISqlCursor&lt;PersonDo&gt; cursor = SQL.selectCursor("SELECT PERSON_NR, NAME FROM PERSON", SqlRowMappers.doEntity(PersonDo.class))) {
+ *   cursor.forEachRemaining(person -&gt; ...);
+ * }
+ *
+ * long[] personNrs;
+ * try (ISqlCursor&lt;Long&gt; cursor = SQL.selectCursor("SELECT PERSON_NR FROM PERSON", SqlRowMappers.column(1, Long.class))) {
+ *   personNrs = cursor.stream().mapToLong(Long::longValue).toArray();
+ * }
+ * </pre>
+ */
+public final class SqlRowMappers {
+
+  private SqlRowMappers() {
+  }
+
+  /**
+   * @return mapper which reads all columns of a row into an array, the same way as
+   *         {@link ISqlService#select(String, Object...)} does.
+   */
+  public static ISqlRowMapper<Object[]> objectArray() {
+    return (rs, meta, sqlStyle) -> {
+      int colCount = meta.getColumnCount();
+      Object[] row = new Object[colCount];
+      for (int i = 0; i < colCount; i++) {
+        row[i] = readColumn(rs, meta, sqlStyle, i + 1);
+      }
+      return row;
+    };
+  }
+
+  /**
+   * @param columnIndex
+   *          1-based index of the column
+   * @param type
+   *          type the column value is converted to using {@link TypeCastUtility}
+   * @return mapper which reads a single column of a row
+   */
+  public static <T> ISqlRowMapper<T> column(int columnIndex, Class<T> type) {
+    Assertions.assertTrue(columnIndex > 0, "columnIndex is 1-based");
+    Assertions.assertNotNull(type);
+    return (rs, meta, sqlStyle) -> TypeCastUtility.castValue(readColumn(rs, meta, sqlStyle, columnIndex), type);
+  }
+
+  /**
+   * Returns a mapper which creates a new data object entity for each row. Columns are mapped to attributes by their
+   * label, ignoring case and underscores, e.g. the column <code>PERSON_NR</code> is mapped to the attribute
+   * <code>personNr</code>. Values of {@link DoValue} attributes are converted to the declared type using
+   * {@link TypeCastUtility}. Columns without a declared attribute are added as plain values with the camel case name of
+   * the column label.
+   * <p>
+   * The returned mapper caches the attribute names per result set and must not be shared between threads.
+   */
+  public static <T extends IDoEntity> ISqlRowMapper<T> doEntity(Class<T> entityClass) {
+    return new P_DoEntityRowMapper<>(Assertions.assertNotNull(entityClass));
+  }
+
+  static Object readColumn(ResultSet rs, ResultSetMetaData meta, ISqlStyle sqlStyle, int columnIndex) throws SQLException {
+    return sqlStyle.readBind(rs, meta, meta.getColumnType(columnIndex), columnIndex);
+  }
+
+  static String toAttributeName(String columnLabel) {
+    StringBuilder sb = new StringBuilder(columnLabel.length());
+    boolean upper = false;
+    for (char c : columnLabel.toLowerCase(Locale.ROOT).toCharArray()) {
+      if (c == '_') {
+        upper = sb.length() > 0;
+      }
+      else {
+        sb.append(upper ? Character.toUpperCase(c) : c);
+        upper = false;
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String normalize(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+
+  private static class P_DoEntityRowMapper<T extends IDoEntity> implements ISqlRowMapper<T> {
+    private final Class<T> m_entityClass;
+    private ResultSetMetaData m_meta;
+    private String[] m_attributeNames;
+    private Class<?>[] m_attributeTypes;
+
+    public P_DoEntityRowMapper(Class<T> entityClass) {
+      m_entityClass = entityClass;
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, ResultSetMetaData meta, ISqlStyle sqlStyle) throws SQLException {
+      if (meta != m_meta) {
+        initAttributes(meta);
+      }
+      T entity = BEANS.get(m_entityClass);
+      for (int i = 0; i < m_attributeNames.length; i++) {
+        Object value = readColumn(rs, meta, sqlStyle, i + 1);
+        if (m_attributeTypes[i] != null) {
+          value = TypeCastUtility.castValue(value, m_attributeTypes[i]);
+        }
+        entity.put(m_attributeNames[i], value);
+      }
+      return entity;
+    }
+
+    protected void initAttributes(ResultSetMetaData meta) throws SQLException {
+      Map<String, DataObjectAttributeDescriptor> descriptors = new HashMap<>();
+      for (DataObjectAttributeDescriptor descriptor : BEANS.get(DataObjectInventory.class).getAttributesDescription(m_entityClass).values()) {
+        descriptors.put(normalize(descriptor.getName()), descriptor);
+      }
+
+      int colCount = meta.getColumnCount();
+      m_attributeNames = new String[colCount];
+      m_attributeTypes = new Class<?>[colCount];
+      for (int i = 0; i < colCount; i++) {
+        String label = meta.getColumnLabel(i + 1);
+        DataObjectAttributeDescriptor descriptor = descriptors.get(normalize(label));
+        if (descriptor == null) {
+          m_attributeNames[i] = toAttributeName(label);
+          continue;
+        }
+        m_attributeNames[i] = descriptor.getName();
+        ParameterizedType type = descriptor.getType();
+        if (DoValue.class.equals(type.getRawType())) {
+          Type valueType = type.getActualTypeArguments()[0];
+          if (valueType instanceof Class) {
+            m_attributeTypes[i] = (Class<?>) valueType;
+          }
+        }
+      }
+      m_meta = meta;
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statement cache bound to a single pooled JDBC connection.
+ * <p>
+ * In contrast to {@link PreparedStatementCache}, which lives for one transaction only, this cache stays with the
+ * connection and is reused by all transactions leasing it from the pool. Statements are cached upon first use, keyed
+ * by their normalized SQL text (see {@link #normalizeSql(String)}), and evicted in least recently used order.
+ * <p>
+ * A cached statement is handed out to at most one caller at a time. If it is still in use (e.g. the same statement is
+ * executed while iterating over the result set of an outer select), a non-cached statement is prepared instead.
+ * <p>
+ * This class is thread-safe.
+ */
+@SuppressWarnings("squid:S1166")
+public class ConnectionStatementCache implements IStatementCache {
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectionStatementCache.class);
+
+  private final Connection m_conn;
+  private final int m_maxSize;
+  private final StatementCacheStatistics m_statistics;
+  private final LinkedHashMap<String, PreparedStatement> m_statements;
+  /**
+   * Cached statements by identity. The value is <code>true</code> while the statement is in use.
+   */
+  private final Map<PreparedStatement, Boolean> m_inUse = new IdentityHashMap<>();
+
+  public ConnectionStatementCache(Connection conn, int maxSize, StatementCacheStatistics statistics) {
+    Assertions.assertTrue(maxSize > 0, "maxSize must be positive");
+    m_conn = Assertions.assertNotNull(conn);
+    m_maxSize = maxSize;
+    m_statistics = Assertions.assertNotNull(statistics);
+    m_statements = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Entry<String, PreparedStatement> eldest) {
+        if (size() <= m_maxSize) {
+          return false;
+        }
+        evict(eldest.getValue());
+        return true;
+      }
+    };
+  }
+
+  @Override
+  public PreparedStatement getPreparedStatement(Connection conn, String s) throws SQLException {
+    PreparedStatement ps = lease(conn, "P:", s);
+    if (ps != null) {
+      return ps;
+    }
+    return register(conn, "P:", s, conn.prepareStatement(s));
+  }
+
+  @Override
+  public void releasePreparedStatement(PreparedStatement ps) {
+    release(ps);
+  }
+
+  @Override
+  public CallableStatement getCallableStatement(Connection conn, String s) throws SQLException {
+    CallableStatement cs = (CallableStatement) lease(conn, "C:", s);
+    if (cs != null) {
+      return cs;
+    }
+    return register(conn, "C:", s, conn.prepareCall(s));
+  }
+
+  @Override
+  public void releaseCallableStatement(CallableStatement cs) {
+    release(cs);
+  }
+
+  /**
+   * @return number of cached statements
+   */
+  public synchronized int size() {
+    return m_statements.size();
+  }
+
+  /**
+   * @return the cached statement if it is available, <code>null</code> otherwise
+   */
+  protected PreparedStatement lease(Connection conn, String kind, String s) throws SQLException {
+    PreparedStatement ps = null;
+    if (conn == m_conn) {
+      synchronized (this) {
+        ps = m_statements.get(kind + normalizeSql(s));
+        if (ps != null && Boolean.TRUE.equals(m_inUse.get(ps))) {
+          ps = null;
+        }
+        if (ps != null) {
+          m_inUse.put(ps, Boolean.TRUE);
+        }
+      }
+    }
+    if (ps == null) {
+      m_statistics.recordMiss();
+      return null;
+    }
+    m_statistics.recordHit();
+    ps.clearParameters();
+    ps.clearWarnings();
+    return ps;
+  }
+
+  /**
+   * Adds a newly prepared statement to the cache, unless the same statement is cached already.
+   */
+  protected <T extends PreparedStatement> T register(Connection conn, String kind, String s, T ps) {
+    if (conn != m_conn) {
+      return ps;
+    }
+    String key = kind + normalizeSql(s);
+    synchronized (this) {
+      if (!m_statements.containsKey(key)) {
+        m_inUse.put(ps, Boolean.TRUE);
+        m_statements.put(key, ps);
+      }
+    }
+    return ps;
+  }
+
+  /**
+   * Marks a cached statement as available again. Statements which are not (or no longer) cached are closed.
+   */
+  protected void release(PreparedStatement ps) {
+    if (ps == null) {
+      return;
+    }
+    synchronized (this) {
+      if (m_inUse.containsKey(ps)) {
+        m_inUse.put(ps, Boolean.FALSE);
+        return;
+      }
+    }
+    closeStatement(ps);
+  }
+
+  /**
+   * Called with the monitor held while the least recently used statement is removed from the cache. Statements in use
+   * are closed upon release.
+   */
+  protected void evict(PreparedStatement ps) {
+    m_statistics.recordEviction();
+    if (!Boolean.TRUE.equals(m_inUse.remove(ps))) {
+      closeStatement(ps);
+    }
+  }
+
+  protected void closeStatement(PreparedStatement ps) {
+    try {
+      ps.close();
+    }
+    catch (SQLException | RuntimeException e) {
+      LOG.warn("Exception while closing PreparedStatement", e);
+    }
+  }
+
+  /**
+   * Collapses whitespace outside of string literals, quoted identifiers and comments, so that statements only differing
+   * in formatting share the same cache entry. The statement itself is always prepared with its original text.
+   */
+  public static String normalizeSql(String s) {
+    StringBuilder sb = new StringBuilder(s.length());
+    char quote = 0;
+    boolean lineComment = false;
+    boolean blockComment = false;
+    boolean pendingSpace = false;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      char next = i + 1 < s.length() ? s.charAt(i + 1) : 0;
+      if (quote != 0 || blockComment || lineComment) {
+        sb.append(c);
+        if (quote != 0 && c == quote) {
+          quote = 0;
+        }
+        else if (blockComment && c == '*' && next == '/') {
+          sb.append(next);
+          i++;
+          blockComment = false;
+        }
+        else if (lineComment && c == '\n') {
+          lineComment = false;
+        }
+        continue;
+      }
+      if (Character.isWhitespace(c)) {
+        pendingSpace = sb.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        sb.append(' ');
+        pendingSpace = false;
+      }
+      sb.append(c);
+      if (c == '\'' || c == '"') {
+        quote = c;
+      }
+      else if (c == '-' && next == '-') {
+        sb.append(next);
+        i++;
+        lineComment = true;
+      }
+      else if (c == '/' && next == '*') {
+        sb.append(next);
+        i++;
+        blockComment = true;
+      }
+    }
+    return sb.toString();
+  }
+}
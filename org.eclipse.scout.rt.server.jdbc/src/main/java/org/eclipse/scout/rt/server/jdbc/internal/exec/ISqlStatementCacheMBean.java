@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.beans.ConstructorProperties;
+
+import javax.management.MXBean;
+
+@MXBean
+public interface ISqlStatementCacheMBean {
+
+  SqlStatementCacheEntry[] getEntries();
+
+  class SqlStatementCacheEntry {
+
+    private final String m_sqlService;
+    private final int m_cacheSize;
+    private final long m_hitCount;
+    private final long m_missCount;
+    private final long m_evictionCount;
+
+    @ConstructorProperties({"sqlService", "cacheSize", "hitCount", "missCount", "evictionCount"})
+    public SqlStatementCacheEntry(String sqlService, int cacheSize, long hitCount, long missCount, long evictionCount) {
+      m_sqlService = sqlService;
+      m_cacheSize = cacheSize;
+      m_hitCount = hitCount;
+      m_missCount = missCount;
+      m_evictionCount = evictionCount;
+    }
+
+    public String getSqlService() {
+      return m_sqlService;
+    }
+
+    public int getCacheSize() {
+      return m_cacheSize;
+    }
+
+    public long getHitCount() {
+      return m_hitCount;
+    }
+
+    public long getMissCount() {
+      return m_missCount;
+    }
+
+    public long getEvictionCount() {
+      return m_evictionCount;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.TextToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+
+/**
+ * Result of parsing the <code>INTO</code> clauses and binds of a SQL statement.
+ * <p>
+ * Tokens are modified while a statement is processed, so the tokens of this template are never handed out. Each call
+ * to {@link #createIntoModel()} and {@link #createBindModel()} returns models with fresh copies of the tokens.
+ * <p>
+ * This class is immutable.
+ *
+ * @see ParsedStatementCache
+ */
+public final class ParsedStatement {
+  private final String m_filteredStatement;
+  private final ValueOutputToken[] m_intoTokens;
+  private final IToken[] m_bindTokens;
+
+  private ParsedStatement(IntoModel intoModel, BindModel bindModel) {
+    m_filteredStatement = intoModel.getFilteredStatement();
+    m_intoTokens = intoModel.getOutputTokens();
+    m_bindTokens = bindModel.getAllTokens();
+  }
+
+  /**
+   * Parses the <code>INTO</code> clauses using {@link IntoParser} and the binds of the remaining statement using
+   * {@link BindParser}.
+   */
+  public static ParsedStatement parse(String stm) {
+    IntoModel intoModel = new IntoParser(stm).parse();
+    BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+    return new ParsedStatement(intoModel, bindModel);
+  }
+
+  public IntoModel createIntoModel() {
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = (ValueOutputToken) copyToken(m_intoTokens[i]);
+    }
+    return new IntoModel(m_filteredStatement, tokens);
+  }
+
+  public BindModel createBindModel() {
+    IToken[] tokens = new IToken[m_bindTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = copyToken(m_bindTokens[i]);
+    }
+    return new BindModel(tokens);
+  }
+
+  static IToken copyToken(IToken t) {
+    IToken copy;
+    if (t instanceof TextToken) {
+      // immutable
+      return t;
+    }
+    else if (t instanceof ValueInputToken) {
+      ValueInputToken v = (ValueInputToken) t;
+      ValueInputToken c = new ValueInputToken(v.getParsedToken(), v.getName(), v.isPlainValue(), v.isPlainSql());
+      c.setParsedOp(v.getParsedOp());
+      c.setParsedAttribute(v.getParsedAttribute());
+      c.setBatch(v.isBatch());
+      copy = c;
+    }
+    else if (t instanceof ValueOutputToken) {
+      ValueOutputToken v = (ValueOutputToken) t;
+      ValueOutputToken c = new ValueOutputToken(v.getParsedToken(), v.getName(), v.isSelectInto());
+      c.setBatch(v.isBatch());
+      copy = c;
+    }
+    else if (t instanceof FunctionInputToken) {
+      FunctionInputToken f = (FunctionInputToken) t;
+      FunctionInputToken c = new FunctionInputToken(f.getParsedToken(), f.getName(), f.getArgs() != null ? f.getArgs().clone() : null, f.isPlainValue(), f.isPlainSql());
+      c.setPlainToken(f.isPlainToken());
+      copy = c;
+    }
+    else if (t instanceof DatabaseSpecificToken) {
+      DatabaseSpecificToken d = (DatabaseSpecificToken) t;
+      copy = new DatabaseSpecificToken(d.getParsedToken(), d.getName());
+    }
+    else {
+      throw new IllegalArgumentException("Unsupported token " + t);
+    }
+    if (!t.getReplaceToken().equals(t.getParsedToken())) {
+      copy.setReplaceToken(t.getReplaceToken());
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Bounded cache of {@link ParsedStatement}s keyed by the original SQL text, so that repeatedly executed statements are
+ * not parsed again by {@link StatementProcessor}.
+ * <p>
+ * Parsing only depends on the SQL text. Binds are resolved against the bind bases and the {@link ISqlStyle} for each
+ * execution. {@link #clear()} must be called if the parsing rules change at runtime.
+ * <p>
+ * This class is thread-safe.
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final int m_maxSize;
+  private final ConcurrentExpiringMap<String, ParsedStatement> m_cache;
+
+  public ParsedStatementCache() {
+    m_maxSize = CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class);
+    m_cache = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, m_maxSize);
+  }
+
+  @PostConstruct
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SqlStatementProcessor");
+    ObservableLongMeasurement hits = meter.counterBuilder("db.client.parsed_statement_cache.hits")
+        .setDescription("The number of SQL statements processed without parsing them.")
+        .setUnit("{statement}")
+        .buildObserver();
+    ObservableLongMeasurement misses = meter.counterBuilder("db.client.parsed_statement_cache.misses")
+        .setDescription("The number of SQL statements parsed because they were not found in the cache.")
+        .setUnit("{statement}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("db.client.parsed_statement_cache.size")
+        .setDescription("The number of parsed SQL statements currently cached.")
+        .setUnit("{statement}")
+        .buildObserver();
+    //noinspection resource
+    meter.batchCallback(() -> {
+      hits.record(getHitCount());
+      misses.record(getMissCount());
+      size.record(m_cache.size());
+    },
+        hits,
+        misses,
+        size);
+  }
+
+  /**
+   * @return the cached parse result of the given statement, the statement is parsed if it is not cached yet
+   */
+  public ParsedStatement get(String stm) {
+    if (m_maxSize <= 0) {
+      m_missCount.increment();
+      return ParsedStatement.parse(stm);
+    }
+    ParsedStatement parsed = m_cache.get(stm);
+    if (parsed != null) {
+      m_hitCount.increment();
+      return parsed;
+    }
+    m_missCount.increment();
+    parsed = ParsedStatement.parse(stm);
+    m_cache.put(stm, parsed);
+    return parsed;
+  }
+
+  /**
+   * Removes all cached statements.
+   */
+  public void clear() {
+    m_cache.clear();
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+
+/**
+ * Exposes the statistics of the {@link ConnectionStatementCache}s of all SQL services with a connection pool.
+ */
+@ApplicationScoped
+@CreateImmediately
+public class SqlStatementCacheMBean implements ISqlStatementCacheMBean {
+
+  @PostConstruct
+  protected void register() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void unregister() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server.jdbc", PlatformIdentifier.get(), ConnectionStatementCache.class.getSimpleName());
+  }
+
+  @Override
+  public SqlStatementCacheEntry[] getEntries() {
+    List<SqlStatementCacheEntry> entries = new ArrayList<>();
+    for (AbstractSqlService service : BEANS.all(AbstractSqlService.class)) {
+      StatementCacheStatistics statistics = service.getConnectionStatementCacheStatistics();
+      if (statistics != null) {
+        entries.add(new SqlStatementCacheEntry(service.getClass().getName(), service.getJdbcConnectionStatementCacheSize(),
+            statistics.getHitCount(), statistics.getMissCount(), statistics.getEvictionCount()));
+      }
+    }
+    return entries.toArray(new SqlStatementCacheEntry[0]);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Hit, miss and eviction counters shared by all {@link ConnectionStatementCache}s of a connection pool.
+ * <p>
+ * This class is thread-safe.
+ */
+public class StatementCacheStatistics {
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+
+  public void recordHit() {
+    m_hitCount.increment();
+  }
+
+  public void recordMiss() {
+    m_missCount.increment();
+  }
+
+  public void recordEviction() {
+    m_evictionCount.increment();
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * Registers observable counters reporting these statistics.
+   */
+  public void initMetrics(Meter meter, Attributes attributes) {
+    ObservableLongMeasurement hits = meter.counterBuilder("db.client.statement_cache.hits")
+        .setDescription("The number of prepared statements reused from the connection statement cache.")
+        .setUnit("{statement}")
+        .buildObserver();
+    ObservableLongMeasurement misses = meter.counterBuilder("db.client.statement_cache.misses")
+        .setDescription("The number of prepared statements not found in the connection statement cache.")
+        .setUnit("{statement}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("db.client.statement_cache.evictions")
+        .setDescription("The number of prepared statements evicted from the connection statement cache.")
+        .setUnit("{statement}")
+        .buildObserver();
+    //noinspection resource
+    meter.batchCallback(() -> {
+      hits.record(getHitCount(), attributes);
+      misses.record(getMissCount(), attributes);
+      evictions.record(getEvictionCount(), attributes);
+    },
+        hits,
+        misses,
+        evictions);
+  }
+}
@@ -20,12 +20,18 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
@@ -46,6 +52,8 @@ import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.ISqlCursor;
+import org.eclipse.scout.rt.server.jdbc.ISqlRowMapper;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
@@ -53,9 +61,7 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -138,10 +144,10 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      ParsedStatement parsedStatement = BEANS.get(ParsedStatementCache.class).get(m_originalStm);
+      IntoModel intoModel = parsedStatement.createIntoModel();
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = parsedStatement.createBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -417,6 +423,14 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @Override
+  public <T> ISqlCursor<T> processSelectCursor(Connection conn, ISqlRowMapper<T> mapper, int fetchSize) {
+    P_SqlCursor<T> cursor = new P_SqlCursor<>(conn, mapper, fetchSize);
+    // execute first input batch eagerly so that errors in the statement are thrown immediately
+    cursor.hasNext();
+    return cursor;
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -456,6 +470,71 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public int[] processBatchModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor, int batchSize) {
+    PreparedStatement ps = null;
+    String psStm = null;
+    int pendingRowCount = 0;
+    P_UpdateCounts updateCounts = new P_UpdateCounts();
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        // plain text binds may produce a different statement per row
+        if (ps != null && !m_currentInputStm.equals(psStm)) {
+          updateCounts.add(executeBatch(ps));
+          pendingRowCount = 0;
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          dump();
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          psStm = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        pendingRowCount++;
+        if (pendingRowCount >= batchSize) {
+          updateCounts.add(executeBatch(ps));
+          pendingRowCount = 0;
+        }
+      }
+      if (pendingRowCount > 0) {
+        updateCounts.add(executeBatch(ps));
+        pendingRowCount = 0;
+      }
+      return updateCounts.toArray();
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false))
+          .withContextInfo("batchRowIndex", m_currentInputBatchIndex);
+    }
+    finally {
+      if (ps != null && pendingRowCount > 0) {
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException e) {
+          LOG.warn("could not clear batch", e);
+        }
+      }
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  protected int[] executeBatch(PreparedStatement ps) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      return ps.executeBatch();
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -762,6 +841,174 @@ public class StatementProcessor implements IStatementProcessor {
     return candidate;
   }
 
+  /**
+   * Cursor iterating lazily over the rows of all input batches.
+   */
+  private class P_SqlCursor<T> implements ISqlCursor<T> {
+    private final Connection m_conn;
+    private final ISqlRowMapper<T> m_mapper;
+    private final int m_fetchSize;
+    private final AbstractSqlTransactionMember m_transactionMember;
+    private PreparedStatement m_ps;
+    private ResultSet m_rs;
+    private ResultSetMetaData m_meta;
+    private boolean m_rowAvailable;
+    private boolean m_closed;
+    private int m_rowCount;
+
+    public P_SqlCursor(Connection conn, ISqlRowMapper<T> mapper, int fetchSize) {
+      m_conn = conn;
+      m_mapper = mapper;
+      m_fetchSize = fetchSize;
+      m_transactionMember = currentSqlTransactionMember();
+      if (m_transactionMember != null) {
+        m_transactionMember.registerOpenResource(this);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (m_rowAvailable) {
+        return true;
+      }
+      if (m_closed) {
+        return false;
+      }
+      try {
+        while (true) {
+          if (m_maxRowCount > 0 && m_rowCount >= m_maxRowCount) {
+            close();
+            return false;
+          }
+          if (m_rs != null) {
+            if (m_rs.next()) {
+              m_rowAvailable = true;
+              return true;
+            }
+            closeStatement();
+          }
+          if (!hasNextInputBatch()) {
+            close();
+            return false;
+          }
+          executeNextInputBatch();
+        }
+      }
+      catch (SQLException | RuntimeException e) {
+        close();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_rowAvailable = false;
+      m_rowCount++;
+      try {
+        return m_mapper.mapRow(m_rs, m_meta, m_callerService.getSqlStyle());
+      }
+      catch (SQLException | RuntimeException e) {
+        close();
+        throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+            .withContextInfo("statement", createSqlDump(true, false));
+      }
+    }
+
+    @SuppressWarnings("resource")
+    protected void executeNextInputBatch() throws SQLException {
+      nextInputBatch();
+      prepareInputStatementAndBinds();
+      dump();
+      m_ps = m_conn.prepareStatement(m_currentInputStm, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      if (m_fetchSize > 0) {
+        m_ps.setFetchSize(m_fetchSize);
+      }
+      bindBatch(m_ps);
+      if (m_transactionMember != null) {
+        m_transactionMember.registerActiveStatement(m_ps);
+      }
+      m_rs = m_ps.executeQuery();
+      m_meta = m_rs.getMetaData();
+    }
+
+    @Override
+    public Stream<T> stream() {
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+    }
+
+    @Override
+    public int getRowCount() {
+      return m_rowCount;
+    }
+
+    @Override
+    public boolean isClosed() {
+      return m_closed;
+    }
+
+    @Override
+    public void close() {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      m_rowAvailable = false;
+      closeStatement();
+      if (m_transactionMember != null) {
+        m_transactionMember.unregisterOpenResource(this);
+      }
+    }
+
+    protected void closeStatement() {
+      if (m_rs != null) {
+        try {
+          m_rs.close();
+        }
+        catch (Exception e) {
+          LOG.warn("could not close ResultSet", e);
+        }
+        m_rs = null;
+        m_meta = null;
+      }
+      if (m_ps != null) {
+        if (m_transactionMember != null) {
+          m_transactionMember.unregisterActiveStatement(m_ps);
+        }
+        try {
+          m_ps.close();
+        }
+        catch (Exception e) {
+          LOG.warn("could not close PreparedStatement", e);
+        }
+        m_ps = null;
+      }
+    }
+  }
+
+  /**
+   * Collects the update counts of all chunks of a batch execution without boxing.
+   */
+  private static class P_UpdateCounts {
+    private int[] m_counts = new int[16];
+    private int m_size;
+
+    public void add(int[] counts) {
+      if (m_size + counts.length > m_counts.length) {
+        m_counts = Arrays.copyOf(m_counts, Math.max(m_counts.length * 2, m_size + counts.length));
+      }
+      System.arraycopy(counts, 0, m_counts, m_size, counts.length);
+      m_size += counts.length;
+    }
+
+    public int[] toArray() {
+      return Arrays.copyOf(m_counts, m_size);
+    }
+  }
+
   /**
    * Replacement for:
    * <p>
@@ -1453,6 +1700,18 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  protected AbstractSqlTransactionMember currentSqlTransactionMember() {
+    ITransaction tx = ITransaction.CURRENT.get();
+    if (tx == null) {
+      return null;
+    }
+    ITransactionMember member = tx.getMember(getCallerService().getTransactionMemberId());
+    if (member instanceof AbstractSqlTransactionMember) {
+      return (AbstractSqlTransactionMember) member;
+    }
+    return null;
+  }
+
   protected void registerActiveStatement(Statement s) throws SQLException {
     ITransaction tx = ITransaction.CURRENT.get();
     if (tx == null) {
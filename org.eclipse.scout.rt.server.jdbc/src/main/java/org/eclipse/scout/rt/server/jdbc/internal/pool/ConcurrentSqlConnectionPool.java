@@ -0,0 +1,598 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.TimingUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Connection pool for high concurrency which does not serialize leases through a common monitor.
+ * <p>
+ * Idle connections are kept on a lock-free stack, so that the most recently used connection is leased first. If no
+ * idle connection is available and the pool is exhausted, the leasing thread is enqueued in a FIFO wait queue. A
+ * released connection is handed off directly to the longest waiting thread, which is the only thread woken up.
+ * <p>
+ * Idle connections are validated asynchronously by a background job. A connection is only tested synchronously upon
+ * lease if it was not validated within {@link #getConnectionValidationInterval()}.
+ */
+@Bean
+@SuppressWarnings("squid:S1166")
+public class ConcurrentSqlConnectionPool implements ISqlConnectionPool {
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentSqlConnectionPool.class);
+
+  private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
+  private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
+
+  /**
+   * Handed off to a waiting thread if a slot in the pool became available, so that it creates a new connection.
+   */
+  private static final Object SLOT_AVAILABLE = new Object();
+
+  private final AtomicBoolean m_destroyed = new AtomicBoolean(false);
+  private final String m_identity = UUID.randomUUID().toString();
+
+  /*
+   * Instance
+   */
+  private final Deque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<ConnectionKey, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private final Queue<Waiter> m_waiters = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_connectionCount = new AtomicInteger();
+  private final AtomicInteger m_pendingCount = new AtomicInteger();
+  private final StatementCacheStatistics m_statementCacheStatistics = new StatementCacheStatistics();
+  private volatile AbstractSqlService m_service;
+  private volatile String m_name;
+  private volatile int m_poolSize;
+  private volatile long m_connectionLifetime;
+  private volatile long m_connectionBusyTimeout;
+  private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+  /*
+   * OpenTelemetry
+   */
+  private DoubleHistogram m_connectionWaitTime;
+  private LongCounter m_connectionLeases;
+  private Attributes m_defaultAttributes;
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_name = name;
+    m_poolSize = poolSize;
+    m_connectionLifetime = connectionLifetime;
+    m_connectionBusyTimeout = connectionBusyTimeout;
+    startManagePool();
+    initMetrics();
+  }
+
+  /**
+   * @return interval in milliseconds within which an idle connection is considered valid without testing it again.
+   */
+  protected long getConnectionValidationInterval() {
+    return TimeUnit.SECONDS.toMillis(30);
+  }
+
+  /**
+   * Start managing pool and validating idle connections
+   */
+  protected void startManagePool() {
+    Jobs.schedule(this::managePool, Jobs.newInput()
+        .withName("Managing SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(1, TimeUnit.MINUTES)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
+
+    long validationInterval = getConnectionValidationInterval();
+    Jobs.schedule(this::validateIdleConnections, Jobs.newInput()
+        .withName("Validating idle SQL connections of {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(validationInterval, TimeUnit.MILLISECONDS)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(validationInterval, TimeUnit.MILLISECONDS))));
+  }
+
+  /**
+   * @see <a href=
+   *      "https://opentelemetry.io/docs/specs/otel/metrics/semantic_conventions/database-metrics/">OpenTelemetry:
+   *      Semantic Conventions for Database Metrics</a>
+   */
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SqlConnectionPool");
+
+    ObservableLongMeasurement connectionsUsage = meter.upDownCounterBuilder("db.client.connections.usage")
+        .setDescription("The number of connections that are currently in state described by the state attribute.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement maxConnections = meter.upDownCounterBuilder("db.client.connections.max")
+        .setDescription("The maximum number of open connections allowed.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement pendingRequests = meter.upDownCounterBuilder("db.client.connections.pending_requests")
+        .setDescription("The number of pending requests for an open connection, cumulative for the entire pool.")
+        .setUnit("{request}")
+        .buildObserver();
+    m_connectionLeases = meter.counterBuilder("db.client.connections.leases")
+        .setDescription("The number of connections leased from the pool.")
+        .setUnit("{lease}")
+        .build();
+    m_connectionWaitTime = meter.histogramBuilder(SqlConnectionPool.OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to obtain an open connection from the pool.")
+        .build();
+
+    m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
+    Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
+    Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
+    //noinspection resource
+    meter.batchCallback(() -> {
+      connectionsUsage.record(m_idleEntries.size(), idleConnectionsAttributes);
+      connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
+      maxConnections.record(m_poolSize, m_defaultAttributes);
+      pendingRequests.record(m_pendingCount.get(), m_defaultAttributes);
+    },
+        connectionsUsage,
+        maxConnections,
+        pendingRequests);
+    m_statementCacheStatistics.initMetrics(meter, m_defaultAttributes);
+  }
+
+  @Override
+  public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    final long startTime = System.nanoTime();
+    m_service = service;
+    while (true) {
+      assertNotDestroyed();
+
+      // get most recently used idle connection, or create a new one if the pool is not exhausted yet
+      PoolEntry candidate = m_idleEntries.pollFirst();
+      if (candidate == null) {
+        candidate = tryCreateEntry(service);
+      }
+      if (candidate == null) {
+        candidate = awaitEntry();
+      }
+      // candidate is null if a slot became available in the meantime
+      if (candidate != null && testConnection(service, candidate)) {
+        candidate.leaseBegin = System.currentTimeMillis();
+        candidate.leaseCount++;
+        m_busyEntries.put(new ConnectionKey(candidate.conn), candidate);
+        LOG.debug("lease   {}", candidate.conn);
+        m_connectionLeases.add(1, m_defaultAttributes);
+        m_connectionWaitTime.record(TimingUtility.msElapsed(startTime), m_defaultAttributes);
+        return candidate.conn;
+      }
+    }
+  }
+
+  @Override
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    assertNotDestroyed();
+
+    PoolEntry candidate = m_busyEntries.remove(new ConnectionKey(conn));
+    if (candidate == null) {
+      // connection was removed because of the busy timeout
+      LOG.warn("closing dirty connection: {}", conn);
+      closeConnection(conn);
+      return;
+    }
+    if (System.currentTimeMillis() - candidate.createTime > m_connectionLifetime) {
+      discardEntry(candidate, "expired connection");
+      return;
+    }
+    if (!isReusable(candidate)) {
+      LOG.warn("closing dirty connection: {}", conn);
+      closeConnection(conn);
+      releaseSlot();
+      return;
+    }
+    candidate.leaseBegin = 0;
+    returnToIdle(candidate);
+  }
+
+  protected boolean isReusable(PoolEntry candidate) {
+    try {
+      if (candidate.conn.isClosed()) {
+        return false;
+      }
+      if (candidate.conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        candidate.conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      return false;
+    }
+  }
+
+  /**
+   * Tests the connection if it was not validated recently. Invalid connections are removed from the pool.
+   *
+   * @return <code>true</code> if the connection can be leased
+   */
+  protected boolean testConnection(AbstractSqlService service, PoolEntry candidate) {
+    long now = System.currentTimeMillis();
+    if (now - candidate.lastValidated < getConnectionValidationInterval()) {
+      return true;
+    }
+    try {
+      service.callbackTestConnection(candidate.conn);
+      candidate.lastValidated = now;
+      return true;
+    }
+    catch (Exception e) {
+      LOG.warn("closing dirty connection: {}", candidate.conn, e);
+      closeConnection(candidate.conn);
+      releaseSlot();
+      return false;
+    }
+  }
+
+  /**
+   * Creates a new connection if the pool is not exhausted yet.
+   *
+   * @return the new entry or <code>null</code> if the pool is exhausted
+   */
+  protected PoolEntry tryCreateEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int count;
+    do {
+      count = m_connectionCount.get();
+      if (count >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_connectionCount.compareAndSet(count, count + 1));
+
+    try {
+      PoolEntry entry = new PoolEntry();
+      entry.conn = createConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+      entry.createTime = System.currentTimeMillis();
+      entry.lastValidated = entry.createTime;
+      int statementCacheSize = service.getJdbcConnectionStatementCacheSize();
+      if (statementCacheSize > 0) {
+        entry.statementCache = new ConnectionStatementCache(entry.conn, statementCacheSize, m_statementCacheStatistics);
+      }
+      return entry;
+    }
+    catch (ClassNotFoundException | SQLException | RuntimeException e) {
+      releaseSlot();
+      throw e;
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  /**
+   * Waits in FIFO order until a connection is handed off to the current thread.
+   *
+   * @return the entry handed off or <code>null</code> if a slot became available to create a new connection
+   */
+  protected PoolEntry awaitEntry() {
+    Waiter waiter = new Waiter();
+    m_waiters.offer(waiter);
+    m_pendingCount.incrementAndGet();
+    try {
+      while (waiter.isPending()) {
+        // re-check after enqueuing to not miss connections released or slots freed in the meantime
+        PoolEntry entry = m_idleEntries.pollFirst();
+        if (entry != null || m_connectionCount.get() < m_poolSize || isDestroyed()) {
+          if (waiter.cancel()) {
+            return entry;
+          }
+          if (entry != null) {
+            returnToIdle(entry);
+          }
+          break;
+        }
+
+        LockSupport.park(this);
+        if (Thread.interrupted()) {
+          if (waiter.cancel()) {
+            Thread.currentThread().interrupt(); // Restore the thread's interrupted status
+            throw new ThreadInterruptedError("Interrupted while leasing database connection");
+          }
+          // an entry was handed off concurrently: lease it but keep the interrupted status
+          Thread.currentThread().interrupt();
+        }
+      }
+      Object value = waiter.getValue();
+      return value instanceof PoolEntry ? (PoolEntry) value : null;
+    }
+    finally {
+      m_pendingCount.decrementAndGet();
+      if (waiter.isCancelled()) {
+        m_waiters.remove(waiter);
+      }
+    }
+  }
+
+  /**
+   * Returns the entry to the idle stack or hands it off to the longest waiting thread.
+   */
+  protected void returnToIdle(PoolEntry entry) {
+    m_idleEntries.offerFirst(entry);
+    // loop until either there are no more waiters or no more idle connections, so that no waiter enqueued concurrently
+    // is missed
+    while (!m_waiters.isEmpty()) {
+      PoolEntry idleEntry = m_idleEntries.pollFirst();
+      if (idleEntry == null) {
+        return;
+      }
+      if (!handOff(idleEntry)) {
+        m_idleEntries.offerFirst(idleEntry);
+      }
+    }
+  }
+
+  protected boolean handOff(Object value) {
+    Waiter waiter;
+    while ((waiter = m_waiters.poll()) != null) {
+      if (waiter.offer(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected void discardEntry(PoolEntry entry, String reason) {
+    closeConnectionAsync(entry.conn, reason);
+    entry.conn = null;
+    entry.statementCache = null;
+    releaseSlot();
+  }
+
+  protected void releaseSlot() {
+    m_connectionCount.decrementAndGet();
+    handOff(SLOT_AVAILABLE);
+  }
+
+  @Override
+  public IStatementCache getStatementCache(Connection conn) {
+    PoolEntry entry = m_busyEntries.get(new ConnectionKey(conn));
+    return entry != null ? entry.statementCache : null;
+  }
+
+  @Override
+  public StatementCacheStatistics getStatementCacheStatistics() {
+    return m_statementCacheStatistics;
+  }
+
+  @Override
+  public String getInventory() {
+    StringBuilder buf = new StringBuilder();
+    SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
+    List<PoolEntry> busyEntries = new ArrayList<>(m_busyEntries.values());
+    List<PoolEntry> idleEntries = new ArrayList<>(m_idleEntries);
+    buf.append("Total connections: ").append(busyEntries.size() + idleEntries.size());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
+      buf.append("\n");
+    }
+    buf.append("Idle: ").append(idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+      buf.append("\n");
+    }
+    buf.append("Waiting: ").append(m_pendingCount.get());
+    buf.append("\n");
+    return buf.toString();
+  }
+
+  /**
+   * Closes expired idle connections and timed out busy connections.
+   */
+  protected void managePool() {
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+
+      // close old idle connections
+      long now = System.currentTimeMillis();
+      for (PoolEntry e : m_idleEntries) {
+        if (now - e.createTime > m_connectionLifetime && m_idleEntries.remove(e)) {
+          discardEntry(e, "expired idle connection");
+        }
+      }
+      // close timed out busy connections
+      for (Entry<ConnectionKey, PoolEntry> e : m_busyEntries.entrySet()) {
+        if (now - e.getValue().leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.getKey(), e.getValue())) {
+          discardEntry(e.getValue(), "timed out busy connection");
+        }
+      }
+    }
+    catch (Exception t) {
+      LOG.warn("Unexpected Problem while managing SQL connection pool", t);
+    }
+  }
+
+  /**
+   * Tests idle connections which were not validated recently, so that leases do not have to.
+   */
+  protected void validateIdleConnections() {
+    AbstractSqlService service = m_service;
+    if (service == null || isDestroyed()) {
+      return;
+    }
+    long validationInterval = getConnectionValidationInterval();
+    for (PoolEntry e : m_idleEntries) {
+      if (System.currentTimeMillis() - e.lastValidated >= validationInterval && m_idleEntries.remove(e)) {
+        if (testConnection(service, e)) {
+          returnToIdle(e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean isDestroyed() {
+    return m_destroyed.get();
+  }
+
+  protected void assertNotDestroyed() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  }
+
+  @Override
+  public void destroy() {
+    if (!m_destroyed.compareAndSet(false, true)) {
+      return;
+    }
+
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+    }
+    for (PoolEntry busyEntry : m_busyEntries.values()) {
+      closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
+    }
+    m_busyEntries.clear();
+    m_connectionCount.set(0);
+
+    // wake up all waiting threads so that they fail
+    while (handOff(SLOT_AVAILABLE)) {
+      // nop
+    }
+  }
+
+  protected void closeConnection(Connection conn) {
+    try {
+      conn.close();
+    }
+    catch (SQLException | RuntimeException e) {
+      // ignored
+    }
+  }
+
+  protected void closeConnectionAsync(final Connection connection, final String reason) {
+    Jobs.schedule(() -> {
+      LOG.info("Closing SQL connection {}", connection);
+      try {
+        connection.close();
+      }
+      catch (SQLException e) {
+        LOG.error("Failed to close SQL connection [connection={}]", connection, e);
+      }
+    }, Jobs.newInput()
+        .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
+        .withExecutionHint(m_identity));
+  }
+
+  /**
+   * Thread waiting for a connection. A value is handed off at most once, and only if the waiter was not cancelled.
+   */
+  private static final class Waiter {
+    private static final Object CANCELLED = new Object();
+
+    private final Thread m_thread = Thread.currentThread();
+    private final AtomicReference<Object> m_value = new AtomicReference<>();
+
+    boolean offer(Object value) {
+      if (m_value.compareAndSet(null, value)) {
+        LockSupport.unpark(m_thread);
+        return true;
+      }
+      return false;
+    }
+
+    boolean cancel() {
+      return m_value.compareAndSet(null, CANCELLED);
+    }
+
+    boolean isPending() {
+      return m_value.get() == null;
+    }
+
+    boolean isCancelled() {
+      return m_value.get() == CANCELLED;
+    }
+
+    Object getValue() {
+      return m_value.get();
+    }
+  }
+
+  /**
+   * Connections are identified by reference, independent of their equals implementation.
+   */
+  private static final class ConnectionKey {
+    private final Connection m_conn;
+
+    ConnectionKey(Connection conn) {
+      m_conn = conn;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(m_conn);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ConnectionKey && ((ConnectionKey) obj).m_conn == m_conn;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
+
+/**
+ * Pool of JDBC connections used by an {@link AbstractSqlService} with a direct JDBC connection.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see SqlConnectionPool
+ * @see ConcurrentSqlConnectionPool
+ */
+public interface ISqlConnectionPool {
+
+  /**
+   * Initializes this pool. Must be called exactly once before any connection is leased.
+   *
+   * @param name
+   *          name of the pool used for logging and metrics
+   * @param poolSize
+   *          maximum number of connections
+   * @param connectionLifetime
+   *          time in milliseconds after which a connection is closed
+   * @param connectionBusyTimeout
+   *          time in milliseconds after which a leased connection is closed
+   */
+  void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout);
+
+  /**
+   * Leases a connection from this pool. Blocks until a connection is available.
+   */
+  Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException;
+
+  /**
+   * Returns a connection previously obtained by {@link #leaseConnection(AbstractSqlService)} to this pool.
+   */
+  void releaseConnection(Connection conn);
+
+  /**
+   * @return the {@link ConnectionStatementCache} of a connection currently leased from this pool, or <code>null</code>
+   *         if the connection is not leased from this pool or connection statement caching is disabled
+   * @see AbstractSqlService#getJdbcConnectionStatementCacheSize()
+   */
+  IStatementCache getStatementCache(Connection conn);
+
+  /**
+   * @return statistics of all connection statement caches of this pool
+   */
+  StatementCacheStatistics getStatementCacheStatistics();
+
+  /**
+   * @return human readable description of the connections currently held by this pool
+   */
+  String getInventory();
+
+  /**
+   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
+   */
+  boolean isDestroyed();
+
+  /**
+   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
+   */
+  void destroy();
+}
@@ -29,6 +29,9 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TimingUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.IStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ConnectionStatementCache;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementCacheStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,12 +49,12 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
   private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
-  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
+  static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
 
   private volatile boolean m_destroyed;
   private final String m_identity = UUID.randomUUID().toString();
@@ -62,6 +65,7 @@ public class SqlConnectionPool {
   private final Object m_poolLock = new Object();
   private final Set<PoolEntry> m_idleEntries = new HashSet<>();
   private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final StatementCacheStatistics m_statementCacheStatistics = new StatementCacheStatistics();
   private volatile String m_name;
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
@@ -73,6 +77,7 @@ public class SqlConnectionPool {
   private DoubleHistogram m_connectionWaitTime;
   private Attributes m_defaultAttributes;
 
+  @Override
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
@@ -127,8 +132,10 @@ public class SqlConnectionPool {
     },
         connectionsUsage,
         maxConnections);
+    m_statementCacheStatistics.initMetrics(meter, m_defaultAttributes);
   }
 
+  @Override
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
     managePool();
@@ -149,6 +156,10 @@ public class SqlConnectionPool {
           LOG.info("created jdbc connection {}", test.conn);
           service.callbackAfterConnectionCreated(test.conn);
           test.createTime = System.currentTimeMillis();
+          int statementCacheSize = service.getJdbcConnectionStatementCacheSize();
+          if (statementCacheSize > 0) {
+            test.statementCache = new ConnectionStatementCache(test.conn, statementCacheSize, m_statementCacheStatistics);
+          }
           m_idleEntries.add(test);
           candidate = test;
         }
@@ -193,6 +204,7 @@ public class SqlConnectionPool {
     }
   }
 
+  @Override
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
     synchronized (m_poolLock) {
@@ -257,6 +269,24 @@ public class SqlConnectionPool {
     managePool();
   }
 
+  @Override
+  public IStatementCache getStatementCache(Connection conn) {
+    synchronized (m_poolLock) {
+      for (PoolEntry e : m_busyEntries) {
+        if (e.conn == conn) {
+          return e.statementCache;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public StatementCacheStatistics getStatementCacheStatistics() {
+    return m_statementCacheStatistics;
+  }
+
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -315,16 +345,12 @@ public class SqlConnectionPool {
     }
   }
 
-  /**
-   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
-   */
+  @Override
   public boolean isDestroyed() {
     return m_destroyed;
   }
 
-  /**
-   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
-   */
+  @Override
   public void destroy() {
     if (isDestroyed()) {
       return;
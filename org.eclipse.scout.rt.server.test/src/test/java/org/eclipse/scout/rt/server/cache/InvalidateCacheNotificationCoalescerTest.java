@@ -75,6 +75,28 @@ public class InvalidateCacheNotificationCoalescerTest {
     }
   }
 
+  @Test
+  public void testCoalesceManyKeyFilters() {
+    InvalidateCacheNotificationCoalescer coalescer = new InvalidateCacheNotificationCoalescer();
+    List<InvalidateCacheNotification> testList = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      testList.add(new InvalidateCacheNotification(CACHE_ID_1, new KeyCacheEntryFilter<>(CollectionUtility.arrayList(i, i + 1))));
+    }
+    testList.add(new InvalidateCacheNotification(CACHE_ID_2, new KeyCacheEntryFilter<>(CollectionUtility.arrayList(1))));
+    testList.add(new InvalidateCacheNotification(CACHE_ID_2, new AllCacheEntryFilter<>()));
+    List<InvalidateCacheNotification> res = coalescer.coalesce(testList);
+    assertEquals(2, res.size());
+    for (InvalidateCacheNotification notification : res) {
+      if (CACHE_ID_1.equals(notification.getCacheId())) {
+        assertEquals(10001, ((KeyCacheEntryFilter<?, ?>) notification.getFilter()).getKeys().size());
+      }
+      else {
+        assertEquals(CACHE_ID_2, notification.getCacheId());
+        assertTrue(notification.getFilter() instanceof AllCacheEntryFilter);
+      }
+    }
+  }
+
   class CodeType1 extends AbstractCodeType<Long, Long> {
     private static final long serialVersionUID = 1L;
 
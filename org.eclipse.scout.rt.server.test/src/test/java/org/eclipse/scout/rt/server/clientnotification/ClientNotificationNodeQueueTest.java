@@ -73,6 +73,29 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testSizeAndDroppedCount() {
+    putTestNotifications(3);
+    assertEquals(3, m_queue.getSize());
+    assertEquals(0, m_queue.getDroppedCount());
+    putTestNotifications(9);
+    assertEquals(MAX_TEST_CAPACITY, m_queue.getSize());
+    assertEquals(2, m_queue.getDroppedCount());
+  }
+
+  @Test
+  public void testCoalescingWindow() {
+    ClientNotificationNodeQueue queue = new ClientNotificationNodeQueue(MAX_TEST_CAPACITY, 0);
+    queue.setNodeId(NodeId.of("testNodeId"));
+    IFuture<List<ClientNotificationMessage>> res = Jobs.schedule(() -> queue.getNotifications(10, 5, TimeUnit.SECONDS), Jobs.newInput()
+        .withRunContext(RunContexts.copyCurrent()));
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    queue.put(new ClientNotificationMessage(allNodes, "test", true, "cid"));
+    List<ClientNotificationMessage> notifications = res.awaitDoneAndGet();
+    assertEquals(1, notifications.size());
+    assertEquals("test", notifications.get(0).getNotification());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ClientNotificationPusher}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ClientNotificationPusherTest {
+  private static final NodeId TEST_NODE = NodeId.of("Node1");
+
+  private ClientNotificationRegistry m_registry;
+
+  @Before
+  public void before() {
+    m_registry = new ClientNotificationRegistry(60 * 1000);
+    m_registry.registerNode(TEST_NODE);
+  }
+
+  @Test
+  public void testPushSingleBatch() throws IOException {
+    publish("test1", "test2");
+
+    List<List<ClientNotificationMessage>> batches = new ArrayList<>();
+    P_ClientNotificationPusher pusher = new P_ClientNotificationPusher();
+    pusher.push(TEST_NODE, batches::add);
+
+    assertEquals(1, batches.size());
+    assertEquals(2, batches.get(0).size());
+    assertEquals("test1", batches.get(0).get(0).getNotification());
+    assertEquals("test2", batches.get(0).get(1).getNotification());
+    assertEquals(0, pusher.getActiveStreamCount());
+  }
+
+  @Test
+  public void testWriterFailureEndsStream() {
+    publish("test1");
+    P_ClientNotificationPusher pusher = new P_ClientNotificationPusher();
+    assertThrows(IOException.class, () -> pusher.push(TEST_NODE, notifications -> {
+      assertEquals(1, pusher.getActiveStreamCount());
+      throw new IOException("connection reset");
+    }));
+    assertEquals(0, pusher.getActiveStreamCount());
+  }
+
+  private void publish(String... notifications) {
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    List<ClientNotificationMessage> messages = new ArrayList<>();
+    for (String notification : notifications) {
+      messages.add(new ClientNotificationMessage(allNodes, notification, true, "cid"));
+    }
+    m_registry.publishWithoutClusterNotification(messages);
+  }
+
+  /**
+   * Pushes a single batch and uses the registry of the test
+   */
+  private class P_ClientNotificationPusher extends ClientNotificationPusher {
+
+    @Override
+    protected ClientNotificationRegistry getRegistry() {
+      return m_registry;
+    }
+
+    @Override
+    protected long getMaxStreamDuration() {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
+import org.eclipse.scout.rt.platform.cache.KeyCacheEntryFilter;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ClusterNotificationPublishBuffer}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ClusterNotificationPublishBufferTest {
+  private static final String CACHE_ID = "TestCacheId";
+  private static final ClusterNotificationProperties TEST_PROPS = new ClusterNotificationProperties(NodeId.of("node"), "user");
+
+  private final List<List<IClusterNotificationMessage>> m_published = new ArrayList<>();
+
+  @Test
+  public void testCoalesceBatch() {
+    ClusterNotificationPublishBuffer buffer = new ClusterNotificationPublishBuffer(TimeUnit.HOURS.toMillis(1), 1000, this::collect);
+    for (int i = 0; i < 100; i++) {
+      buffer.add(CollectionUtility.arrayList(createInvalidateMessage(i)));
+    }
+    buffer.add(CollectionUtility.arrayList(new ClusterNotificationMessage("other", TEST_PROPS)));
+    assertEquals(101, buffer.getPendingCount());
+    assertTrue(getPublished().isEmpty());
+
+    buffer.publish();
+    assertEquals(0, buffer.getPendingCount());
+    assertEquals(1, getPublished().size());
+    List<IClusterNotificationMessage> batch = getPublished().get(0);
+    assertEquals(2, batch.size());
+    InvalidateCacheNotification notification = (InvalidateCacheNotification) batch.get(0).getNotification();
+    assertEquals(CACHE_ID, notification.getCacheId());
+    assertEquals(100, ((KeyCacheEntryFilter<?, ?>) notification.getFilter()).getKeys().size());
+    assertEquals("other", batch.get(1).getNotification());
+
+    // nothing pending
+    buffer.publish();
+    assertEquals(1, getPublished().size());
+  }
+
+  @Test
+  public void testPublishWhenFull() {
+    ClusterNotificationPublishBuffer buffer = new ClusterNotificationPublishBuffer(TimeUnit.HOURS.toMillis(1), 3, this::collect);
+    buffer.add(CollectionUtility.arrayList(createInvalidateMessage(1), createInvalidateMessage(2)));
+    assertTrue(getPublished().isEmpty());
+    buffer.add(CollectionUtility.arrayList(createInvalidateMessage(3)));
+    assertEquals(1, getPublished().size());
+    assertEquals(1, getPublished().get(0).size());
+    assertEquals(0, buffer.getPendingCount());
+  }
+
+  @Test
+  public void testPublishAfterBatchWindow() {
+    ClusterNotificationPublishBuffer buffer = new ClusterNotificationPublishBuffer(10, 1000, this::collect);
+    buffer.add(CollectionUtility.arrayList(createInvalidateMessage(1)));
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+    while (getPublished().isEmpty() && System.currentTimeMillis() < deadline) {
+      SleepUtil.sleepSafe(5, TimeUnit.MILLISECONDS);
+    }
+    assertEquals(1, getPublished().size());
+    assertEquals(0, buffer.getPendingCount());
+  }
+
+  protected IClusterNotificationMessage createInvalidateMessage(int key) {
+    return new ClusterNotificationMessage(new InvalidateCacheNotification(CACHE_ID, new KeyCacheEntryFilter<>(CollectionUtility.arrayList(key))), TEST_PROPS);
+  }
+
+  protected synchronized void collect(List<IClusterNotificationMessage> messages) {
+    m_published.add(messages);
+  }
+
+  protected synchronized List<List<IClusterNotificationMessage>> getPublished() {
+    return new ArrayList<>(m_published);
+  }
+}
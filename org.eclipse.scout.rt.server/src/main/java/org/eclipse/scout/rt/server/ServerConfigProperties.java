@@ -11,8 +11,10 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.server.services.common.clustersync.ClusterNotificationPublishBuffer;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
 
 public final class ServerConfigProperties {
@@ -40,6 +42,50 @@ public final class ServerConfigProperties {
     }
   }
 
+  /**
+   * @since 23.2
+   */
+  public static class ClusterSyncPublishBatchWindowProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.publishBatchWindow";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Time in milliseconds outgoing cluster notifications are collected and coalesced before they are published (see %s). "
+          + "A value of 0 publishes every notification immediately. The default value is 0.", ClusterNotificationPublishBuffer.class.getSimpleName());
+    }
+  }
+
+  /**
+   * @since 23.2
+   */
+  public static class ClusterSyncPublishBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.publishBatchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of outgoing cluster notifications collected before they are published even if the batch window (see 'scout.clustersync.publishBatchWindow') has not elapsed yet. "
+          + "The default value is 1000.";
+    }
+  }
+
   public static class ServerSessionCacheExpirationProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
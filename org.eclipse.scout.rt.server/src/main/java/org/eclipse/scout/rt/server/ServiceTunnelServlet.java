@@ -9,10 +9,13 @@
  */
 package org.eclipse.scout.rt.server;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.net.SocketException;
 import java.security.AccessController;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongPredicate;
 
@@ -22,6 +25,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.transaction.TransactionCancelledError;
@@ -32,6 +36,7 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
 import org.eclipse.scout.rt.server.admin.html.AdminSession;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationPusher;
 import org.eclipse.scout.rt.server.commons.idempotent.DuplicateRequestException;
 import org.eclipse.scout.rt.server.commons.idempotent.SequenceNumberDuplicateDetector;
 import org.eclipse.scout.rt.server.commons.servlet.AbstractHttpServlet;
@@ -44,6 +49,9 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry;
 import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistrationHandle;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationPushStream;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
@@ -128,6 +136,10 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
           .produce(servletRequest, servletResponse)
           .run(() -> {
             ServiceTunnelRequest serviceRequest = deserializeServiceRequest();
+            if (isClientNotificationPushRequest(serviceRequest)) {
+              pushClientNotifications(serviceRequest);
+              return;
+            }
             ServiceTunnelResponse serviceResponse = doPost(serviceRequest);
 
             // Clear the current thread's interruption status before writing the response to the output stream.
@@ -239,6 +251,66 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     return m_runMonCancelRegistry.get().register(runContext.getRunMonitor(), sessionId, req.getRequestSequence());
   }
 
+  // === CLIENT NOTIFICATION PUSH ===
+
+  /**
+   * @return <code>true</code> if the request asks for a {@link ClientNotificationPushStream} instead of polling the
+   *         notifications
+   */
+  protected boolean isClientNotificationPushRequest(ServiceTunnelRequest serviceRequest) {
+    HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    return Boolean.parseBoolean(req.getHeader(ClientNotificationPushStream.HTTP_HEADER))
+        && IClientNotificationService.class.getName().equals(serviceRequest.getServiceInterfaceClassName())
+        && "getNotifications".equals(serviceRequest.getOperation())
+        && serviceRequest.getArgs().length == 1
+        && serviceRequest.getArgs()[0] instanceof NodeId;
+  }
+
+  /**
+   * Keeps the response open and pushes the notifications of the client node to it, see
+   * {@link ClientNotificationPusher}.
+   */
+  @SuppressWarnings("squid:S00112")
+  protected void pushClientNotifications(ServiceTunnelRequest serviceRequest) throws Exception {
+    HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    HttpServletResponse resp = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_RESPONSE.get();
+    NodeId nodeId = (NodeId) serviceRequest.getArgs()[0];
+
+    final ServerRunContext serverRunContext = createServiceTunnelRunContext(serviceRequest);
+    final IRegistrationHandle registrationHandle = registerForCancellation(serverRunContext, serviceRequest);
+    try {
+      m_httpServletControl.get().doDefaults(this, req, resp);
+      m_httpCacheControl.get().checkAndSetCacheHeaders(req, resp, null);
+      resp.setContentType(m_contentHandler.getContentType());
+      resp.setHeader(ClientNotificationPushStream.HTTP_HEADER, Boolean.TRUE.toString());
+      OutputStream out = resp.getOutputStream();
+      serverRunContext.run(() -> BEANS.get(ClientNotificationPusher.class).push(nodeId, notifications -> writeClientNotifications(out, notifications)), DefaultExceptionTranslator.class);
+    }
+    catch (Exception e) {
+      if (!isConnectionError(e)) {
+        throw e;
+      }
+      // the client closes the connection when stopping the poller
+      LOG.debug("Client notification push stream closed by client [clientNodeId={}]", nodeId, e);
+    }
+    finally {
+      registrationHandle.unregister();
+    }
+  }
+
+  protected void writeClientNotifications(OutputStream out, List<ClientNotificationMessage> notifications) throws IOException {
+    ByteArrayOutputStream batch = new ByteArrayOutputStream();
+    // see doPost
+    IRestorer interruption = ThreadInterruption.clear();
+    try {
+      m_contentHandler.writeResponse(batch, new ServiceTunnelResponse(notifications));
+      ClientNotificationPushStream.writeBatch(out, batch.toByteArray());
+    }
+    finally {
+      interruption.restore();
+    }
+  }
+
   // === SERVICE INVOCATION ===
 
   /**
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.cache;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.cache.AbstractCacheWrapper;
+import org.eclipse.scout.rt.platform.cache.CacheStatisticsCounter;
 import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
@@ -39,6 +40,10 @@ public class ClusterNotificationCacheWrapper<K, V> extends AbstractCacheWrapper<
       else {
         BEANS.get(IClusterSynchronizationService.class).publish(notification);
       }
+      CacheStatisticsCounter counter = getStatisticsCounter();
+      if (counter != null) {
+        counter.recordPublishedInvalidation();
+      }
     }
   }
 }
@@ -11,13 +11,16 @@ package org.eclipse.scout.rt.server.cache;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
+import org.eclipse.scout.rt.platform.cache.KeyCacheEntryFilter;
 import org.eclipse.scout.rt.server.notification.ICoalescer;
 
 /**
@@ -34,16 +37,19 @@ public class InvalidateCacheNotificationCoalescer implements ICoalescer<Invalida
       return result;
     }
     Map<String, List<ICacheEntryFilter<?, ?>>> filterMap = new HashMap<>();
+    // keys of all key filters per cache are collected first, coalescing key filters pairwise copies the key sets each time
+    Map<String, Set<Object>> keyMap = new HashMap<>();
     for (InvalidateCacheNotification notification : notifications) {
-      List<ICacheEntryFilter<?, ?>> list = filterMap.get(notification.getCacheId());
-      if (list == null) {
-        list = new ArrayList<>();
-        list.add(notification.getFilter());
+      List<ICacheEntryFilter<?, ?>> list = filterMap.computeIfAbsent(notification.getCacheId(), k -> new ArrayList<>());
+      if (notification.getFilter() instanceof KeyCacheEntryFilter) {
+        keyMap.computeIfAbsent(notification.getCacheId(), k -> new HashSet<>()).addAll(((KeyCacheEntryFilter<?, ?>) notification.getFilter()).getKeys());
       }
       else {
         coalesceFilters(list, notification.getFilter());
       }
-      filterMap.put(notification.getCacheId(), list);
+    }
+    for (Entry<String, Set<Object>> entry : keyMap.entrySet()) {
+      coalesceFilters(filterMap.get(entry.getKey()), new KeyCacheEntryFilter<>(entry.getValue()));
     }
 
     for (Entry<String, List<ICacheEntryFilter<?, ?>>> entry : filterMap.entrySet()) {
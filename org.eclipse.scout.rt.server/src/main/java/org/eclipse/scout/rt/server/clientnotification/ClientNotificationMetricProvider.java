@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.dataobject.id.IIds;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} for the {@link ClientNotificationNodeQueue}s of all registered client nodes and the active
+ * push streams (see {@link ClientNotificationPusher}). Queue measurements have a {@value #NODE_ID_ATTRIBUTE}
+ * attribute.
+ *
+ * @since 23.2
+ */
+public class ClientNotificationMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationMetricProvider.class);
+
+  public static final String NODE_ID_ATTRIBUTE = "scout.clientnotification.node.id";
+
+  private static final AttributeKey<String> NODE_ID = AttributeKey.stringKey(NODE_ID_ATTRIBUTE);
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    ObservableLongMeasurement queueSize = meter.upDownCounterBuilder("scout.clientnotification.queue.size")
+        .setDescription("The number of client notifications waiting to be consumed by a client node.")
+        .setUnit("{notification}")
+        .buildObserver();
+    ObservableLongMeasurement dropped = meter.counterBuilder("scout.clientnotification.queue.dropped")
+        .setDescription("The number of client notifications dropped because the queue capacity of a client node was reached.")
+        .setUnit("{notification}")
+        .buildObserver();
+    m_observables.add(meter.batchCallback(() -> {
+      for (ClientNotificationNodeQueue queue : BEANS.get(ClientNotificationRegistry.class).getQueues()) {
+        Attributes attributes = Attributes.of(NODE_ID, IIds.toString(queue.getNodeId()));
+        queueSize.record(queue.getSize(), attributes);
+        dropped.record(queue.getDroppedCount(), attributes);
+      }
+    },
+        queueSize,
+        dropped));
+    m_observables.add(meter.upDownCounterBuilder("scout.clientnotification.push.streams")
+        .setDescription("The number of client nodes notifications are currently pushed to.")
+        .setUnit("{stream}")
+        .buildWithCallback(m -> m.record(BEANS.get(ClientNotificationPusher.class).getActiveStreamCount())));
+  }
+
+  @Override
+  public void close() {
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+}
@@ -9,29 +9,22 @@
  */
 package org.eclipse.scout.rt.server.clientnotification;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.FinalValue;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentRingBuffer;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NodeQueueCapacity;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NotificationCoalescingWindow;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
 import org.slf4j.Logger;
@@ -39,6 +32,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A queue for a client node, that keeps track of notifications for that node.
+ * <p>
+ * The notifications are kept in a {@link ConcurrentRingBuffer}: putting notifications does not block, and if the
+ * capacity is reached, the oldest notifications are dropped (see {@link #getDroppedCount()}).
  */
 @Bean
 public class ClientNotificationNodeQueue {
@@ -47,16 +43,23 @@ public class ClientNotificationNodeQueue {
   private final FinalValue<NodeId> m_nodeId = new FinalValue<>();
 
   private final int m_capacity;
-  private final BlockingDeque<ClientNotificationMessage> m_notifications;
+  private final long m_coalescingWindowMillis;
+  private final ConcurrentRingBuffer<ClientNotificationMessage> m_notifications;
   private final AtomicLong m_lastConsumeAccess;
+  private final AtomicLong m_loggedDroppedCount = new AtomicLong();
 
   public ClientNotificationNodeQueue() {
     this(CONFIG.getPropertyValue(NodeQueueCapacity.class));
   }
 
   public ClientNotificationNodeQueue(int capacity) {
+    this(capacity, CONFIG.getPropertyValue(NotificationCoalescingWindow.class));
+  }
+
+  public ClientNotificationNodeQueue(int capacity, long coalescingWindowMillis) {
     m_capacity = capacity;
-    m_notifications = new LinkedBlockingDeque<>(capacity);
+    m_coalescingWindowMillis = coalescingWindowMillis;
+    m_notifications = new ConcurrentRingBuffer<>(capacity);
     m_lastConsumeAccess = new AtomicLong(System.currentTimeMillis());
   }
 
@@ -75,53 +78,38 @@ public class ClientNotificationNodeQueue {
     return m_capacity;
   }
 
-  public void put(ClientNotificationMessage notification) {
-    put(CollectionUtility.arrayList(notification));
+  /**
+   * @return number of notifications waiting to be consumed
+   */
+  public int getSize() {
+    return m_notifications.size();
   }
 
-  public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
-    List<ClientNotificationMessage> notifications = getRelevantNotifications(notificationInput);
-    putDroppingOld(notifications);
+  /**
+   * @return number of notifications dropped so far because the capacity was reached
+   */
+  public long getDroppedCount() {
+    return m_notifications.getOverwrittenCount();
+  }
+
+  public void put(ClientNotificationMessage notification) {
+    if (isRelevant(notification.getAddress())) {
+      m_notifications.add(notification);
+    }
   }
 
   /**
-   * Put notifications into queue and drop the oldest ones, if capacity is reached.
+   * Puts the relevant notifications into the queue at once, i.e. a waiting consumer is signalled only once. If the
+   * capacity is reached, the oldest notifications are dropped.
    */
-  private void putDroppingOld(Collection<? extends ClientNotificationMessage> notifications) {
-    List<ClientNotificationMessage> droppedNotifications = new ArrayList<>();
-    for (ClientNotificationMessage message : notifications) {
-      boolean inserted = m_notifications.offer(message);
-      while (!inserted) {
-        ClientNotificationMessage removed = m_notifications.poll();
-        if (removed != null) {
-          droppedNotifications.add(removed);
-        }
-        inserted = m_notifications.offer(message);
-      }
-    }
-    if (!droppedNotifications.isEmpty()) {
-      if (LOG.isWarnEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.getNotification().getClass().getSimpleName() + " -> " + m.getAddress().prettyPrint())
-            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
-            .entrySet().stream()
-            .sorted(Entry.<String, Long> comparingByValue().reversed())
-            .map(e -> e.getKey() + " (" + e.getValue() + "x)")
-            .collect(Collectors.joining(", ", "[", "]"));
-
-        LOG.warn("Notification queue capacity reached. Added {}, removed oldest {} notification messages. [clientNodeId={}, lastConsumeAccess={}, newNotifications={}, droppedNotifications={}]",
-            notifications.size(), droppedNotifications.size(), getNodeId(), getLastConsumeAccessFormatted(), infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()));
-      }
-      if (LOG.isDebugEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.toString())
-            .collect(Collectors.joining("\n    ", "\n    ", ""));
-
-        LOG.debug("Notification queue capacity reached. Details:\n  newNotifications={}\n  droppedNotifications={}",
-            infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()),
-            new Exception("stacktrace for further analysis"));
+  public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
+    List<ClientNotificationMessage> relevantNotifications = new ArrayList<>(notificationInput.size());
+    for (ClientNotificationMessage notification : notificationInput) {
+      if (isRelevant(notification.getAddress())) {
+        relevantNotifications.add(notification);
       }
     }
+    m_notifications.addAll(relevantNotifications);
   }
 
   /**
@@ -140,26 +128,52 @@ public class ClientNotificationNodeQueue {
 
     List<ClientNotificationMessage> result = getNotifications(maxAmount, maxWaitTime, unit);
     LOG.debug("consumed {} notifications. [clientNodeId={}]", result.size(), getNodeId());
+    logDroppedNotifications();
     return result;
   }
 
+  /**
+   * Logs the number of notifications dropped since the last call. The notifications are dropped by the producers
+   * without logging to keep {@link #put(Collection)} cheap.
+   */
+  protected void logDroppedNotifications() {
+    long droppedCount = getDroppedCount();
+    long newlyDropped = droppedCount - m_loggedDroppedCount.getAndSet(droppedCount);
+    if (newlyDropped > 0) {
+      LOG.warn("Notification queue capacity reached. Dropped {} notification messages since last consume. [clientNodeId={}, capacity={}, droppedTotal={}]",
+          newlyDropped, getNodeId(), getCapacity(), droppedCount);
+    }
+  }
+
+  /**
+   * Waits up to <code>maxWaitTime</code> for a notification. Once one is available, notifications arriving within the
+   * coalescing window (see {@link NotificationCoalescingWindow}) are added to the same batch, until
+   * <code>maxAmount</code> is reached.
+   */
   protected List<ClientNotificationMessage> getNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
-    List<ClientNotificationMessage> collected = new LinkedList<>();
+    List<ClientNotificationMessage> collected = new ArrayList<>();
     try {
       //blocking wait to get first message
       ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
-      if (next != null) {
-        collected.add(next);
+      if (next == null) {
+        return collected;
       }
+      collected.add(next);
 
       //add more available notifications
       //with short wait timeout to not go back with one notification when some are about to pop up.
-      int timeout = 234; // 0 for no reschedule
-      while (next != null && collected.size() < maxAmount) {
-        next = m_notifications.poll(timeout, TimeUnit.MILLISECONDS);
-        if (next != null) {
-          collected.add(next);
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_coalescingWindowMillis);
+      while (collected.size() < maxAmount) {
+        m_notifications.drainTo(collected, maxAmount - collected.size());
+        long remainingNanos = deadline - System.nanoTime();
+        if (collected.size() >= maxAmount || remainingNanos <= 0) {
+          break;
+        }
+        next = m_notifications.poll(remainingNanos, TimeUnit.NANOSECONDS);
+        if (next == null) {
+          break;
         }
+        collected.add(next);
       }
     }
     catch (InterruptedException e) {
@@ -168,12 +182,6 @@ public class ClientNotificationNodeQueue {
     return collected;
   }
 
-  private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
-    return notificationInput.stream()
-        .filter(msg -> isRelevant(msg.getAddress()))
-        .collect(toList());
-  }
-
   public boolean isRelevant(IClientNotificationAddress address) {
     return address.isNotifyAllSessions()
         || address.isNotifyAllNodes()
@@ -73,6 +73,44 @@ public final class ClientNotificationProperties {
     }
   }
 
+  public static class NotificationCoalescingWindow extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 234;
+    }
+
+    @Override
+    public String description() {
+      return "The maximum amount of time in milliseconds a consumer waits for further notifications after having received one, to deliver them in the same batch.\n"
+          + "A larger window results in fewer and larger batches under bursty load at the cost of latency. The default is 234 milliseconds.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.coalescingWindow";
+    }
+  }
+
+  public static class MaxPushStreamDuration extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 5 * 60 * 1000;
+    }
+
+    @Override
+    public String description() {
+      return "The maximum amount of time in milliseconds the notifications of a client node are pushed over the same HTTP response (see 'scout.clientnotification.push').\n"
+          + "The client reconnects afterwards. This limits the lifetime of connections (e.g. for load balancers). The default is 5 minutes.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.maxPushStreamDuration";
+    }
+  }
+
   public static class NotificationQueueExpireTime extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.ServiceTunnelServlet;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationBlockingTimeOut;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationMessages;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxPushStreamDuration;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationPushStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the notifications of a client node to a {@link IBatchWriter} until the maximum stream duration (see
+ * {@link MaxPushStreamDuration}) is reached, the writer fails or the current {@link RunMonitor} is cancelled. Used by
+ * {@link ServiceTunnelServlet} to serve {@link ClientNotificationPushStream}s.
+ * <p>
+ * The batches are consumed from the {@link ClientNotificationRegistry} like by {@link ClientNotificationService}. An
+ * empty batch is written if no notification is available within the blocking timeout. As the writer blocks while the
+ * client does not read, no further notifications are consumed meanwhile; they are buffered in the
+ * {@link ClientNotificationNodeQueue} of the node, which drops the oldest ones if its capacity is reached.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class ClientNotificationPusher {
+  private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationPusher.class);
+
+  private final int m_blockingTimeout;
+  private final int m_maxNotifications;
+  private final long m_maxStreamDuration;
+  private final AtomicInteger m_activeStreamCount = new AtomicInteger();
+
+  public ClientNotificationPusher() {
+    m_blockingTimeout = Assertions.assertNotNull(CONFIG.getPropertyValue(MaxNotificationBlockingTimeOut.class));
+    m_maxNotifications = Assertions.assertNotNull(CONFIG.getPropertyValue(MaxNotificationMessages.class));
+    m_maxStreamDuration = Assertions.assertNotNull(CONFIG.getPropertyValue(MaxPushStreamDuration.class));
+  }
+
+  public void push(NodeId nodeId, IBatchWriter writer) throws IOException {
+    Assertions.assertNotNull(nodeId);
+    LOG.debug("Start pushing notifications [clientNodeId={}]", nodeId);
+    m_activeStreamCount.incrementAndGet();
+    try {
+      RunMonitor monitor = RunMonitor.CURRENT.get();
+      long end = System.currentTimeMillis() + getMaxStreamDuration();
+      do {
+        List<ClientNotificationMessage> notifications = getRegistry().consume(nodeId, m_maxNotifications, m_blockingTimeout, TimeUnit.MILLISECONDS);
+        writer.write(notifications);
+        LOG.debug("Pushed {} notifications [clientNodeId={}]", notifications.size(), nodeId);
+      }
+      while (System.currentTimeMillis() < end && (monitor == null || !monitor.isCancelled()));
+    }
+    finally {
+      m_activeStreamCount.decrementAndGet();
+      LOG.debug("Stop pushing notifications [clientNodeId={}]", nodeId);
+    }
+  }
+
+  protected ClientNotificationRegistry getRegistry() {
+    return BEANS.get(ClientNotificationRegistry.class);
+  }
+
+  protected long getMaxStreamDuration() {
+    return m_maxStreamDuration;
+  }
+
+  /**
+   * @return number of client nodes notifications are currently pushed to
+   */
+  public int getActiveStreamCount() {
+    return m_activeStreamCount.get();
+  }
+
+  @FunctionalInterface
+  public interface IBatchWriter {
+
+    /**
+     * Writes a batch of notifications to the client. Blocks while the client does not read.
+     */
+    void write(List<ClientNotificationMessage> notifications) throws IOException;
+  }
+}
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -80,7 +81,7 @@ public class ClientNotificationRegistry {
   }
 
   /**
-   * This method should only be accessed from {@link ClientNotificationService}
+   * This method should only be accessed from {@link ClientNotificationService} and {@link ClientNotificationPusher}
    *
    * @param maxAmount
    *          maximum number of notifications to be consumed
@@ -116,6 +117,16 @@ public class ClientNotificationRegistry {
     }
   }
 
+  /**
+   * @return snapshot of the queues of all registered nodes
+   * @since 23.2
+   */
+  public List<ClientNotificationNodeQueue> getQueues() {
+    synchronized (m_notificationQueues) {
+      return new ArrayList<>(m_notificationQueues.values());
+    }
+  }
+
   // put methods
   public void putForUser(String userId, Serializable notification) {
     putForUser(userId, notification, true);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * {@link IMetricProvider} for the batches published by the {@link ClusterNotificationPublishBuffer}.
+ *
+ * @since 23.2
+ */
+public class ClusterNotificationMetricProvider implements IMetricProvider {
+
+  public static final String OTEL_METRIC_PUBLISH_BATCH_SIZE = "scout.clustersync.publish.batch.size";
+  public static final String OTEL_METRIC_PUBLISH_LATENCY = "scout.clustersync.publish.latency";
+
+  private static final AttributeKey<Boolean> COALESCED = AttributeKey.booleanKey("scout.clustersync.coalesced");
+  private static final Attributes COLLECTED_ATTRIBUTES = Attributes.of(COALESCED, false);
+  private static final Attributes COALESCED_ATTRIBUTES = Attributes.of(COALESCED, true);
+
+  private volatile LongHistogram m_batchSize;
+  private volatile DoubleHistogram m_latency;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    m_batchSize = meter.histogramBuilder(OTEL_METRIC_PUBLISH_BATCH_SIZE)
+        .setDescription("The number of cluster notifications per published batch, before and after coalescing.")
+        .setUnit("{notification}")
+        .ofLongs()
+        .build();
+    m_latency = meter.histogramBuilder(OTEL_METRIC_PUBLISH_LATENCY)
+        .setDescription("The time the first cluster notification of a batch waited until the batch was published.")
+        .setUnit("ms")
+        .build();
+  }
+
+  /**
+   * Records a published batch. Does nothing if the metrics are not registered.
+   *
+   * @param collectedCount
+   *          number of notifications collected
+   * @param publishedCount
+   *          number of notifications published after coalescing
+   */
+  public void recordPublishedBatch(int collectedCount, int publishedCount, long latencyNanos) {
+    LongHistogram batchSize = m_batchSize;
+    DoubleHistogram latency = m_latency;
+    if (batchSize != null && latency != null) {
+      batchSize.record(collectedCount, COLLECTED_ATTRIBUTES);
+      batchSize.record(publishedCount, COALESCED_ATTRIBUTES);
+      latency.record(latencyNanos / 1_000_000d);
+    }
+  }
+
+  @Override
+  public void close() {
+    m_batchSize = null;
+    m_latency = null;
+  }
+
+  public static class PublishBatchSizeHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_PUBLISH_BATCH_SIZE;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 2d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncPublishBatchSizeProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncPublishBatchWindowProperty;
+
+/**
+ * Collects the outgoing cluster notifications of a node and publishes them in batches. A batch is published once the
+ * batch window (see {@link ClusterSyncPublishBatchWindowProperty}) has elapsed since its first notification was added,
+ * or as soon as it contains the maximum number of notifications (see {@link ClusterSyncPublishBatchSizeProperty}).
+ * <p>
+ * The notifications of a batch are coalesced by the {@link ClusterNotificationMessageCoalescer} before being published,
+ * e.g. {@link InvalidateCacheNotification}s of the same cache are merged into one. Batches are published in the order
+ * they were collected. The size and latency of each batch is recorded by the {@link ClusterNotificationMetricProvider}.
+ *
+ * @since 23.2
+ */
+public class ClusterNotificationPublishBuffer {
+
+  private final long m_batchWindowMillis;
+  private final int m_maxBatchSize;
+  private final Consumer<List<IClusterNotificationMessage>> m_publisher;
+  private final Object m_publishLock = new Object();
+
+  // guarded by this
+  private List<IClusterNotificationMessage> m_pending = new ArrayList<>();
+  private long m_firstPendingNanos;
+  private IFuture<Void> m_publishFuture;
+
+  /**
+   * @param publisher
+   *          publishes a coalesced batch
+   */
+  public ClusterNotificationPublishBuffer(long batchWindowMillis, int maxBatchSize, Consumer<List<IClusterNotificationMessage>> publisher) {
+    Assertions.assertTrue(batchWindowMillis > 0, "batchWindowMillis must be positive");
+    Assertions.assertTrue(maxBatchSize > 0, "maxBatchSize must be positive");
+    m_batchWindowMillis = batchWindowMillis;
+    m_maxBatchSize = maxBatchSize;
+    m_publisher = Assertions.assertNotNull(publisher);
+  }
+
+  public long getBatchWindowMillis() {
+    return m_batchWindowMillis;
+  }
+
+  public int getMaxBatchSize() {
+    return m_maxBatchSize;
+  }
+
+  /**
+   * Adds messages to the current batch. Publishes the batch in the calling thread if it has reached the maximum size.
+   */
+  public void add(Collection<? extends IClusterNotificationMessage> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    boolean full;
+    synchronized (this) {
+      if (m_pending.isEmpty()) {
+        m_firstPendingNanos = System.nanoTime();
+        m_publishFuture = schedulePublish();
+      }
+      m_pending.addAll(messages);
+      full = m_pending.size() >= m_maxBatchSize;
+    }
+    if (full) {
+      publish();
+    }
+  }
+
+  /**
+   * @return number of messages waiting to be published
+   */
+  public synchronized int getPendingCount() {
+    return m_pending.size();
+  }
+
+  /**
+   * Publishes the current batch immediately. Does nothing if no messages are pending.
+   */
+  public void publish() {
+    synchronized (m_publishLock) {
+      List<IClusterNotificationMessage> batch;
+      long firstPendingNanos;
+      synchronized (this) {
+        if (m_pending.isEmpty()) {
+          return;
+        }
+        batch = m_pending;
+        firstPendingNanos = m_firstPendingNanos;
+        m_pending = new ArrayList<>();
+        if (m_publishFuture != null) {
+          m_publishFuture.cancel(false);
+          m_publishFuture = null;
+        }
+      }
+      List<IClusterNotificationMessage> coalesced = BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(batch);
+      m_publisher.accept(coalesced);
+      BEANS.get(ClusterNotificationMetricProvider.class).recordPublishedBatch(batch.size(), coalesced.size(), System.nanoTime() - firstPendingNanos);
+    }
+  }
+
+  protected IFuture<Void> schedulePublish() {
+    return Jobs.schedule(this::publish, Jobs.newInput()
+        .withName("Publishing cluster notifications")
+        .withRunContext(RunContexts.empty())
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(m_batchWindowMillis, TimeUnit.MILLISECONDS)));
+  }
+}
@@ -36,6 +36,8 @@ import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncPublishBatchSizeProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncPublishBatchWindowProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncUserProperty;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
@@ -63,10 +65,24 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
 
   private final NodeId m_nodeId = NodeId.current();
 
+  private final ClusterNotificationPublishBuffer m_publishBuffer;
+
   public ClusterSynchronizationService() {
     m_subject = new Subject();
     m_subject.getPrincipals().add(new SimplePrincipal(CONFIG.getPropertyValue(ClusterSyncUserProperty.class)));
     m_subject.setReadOnly();
+    m_publishBuffer = createPublishBuffer();
+  }
+
+  /**
+   * @return buffer collecting outgoing messages or <code>null</code> if messages are published immediately
+   */
+  protected ClusterNotificationPublishBuffer createPublishBuffer() {
+    long batchWindow = CONFIG.getPropertyValue(ClusterSyncPublishBatchWindowProperty.class);
+    if (batchWindow <= 0) {
+      return null;
+    }
+    return new ClusterNotificationPublishBuffer(batchWindow, CONFIG.getPropertyValue(ClusterSyncPublishBatchSizeProperty.class), this::publishNow);
   }
 
   @Override
@@ -126,6 +142,10 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
       return true;
     }
 
+    if (m_publishBuffer != null) {
+      m_publishBuffer.publish();
+    }
+
     final ISubscription subscription;
     synchronized (m_subscriptionLock) {
       subscription = m_subscription;
@@ -166,9 +186,22 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
   }
 
   /**
-   * Publish and update status.
+   * Publish immediately or add to the publish buffer, if batching is enabled (see
+   * {@link ClusterSyncPublishBatchWindowProperty}).
    */
   private void publishInternal(List<IClusterNotificationMessage> messages) {
+    if (m_publishBuffer != null) {
+      m_publishBuffer.add(messages);
+    }
+    else {
+      publishNow(messages);
+    }
+  }
+
+  /**
+   * Publish and update status.
+   */
+  private void publishNow(List<IClusterNotificationMessage> messages) {
     for (IClusterNotificationMessage message : messages) {
       MOM.publish(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, message);
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.clientnotification;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ClientNotificationPushStream}
+ */
+public class ClientNotificationPushStreamTest {
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] large = new byte[70000];
+    Arrays.fill(large, (byte) 0xab);
+    ClientNotificationPushStream.writeBatch(out, "first".getBytes(StandardCharsets.UTF_8));
+    ClientNotificationPushStream.writeBatch(out, new byte[0]);
+    ClientNotificationPushStream.writeBatch(out, large);
+
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    assertEquals("first", new String(ClientNotificationPushStream.readBatch(in), StandardCharsets.UTF_8));
+    assertEquals(0, ClientNotificationPushStream.readBatch(in).length);
+    assertArrayEquals(large, ClientNotificationPushStream.readBatch(in));
+    assertNull(ClientNotificationPushStream.readBatch(in));
+  }
+
+  @Test(expected = EOFException.class)
+  public void testTruncatedBatch() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ClientNotificationPushStream.writeBatch(out, "batch".getBytes(StandardCharsets.UTF_8));
+    byte[] bytes = out.toByteArray();
+    ClientNotificationPushStream.readBatch(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+  }
+
+  @Test(expected = IOException.class)
+  public void testInvalidLength() throws IOException {
+    ClientNotificationPushStream.readBatch(new ByteArrayInputStream(new byte[]{(byte) 0xff, 0, 0, 0}));
+  }
+}
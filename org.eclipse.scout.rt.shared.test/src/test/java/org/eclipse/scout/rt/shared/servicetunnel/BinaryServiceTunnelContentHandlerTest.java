@@ -10,11 +10,17 @@
 package org.eclipse.scout.rt.shared.servicetunnel;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -81,7 +87,9 @@ public class BinaryServiceTunnelContentHandlerTest {
     ByteArrayOutputStream bos = new ByteArrayOutputStream();
     handler.writeResponse(bos, new ServiceTunnelResponse("test", null));
     bos.close();
-    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    byte[] data = bos.toByteArray();
+    assertEquals(BinaryServiceTunnelContentHandler.CODEC_DEFLATE, data[0]);
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(data));
     assertEquals("test", readResponse.getData());
   }
 
@@ -128,9 +136,46 @@ public class BinaryServiceTunnelContentHandlerTest {
     handler.writeResponse(bos, request);
     bos.close();
     int sizeUncompressed = bos.size();
+    assertEquals(BinaryServiceTunnelContentHandler.CODEC_NONE, bos.toByteArray()[0]);
     ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
     assertEquals(testValue, readResponse.getData());
     assertTrue(String.format("sizeUncompressed: %s, sizeCompressed: %s", sizeUncompressed, sizeCompressed), sizeUncompressed > sizeCompressed);
   }
 
+  @Test
+  public void responseCustomCodec() throws Throwable {
+    BinaryServiceTunnelContentHandler handler = new P_GzipContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse("test", null));
+    bos.close();
+    byte[] data = bos.toByteArray();
+    assertEquals(P_GzipContentHandler.CODEC_GZIP, data[0]);
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(data));
+    assertEquals("test", readResponse.getData());
+
+    // the default handler does not know the codec
+    BinaryServiceTunnelContentHandler defaultHandler = new BinaryServiceTunnelContentHandler();
+    defaultHandler.initialize();
+    assertThrows(IOException.class, () -> defaultHandler.readResponse(new ByteArrayInputStream(data)));
+  }
+
+  private static class P_GzipContentHandler extends BinaryServiceTunnelContentHandler {
+    static final int CODEC_GZIP = 2;
+
+    @Override
+    protected int getCodec() {
+      return CODEC_GZIP;
+    }
+
+    @Override
+    protected OutputStream createEncodingOutputStream(int codec, OutputStream out) throws IOException {
+      return new GZIPOutputStream(out);
+    }
+
+    @Override
+    protected InputStream createDecodingInputStream(int codec, InputStream in) throws IOException {
+      return new GZIPInputStream(in);
+    }
+  }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.value.BooleanValueDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link DataObjectServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class DataObjectServiceTunnelContentHandlerTest {
+
+  private DataObjectServiceTunnelContentHandler m_handler;
+
+  @Before
+  public void before() {
+    m_handler = new DataObjectServiceTunnelContentHandler();
+    m_handler.initialize();
+  }
+
+  @Test
+  public void request() throws Exception {
+    IDoEntity entity = BEANS.get(DoEntity.class);
+    entity.put("name", "test");
+    BooleanValueDo valueDo = BooleanValueDo.of(true);
+    Date date = new Date();
+    Class[] parameterTypes = {String.class, int.class, Long.class, BigDecimal.class, Date.class, Locale.class, byte[].class, String.class, IDoEntity.class, BooleanValueDo.class, String[].class};
+    Object[] args = {"text", 42, 7L, new BigDecimal("1.50"), date, Locale.GERMAN, new byte[]{1, 2}, null, entity, valueDo, new String[]{"a", "b"}};
+    ServiceTunnelRequest request = new ServiceTunnelRequest("org.eclipse.scout.rt.shared.ITestService", "test", parameterTypes, args);
+    request.setSessionId("session");
+    request.setUserAgent("userAgent");
+
+    ServiceTunnelRequest readRequest = m_handler.readRequest(new ByteArrayInputStream(writeRequest(request)));
+    assertEquals(request.getRequestSequence(), readRequest.getRequestSequence());
+    assertEquals("session", readRequest.getSessionId());
+    assertEquals("userAgent", readRequest.getUserAgent());
+    assertEquals(request.getLocale(), readRequest.getLocale());
+    assertEquals("org.eclipse.scout.rt.shared.ITestService", readRequest.getServiceInterfaceClassName());
+    assertEquals("test", readRequest.getOperation());
+    assertArrayEquals(parameterTypes, readRequest.getParameterTypes());
+
+    Object[] readArgs = readRequest.getArgs();
+    assertEquals(args.length, readArgs.length);
+    assertEquals(Arrays.asList(args).subList(0, 6), Arrays.asList(readArgs).subList(0, 6));
+    assertArrayEquals((byte[]) args[6], (byte[]) readArgs[6]);
+    assertNull(readArgs[7]);
+    assertEquals(entity, readArgs[8]);
+    assertEquals(valueDo, readArgs[9]);
+    assertArrayEquals((String[]) args[10], (String[]) readArgs[10]);
+  }
+
+  @Test
+  public void requestBlacklistedParameterType() throws Exception {
+    ServiceTunnelRequest request = new ServiceTunnelRequest("test", "test", new Class[]{javax.management.BadAttributeValueExpException.class}, null);
+    byte[] data = writeRequest(request);
+    assertThrows(ProcessingException.class, () -> m_handler.readRequest(new ByteArrayInputStream(data)));
+  }
+
+  @Test
+  public void response() throws Exception {
+    IDoEntity entity = BEANS.get(DoEntity.class);
+    entity.put("name", "test");
+    ServiceTunnelResponse response = new ServiceTunnelResponse(entity, new ProcessingException("error"));
+    response.setProcessingDuration(10L);
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_handler.writeResponse(bos, response);
+    ServiceTunnelResponse readResponse = m_handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(entity, readResponse.getData());
+    assertEquals(ProcessingException.class, readResponse.getException().getClass());
+    assertEquals(Long.valueOf(10L), readResponse.getProcessingDuration());
+    assertNull(readResponse.getNotifications());
+  }
+
+  protected byte[] writeRequest(ServiceTunnelRequest request) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_handler.writeRequest(bos, request);
+    return bos.toByteArray();
+  }
+}
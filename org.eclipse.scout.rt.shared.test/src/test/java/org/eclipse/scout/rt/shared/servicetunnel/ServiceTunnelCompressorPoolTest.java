@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ServiceTunnelCompressorPool}
+ */
+public class ServiceTunnelCompressorPoolTest {
+
+  @Test
+  public void testReuse() throws Exception {
+    ServiceTunnelCompressorPool pool = new ServiceTunnelCompressorPool();
+    Deflater deflater = pool.borrowDeflater();
+    byte[] first = compress(deflater, "test");
+    pool.releaseDeflater(deflater);
+
+    Deflater reused = pool.borrowDeflater();
+    assertSame(deflater, reused);
+    assertArrayEquals(first, compress(reused, "test")); // reset on release
+    assertNotSame(reused, pool.borrowDeflater());
+
+    Inflater inflater = pool.borrowInflater();
+    pool.releaseInflater(inflater);
+    assertSame(inflater, pool.borrowInflater());
+  }
+
+  @Test
+  public void testMaxIdleCount() {
+    ServiceTunnelCompressorPool pool = new ServiceTunnelCompressorPool() {
+      @Override
+      protected int getMaxIdleCount() {
+        return 1;
+      }
+    };
+    Deflater d1 = pool.borrowDeflater();
+    Deflater d2 = pool.borrowDeflater();
+    pool.releaseDeflater(d1);
+    pool.releaseDeflater(d2); // ended, pool is full
+    assertSame(d1, pool.borrowDeflater());
+    assertNotSame(d2, pool.borrowDeflater());
+  }
+
+  private static byte[] compress(Deflater deflater, String s) throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (DeflaterOutputStream out = new DeflaterOutputStream(bos, deflater)) {
+      out.write(s.getBytes(StandardCharsets.UTF_8));
+    }
+    return bos.toByteArray();
+  }
+}
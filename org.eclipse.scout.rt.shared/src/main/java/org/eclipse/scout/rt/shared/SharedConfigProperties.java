@@ -204,6 +204,25 @@ public final class SharedConfigProperties {
     }
   }
 
+  public static class StreamServiceTunnelRequestProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the HTTP service tunnel streams the serialized request to the server (chunked transfer encoding) instead of buffering it in memory first.\n"
+          + "This reduces the memory footprint and latency of large requests. The default value is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.streamRequest";
+    }
+  }
+
   public static class CreateTunnelToServerBeansProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.clientnotification;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * Format of the HTTP response by which the server pushes client notifications to a client node.
+ * <p>
+ * The client requests the push stream by sending a regular service tunnel request for
+ * {@link IClientNotificationService#getNotifications(org.eclipse.scout.rt.dataobject.id.NodeId)} with the HTTP header
+ * {@link #HTTP_HEADER}. A server supporting push mode answers with the same header and keeps the response open. It
+ * writes a batch whenever notifications are available, or an empty batch after the blocking timeout has elapsed (which
+ * serves as heartbeat). Each batch is a {@link ServiceTunnelResponse} containing the list of
+ * {@link ClientNotificationMessage}s, written by the {@link IServiceTunnelContentHandler} and preceded by its length (4
+ * bytes, big-endian). A server not supporting push mode answers with a single regular response.
+ *
+ * @since 23.2
+ */
+public final class ClientNotificationPushStream {
+
+  public static final String HTTP_HEADER = "X-Scout-ClientNotificationPush";
+
+  /**
+   * Upper bound of a batch to detect corrupt streams
+   */
+  private static final int MAX_BATCH_SIZE = 256 * 1024 * 1024;
+
+  private ClientNotificationPushStream() {
+  }
+
+  /**
+   * Writes a batch and flushes the stream. Blocks while the client does not read (back-pressure).
+   */
+  public static void writeBatch(OutputStream out, byte[] batch) throws IOException {
+    int length = batch.length;
+    out.write(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+    out.write(batch);
+    out.flush();
+  }
+
+  /**
+   * @return the next batch or <code>null</code> if the server has ended the stream
+   */
+  public static byte[] readBatch(InputStream in) throws IOException {
+    int b0 = in.read();
+    if (b0 < 0) {
+      return null;
+    }
+    byte[] header = in.readNBytes(3);
+    if (header.length < 3) {
+      throw new EOFException("Unexpected end of client notification stream");
+    }
+    int length = (b0 << 24) | ((header[0] & 0xff) << 16) | ((header[1] & 0xff) << 8) | (header[2] & 0xff);
+    if (length < 0 || length > MAX_BATCH_SIZE) {
+      throw new IOException("Invalid client notification batch length " + length);
+    }
+    byte[] batch = in.readNBytes(length);
+    if (batch.length < length) {
+      throw new EOFException("Unexpected end of client notification stream");
+    }
+    return batch;
+  }
+}
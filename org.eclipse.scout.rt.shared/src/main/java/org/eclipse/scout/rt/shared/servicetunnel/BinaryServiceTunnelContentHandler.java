@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.shared.servicetunnel;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
@@ -18,20 +20,34 @@ import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * "No frills" implementation for client-server communication with optional compression.
+ * <p>
+ * The serialized data is preceded by a byte identifying the codec used to compress it: {@link #CODEC_NONE} or
+ * {@link #CODEC_DEFLATE}. Other codecs (e.g. LZ4 or zstd) may be added by a subclass which overrides
+ * {@link #getCodec()}, {@link #createEncodingOutputStream(int, OutputStream)} and
+ * {@link #createDecodingInputStream(int, InputStream)}. Responses are sent with the codec of the request.
+ * <p>
+ * The messages are written using Java serialization. Subclasses may use another format by overriding
+ * {@link #serialize(OutputStream, Object)} and {@link #deserialize(InputStream, Class)}, see
+ * {@link DataObjectServiceTunnelContentHandler}.
  */
 @Order(5010)
 public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(BinaryServiceTunnelContentHandler.class);
   private static final String CONTENT_TYPE = "application/octet-stream";
+  private static final int BUFFER_SIZE = 8192;
 
-  private Boolean m_receivedCompressed;
+  public static final int CODEC_NONE = 0;
+  public static final int CODEC_DEFLATE = 1;
+
+  private Integer m_receivedCodec;
 
   @Override
   public String getContentType() {
@@ -60,16 +76,19 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
 
   private void writeData(OutputStream out, Object msg) throws IOException {
     Deflater deflater = null;
-    boolean compressed = isUseCompression();
+    int codec = getCodec();
     try {
-      // signal compression
-      out.write(compressed ? 1 : 0);
+      // signal codec
+      out.write(codec);
       // build serialized data
-      if (compressed) {
-        deflater = new Deflater(Deflater.BEST_SPEED);
-        out = new DeflaterOutputStream(out, deflater);
+      if (codec == CODEC_DEFLATE) {
+        deflater = BEANS.get(ServiceTunnelCompressorPool.class).borrowDeflater();
+        out = new BufferedOutputStream(new DeflaterOutputStream(out, deflater, BUFFER_SIZE), BUFFER_SIZE);
+      }
+      else if (codec != CODEC_NONE) {
+        out = createEncodingOutputStream(codec, out);
       }
-      getObjectSerializer().serialize(out, msg);
+      serialize(out, msg);
     }
     catch (NotSerializableException e) {
       LOG.error("Error serializing data '{}'", msg);
@@ -77,11 +96,7 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     }
     finally {
       if (deflater != null) {
-        try {
-          deflater.end();
-        }
-        catch (Throwable fatal) { // NOSONAR
-        }
+        BEANS.get(ServiceTunnelCompressorPool.class).releaseDeflater(deflater);
       }
     }
   }
@@ -89,33 +104,89 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
   private <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
     Inflater inflater = null;
     try {
-      // read compressed flag
-      boolean compressed = in.read() == 1;
-      m_receivedCompressed = compressed;
+      // read codec
+      int codec = in.read();
       // decode serial data
-      if (compressed) {
-        inflater = new Inflater();
-        in = new InflaterInputStream(in, inflater);
+      if (codec == CODEC_DEFLATE) {
+        inflater = BEANS.get(ServiceTunnelCompressorPool.class).borrowInflater();
+        in = new BufferedInputStream(new InflaterInputStream(in, inflater, BUFFER_SIZE), BUFFER_SIZE);
+      }
+      else if (codec > CODEC_DEFLATE) {
+        in = createDecodingInputStream(codec, in);
+      }
+      else {
+        codec = CODEC_NONE;
       }
-      return getObjectSerializer().deserialize(in, clazz);
+      m_receivedCodec = codec;
+      return deserialize(in, clazz);
     }
     finally {
       if (inflater != null) {
-        try {
-          inflater.end();
-        }
-        catch (Throwable fatal) { // NOSONAR
-        }
+        BEANS.get(ServiceTunnelCompressorPool.class).releaseInflater(inflater);
       }
     }
   }
 
+  /**
+   * Writes the message to the (possibly compressing) stream and closes it.
+   *
+   * @param msg
+   *          {@link ServiceTunnelRequest} or {@link ServiceTunnelResponse}
+   */
+  protected void serialize(OutputStream out, Object msg) throws IOException {
+    getObjectSerializer().serialize(out, msg);
+  }
+
+  /**
+   * Reads a message written by {@link #serialize(OutputStream, Object)} from the (possibly decompressing) stream.
+   */
+  protected <T> T deserialize(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
+    return getObjectSerializer().deserialize(in, clazz);
+  }
+
+  /**
+   * @return the codec used to write the data. If compression is used, the codec of the data last received is used (to
+   *         respond with the codec of the request). The default is {@link #CODEC_DEFLATE}.
+   */
+  protected int getCodec() {
+    if (!isUseCompression()) {
+      return CODEC_NONE;
+    }
+    if (m_receivedCodec != null && m_receivedCodec != CODEC_NONE) {
+      return m_receivedCodec;
+    }
+    return CODEC_DEFLATE;
+  }
+
+  /**
+   * Override this method to support additional codecs, see {@link #getCodec()}.
+   *
+   * @param codec
+   *          codec returned by {@link #getCodec()}, neither {@link #CODEC_NONE} nor {@link #CODEC_DEFLATE}
+   * @return stream which compresses the data written and writes it to <code>out</code>. Closing the stream must close
+   *         <code>out</code>.
+   */
+  protected OutputStream createEncodingOutputStream(int codec, OutputStream out) throws IOException {
+    throw new IOException("Unsupported service tunnel codec " + codec);
+  }
+
+  /**
+   * Override this method to support additional codecs, see {@link #getCodec()}.
+   *
+   * @param codec
+   *          codec read from the data, neither {@link #CODEC_NONE} nor {@link #CODEC_DEFLATE}
+   * @return stream which decompresses the data read from <code>in</code>
+   */
+  protected InputStream createDecodingInputStream(int codec, InputStream in) throws IOException {
+    throw new IOException("Unsupported service tunnel codec " + codec);
+  }
+
   protected boolean isUseCompression() {
     if (isSendCompressed() != null) {
       return isSendCompressed();
     }
-    if (m_receivedCompressed != null) {
-      return m_receivedCompressed;
+    if (m_receivedCodec != null) {
+      return m_receivedCodec != CODEC_NONE;
     }
     return true;
   }
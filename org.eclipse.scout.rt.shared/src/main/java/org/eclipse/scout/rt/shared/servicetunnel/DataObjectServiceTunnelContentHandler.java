@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.value.BigDecimalValueDo;
+import org.eclipse.scout.rt.dataobject.value.BooleanValueDo;
+import org.eclipse.scout.rt.dataobject.value.ByteArrayValueDo;
+import org.eclipse.scout.rt.dataobject.value.DateTimeWithTimeZoneValueDo;
+import org.eclipse.scout.rt.dataobject.value.DoEntityValueDo;
+import org.eclipse.scout.rt.dataobject.value.IValueDo;
+import org.eclipse.scout.rt.dataobject.value.IntegerValueDo;
+import org.eclipse.scout.rt.dataobject.value.LocaleValueDo;
+import org.eclipse.scout.rt.dataobject.value.LongValueDo;
+import org.eclipse.scout.rt.dataobject.value.StringValueDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.Replace;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+
+/**
+ * Writes {@link ServiceTunnelRequest} and {@link ServiceTunnelResponse} as data objects
+ * ({@link ServiceTunnelRequestDo}, {@link ServiceTunnelResponseDo}) using the {@link IDataObjectMapper} instead of Java
+ * serialization. Compression is the same as in {@link BinaryServiceTunnelContentHandler}.
+ * <p>
+ * Arguments and return values of type {@link String}, {@link Boolean}, {@link Integer}, {@link Long},
+ * {@link BigDecimal}, {@link Date}, {@link Locale} and <code>byte[]</code> are written as the corresponding
+ * {@link IValueDo}, data objects are written as they are. Any other value (e.g. form data, exceptions, client
+ * notifications) is written as {@link SerializedValueDo} using Java serialization with the blacklist and whitelist of
+ * the {@link #getObjectSerializer() object serializer}. Services which exchange data objects only therefore do not
+ * use Java serialization at all.
+ * <p>
+ * This implementation can be used by an application by subclassing this class and adding the {@link Replace}
+ * annotation. Client and server must use the same content handler.
+ *
+ * @since 23.2
+ */
+@Order(5200)
+public class DataObjectServiceTunnelContentHandler extends BinaryServiceTunnelContentHandler {
+
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+  private static final Map<Class<?>, Function<Object, IDoEntity>> VALUE_ENCODERS = new HashMap<>();
+
+  static {
+    for (Class<?> c : new Class[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class}) {
+      PRIMITIVE_TYPES.put(c.getName(), c);
+    }
+    VALUE_ENCODERS.put(String.class, v -> StringValueDo.of((String) v));
+    VALUE_ENCODERS.put(Boolean.class, v -> BooleanValueDo.of((Boolean) v));
+    VALUE_ENCODERS.put(Integer.class, v -> IntegerValueDo.of((Integer) v));
+    VALUE_ENCODERS.put(Long.class, v -> LongValueDo.of((Long) v));
+    VALUE_ENCODERS.put(BigDecimal.class, v -> BigDecimalValueDo.of((BigDecimal) v));
+    VALUE_ENCODERS.put(Date.class, v -> DateTimeWithTimeZoneValueDo.of((Date) v));
+    VALUE_ENCODERS.put(Locale.class, v -> LocaleValueDo.of((Locale) v));
+    VALUE_ENCODERS.put(byte[].class, v -> ByteArrayValueDo.of((byte[]) v));
+  }
+
+  @Override
+  protected void serialize(OutputStream out, Object msg) throws IOException {
+    IDoEntity entity;
+    if (msg instanceof ServiceTunnelRequest) {
+      entity = toRequestDo((ServiceTunnelRequest) msg);
+    }
+    else {
+      entity = toResponseDo((ServiceTunnelResponse) msg);
+    }
+    try (OutputStream o = out) {
+      BEANS.get(IDataObjectMapper.class).writeValue(o, entity);
+    }
+  }
+
+  @Override
+  protected <T> T deserialize(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
+    if (clazz == ServiceTunnelRequest.class) {
+      return clazz.cast(toRequest(BEANS.get(IDataObjectMapper.class).readValue(in, ServiceTunnelRequestDo.class)));
+    }
+    return clazz.cast(toResponse(BEANS.get(IDataObjectMapper.class).readValue(in, ServiceTunnelResponseDo.class)));
+  }
+
+  protected ServiceTunnelRequestDo toRequestDo(ServiceTunnelRequest request) throws IOException {
+    ServiceTunnelRequestDo requestDo = BEANS.get(ServiceTunnelRequestDo.class)
+        .withRequestSequence(request.getRequestSequence())
+        .withSessionId(request.getSessionId())
+        .withServiceInterfaceClassName(request.getServiceInterfaceClassName())
+        .withOperation(request.getOperation())
+        .withLocale(request.getLocale())
+        .withUserAgent(request.getUserAgent())
+        .withClientNodeId(request.getClientNodeId());
+    if (request.getParameterTypes() != null) {
+      for (Class<?> parameterType : request.getParameterTypes()) {
+        requestDo.parameterTypes().add(parameterType.getName());
+      }
+    }
+    for (Object arg : request.getArgs()) {
+      requestDo.args().add(encodeValue(arg));
+    }
+    return requestDo;
+  }
+
+  protected ServiceTunnelRequest toRequest(ServiceTunnelRequestDo requestDo) throws IOException, ClassNotFoundException {
+    Class[] parameterTypes = null;
+    if (requestDo.parameterTypes().exists()) {
+      List<String> parameterTypeNames = requestDo.getParameterTypes();
+      parameterTypes = new Class[parameterTypeNames.size()];
+      for (int i = 0; i < parameterTypes.length; i++) {
+        parameterTypes[i] = resolveClass(parameterTypeNames.get(i));
+      }
+    }
+    List<IDoEntity> argDos = requestDo.getArgs();
+    Object[] args = new Object[argDos.size()];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = decodeValue(argDos.get(i));
+    }
+    ServiceTunnelRequest request = new ServiceTunnelRequest(requestDo.getRequestSequence(), requestDo.getServiceInterfaceClassName(), requestDo.getOperation(), parameterTypes, args, requestDo.getLocale());
+    request.setSessionId(requestDo.getSessionId());
+    request.setUserAgent(requestDo.getUserAgent());
+    request.setClientNodeId(requestDo.getClientNodeId());
+    return request;
+  }
+
+  protected ServiceTunnelResponseDo toResponseDo(ServiceTunnelResponse response) throws IOException {
+    ServiceTunnelResponseDo responseDo = BEANS.get(ServiceTunnelResponseDo.class)
+        .withData(encodeValue(response.getData()))
+        .withProcessingDuration(response.getProcessingDuration());
+    if (response.getException() != null) {
+      responseDo.withException(serializeValue(response.getException()));
+    }
+    if (response.getNotifications() != null) {
+      responseDo.withNotifications(serializeValue(new ArrayList<>(response.getNotifications())));
+    }
+    return responseDo;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected ServiceTunnelResponse toResponse(ServiceTunnelResponseDo responseDo) throws IOException, ClassNotFoundException {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(decodeValue(responseDo.getData()), deserializeValue(responseDo.getException(), Throwable.class));
+    response.setProcessingDuration(responseDo.getProcessingDuration());
+    response.setNotifications((List<ClientNotificationMessage>) deserializeValue(responseDo.getNotifications(), List.class));
+    return response;
+  }
+
+  /**
+   * @return data object representing the given argument or return value, see class comment
+   */
+  protected IDoEntity encodeValue(Object value) throws IOException {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof IDoEntity) {
+      if (value instanceof IValueDo || value instanceof SerializedValueDo) {
+        // would be unwrapped by decodeValue otherwise
+        return DoEntityValueDo.of((IDoEntity) value);
+      }
+      return (IDoEntity) value;
+    }
+    Function<Object, IDoEntity> encoder = VALUE_ENCODERS.get(value.getClass());
+    if (encoder != null) {
+      return encoder.apply(value);
+    }
+    return serializeValue(value);
+  }
+
+  /**
+   * Inverse of {@link #encodeValue(Object)}
+   */
+  protected Object decodeValue(IDoEntity entity) throws IOException, ClassNotFoundException {
+    if (entity instanceof SerializedValueDo) {
+      return deserializeValue((SerializedValueDo) entity, Object.class);
+    }
+    if (entity instanceof IValueDo) {
+      return ((IValueDo<?>) entity).unwrap();
+    }
+    return entity;
+  }
+
+  protected SerializedValueDo serializeValue(Object value) throws IOException {
+    return BEANS.get(SerializedValueDo.class).withData(getObjectSerializer().serialize(value));
+  }
+
+  protected <T> T deserializeValue(SerializedValueDo serializedValue, Class<T> expectedType) throws IOException, ClassNotFoundException {
+    if (serializedValue == null) {
+      return null;
+    }
+    return getObjectSerializer().deserialize(serializedValue.getData(), expectedType);
+  }
+
+  /**
+   * Resolves a parameter type. The class is subject to the same blacklist and whitelist as classes read by Java
+   * serialization.
+   */
+  protected Class<?> resolveClass(String className) throws ClassNotFoundException {
+    Class<?> primitiveType = PRIMITIVE_TYPES.get(className);
+    if (primitiveType != null) {
+      return primitiveType;
+    }
+    if (getObjectSerializer().getBlacklist().test(className) || !getObjectSerializer().getWhitelist().test(className)) {
+      throw new ProcessingException("Security check: parameter type '{}' is blacklisted or not whitelisted", className);
+    }
+    return Class.forName(className, false, SerializationUtility.getClassLoader());
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+/**
+ * Value which has no data object representation and is therefore transferred using Java serialization, see
+ * {@link DataObjectServiceTunnelContentHandler}.
+ *
+ * @since 23.2
+ */
+@TypeName("scout.ServiceTunnelSerializedValue")
+public class SerializedValueDo extends DoEntity {
+
+  public DoValue<byte[]> data() {
+    return doValue("data");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public SerializedValueDo withData(byte[] data) {
+    data().set(data);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public byte[] getData() {
+    return data().get();
+  }
+}
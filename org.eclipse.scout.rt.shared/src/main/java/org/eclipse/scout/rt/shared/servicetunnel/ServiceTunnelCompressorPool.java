@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+/**
+ * Pool of {@link Deflater} and {@link Inflater} instances used by {@link BinaryServiceTunnelContentHandler}.
+ * <p>
+ * Creating a {@link Deflater} allocates a native zlib stream of several hundred kilobytes which is only released by
+ * {@link Deflater#end()}. Reusing the instances avoids this allocation for every service call. At most
+ * {@link #getMaxIdleCount()} instances of each kind are kept, the others are ended when released.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class ServiceTunnelCompressorPool {
+
+  private final Queue<Deflater> m_deflaters = new ConcurrentLinkedQueue<>();
+  private final Queue<Inflater> m_inflaters = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_idleDeflaterCount = new AtomicInteger();
+  private final AtomicInteger m_idleInflaterCount = new AtomicInteger();
+
+  /**
+   * @return a {@link Deflater} which must be given back using {@link #releaseDeflater(Deflater)}
+   */
+  public Deflater borrowDeflater() {
+    Deflater deflater = m_deflaters.poll();
+    if (deflater == null) {
+      return createDeflater();
+    }
+    m_idleDeflaterCount.decrementAndGet();
+    return deflater;
+  }
+
+  public void releaseDeflater(Deflater deflater) {
+    if (deflater == null) {
+      return;
+    }
+    if (m_idleDeflaterCount.incrementAndGet() > getMaxIdleCount()) {
+      m_idleDeflaterCount.decrementAndGet();
+      deflater.end();
+      return;
+    }
+    deflater.reset();
+    m_deflaters.offer(deflater);
+  }
+
+  /**
+   * @return an {@link Inflater} which must be given back using {@link #releaseInflater(Inflater)}
+   */
+  public Inflater borrowInflater() {
+    Inflater inflater = m_inflaters.poll();
+    if (inflater == null) {
+      return new Inflater();
+    }
+    m_idleInflaterCount.decrementAndGet();
+    return inflater;
+  }
+
+  public void releaseInflater(Inflater inflater) {
+    if (inflater == null) {
+      return;
+    }
+    if (m_idleInflaterCount.incrementAndGet() > getMaxIdleCount()) {
+      m_idleInflaterCount.decrementAndGet();
+      inflater.end();
+      return;
+    }
+    inflater.reset();
+    m_inflaters.offer(inflater);
+  }
+
+  protected Deflater createDeflater() {
+    return new Deflater(Deflater.BEST_SPEED);
+  }
+
+  /**
+   * @return maximum number of idle instances kept per kind
+   */
+  protected int getMaxIdleCount() {
+    return 2 * Runtime.getRuntime().availableProcessors();
+  }
+}
@@ -27,7 +27,7 @@ public class ServiceTunnelRequest implements Serializable {
   /**
    * @since 3.8
    */
-  private final long m_requestSequence = REQUEST_SEQUENCE_GENERATOR.incrementAndGet();
+  private final long m_requestSequence;
   private String m_sessionId;
   private final String m_serviceInterfaceClassName;
   private final String m_operation;
@@ -38,6 +38,14 @@ public class ServiceTunnelRequest implements Serializable {
   private NodeId m_clientNodeId;
 
   public ServiceTunnelRequest(String serviceInterfaceName, String op, Class[] parameterTypes, Object[] args) {
+    this(REQUEST_SEQUENCE_GENERATOR.incrementAndGet(), serviceInterfaceName, op, parameterTypes, args, NlsLocale.get());
+  }
+
+  /**
+   * Restores a request read by {@link DataObjectServiceTunnelContentHandler}.
+   */
+  ServiceTunnelRequest(long requestSequence, String serviceInterfaceName, String op, Class[] parameterTypes, Object[] args, Locale locale) {
+    m_requestSequence = requestSequence;
     m_serviceInterfaceClassName = serviceInterfaceName;
     m_operation = op;
     m_parameterTypes = parameterTypes;
@@ -45,7 +53,7 @@ public class ServiceTunnelRequest implements Serializable {
       args = new Object[0];
     }
     m_args = args;
-    m_locale = NlsLocale.get();
+    m_locale = locale;
   }
 
   /**
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.TypeName;
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+
+/**
+ * Data object representation of a {@link ServiceTunnelRequest}, see {@link DataObjectServiceTunnelContentHandler}.
+ *
+ * @since 23.2
+ */
+@TypeName("scout.ServiceTunnelRequest")
+public class ServiceTunnelRequestDo extends DoEntity {
+
+  public DoValue<Long> requestSequence() {
+    return doValue("requestSequence");
+  }
+
+  public DoValue<String> sessionId() {
+    return doValue("sessionId");
+  }
+
+  public DoValue<String> serviceInterfaceClassName() {
+    return doValue("serviceInterfaceClassName");
+  }
+
+  public DoValue<String> operation() {
+    return doValue("operation");
+  }
+
+  /**
+   * Class names of the parameter types of the operation.
+   */
+  public DoList<String> parameterTypes() {
+    return doList("parameterTypes");
+  }
+
+  /**
+   * Arguments encoded by {@link DataObjectServiceTunnelContentHandler#encodeValue(Object)}.
+   */
+  public DoList<IDoEntity> args() {
+    return doList("args");
+  }
+
+  public DoValue<Locale> locale() {
+    return doValue("locale");
+  }
+
+  public DoValue<String> userAgent() {
+    return doValue("userAgent");
+  }
+
+  public DoValue<NodeId> clientNodeId() {
+    return doValue("clientNodeId");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withRequestSequence(Long requestSequence) {
+    requestSequence().set(requestSequence);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Long getRequestSequence() {
+    return requestSequence().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withSessionId(String sessionId) {
+    sessionId().set(sessionId);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getSessionId() {
+    return sessionId().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withServiceInterfaceClassName(String serviceInterfaceClassName) {
+    serviceInterfaceClassName().set(serviceInterfaceClassName);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getServiceInterfaceClassName() {
+    return serviceInterfaceClassName().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withOperation(String operation) {
+    operation().set(operation);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getOperation() {
+    return operation().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withParameterTypes(Collection<? extends String> parameterTypes) {
+    parameterTypes().updateAll(parameterTypes);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withParameterTypes(String... parameterTypes) {
+    parameterTypes().updateAll(parameterTypes);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<String> getParameterTypes() {
+    return parameterTypes().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withArgs(Collection<? extends IDoEntity> args) {
+    args().updateAll(args);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withArgs(IDoEntity... args) {
+    args().updateAll(args);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<IDoEntity> getArgs() {
+    return args().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withLocale(Locale locale) {
+    locale().set(locale);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Locale getLocale() {
+    return locale().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withUserAgent(String userAgent) {
+    userAgent().set(userAgent);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getUserAgent() {
+    return userAgent().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelRequestDo withClientNodeId(NodeId clientNodeId) {
+    clientNodeId().set(clientNodeId);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public NodeId getClientNodeId() {
+    return clientNodeId().get();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+/**
+ * Data object representation of a {@link ServiceTunnelResponse}, see {@link DataObjectServiceTunnelContentHandler}.
+ *
+ * @since 23.2
+ */
+@TypeName("scout.ServiceTunnelResponse")
+public class ServiceTunnelResponseDo extends DoEntity {
+
+  /**
+   * Return value encoded by {@link DataObjectServiceTunnelContentHandler#encodeValue(Object)}.
+   */
+  public DoValue<IDoEntity> data() {
+    return doValue("data");
+  }
+
+  public DoValue<SerializedValueDo> exception() {
+    return doValue("exception");
+  }
+
+  public DoValue<Long> processingDuration() {
+    return doValue("processingDuration");
+  }
+
+  public DoValue<SerializedValueDo> notifications() {
+    return doValue("notifications");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelResponseDo withData(IDoEntity data) {
+    data().set(data);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public IDoEntity getData() {
+    return data().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelResponseDo withException(SerializedValueDo exception) {
+    exception().set(exception);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public SerializedValueDo getException() {
+    return exception().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelResponseDo withProcessingDuration(Long processingDuration) {
+    processingDuration().set(processingDuration);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Long getProcessingDuration() {
+    return processingDuration().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelResponseDo withNotifications(SerializedValueDo notifications) {
+    notifications().set(notifications);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public SerializedValueDo getNotifications() {
+    return notifications().get();
+  }
+}
@@ -9,15 +9,23 @@
  */
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
+import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.UriUtility;
@@ -25,6 +33,10 @@ import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.StreamServiceTunnelRequestProperty;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationPushStream;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
@@ -35,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
@@ -52,6 +65,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
+  private final boolean m_streamRequest;
 
   public HttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -61,6 +75,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     m_serverUrl = url;
     m_genericUrl = url != null ? new GenericUrl(url) : null;
     m_active = url != null;
+    m_streamRequest = CONFIG.getPropertyValue(StreamServiceTunnelRequestProperty.class);
   }
 
   protected static URL getConfiguredServerUrl() {
@@ -100,6 +115,38 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}
    */
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    return executeRequest(call, new ByteArrayContentEx(null, callData, false), callData);
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} whose data is streamed to the server (see
+   * {@link StreamServiceTunnelRequestProperty}).
+   *
+   * @param call
+   *          the original call
+   * @param content
+   *          the content serializing the call while it is sent, see {@link #createRequestContent(ServiceTunnelRequest)}
+   * @since 23.2
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content) throws IOException {
+    return executeRequest(call, content, null);
+  }
+
+  /**
+   * @param callData
+   *          the serialized call or <code>null</code> if it is streamed
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content, byte[] callData) throws IOException {
+    return createHttpRequest(call, content, callData).execute();
+  }
+
+  /**
+   * @param callData
+   *          the serialized call or <code>null</code> if it is streamed
+   * @return the HTTP request to send the call, including all headers
+   * @since 23.2
+   */
+  protected HttpRequest createHttpRequest(ServiceTunnelRequest call, HttpContent content, byte[] callData) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -110,13 +157,106 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
 
     HttpRequestFactory requestFactory = getHttpTransportManager().getHttpRequestFactory();
-    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), new ByteArrayContentEx(null, callData, false));
+    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), content);
     HttpHeaders headers = request.getHeaders();
     headers.setCacheControl("no-cache");
     headers.setContentType(getContentHandler().getContentType());
     headers.put("Pragma", "no-cache");
     addCustomHeaders(request, call, callData);
-    return request.execute();
+    return request;
+  }
+
+  /**
+   * Receives the client notifications of the given node pushed by the server (see
+   * {@link ClientNotificationPushStream}). Blocks until the server ends the stream, the connection fails or the current
+   * {@link RunMonitor} is cancelled.
+   * <p>
+   * If the server does not support push mode, it answers like to a regular poll request, whose notifications are passed
+   * to the consumer as well.
+   *
+   * @param consumer
+   *          invoked for every batch received; with an empty list if no notifications were available within the
+   *          blocking timeout of the server
+   * @since 23.2
+   */
+  public void receiveClientNotifications(NodeId nodeId, Consumer<List<ClientNotificationMessage>> consumer) throws IOException {
+    ServiceTunnelRequest call;
+    try {
+      call = createRequest(IClientNotificationService.class, IClientNotificationService.class.getMethod("getNotifications", NodeId.class), new Object[]{nodeId});
+    }
+    catch (NoSuchMethodException e) {
+      throw new PlatformException("Client notification service operation not found", e);
+    }
+    interceptRequest(call);
+    checkAlreadyCancelled(call);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    getOrCreateContentHandler().writeRequest(out, call);
+    byte[] callData = out.toByteArray();
+    HttpRequest request = createHttpRequest(call, new ByteArrayContentEx(null, callData, false), callData);
+    request.getHeaders().set(ClientNotificationPushStream.HTTP_HEADER, Boolean.TRUE.toString());
+
+    RunMonitor monitor = RunMonitor.CURRENT.get();
+    HttpResponse resp = request.execute();
+    P_DisconnectOnCancel disconnect = new P_DisconnectOnCancel(resp);
+    monitor.registerCancellable(disconnect);
+    try (InputStream in = resp.getContent()) {
+      interceptHttpResponse(resp, call);
+      if (resp.getStatusCode() != 0 && (resp.getStatusCode() < 200 || resp.getStatusCode() > 299)) {
+        throw new HttpServiceTunnelException(resp.getStatusCode(), "Client notification request failed with status code {}", resp.getStatusCode());
+      }
+      if (!Boolean.parseBoolean(resp.getHeaders().getFirstHeaderStringValue(ClientNotificationPushStream.HTTP_HEADER))) {
+        LOG.debug("Server does not support client notification push mode, received regular response");
+        consumer.accept(readClientNotifications(in));
+        return;
+      }
+      byte[] batch;
+      while (!monitor.isCancelled() && (batch = ClientNotificationPushStream.readBatch(in)) != null) {
+        consumer.accept(readClientNotifications(new ByteArrayInputStream(batch)));
+      }
+    }
+    catch (IOException e) {
+      if (monitor.isCancelled() || disconnect.isCancelled()) {
+        throw new FutureCancelledError("Client notification stream was cancelled.", e);
+      }
+      throw e;
+    }
+    finally {
+      monitor.unregisterCancellable(disconnect);
+      resp.disconnect();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<ClientNotificationMessage> readClientNotifications(InputStream in) throws IOException {
+    ServiceTunnelResponse response;
+    try {
+      response = getOrCreateContentHandler().readResponse(in);
+    }
+    catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+    if (response.getException() != null) {
+      throw interceptException(response.getException());
+    }
+    return (List<ClientNotificationMessage>) response.getData();
+  }
+
+  /**
+   * @return <code>true</code> if requests are streamed to the server instead of being buffered in memory first, see
+   *         {@link StreamServiceTunnelRequestProperty}
+   * @since 23.2
+   */
+  public boolean isStreamRequest() {
+    return m_streamRequest;
+  }
+
+  /**
+   * @return {@link HttpContent} which serializes the request while it is sent
+   * @since 23.2
+   */
+  protected HttpContent createRequestContent(ServiceTunnelRequest call) {
+    return new ServiceTunnelRequestContent(getContentHandler(), call);
   }
 
   /**
@@ -134,7 +274,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * @param call
    *          request information
    * @param callData
-   *          data as byte array
+   *          data as byte array, <code>null</code> if the request is streamed (see {@link #isStreamRequest()})
    * @throws IOException
    * @since 6.0
    */
@@ -184,11 +324,16 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
 
   @Override
   public Object invokeService(Class serviceInterfaceClass, Method operation, Object[] callerArgs) {
+    getOrCreateContentHandler();
+    return super.invokeService(serviceInterfaceClass, operation, callerArgs);
+  }
+
+  protected IServiceTunnelContentHandler getOrCreateContentHandler() {
     if (m_contentHandler == null) {
       m_contentHandler = BEANS.get(IServiceTunnelContentHandler.class);
       m_contentHandler.initialize();
     }
-    return super.invokeService(serviceInterfaceClass, operation, callerArgs);
+    return m_contentHandler;
   }
 
   /**
@@ -253,4 +398,33 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     final String submitter = (currentFuture != null ? currentFuture.getJobInput().getName() : Thread.currentThread().getName());
     return String.format("Tunneling service request [seq=%s, submitter=%s]", requestSequence, submitter);
   }
+
+  /**
+   * Disconnects a client notification stream once the {@link RunMonitor} is cancelled to unblock the reading thread.
+   */
+  private static final class P_DisconnectOnCancel implements ICancellable {
+    private final HttpResponse m_response;
+    private volatile boolean m_cancelled;
+
+    private P_DisconnectOnCancel(HttpResponse response) {
+      m_response = response;
+    }
+
+    @Override
+    public boolean cancel(boolean interruptIfRunning) {
+      m_cancelled = true;
+      try {
+        m_response.disconnect();
+      }
+      catch (IOException e) {
+        LOG.debug("Could not disconnect client notification stream", e);
+      }
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return m_cancelled;
+    }
+  }
 }
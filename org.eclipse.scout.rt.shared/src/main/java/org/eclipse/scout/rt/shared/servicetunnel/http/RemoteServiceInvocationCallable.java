@@ -31,6 +31,7 @@ import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpResponse;
 
 /**
@@ -66,15 +67,23 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
 
     final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
     try {
-      // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
-
-      // Send the request to the server.
-      HttpResponse resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      // Create the request and send it to the server.
+      HttpResponse resp;
+      if (m_tunnel.isStreamRequest()) {
+        HttpContent content = m_tunnel.createRequestContent(m_serviceRequest);
+        resp = m_tunnel.executeRequest(m_serviceRequest, content);
+        if (content instanceof ServiceTunnelRequestContent) {
+          nBytes = ((ServiceTunnelRequestContent) content).getWrittenBytes();
+        }
+      }
+      else {
+        final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+        m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
+        requestMessage.close();
+        final byte[] requestData = requestMessage.toByteArray();
+        nBytes = requestData.length;
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      }
       try {
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
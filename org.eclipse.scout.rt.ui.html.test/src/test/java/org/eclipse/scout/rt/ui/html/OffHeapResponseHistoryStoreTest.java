@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.eclipse.scout.rt.ui.html.ResponseHistory.IStoredResponse;
+import org.eclipse.scout.rt.ui.html.json.JsonResponseBuffer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class OffHeapResponseHistoryStoreTest {
+
+  @Test
+  public void testStoreAndLoad() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(1024 * 1024);
+    JSONObject response = createResponse(7, 100);
+    IStoredResponse storedResponse = store.store("session1", 7L, response);
+
+    // not sent yet
+    assertEquals(1, store.getSize());
+    assertSame(response, storedResponse.getResponse());
+    assertEquals(0, store.getUsedBytes());
+
+    capture(store, response);
+    assertEquals(1, store.getSize());
+    assertEquals(response.toString().length(), store.getUncompressedBytes());
+    assertEquals(OffHeapResponseHistoryStore.BLOCK_SIZE, store.getUsedBytes());
+    assertEquals(OffHeapResponseHistoryStore.SLAB_SIZE, store.getAllocatedBytes());
+    assertTrue("response should be compressed", ((OffHeapResponseHistoryStore.P_StoredResponse) storedResponse).getCompressedSize() < store.getUncompressedBytes());
+
+    JSONObject loaded = storedResponse.getResponse();
+    assertNotSame(response, loaded);
+    assertEquals(response.toString(), loaded.toString());
+
+    storedResponse.release();
+    assertEquals(0, store.getSize());
+    assertEquals(0, store.getUsedBytes());
+    assertEquals(0, store.getUncompressedBytes());
+    assertEquals(OffHeapResponseHistoryStore.SLAB_SIZE, store.getAllocatedBytes());
+    assertNull(storedResponse.getResponse());
+    storedResponse.release(); // must not fail
+    assertEquals(0, store.getEvictionCount());
+  }
+
+  @Test
+  public void testStoreAndLoadMultipleBlocks() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(1024 * 1024);
+    JSONObject response = createRandomResponse(20000);
+    IStoredResponse storedResponse = store.store("session1", 1L, response);
+    capture(store, response);
+
+    assertTrue(store.getUsedBytes() > OffHeapResponseHistoryStore.BLOCK_SIZE);
+    assertEquals(response.toString(), storedResponse.getResponse().toString());
+    storedResponse.release();
+    assertEquals(0, store.getUsedBytes());
+  }
+
+  @Test
+  public void testCaptureUnknownResponse() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(1024 * 1024);
+    capture(store, createResponse(1, 10));
+    assertEquals(0, store.getSize());
+    assertEquals(0, store.getUsedBytes());
+    assertEquals(0, store.getAllocatedBytes());
+  }
+
+  @Test
+  public void testReleaseBeforeCapture() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(1024 * 1024);
+    JSONObject response = createResponse(1, 10);
+    IStoredResponse storedResponse = store.store("session1", 1L, response);
+    storedResponse.release();
+    capture(store, response);
+    assertEquals(0, store.getSize());
+    assertEquals(0, store.getUsedBytes());
+    assertNull(storedResponse.getResponse());
+  }
+
+  @Test
+  public void testReuseBlocks() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(1024 * 1024);
+    for (int i = 0; i < 1000; i++) {
+      JSONObject response = createResponse(i, 100);
+      IStoredResponse storedResponse = store.store("session1", (long) i, response);
+      capture(store, response);
+      assertNotNull(storedResponse.getResponse());
+      storedResponse.release();
+    }
+    assertEquals(0, store.getUsedBytes());
+    assertEquals(OffHeapResponseHistoryStore.SLAB_SIZE, store.getAllocatedBytes());
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(3 * OffHeapResponseHistoryStore.BLOCK_SIZE);
+
+    IStoredResponse response1 = storeAndCapture(store, "session1", 1L, createResponse(1, 100));
+    IStoredResponse response2 = storeAndCapture(store, "session2", 1L, createResponse(2, 100));
+    IStoredResponse response3 = storeAndCapture(store, "session1", 2L, createResponse(3, 100));
+    assertEquals(3, store.getSize());
+    assertEquals(3 * OffHeapResponseHistoryStore.BLOCK_SIZE, store.getAllocatedBytes());
+
+    // read response1, response2 is now the least recently used one
+    assertNotNull(response1.getResponse());
+    IStoredResponse response4 = storeAndCapture(store, "session3", 1L, createResponse(4, 100));
+
+    assertEquals(3, store.getSize());
+    assertEquals(1, store.getEvictionCount());
+    assertTrue(store.getUsedBytes() <= store.getBudget());
+    assertNotNull(response1.getResponse());
+    assertNull(response2.getResponse());
+    assertTrue(((OffHeapResponseHistoryStore.P_StoredResponse) response2).isDiscarded());
+    assertNotNull(response3.getResponse());
+    assertNotNull(response4.getResponse());
+  }
+
+  @Test
+  public void testResponseLargerThanBudget() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(2 * OffHeapResponseHistoryStore.BLOCK_SIZE);
+    IStoredResponse response1 = storeAndCapture(store, "session1", 1L, createResponse(1, 10));
+    IStoredResponse response2 = storeAndCapture(store, "session1", 2L, createRandomResponse(20000));
+
+    // no other response is discarded for a response which can never fit
+    assertEquals(1, store.getEvictionCount());
+    assertEquals(1, store.getSize());
+    assertEquals(OffHeapResponseHistoryStore.BLOCK_SIZE, store.getUsedBytes());
+    assertNotNull(response1.getResponse());
+    assertNull(response2.getResponse());
+    assertTrue(((OffHeapResponseHistoryStore.P_StoredResponse) response2).isDiscarded());
+  }
+
+  @Test
+  public void testResponseSpillingOverFreeBlocks() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(4 * OffHeapResponseHistoryStore.BLOCK_SIZE);
+    IStoredResponse response1 = storeAndCapture(store, "session1", 1L, createResponse(1, 10));
+    IStoredResponse response2 = storeAndCapture(store, "session1", 2L, createRandomResponse(3 * OffHeapResponseHistoryStore.BLOCK_SIZE));
+    assertEquals(4 * OffHeapResponseHistoryStore.BLOCK_SIZE, store.getUsedBytes());
+
+    // all blocks are in use: response3 is deflated to the heap and copied into blocks after discarding response1 and response2
+    JSONObject response = createRandomResponse(5 * OffHeapResponseHistoryStore.BLOCK_SIZE / 2);
+    IStoredResponse response3 = storeAndCapture(store, "session1", 3L, response);
+    assertEquals(2, store.getEvictionCount());
+    assertNull(response1.getResponse());
+    assertNull(response2.getResponse());
+    assertEquals(response.toString(), response3.getResponse().toString());
+  }
+
+  @Test
+  public void testReleaseWhileBudgetExhausted() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(2 * OffHeapResponseHistoryStore.BLOCK_SIZE) {
+      @Override
+      protected int[] compress(JsonResponseBuffer serializedResponse, P_StoredResponse storedResponse) {
+        // the UI session is disposed while the response is compressed
+        storedResponse.release();
+        return super.compress(serializedResponse, storedResponse);
+      }
+    };
+    IStoredResponse storedResponse = storeAndCapture(store, "session1", 1L, createRandomResponse(20000));
+    assertNull(storedResponse.getResponse());
+    assertEquals(0, store.getSize());
+    assertEquals(0, store.getUsedBytes());
+  }
+
+  protected IStoredResponse storeAndCapture(OffHeapResponseHistoryStore store, String uiSessionId, Long seqNo, JSONObject response) throws IOException {
+    IStoredResponse storedResponse = store.store(uiSessionId, seqNo, response);
+    capture(store, response);
+    return storedResponse;
+  }
+
+  /**
+   * Serializes the response like {@link org.eclipse.scout.rt.ui.html.json.JsonRequestHelper} does when sending it.
+   */
+  protected void capture(OffHeapResponseHistoryStore store, JSONObject response) throws IOException {
+    JsonResponseBuffer buffer = new JsonResponseBuffer();
+    try {
+      response.write(buffer);
+      store.capture(response, buffer);
+    }
+    finally {
+      buffer.release();
+    }
+  }
+
+  protected JSONObject createResponse(int seed, int eventCount) {
+    JSONArray events = new JSONArray();
+    for (int i = 0; i < eventCount; i++) {
+      events.put(new JSONObject()
+          .put("target", "adapter" + (i % 10))
+          .put("type", "property")
+          .put("properties", new JSONObject().put("value", "value " + seed + "/" + i)));
+    }
+    return new JSONObject()
+        .put("#", seed)
+        .put("events", events);
+  }
+
+  protected JSONObject createRandomResponse(int length) {
+    Random random = new Random(42);
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append((char) ('!' + random.nextInt(90)));
+    }
+    return new JSONObject().put("value", sb.toString());
+  }
+}
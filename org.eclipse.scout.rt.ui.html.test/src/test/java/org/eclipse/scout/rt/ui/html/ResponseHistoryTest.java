@@ -13,10 +13,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.eclipse.scout.rt.ui.html.json.JsonResponseBuffer;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.Test;
 
@@ -107,6 +111,54 @@ public class ResponseHistoryTest {
     assertNull(history.getResponse(20L));
   }
 
+  @Test
+  public void testOffHeap() throws IOException {
+    OffHeapResponseHistoryStore store = new OffHeapResponseHistoryStore(1024 * 1024);
+    ResponseHistory history = new ResponseHistory().withOffHeapStore(store);
+
+    for (int i = 0; i < 12; i++) {
+      JSONObject resp = new JSONObject();
+      resp.put(JsonResponse.PROP_EVENTS, new JSONArray().put(new JSONObject().put("type", "event" + i)));
+      history.registerResponse(Long.valueOf(i), resp, Long.valueOf(i));
+      JsonResponseBuffer buffer = new JsonResponseBuffer();
+      resp.write(buffer);
+      store.capture(resp, buffer);
+      buffer.release();
+    }
+    assertEquals(10, history.size());
+    assertEquals(10, store.getSize());
+    assertEquals(10L * OffHeapResponseHistoryStore.BLOCK_SIZE, store.getUsedBytes());
+    assertNull(history.getResponse(1L));
+    assertEquals("event5", history.getResponseForRequest(5L).getJSONArray(JsonResponse.PROP_EVENTS).getJSONObject(0).getString("type"));
+
+    history.confirmResponseProcessed(5L);
+    assertEquals(6, history.size());
+    assertEquals(6, store.getSize());
+
+    JSONObject syncResponse = history.toSyncResponse();
+    assertEquals(6, syncResponse.getJSONArray(JsonResponse.PROP_EVENTS).length());
+    assertEquals(11L, syncResponse.getLong(JsonResponse.PROP_SEQUENCE_NO));
+
+    history.clear();
+    assertEquals(0, history.size());
+    assertEquals(0, store.getSize());
+    assertEquals(0, store.getUsedBytes());
+  }
+
+  @Test
+  public void testEstimatedHeapSize() {
+    ResponseHistory history = new ResponseHistory();
+    assertEquals(0, history.getEstimatedHeapSize());
+    JSONObject resp = new JSONObject();
+    resp.put(JsonResponse.PROP_EVENTS, new JSONArray().put(new JSONObject().put("type", "event")));
+    history.registerResponse(1L, resp, 1L);
+    assertEquals(2L * resp.toString().length(), history.getEstimatedHeapSize());
+
+    ResponseHistory offHeapHistory = new ResponseHistory().withOffHeapStore(new OffHeapResponseHistoryStore(1024 * 1024));
+    offHeapHistory.registerResponse(1L, resp, 1L);
+    assertEquals(0, offHeapHistory.getEstimatedHeapSize());
+  }
+
   @Test
   public void testMissingRequestSequenceNo() {
     ResponseHistory history = new ResponseHistory();
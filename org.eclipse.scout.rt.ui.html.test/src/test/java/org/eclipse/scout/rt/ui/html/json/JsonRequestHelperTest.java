@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+@RunWith(PlatformTestRunner.class)
+public class JsonRequestHelperTest {
+
+  @Test
+  public void testWriteResponse() throws IOException {
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse servletResponse = Mockito.spy(JsonTestUtility.createHttpServletResponse(out));
+    JSONObject json = new JSONObject().put(JsonResponse.PROP_SEQUENCE_NO, 3).put("text", "Grüezi");
+
+    new JsonRequestHelper().writeResponse(servletResponse, json);
+
+    byte[] expected = json.toString().getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, out.getContent());
+    Mockito.verify(servletResponse).setContentLengthLong(expected.length);
+  }
+
+  @Test
+  public void testWriteResponseSerializationError() throws IOException {
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse servletResponse = JsonTestUtility.createHttpServletResponse(out);
+    JSONObject json = new JSONObject()
+        .put(JsonResponse.PROP_SEQUENCE_NO, 3)
+        .put("values", new JSONArray().put((Object) Double.valueOf(Double.NaN)));
+
+    new JsonRequestHelper().writeResponse(servletResponse, json);
+
+    // nothing of the broken response was written, an error response with the same sequence number was sent instead
+    JSONObject response = new JSONObject(new String(out.getContent(), StandardCharsets.UTF_8));
+    assertEquals(3, response.getLong(JsonResponse.PROP_SEQUENCE_NO));
+    assertEquals(JsonResponse.ERR_UI_PROCESSING, response.getJSONObject(JsonResponse.PROP_ERROR).getInt(JsonResponse.PROP_ERROR_CODE));
+    assertFalse(response.has("values"));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JsonResponseBufferTest {
+
+  @Test
+  public void testUtf8Encoding() throws IOException {
+    assertEncoding("");
+    assertEncoding("plain ascii {\"a\":1}");
+    assertEncoding("Grüezi € 中文 😀 end");
+    assertEncoding("unpaired \ud83d surrogates \ude00");
+    assertEncoding("trailing high surrogate \ud83d");
+  }
+
+  @Test
+  public void testMultipleChunks() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; sb.length() < 3 * JsonResponseBuffer.CHUNK_SIZE; i++) {
+      sb.append("row ").append(i).append(" äöü 😀\n");
+    }
+    JsonResponseBuffer buffer = assertEncoding(sb.toString());
+    assertTrue(buffer.getChunkCount() > 3);
+  }
+
+  @Test
+  public void testReleaseAndReuse() throws IOException {
+    JsonResponseBuffer buffer = new JsonResponseBuffer();
+    buffer.write("first");
+    buffer.release();
+    assertEquals(0, buffer.size());
+    assertEquals(0, buffer.getChunkCount());
+    buffer.write("second");
+    assertArrayEquals("second".getBytes(StandardCharsets.UTF_8), toByteArray(buffer));
+  }
+
+  @Test
+  public void testWriteJson() throws IOException {
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 2000; i++) {
+      rows.put(new JSONObject().put("id", i).put("text", "Zeile " + i + " ä"));
+    }
+    JSONObject json = new JSONObject().put("#", 1).put("rows", rows);
+    JsonResponseBuffer buffer = new JsonResponseBuffer();
+    json.write(buffer);
+    assertArrayEquals(json.toString().getBytes(StandardCharsets.UTF_8), toByteArray(buffer));
+    assertEquals(json.toString().getBytes(StandardCharsets.UTF_8).length, buffer.size());
+  }
+
+  protected JsonResponseBuffer assertEncoding(String s) throws IOException {
+    JsonResponseBuffer buffer = new JsonResponseBuffer();
+    buffer.append(s);
+    byte[] expected = s.getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, toByteArray(buffer));
+    assertEquals(expected.length, buffer.size());
+    return buffer;
+  }
+
+  protected byte[] toByteArray(JsonResponseBuffer buffer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    buffer.writeTo(out);
+    return out.toByteArray();
+  }
+}
@@ -29,6 +29,7 @@ import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.UserTableRowFilter;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
@@ -41,6 +42,7 @@ import org.eclipse.scout.rt.ui.html.UiSessionTestUtility;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonEvent;
 import org.eclipse.scout.rt.ui.html.json.JsonEventType;
+import org.eclipse.scout.rt.ui.html.json.JsonPropertyChangeEvent;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.eclipse.scout.rt.ui.html.json.fixtures.JsonAdapterMock;
 import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
@@ -1121,6 +1123,64 @@ public class JsonTableTest {
     assertEquals(1, responseEvents.size());
   }
 
+  @Test
+  public void testRowWindowSelectedRows() throws JSONException {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(5);
+    table.init();
+    table.selectRow(3);
+    JsonTable<ITable> jsonTable = createRowWindowJsonTable(table, 2);
+    JSONObject json = jsonTable.toJson();
+
+    // The selected row is sent without the rows in between
+    JSONArray jsonRows = json.getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(3, jsonRows.length());
+    assertEquals(jsonTable.getTableRowId(table.getRow(3)), jsonRows.getJSONObject(2).getString("id"));
+    assertFalse(jsonTable.isRowDelivered(table.getRow(2)));
+    assertEquals(jsonTable.getTableRowId(table.getRow(3)), json.getJSONArray(JsonTable.PROP_SELECTED_ROWS).getString(0));
+    assertEquals(5, json.getInt(JsonTable.PROP_TOTAL_ROW_COUNT));
+    assertEquals(2, json.getInt(JsonTable.PROP_REMAINING_ROW_COUNT));
+
+    // Selecting all rows sends the missing rows
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_SELECT_ALL_ROWS, new JSONObject()));
+    assertEquals(5, table.getSelectedRowCount());
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    List<JsonEvent> insertedEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, insertedEvents.size());
+    assertEquals(2, insertedEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(1, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), "rowOrderChanged").size());
+    assertTrue(jsonTable.isRowDelivered(table.getRow(2)));
+    assertTrue(jsonTable.isRowDelivered(table.getRow(4)));
+  }
+
+  @Test
+  public void testRowWindowReset() throws JSONException {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(5);
+    table.init();
+    JsonTable<ITable> jsonTable = createRowWindowJsonTable(table, 1);
+    jsonTable.toJson();
+    ITableRow firstRow = table.getRow(0);
+    List<JsonTableEvent> tableEvents = new ArrayList<>();
+    jsonTable.addListener(tableEvents::add, JsonTableEvent.TYPE_ROWS_DELETED, JsonTableEvent.TYPE_ROWS_INSERTED);
+
+    // The row sent moves to the end, the window restarts at the top
+    table.getColumnSet().setSortColumn(table.getColumns().get(0), false);
+    table.sort();
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    ITableRow lastRow = table.getRow(0);
+    assertFalse(jsonTable.isRowDelivered(firstRow));
+    assertTrue(jsonTable.isRowDelivered(lastRow));
+    assertEquals(1, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ALL_ROWS_DELETED).size());
+
+    // The listeners are informed about the rows deleted before the rows sent again
+    assertEquals(2, tableEvents.size());
+    assertEquals(JsonTableEvent.TYPE_ROWS_DELETED, tableEvents.get(0).getType());
+    assertEquals(new HashSet<>(table.getRows()), new HashSet<>(tableEvents.get(0).getRows()));
+    assertEquals(JsonTableEvent.TYPE_ROWS_INSERTED, tableEvents.get(1).getType());
+    assertEquals(CollectionUtility.hashSet(lastRow), new HashSet<>(tableEvents.get(1).getRows()));
+  }
+
   /**
    * Tests that multiple model events are coalseced in JSON layer
    */
@@ -1152,6 +1212,109 @@ public class JsonTableTest {
     assertEquals(2, events.getJSONObject(0).getJSONArray("rows").length());
   }
 
+  /**
+   * If the row diff is enabled, updated rows only contain the changed cells.
+   */
+  @Test
+  public void testRowsUpdated_CellDiff() throws JSONException {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(2);
+    table.init();
+    JsonTable<ITable> jsonTable = new JsonTable<>(table, m_uiSession, m_uiSession.createUniqueId(), new JsonAdapterMock()) {
+      @Override
+      protected boolean isRowDiffEnabled() {
+        return true;
+      }
+    };
+    jsonTable.init();
+    jsonTable.toJson();
+
+    ITableRow row0 = table.getRow(0);
+    row0.getCellForUpdate(1).setValue("Updated text");
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    List<JsonEvent> eventList = m_uiSession.currentJsonResponse().getEventList();
+    assertEquals(1, eventList.size());
+    assertEquals(JsonTable.EVENT_ROWS_UPDATED, eventList.get(0).getType());
+    JSONObject jsonRow = eventList.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).getJSONObject(0);
+    assertEquals(jsonTable.getTableRowId(row0), jsonRow.getString("id"));
+    assertFalse(jsonRow.has(JsonTable.PROP_CELLS));
+    JSONArray cellUpdates = jsonRow.getJSONArray(JsonTable.PROP_CELL_UPDATES);
+    assertEquals(2, cellUpdates.length());
+    assertEquals(1, cellUpdates.getInt(0));
+    assertEquals("Updated text", cellUpdates.getString(1));
+
+    // After a column structure change all rows are sent again, the cell indices refer to the new columns
+    table.getColumnSet().getColumn(0).setVisible(false);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    row0.getCellForUpdate(1).setValue("Updated text 2");
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    eventList = m_uiSession.currentJsonResponse().getEventList();
+    JsonEvent jsonEvent = eventList.get(eventList.size() - 1);
+    assertEquals(JsonTable.EVENT_ROWS_UPDATED, jsonEvent.getType());
+    jsonRow = jsonEvent.getData().getJSONArray(JsonTable.PROP_ROWS).getJSONObject(0);
+    cellUpdates = jsonRow.getJSONArray(JsonTable.PROP_CELL_UPDATES);
+    assertEquals(2, cellUpdates.length());
+    assertEquals(0, cellUpdates.getInt(0));
+    assertEquals("Updated text 2", cellUpdates.getString(1));
+  }
+
+  protected JsonTable<ITable> createRowWindowJsonTable(ITable table, int rowWindowSize) {
+    JsonTable<ITable> jsonTable = new JsonTable<>(table, m_uiSession, m_uiSession.createUniqueId(), new JsonAdapterMock()) {
+      @Override
+      protected boolean isRowWindowEnabled() {
+        return true;
+      }
+
+      @Override
+      protected int getRowWindowSize() {
+        return rowWindowSize;
+      }
+    };
+    jsonTable.init();
+    return jsonTable;
+  }
+
+  @Test
+  public void testRowWindow() throws JSONException {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(5);
+    table.init();
+    JsonTable<ITable> jsonTable = createRowWindowJsonTable(table, 2);
+    JSONObject json = jsonTable.toJson();
+    assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(5, json.getInt(JsonTable.PROP_TOTAL_ROW_COUNT));
+    assertEquals(3, json.getInt(JsonTable.PROP_REMAINING_ROW_COUNT));
+    assertTrue(jsonTable.isRowDelivered(table.getRow(1)));
+    assertFalse(jsonTable.isRowDelivered(table.getRow(2)));
+
+    // Updates of rows not sent yet are not sent to the UI
+    table.getRow(3).getCellForUpdate(1).setValue("Updated text");
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    assertEquals(0, m_uiSession.currentJsonResponse().getEventList().size());
+
+    // The UI requests the next window
+    jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_FETCH_ROWS, new JSONObject()));
+    List<JsonEvent> eventList = m_uiSession.currentJsonResponse().getEventList();
+    assertEquals(2, eventList.size());
+    assertEquals(JsonTable.EVENT_ROWS_INSERTED, eventList.get(0).getType());
+    JSONArray jsonRows = eventList.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(2, jsonRows.length());
+    assertEquals(jsonTable.getTableRowId(table.getRow(2)), jsonRows.getJSONObject(0).getString("id"));
+    assertEquals("Updated text", jsonRows.getJSONObject(1).getJSONArray(JsonTable.PROP_CELLS).getString(1));
+    assertEquals(1, ((JsonPropertyChangeEvent) eventList.get(1)).getProperties().get(JsonTable.PROP_REMAINING_ROW_COUNT));
+
+    // Selecting the last row sends it before the selection
+    table.selectRow(4);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    List<JsonEvent> insertedEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(2, insertedEvents.size());
+    List<JsonEvent> selectedEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_SELECTED);
+    assertEquals(jsonTable.getTableRowId(table.getRow(4)), selectedEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS).getString(0));
+    assertTrue(jsonTable.isRowDelivered(table.getRow(4)));
+  }
+
   /**
    * Tests that multiple model events are coalseced in JSON layer
    */
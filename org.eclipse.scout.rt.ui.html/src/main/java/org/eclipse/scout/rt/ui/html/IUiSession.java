@@ -68,6 +68,15 @@ public interface IUiSession {
    */
   boolean isPersistent();
 
+  /**
+   * @return <code>true</code> if the UI announced support for the given protocol capability in the startup request
+   *         (see {@link JsonStartupRequest#PROP_CAPABILITIES}).
+   * @since 23.2
+   */
+  default boolean hasClientCapability(String capability) {
+    return false;
+  }
+
   String getHttpSessionId();
 
   String getUiSessionId();
@@ -90,6 +99,13 @@ public interface IUiSession {
    */
   long getLastAccessedTime();
 
+  /**
+   * @return estimated number of bytes retained by this UI session (JSON adapters and response history), not including
+   *         the client session. See {@link UiSessionMemoryEstimator}.
+   * @since 23.2
+   */
+  long getEstimatedMemory();
+
   /**
    * Marks the UI session is disposed (irreversible) and destroys the internal data structures and references (i.e. it
    * disposes the JSON adapter registry).
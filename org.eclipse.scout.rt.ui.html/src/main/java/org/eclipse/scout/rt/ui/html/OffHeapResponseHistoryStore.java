@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryOffHeapBudgetProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryOffHeapProperty;
+import org.eclipse.scout.rt.ui.html.json.JsonRequestHelper;
+import org.eclipse.scout.rt.ui.html.json.JsonResponseBuffer;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the responses of the {@link ResponseHistory} of all UI sessions compressed outside of the Java heap (see
+ * {@link ResponseHistoryOffHeapProperty}).
+ * <p>
+ * A response is registered by {@link #store(String, Long, JSONObject)} before it is sent and kept on the heap until
+ * its serialized bytes are captured by {@link #capture(JSONObject, JsonResponseBuffer)} while it is written to the
+ * servlet response (see {@link JsonRequestHelper#writeResponse(javax.servlet.ServletResponse, JSONObject)}). Hence,
+ * a response is serialized only once. The bytes are deflated directly into blocks of {@value #BLOCK_SIZE} bytes of
+ * direct memory. The blocks are cut from slabs of {@value #SLAB_SIZE} bytes which are allocated on demand and reused
+ * afterwards, i.e. the store never allocates more direct memory than its budget and does not depend on the garbage
+ * collector to free it.
+ * <p>
+ * The total size of the blocks in use is limited by a memory budget (see {@link ResponseHistoryOffHeapBudgetProperty}).
+ * If it is exceeded, the least recently stored or read responses are discarded, regardless of the UI session they
+ * belong to. A discarded response cannot be resent to the browser, like a response dropped because the maximum history
+ * size of a UI session is reached.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class OffHeapResponseHistoryStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OffHeapResponseHistoryStore.class);
+
+  public static final int BLOCK_SIZE = 4 * 1024;
+  public static final int SLAB_SIZE = 1024 * 1024;
+  protected static final int BLOCKS_PER_SLAB = SLAB_SIZE / BLOCK_SIZE;
+
+  private final long m_budget;
+  private final int m_maxBlocks;
+
+  // guarded by m_responses: captured responses in access order
+  private final LinkedHashMap<P_StoredResponse, P_StoredResponse> m_responses = new LinkedHashMap<>(16, 0.75f, true);
+  // guarded by m_responses: responses not captured yet
+  private final Map<JSONObject, P_StoredResponse> m_pendingResponses = new IdentityHashMap<>();
+  // guarded by m_responses
+  private final List<ByteBuffer> m_slabs = new ArrayList<>();
+  private int[] m_freeBlocks = new int[0];
+  private int m_freeBlockCount;
+  private int m_allocatedBlockCount;
+  private int m_usedBlockCount;
+  private long m_uncompressedBytes;
+  private long m_evictionCount;
+
+  public OffHeapResponseHistoryStore() {
+    this(CONFIG.getPropertyValue(ResponseHistoryOffHeapBudgetProperty.class));
+  }
+
+  public OffHeapResponseHistoryStore(long budget) {
+    Assertions.assertTrue(budget >= BLOCK_SIZE, "budget must be at least {} bytes", BLOCK_SIZE);
+    m_budget = budget;
+    m_maxBlocks = (int) Math.min(Integer.MAX_VALUE, budget / BLOCK_SIZE);
+  }
+
+  public long getBudget() {
+    return m_budget;
+  }
+
+  /**
+   * Registers the given response. It is kept on the heap until it is captured by
+   * {@link #capture(JSONObject, JsonResponseBuffer)}.
+   */
+  public ResponseHistory.IStoredResponse store(String uiSessionId, Long responseSequenceNo, JSONObject response) {
+    P_StoredResponse storedResponse = new P_StoredResponse(uiSessionId, responseSequenceNo, response);
+    synchronized (m_responses) {
+      m_pendingResponses.put(response, storedResponse);
+    }
+    return storedResponse;
+  }
+
+  /**
+   * Compresses the serialized bytes of a response registered by {@link #store(String, Long, JSONObject)} into direct
+   * memory and releases its heap representation. Does nothing if the given response was not registered (e.g. a
+   * response which is not part of a response history) or was already captured.
+   *
+   * @param response
+   *          the response which was serialized
+   * @param serializedResponse
+   *          the UTF-8 encoded response
+   */
+  public void capture(JSONObject response, JsonResponseBuffer serializedResponse) {
+    P_StoredResponse storedResponse;
+    synchronized (m_responses) {
+      storedResponse = m_pendingResponses.remove(response);
+    }
+    if (storedResponse == null) {
+      return;
+    }
+    int[] blocks = compress(serializedResponse, storedResponse);
+    long uncompressedLength = serializedResponse.size();
+    synchronized (m_responses) {
+      if (storedResponse.m_released) {
+        if (blocks != null) {
+          freeBlocks(blocks, blocks.length);
+        }
+        return;
+      }
+      storedResponse.m_pendingResponse = null;
+      if (blocks == null) {
+        storedResponse.m_discarded = true;
+        m_evictionCount++;
+        LOG.debug("Response history memory budget too small, discarding response #{} of UI session {}", storedResponse.m_responseSequenceNo, storedResponse.m_uiSessionId);
+        return;
+      }
+      storedResponse.m_blocks = blocks;
+      storedResponse.m_uncompressedLength = uncompressedLength;
+      m_uncompressedBytes += uncompressedLength;
+      m_responses.put(storedResponse, storedResponse);
+    }
+  }
+
+  /**
+   * Deflates the serialized response into blocks.
+   * <p>
+   * As long as there are free blocks, the response is deflated directly into them. Once all blocks of the budget are in
+   * use, the rest is deflated to the heap and only copied into blocks after discarding other responses. Hence, no
+   * other response is discarded for a response which is larger than the whole budget.
+   *
+   * @return the used blocks or <code>null</code> if the budget is too small for the response
+   */
+  protected int[] compress(JsonResponseBuffer serializedResponse, P_StoredResponse storedResponse) {
+    int[] blocks = new int[4];
+    int blockCount = 0;
+    ByteBuffer block = null;
+    // deflated bytes which did not fit into the free blocks
+    ByteArrayOutputStream overflow = null;
+    byte[] buf = null;
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+    try {
+      int chunkCount = serializedResponse.getChunkCount();
+      for (int i = 0; i <= chunkCount; i++) {
+        if (i < chunkCount) {
+          deflater.setInput(serializedResponse.getChunk(i), 0, serializedResponse.getChunkLength(i));
+        }
+        else {
+          deflater.finish();
+        }
+        while (i < chunkCount ? !deflater.needsInput() : !deflater.finished()) {
+          if (overflow != null) {
+            overflow.write(buf, 0, deflater.deflate(buf));
+            if (blockCount + blockCount(overflow.size()) > m_maxBlocks) {
+              freeBlocks(blocks, blockCount);
+              return null;
+            }
+            continue;
+          }
+          if (block == null || !block.hasRemaining()) {
+            int blockIndex = allocateFreeBlock();
+            if (blockIndex < 0) {
+              overflow = new ByteArrayOutputStream();
+              buf = new byte[BLOCK_SIZE];
+              continue;
+            }
+            if (blockCount == blocks.length) {
+              blocks = Arrays.copyOf(blocks, blockCount * 2);
+            }
+            blocks[blockCount++] = blockIndex;
+            block = blockBuffer(blockIndex);
+          }
+          deflater.deflate(block);
+        }
+      }
+      if (overflow != null) {
+        byte[] overflowBytes = overflow.toByteArray();
+        blocks = Arrays.copyOf(blocks, blockCount + blockCount(overflowBytes.length));
+        for (int offset = 0; offset < overflowBytes.length; offset += BLOCK_SIZE) {
+          int blockIndex = allocateBlock(storedResponse);
+          if (blockIndex < 0) {
+            freeBlocks(blocks, blockCount);
+            return null;
+          }
+          blocks[blockCount++] = blockIndex;
+          blockBuffer(blockIndex).put(overflowBytes, offset, Math.min(BLOCK_SIZE, overflowBytes.length - offset));
+        }
+      }
+      storedResponse.m_compressedLength = (int) deflater.getBytesWritten();
+      return Arrays.copyOf(blocks, blockCount);
+    }
+    finally {
+      deflater.end();
+    }
+  }
+
+  protected static int blockCount(int length) {
+    return (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+  }
+
+  /**
+   * @return index of a free block or -1 if the budget is exhausted even after discarding all other responses
+   */
+  protected int allocateBlock(P_StoredResponse requester) {
+    synchronized (m_responses) {
+      while (true) {
+        int blockIndex = allocateFreeBlock();
+        if (blockIndex >= 0) {
+          return blockIndex;
+        }
+        if (!evictEldest(requester)) {
+          return -1;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return index of a free block or -1 if all blocks of the budget are in use
+   */
+  protected int allocateFreeBlock() {
+    synchronized (m_responses) {
+      if (m_freeBlockCount > 0) {
+        m_usedBlockCount++;
+        return m_freeBlocks[--m_freeBlockCount];
+      }
+      if (m_allocatedBlockCount < m_maxBlocks) {
+        if (m_allocatedBlockCount % BLOCKS_PER_SLAB == 0) {
+          int slabBlocks = Math.min(BLOCKS_PER_SLAB, m_maxBlocks - m_allocatedBlockCount);
+          m_slabs.add(ByteBuffer.allocateDirect(slabBlocks * BLOCK_SIZE));
+          m_freeBlocks = Arrays.copyOf(m_freeBlocks, m_freeBlocks.length + slabBlocks);
+        }
+        m_usedBlockCount++;
+        return m_allocatedBlockCount++;
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * Must be called while holding the lock of {@link #m_responses}.
+   *
+   * @return <code>false</code> if there was no response to discard
+   */
+  protected boolean evictEldest(P_StoredResponse requester) {
+    Iterator<P_StoredResponse> it = m_responses.keySet().iterator();
+    if (!it.hasNext()) {
+      return false;
+    }
+    P_StoredResponse eldest = it.next();
+    it.remove();
+    removed(eldest);
+    eldest.m_discarded = true;
+    m_evictionCount++;
+    LOG.debug("Response history memory budget exceeded, discarding response #{} of UI session {} to store response #{} of UI session {}",
+        eldest.m_responseSequenceNo, eldest.m_uiSessionId, requester.m_responseSequenceNo, requester.m_uiSessionId);
+    return true;
+  }
+
+  /**
+   * Must be called while holding the lock of {@link #m_responses}.
+   */
+  protected void removed(P_StoredResponse storedResponse) {
+    m_uncompressedBytes -= storedResponse.m_uncompressedLength;
+    freeBlocks(storedResponse.m_blocks, storedResponse.m_blocks.length);
+    storedResponse.m_blocks = null;
+  }
+
+  protected void freeBlocks(int[] blocks, int count) {
+    synchronized (m_responses) {
+      for (int i = 0; i < count; i++) {
+        m_freeBlocks[m_freeBlockCount++] = blocks[i];
+      }
+      m_usedBlockCount -= count;
+    }
+  }
+
+  /**
+   * @return a buffer for the given block (position 0, limit {@value #BLOCK_SIZE})
+   */
+  protected ByteBuffer blockBuffer(int blockIndex) {
+    ByteBuffer slab;
+    synchronized (m_responses) {
+      slab = m_slabs.get(blockIndex / BLOCKS_PER_SLAB);
+    }
+    int offset = (blockIndex % BLOCKS_PER_SLAB) * BLOCK_SIZE;
+    return slab.duplicate().position(offset).limit(offset + BLOCK_SIZE).slice();
+  }
+
+  protected JSONObject load(P_StoredResponse storedResponse) {
+    byte[] compressed;
+    long uncompressedLength;
+    synchronized (m_responses) {
+      if (storedResponse.m_pendingResponse != null) {
+        return storedResponse.m_pendingResponse;
+      }
+      if (storedResponse.m_blocks == null) {
+        return null;
+      }
+      m_responses.get(storedResponse); // mark as recently used
+      // copy the compressed bytes, the blocks may be reused as soon as the lock is released
+      compressed = new byte[storedResponse.m_compressedLength];
+      for (int i = 0, offset = 0; offset < compressed.length; i++) {
+        int length = Math.min(BLOCK_SIZE, compressed.length - offset);
+        blockBuffer(storedResponse.m_blocks[i]).get(compressed, offset, length);
+        offset += length;
+      }
+      uncompressedLength = storedResponse.m_uncompressedLength;
+    }
+    byte[] json = decompress(compressed, uncompressedLength);
+    return new JSONObject(new String(json, StandardCharsets.UTF_8));
+  }
+
+  protected void release(P_StoredResponse storedResponse) {
+    synchronized (m_responses) {
+      storedResponse.m_released = true;
+      storedResponse.m_pendingResponse = null;
+      m_pendingResponses.values().remove(storedResponse);
+      if (m_responses.remove(storedResponse) != null) {
+        removed(storedResponse);
+      }
+    }
+  }
+
+  protected byte[] decompress(byte[] data, long uncompressedLength) {
+    Assertions.assertTrue(uncompressedLength <= Integer.MAX_VALUE, "Stored response too large");
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(data);
+      byte[] result = new byte[(int) uncompressedLength];
+      int offset = 0;
+      while (offset < result.length) {
+        int len = inflater.inflate(result, offset, result.length - offset);
+        if (len == 0 && (inflater.finished() || inflater.needsInput())) {
+          break;
+        }
+        offset += len;
+      }
+      if (offset != result.length) {
+        throw new PlatformException("Stored response is corrupt, expected {} bytes but got {}", uncompressedLength, offset);
+      }
+      return result;
+    }
+    catch (DataFormatException e) {
+      throw new PlatformException("Stored response is corrupt", e);
+    }
+    finally {
+      inflater.end();
+    }
+  }
+
+  /**
+   * @return number of stored responses (including responses which are not captured yet)
+   */
+  public int getSize() {
+    synchronized (m_responses) {
+      return m_responses.size() + m_pendingResponses.size();
+    }
+  }
+
+  /**
+   * @return number of bytes of direct memory used by the blocks of all stored (compressed) responses
+   */
+  public long getUsedBytes() {
+    synchronized (m_responses) {
+      return (long) m_usedBlockCount * BLOCK_SIZE;
+    }
+  }
+
+  /**
+   * @return number of bytes of direct memory allocated for slabs (used or free blocks)
+   */
+  public long getAllocatedBytes() {
+    synchronized (m_responses) {
+      return (long) m_freeBlocks.length * BLOCK_SIZE;
+    }
+  }
+
+  /**
+   * @return number of bytes of all stored responses before compression
+   */
+  public long getUncompressedBytes() {
+    synchronized (m_responses) {
+      return m_uncompressedBytes;
+    }
+  }
+
+  /**
+   * @return number of responses discarded because the budget was exceeded
+   */
+  public long getEvictionCount() {
+    synchronized (m_responses) {
+      return m_evictionCount;
+    }
+  }
+
+  protected class P_StoredResponse implements ResponseHistory.IStoredResponse {
+
+    private final String m_uiSessionId;
+    private final Long m_responseSequenceNo;
+    // guarded by m_responses
+    private JSONObject m_pendingResponse;
+    private int[] m_blocks;
+    private int m_compressedLength;
+    private long m_uncompressedLength;
+    private boolean m_discarded;
+    private boolean m_released;
+
+    protected P_StoredResponse(String uiSessionId, Long responseSequenceNo, JSONObject pendingResponse) {
+      m_uiSessionId = uiSessionId;
+      m_responseSequenceNo = responseSequenceNo;
+      m_pendingResponse = pendingResponse;
+    }
+
+    /**
+     * @return number of bytes of the compressed response, 0 if it is not captured yet or no longer stored
+     */
+    public int getCompressedSize() {
+      synchronized (m_responses) {
+        return m_blocks == null ? 0 : m_compressedLength;
+      }
+    }
+
+    /**
+     * @return <code>true</code> if the response was discarded because the budget was exceeded
+     */
+    public boolean isDiscarded() {
+      synchronized (m_responses) {
+        return m_discarded;
+      }
+    }
+
+    @Override
+    public JSONObject getResponse() {
+      return load(this);
+    }
+
+    /**
+     * A captured response is stored off-heap. A pending response is captured as soon as it is sent and shares its
+     * heap representation with the response being written, hence it is not counted either.
+     */
+    @Override
+    public long getEstimatedHeapSize() {
+      return 0;
+    }
+
+    @Override
+    public void release() {
+      OffHeapResponseHistoryStore.this.release(this);
+    }
+  }
+}
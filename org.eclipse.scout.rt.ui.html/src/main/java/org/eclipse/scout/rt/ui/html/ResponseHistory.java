@@ -12,13 +12,19 @@ package org.eclipse.scout.rt.ui.html;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
+import javax.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryOffHeapProperty;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -29,6 +35,9 @@ import org.slf4j.LoggerFactory;
  * Collects JSON responses and their corresponding <i>request sequence number</i> and <i>response sequence number</i>
  * until they are acknowledged by the client. A maximum of 10 responses is stored in the history.
  * <p>
+ * The responses are kept on the heap unless {@link ResponseHistoryOffHeapProperty} is enabled, in which case they are
+ * stored compressed in the {@link OffHeapResponseHistoryStore} as soon as they are sent.
+ * <p>
  * This class is thread-safe.
  */
 @Bean
@@ -41,9 +50,26 @@ public class ResponseHistory {
 
   private final Map<Long, Long> m_requestToResponseMap = new HashMap<>(); // RequestSequenceNo -> ResponseSequenceNo
   private final Map<Long, Long> m_responseToRequestMap = new HashMap<>(); // ResponseSequenceNo -> RequestSequenceNo
-  private final SortedMap<Long, JSONObject> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private final SortedMap<Long, IStoredResponse> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
 
   private UiSession m_uiSession;
+  private OffHeapResponseHistoryStore m_offHeapStore;
+
+  @PostConstruct
+  protected void initOffHeapStore() {
+    if (CONFIG.getPropertyValue(ResponseHistoryOffHeapProperty.class)) {
+      m_offHeapStore = BEANS.get(OffHeapResponseHistoryStore.class);
+    }
+  }
+
+  /**
+   * @param offHeapStore
+   *          store for the responses or <code>null</code> to keep them on the heap
+   */
+  public ResponseHistory withOffHeapStore(OffHeapResponseHistoryStore offHeapStore) {
+    m_offHeapStore = offHeapStore;
+    return this;
+  }
 
   public UiSession getUiSession() {
     return m_uiSession;
@@ -85,7 +111,7 @@ public class ResponseHistory {
         Assertions.assertFalse(m_responseToRequestMap.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       }
 
-      m_responses.put(responseSequenceNo, response);
+      m_responses.put(responseSequenceNo, storeResponse(responseSequenceNo, response));
       if (requestSequenceNo != null) { // optional
         m_requestToResponseMap.put(requestSequenceNo, responseSequenceNo);
         m_responseToRequestMap.put(responseSequenceNo, requestSequenceNo);
@@ -95,12 +121,30 @@ public class ResponseHistory {
         // Remove oldest entry to free up memory (protection against malicious clients that send no or wrong #ACKs)
         Long oldestSeqNo = m_responses.firstKey();
         LOG.warn("Max. response history size exceeded for UI session {}, dropping oldest response #{}", getUiSessionId(), oldestSeqNo);
-        m_responses.remove(oldestSeqNo);
+        m_responses.remove(oldestSeqNo).release();
       }
       LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
     }
   }
 
+  protected IStoredResponse storeResponse(Long responseSequenceNo, JSONObject response) {
+    if (m_offHeapStore != null) {
+      return m_offHeapStore.store(getUiSessionId(), responseSequenceNo, response);
+    }
+    return new P_HeapResponse(response);
+  }
+
+  /**
+   * @return the stored response or <code>null</code> if it was discarded by the {@link OffHeapResponseHistoryStore}
+   */
+  protected JSONObject loadResponse(Long responseSequenceNo, IStoredResponse storedResponse) {
+    JSONObject response = storedResponse.getResponse();
+    if (response == null) {
+      LOG.warn("Response #{} of UI session {} was discarded because the response history memory budget was exceeded", responseSequenceNo, getUiSessionId());
+    }
+    return response;
+  }
+
   /**
    * Confirms that the response with the given <i>response sequence number</i> has been successfully processed by the
    * client. The response is removed from the history. All responses that are older (i.e. have a lower response sequence
@@ -114,12 +158,14 @@ public class ResponseHistory {
 
     synchronized (m_mutex) {
       int removeCount = 0;
-      for (Iterator<Long> it = m_responses.keySet().iterator(); it.hasNext();) {
-        Long responseSequenceNo = it.next();
+      for (Iterator<Entry<Long, IStoredResponse>> it = m_responses.entrySet().iterator(); it.hasNext();) {
+        Entry<Long, IStoredResponse> entry = it.next();
+        Long responseSequenceNo = entry.getKey();
         if (responseSequenceNo <= confirmedResponseSequenceNo) {
           Long requestSequenceNo = m_responseToRequestMap.get(responseSequenceNo);
           m_requestToResponseMap.remove(requestSequenceNo);
           m_responseToRequestMap.remove(responseSequenceNo);
+          entry.getValue().release();
           it.remove();
           removeCount++;
         }
@@ -141,7 +187,11 @@ public class ResponseHistory {
       Long lastSentSequenceNo = m_responses.lastKey();
       JSONObject combinedAdapterData = new JSONObject();
       JSONArray combinedEvents = new JSONArray();
-      for (JSONObject response : m_responses.values()) {
+      for (Entry<Long, IStoredResponse> entry : m_responses.entrySet()) {
+        JSONObject response = loadResponse(entry.getKey(), entry.getValue());
+        if (response == null) {
+          continue;
+        }
         // combine adapterData
         JSONObject adapterData = response.optJSONObject(JsonResponse.PROP_ADAPTER_DATA);
         if (adapterData != null) {
@@ -203,7 +253,8 @@ public class ResponseHistory {
       return null;
     }
     synchronized (m_mutex) {
-      return m_responses.get(responseSequenceNo);
+      IStoredResponse storedResponse = m_responses.get(responseSequenceNo);
+      return storedResponse == null ? null : loadResponse(responseSequenceNo, storedResponse);
     }
   }
 
@@ -226,8 +277,88 @@ public class ResponseHistory {
     }
   }
 
+  /**
+   * @return estimated number of heap bytes retained by the responses in the history
+   */
+  public long getEstimatedHeapSize() {
+    synchronized (m_mutex) {
+      long size = 0;
+      for (IStoredResponse response : m_responses.values()) {
+        size += response.getEstimatedHeapSize();
+      }
+      return size;
+    }
+  }
+
+  /**
+   * Removes all responses and mappings from the history, e.g. when the UI session is disposed.
+   */
+  public void clear() {
+    synchronized (m_mutex) {
+      m_responses.values().forEach(IStoredResponse::release);
+      m_responses.clear();
+      m_requestToResponseMap.clear();
+      m_responseToRequestMap.clear();
+    }
+  }
+
   @Override
   public String toString() {
     return "[" + CollectionUtility.format(m_responses.keySet()) + "]";
   }
+
+  /**
+   * A response stored in the history.
+   *
+   * @since 23.2
+   */
+  public interface IStoredResponse {
+
+    /**
+     * @return the response or <code>null</code> if it was discarded
+     */
+    JSONObject getResponse();
+
+    /**
+     * @return estimated number of heap bytes retained by the response
+     */
+    long getEstimatedHeapSize();
+
+    /**
+     * Frees the resources of the response, called when it is removed from the history.
+     */
+    void release();
+  }
+
+  protected static class P_HeapResponse implements IStoredResponse {
+
+    private final JSONObject m_response;
+    private long m_estimatedHeapSize = -1;
+
+    protected P_HeapResponse(JSONObject response) {
+      m_response = response;
+    }
+
+    @Override
+    public JSONObject getResponse() {
+      return m_response;
+    }
+
+    /**
+     * Estimated by the length of the serialized response, computed on first use only (i.e. when the memory of the
+     * session is inspected) because responses are usually confirmed and removed soon after being sent.
+     */
+    @Override
+    public long getEstimatedHeapSize() {
+      if (m_estimatedHeapSize < 0) {
+        m_estimatedHeapSize = 2L * m_response.toString().length();
+      }
+      return m_estimatedHeapSize;
+    }
+
+    @Override
+    public void release() {
+      // nop, garbage collected
+    }
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryOffHeapProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} for the memory used by the response histories of all UI sessions, if they are stored in the
+ * {@link OffHeapResponseHistoryStore} (see {@link ResponseHistoryOffHeapProperty}).
+ *
+ * @since 23.2
+ */
+public class ResponseHistoryMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ResponseHistoryMetricProvider.class);
+
+  private final List<AutoCloseable> m_observables = new ArrayList<>();
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    if (!CONFIG.getPropertyValue(ResponseHistoryOffHeapProperty.class)) {
+      return;
+    }
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    ObservableLongMeasurement usage = meter.upDownCounterBuilder("scout.ui.response_history.memory.usage")
+        .setDescription("The number of bytes of direct memory used by the compressed responses of all UI session response histories.")
+        .setUnit("By")
+        .buildObserver();
+    ObservableLongMeasurement allocated = meter.upDownCounterBuilder("scout.ui.response_history.memory.allocated")
+        .setDescription("The number of bytes of direct memory allocated for the response histories (used or free for reuse).")
+        .setUnit("By")
+        .buildObserver();
+    ObservableLongMeasurement uncompressed = meter.upDownCounterBuilder("scout.ui.response_history.memory.uncompressed")
+        .setDescription("The number of bytes the responses of all UI session response histories would use uncompressed.")
+        .setUnit("By")
+        .buildObserver();
+    ObservableLongMeasurement limit = meter.upDownCounterBuilder("scout.ui.response_history.memory.limit")
+        .setDescription("The maximum number of bytes of direct memory used by the response histories.")
+        .setUnit("By")
+        .buildObserver();
+    ObservableLongMeasurement responses = meter.upDownCounterBuilder("scout.ui.response_history.responses")
+        .setDescription("The number of responses stored in the response histories of all UI sessions.")
+        .setUnit("{response}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.ui.response_history.evictions")
+        .setDescription("The number of responses discarded because the memory budget was exceeded.")
+        .setUnit("{response}")
+        .buildObserver();
+    m_observables.add(meter.batchCallback(() -> {
+      OffHeapResponseHistoryStore store = BEANS.get(OffHeapResponseHistoryStore.class);
+      usage.record(store.getUsedBytes());
+      allocated.record(store.getAllocatedBytes());
+      uncompressed.record(store.getUncompressedBytes());
+      limit.record(store.getBudget());
+      responses.record(store.getSize());
+      evictions.record(store.getEvictionCount());
+    },
+        usage,
+        allocated,
+        uncompressed,
+        limit,
+        responses,
+        evictions));
+  }
+
+  @Override
+  public void close() {
+    for (AutoCloseable observable : m_observables) {
+      try {
+        observable.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Failed to close metric observable", e);
+      }
+    }
+    m_observables.clear();
+  }
+}
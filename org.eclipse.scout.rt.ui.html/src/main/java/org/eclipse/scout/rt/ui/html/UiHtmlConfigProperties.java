@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -175,4 +176,82 @@ public final class UiHtmlConfigProperties {
       return "scout.ui.maxUploadFileCount";
     }
   }
+
+  public static class TableRowDiffEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether updated table rows are sent to the UI with the changed cells only instead of all cells.\n"
+          + "This reduces the size of the responses for large tables with frequently updated rows, but requires the server to remember the cells sent to the UI.\n"
+          + "The mode is only used if the browser announces support for it at session startup. The default value is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.tableRowDiffEnabled";
+    }
+  }
+
+  public static class TableRowWindowSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+
+    @Override
+    public String description() {
+      return "Number of table rows sent to the UI at once. If a table contains more rows, only the first rows (and the selected rows) are sent, the others are requested by the UI while scrolling.\n"
+          + "Hierarchical tables, tables in tile mode and tables with grouped columns or user filters are always sent completely.\n"
+          + "The mode is only used if the browser announces support for it at session startup. The default value is 0 which sends all rows at once.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.tableRowWindowSize";
+    }
+  }
+
+  public static class ResponseHistoryOffHeapProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether the responses kept per UI session until they are acknowledged by the browser (to resend them if they get lost) are stored compressed outside of the Java heap.\n"
+          + "The memory used by all UI sessions is limited by 'scout.ui.responseHistoryOffHeapBudget'. If it is exceeded, the least recently used responses are discarded.\n"
+          + "The direct memory of the JVM (-XX:MaxDirectMemorySize) must be larger than this budget. The default value is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistoryOffHeap";
+    }
+  }
+
+  public static class ResponseHistoryOffHeapBudgetProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 256L * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of bytes of compressed responses stored outside of the Java heap for all UI sessions (see 'scout.ui.responseHistoryOffHeap'). The direct memory is allocated in slabs of 1 MB on demand and reused afterwards. The default value is 256 MB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistoryOffHeapBudget";
+    }
+  }
 }
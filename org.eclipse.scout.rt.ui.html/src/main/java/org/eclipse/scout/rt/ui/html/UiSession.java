@@ -145,6 +145,7 @@ public class UiSession implements IUiSession {
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
   private volatile boolean m_persistent;
+  private volatile Set<String> m_clientCapabilities = Collections.emptySet();
 
   public UiSession() {
     m_jsonAdapterRegistry = createJsonAdapterRegistry();
@@ -215,6 +216,7 @@ public class UiSession implements IUiSession {
 
       m_httpContext.set(req, resp);
       m_currentJsonRequest = jsonStartupReq;
+      m_clientCapabilities = jsonStartupReq.getCapabilities();
       HttpSession httpSession = req.getSession();
 
       // Create a special startup response (explicitly _without_ sequenceNo)
@@ -516,6 +518,11 @@ public class UiSession implements IUiSession {
     return m_persistent;
   }
 
+  @Override
+  public boolean hasClientCapability(String capability) {
+    return m_clientCapabilities.contains(capability);
+  }
+
   protected final ISessionStore sessionStore() {
     return m_sessionStore;
   }
@@ -564,6 +571,11 @@ public class UiSession implements IUiSession {
     return m_lastAccessedTime;
   }
 
+  @Override
+  public long getEstimatedMemory() {
+    return BEANS.get(UiSessionMemoryEstimator.class).estimate(jsonAdapterRegistry().size(), m_responseHistory);
+  }
+
   @Override
   public void dispose() {
 
@@ -615,6 +627,7 @@ public class UiSession implements IUiSession {
     signalPoller(); // Notify waiting requests - should not delay web-container shutdown
 
     m_jsonAdapterRegistry.disposeAdapters();
+    m_responseHistory.clear();
     m_httpContext.clear();
     m_currentJsonResponse = null;
   }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import org.eclipse.scout.rt.client.ClientSessionMemoryEstimator;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.ui.html.json.JsonAdapterRegistry;
+
+/**
+ * Estimates the heap retained by a UI session: its JSON adapters and the responses in its {@link ResponseHistory}. The
+ * model of the client session is estimated separately by the {@link ClientSessionMemoryEstimator}.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class UiSessionMemoryEstimator {
+
+  /**
+   * Average size of a JSON adapter including its entry in the {@link JsonAdapterRegistry}, its model listeners and the
+   * state it keeps to compute property changes.
+   */
+  public static final long JSON_ADAPTER_BYTES = 512;
+
+  public long estimate(int jsonAdapterCount, ResponseHistory responseHistory) {
+    return jsonAdapterCount * JSON_ADAPTER_BYTES + responseHistory.getEstimatedHeapSize();
+  }
+}
@@ -11,23 +11,29 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
+import org.eclipse.scout.rt.ui.html.OffHeapResponseHistoryStore;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryOffHeapProperty;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +47,15 @@ public class JsonRequestHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsonRequestHelper.class);
 
+  private OffHeapResponseHistoryStore m_offHeapResponseHistoryStore;
+
+  @PostConstruct
+  protected void initOffHeapResponseHistoryStore() {
+    if (CONFIG.getPropertyValue(ResponseHistoryOffHeapProperty.class)) {
+      m_offHeapResponseHistoryStore = BEANS.get(OffHeapResponseHistoryStore.class);
+    }
+  }
+
   /**
    * @return {@link JSONObject} to indicate that an unrecoverable failure occurred.
    */
@@ -144,41 +159,86 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON is first encoded into a {@link JsonResponseBuffer} (see {@link JSONObject#write(Writer)}), so that large
+   * responses are neither materialized as {@link String} nor as one large byte array. Nothing is written to the servlet
+   * response until the serialization succeeded. If the JSON cannot be serialized, an
+   * {@link #createUnrecoverableFailureResponse(Long) unrecoverable failure response} is sent instead.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
-    if (servletResponse.getContentType() == null) {
-      servletResponse.setContentType("application/json");
-    }
-    servletResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
-
-    // Clear the current thread's interruption status before writing the response to the output stream.
-    // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
-    IRestorer interruption = ThreadInterruption.clear();
+    JsonResponseBuffer buffer = new JsonResponseBuffer();
     try {
-      servletResponse.getOutputStream().write(data);
-    }
-    catch (final Exception e) {
-      if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
-        // Ignore disconnect errors: we do not want to throw an exception, if the client closed the connection.
-        LOG.debug("Connection Error: ", e);
-        return;
+      if (serializeResponse(jsonResponse, buffer)) {
+        responseSerialized(jsonResponse, buffer);
+      }
+
+      if (servletResponse.getContentType() == null) {
+        servletResponse.setContentType("application/json");
+      }
+      servletResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+      servletResponse.setContentLengthLong(buffer.size());
+
+      // Clear the current thread's interruption status before writing the response to the output stream.
+      // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
+      IRestorer interruption = ThreadInterruption.clear();
+      try {
+        buffer.writeTo(servletResponse.getOutputStream());
+      }
+      catch (final Exception e) {
+        if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
+          // Ignore disconnect errors: we do not want to throw an exception, if the client closed the connection.
+          LOG.debug("Connection Error: ", e);
+          return;
+        }
+        throw e;
+      }
+      finally {
+        interruption.restore();
       }
-      throw e;
     }
     finally {
-      interruption.restore();
+      buffer.release();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
     }
   }
 
+  /**
+   * Serializes the given response into the buffer. If this fails, the buffer contains an unrecoverable failure
+   * response with the same sequence number instead (to keep the response queue order of the UI consistent).
+   *
+   * @return <code>true</code> if the given response was serialized, <code>false</code> if the buffer contains a failure
+   *         response
+   */
+  protected boolean serializeResponse(JSONObject jsonResponse, JsonResponseBuffer buffer) throws IOException {
+    try {
+      jsonResponse.write(buffer);
+      return true;
+    }
+    catch (JSONException e) {
+      LOG.warn("Error while serializing JSON response", e);
+      buffer.release();
+      Long sequenceNo = jsonResponse.has(JsonResponse.PROP_SEQUENCE_NO) ? jsonResponse.optLong(JsonResponse.PROP_SEQUENCE_NO) : null;
+      createUnrecoverableFailureResponse(sequenceNo).write(buffer);
+      return false;
+    }
+  }
+
+  /**
+   * Called after the given response was serialized into the buffer and before it is written to the servlet response.
+   * Hands the serialized bytes over to the {@link OffHeapResponseHistoryStore} (if enabled) so the response history
+   * does not need to serialize the response again.
+   */
+  protected void responseSerialized(JSONObject jsonResponse, JsonResponseBuffer buffer) {
+    if (m_offHeapResponseHistoryStore != null) {
+      m_offHeapResponseHistoryStore.capture(jsonResponse, buffer);
+    }
+  }
+
   /**
    * Reads the content of {@link ServletRequest} into a {@link JSONObject}.
    */
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.json.JSONObject;
+
+/**
+ * Buffer for a serialized JSON response: the characters written to it are encoded as UTF-8 into chunks of
+ * {@value #CHUNK_SIZE} bytes. Unlike a {@link String} or a byte array, the response is never copied as a whole and
+ * the chunks are reused by subsequent responses (see {@link #release()}).
+ * <p>
+ * A response is completely serialized into the buffer before anything is written to the servlet response, hence
+ * serialization errors (e.g. {@link Double#NaN} values in a {@link JSONObject}) do not leave a truncated response
+ * behind and the content length is known.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 23.2
+ */
+public class JsonResponseBuffer extends Writer {
+
+  public static final int CHUNK_SIZE = 16 * 1024;
+
+  /**
+   * Maximum number of chunks kept for reuse by all buffers (i.e. 4 MB).
+   */
+  protected static final int MAX_POOLED_CHUNKS = 256;
+
+  private static final ArrayBlockingQueue<byte[]> CHUNK_POOL = new ArrayBlockingQueue<>(MAX_POOLED_CHUNKS);
+
+  private final List<byte[]> m_chunks = new ArrayList<>();
+  private byte[] m_chunk;
+  private int m_position;
+  private long m_size;
+  private char m_highSurrogate;
+
+  @Override
+  public void write(int c) {
+    encode((char) c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) {
+    for (int i = off; i < off + len; i++) {
+      encode(cbuf[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) {
+    for (int i = off; i < off + len; i++) {
+      encode(str.charAt(i));
+    }
+  }
+
+  @Override
+  public Writer append(CharSequence csq) {
+    CharSequence s = csq == null ? "null" : csq;
+    return append(s, 0, s.length());
+  }
+
+  @Override
+  public Writer append(CharSequence csq, int start, int end) {
+    CharSequence s = csq == null ? "null" : csq;
+    for (int i = start; i < end; i++) {
+      encode(s.charAt(i));
+    }
+    return this;
+  }
+
+  /**
+   * Encodes a character as UTF-8. A surrogate pair is encoded as one 4-byte sequence, an unpaired surrogate is replaced
+   * by '?' (like {@link java.nio.charset.StandardCharsets#UTF_8} does).
+   */
+  protected void encode(char c) {
+    if (m_highSurrogate != 0) {
+      char high = m_highSurrogate;
+      m_highSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        int codePoint = Character.toCodePoint(high, c);
+        put(0xf0 | (codePoint >> 18));
+        put(0x80 | ((codePoint >> 12) & 0x3f));
+        put(0x80 | ((codePoint >> 6) & 0x3f));
+        put(0x80 | (codePoint & 0x3f));
+        return;
+      }
+      put('?');
+    }
+    if (c < 0x80) {
+      put(c);
+    }
+    else if (c < 0x800) {
+      put(0xc0 | (c >> 6));
+      put(0x80 | (c & 0x3f));
+    }
+    else if (Character.isHighSurrogate(c)) {
+      m_highSurrogate = c;
+    }
+    else if (Character.isLowSurrogate(c)) {
+      put('?');
+    }
+    else {
+      put(0xe0 | (c >> 12));
+      put(0x80 | ((c >> 6) & 0x3f));
+      put(0x80 | (c & 0x3f));
+    }
+  }
+
+  protected void put(int b) {
+    if (m_chunk == null || m_position == CHUNK_SIZE) {
+      m_chunk = acquireChunk();
+      m_chunks.add(m_chunk);
+      m_position = 0;
+    }
+    m_chunk[m_position++] = (byte) b;
+    m_size++;
+  }
+
+  /**
+   * Encodes a pending unpaired high surrogate. Called by {@link #size()} and {@link #writeTo(OutputStream)}.
+   */
+  @Override
+  public void flush() {
+    if (m_highSurrogate != 0) {
+      m_highSurrogate = 0;
+      put('?');
+    }
+  }
+
+  /**
+   * Does nothing, see {@link #release()}.
+   */
+  @Override
+  public void close() {
+    // nop
+  }
+
+  /**
+   * @return number of bytes in this buffer
+   */
+  public long size() {
+    flush();
+    return m_size;
+  }
+
+  /**
+   * @return number of chunks used by this buffer
+   */
+  public int getChunkCount() {
+    flush();
+    return m_chunks.size();
+  }
+
+  /**
+   * @return the chunk with the given index. Only the first {@link #getChunkLength(int)} bytes are part of the buffer.
+   */
+  public byte[] getChunk(int index) {
+    return m_chunks.get(index);
+  }
+
+  public int getChunkLength(int index) {
+    return index < m_chunks.size() - 1 ? CHUNK_SIZE : m_position;
+  }
+
+  /**
+   * Writes the content of this buffer to the given stream.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    int count = getChunkCount();
+    for (int i = 0; i < count; i++) {
+      out.write(getChunk(i), 0, getChunkLength(i));
+    }
+  }
+
+  /**
+   * Discards the content of this buffer and returns its chunks to the pool for reuse. The buffer may be written again
+   * afterwards.
+   */
+  public void release() {
+    for (byte[] chunk : m_chunks) {
+      CHUNK_POOL.offer(chunk);
+    }
+    m_chunks.clear();
+    m_chunk = null;
+    m_position = 0;
+    m_size = 0;
+    m_highSurrogate = 0;
+  }
+
+  protected byte[] acquireChunk() {
+    byte[] chunk = CHUNK_POOL.poll();
+    return chunk != null ? chunk : new byte[CHUNK_SIZE];
+  }
+
+  @Override
+  public String toString() {
+    return JsonResponseBuffer.class.getSimpleName() + "[size=" + m_size + ", chunks=" + m_chunks.size() + "]";
+  }
+}
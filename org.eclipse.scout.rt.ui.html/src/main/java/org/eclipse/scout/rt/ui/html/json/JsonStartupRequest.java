@@ -11,7 +11,9 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.ui.html.IUiSession;
@@ -29,6 +31,8 @@ import org.json.JSONObject;
  * scout.UserAgent.DEVICE_TYPE_DESKTOP</li>
  * <li>{@link JsonStartupRequest#PROP_SESSION_STARTUP_PARAMS} - contains session startup parameters to scout.init() as
  * well as all location url parameters and the url itself with key 'url'</li>
+ * <li>{@link JsonStartupRequest#PROP_CAPABILITIES} - optional protocol features supported by the UI, see
+ * {@link IUiSession#hasClientCapability(String)}</li>
  * </ul>
  */
 public class JsonStartupRequest extends JsonRequest {
@@ -38,12 +42,15 @@ public class JsonStartupRequest extends JsonRequest {
   public static final String PROP_USER_AGENT = "userAgent";
   public static final String PROP_SESSION_STARTUP_PARAMS = "sessionStartupParams";
   public static final String PROP_VERSION = "version";
+  public static final String PROP_CAPABILITIES = "capabilities";
 
   private final Map<String, String> m_sessionStartupParams;
+  private final Set<String> m_capabilities;
 
   public JsonStartupRequest(JsonRequest request) {
     super(request.getRequestObject());
     m_sessionStartupParams = parseSessionStartupParams(request.getRequestObject());
+    m_capabilities = parseCapabilities(request.getRequestObject());
   }
 
   /**
@@ -81,6 +88,14 @@ public class JsonStartupRequest extends JsonRequest {
     return m_sessionStartupParams;
   }
 
+  /**
+   * @return capabilities announced by the UI, or an empty {@link Set} if not provided (optional attribute)
+   * @since 23.2
+   */
+  public Set<String> getCapabilities() {
+    return m_capabilities;
+  }
+
   protected Map<String, String> parseSessionStartupParams(JSONObject object) {
     JSONObject params = getRequestObject().optJSONObject(PROP_SESSION_STARTUP_PARAMS);
     if (params == null) {
@@ -96,4 +111,17 @@ public class JsonStartupRequest extends JsonRequest {
     }
     return Collections.unmodifiableMap(map);
   }
+
+  protected Set<String> parseCapabilities(JSONObject object) {
+    JSONArray capabilities = object.optJSONArray(PROP_CAPABILITIES);
+    if (capabilities == null) {
+      return Collections.emptySet();
+    }
+    Set<String> set = new HashSet<>(capabilities.length());
+    for (int i = 0; i < capabilities.length(); i++) {
+      set.add(capabilities.optString(i, null));
+    }
+    set.remove(null);
+    return Collections.unmodifiableSet(set);
+  }
 }
@@ -50,6 +50,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
@@ -61,6 +62,8 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowDiffEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableRowWindowSizeProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -127,6 +130,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_FETCH_ROWS = "fetchRows";
+  public static final String EVENT_SELECT_ALL_ROWS = "selectAllRows";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -139,6 +144,22 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_CELLS = "cells";
+  public static final String PROP_CELL_UPDATES = "cellUpdates";
+  public static final String PROP_REMAINING_ROW_COUNT = "remainingRowCount";
+  public static final String PROP_TOTAL_ROW_COUNT = "totalRowCount";
+
+  /**
+   * Capability announced by the UI if it is able to process rows containing {@link #PROP_CELL_UPDATES} instead of
+   * {@link #PROP_CELLS}, see {@link TableRowDiffEnabledProperty}.
+   */
+  public static final String CLIENT_CAPABILITY_TABLE_ROW_DIFF = "tableRowDiff";
+
+  /**
+   * Capability announced by the UI if it is able to request further rows using {@link #EVENT_FETCH_ROWS}, see
+   * {@link TableRowWindowSizeProperty}.
+   */
+  public static final String CLIENT_CAPABILITY_TABLE_ROW_WINDOW = "tableRowWindow";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -150,6 +171,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  private final JsonTableCellDiff m_cellDiff; // null if only complete rows are sent
+  private final int m_rowWindowSize; // 0 if all rows are sent at once
+  private Set<ITableRow> m_deliveredRows; // null if all accepted rows are sent to the UI
+  private int m_remainingRowCount;
+  private int m_totalRowCount;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -160,12 +186,56 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     m_jsonColumns = new HashMap<>();
     m_eventBuffer = model.createEventBuffer();
     m_binaryResourceMediator = createBinaryResourceMediator();
+    m_cellDiff = isRowDiffEnabled() ? createCellDiff() : null;
+    m_rowWindowSize = isRowWindowEnabled() ? getRowWindowSize() : 0;
   }
 
   protected BinaryResourceMediator createBinaryResourceMediator() {
     return new BinaryResourceMediator(this);
   }
 
+  /**
+   * @return <code>true</code> if updated rows are sent with the changed cells only. This requires the feature to be
+   *         enabled by {@link TableRowDiffEnabledProperty} and to be supported by the UI.
+   */
+  protected boolean isRowDiffEnabled() {
+    return CONFIG.getPropertyValue(TableRowDiffEnabledProperty.class) && getUiSession().hasClientCapability(CLIENT_CAPABILITY_TABLE_ROW_DIFF);
+  }
+
+  protected JsonTableCellDiff createCellDiff() {
+    return new JsonTableCellDiff();
+  }
+
+  /**
+   * @return <code>true</code> if large tables are sent to the UI in windows of rows. This requires a window size to be
+   *         configured by {@link TableRowWindowSizeProperty} and the feature to be supported by the UI.
+   */
+  protected boolean isRowWindowEnabled() {
+    return getRowWindowSize() > 0 && getUiSession().hasClientCapability(CLIENT_CAPABILITY_TABLE_ROW_WINDOW);
+  }
+
+  /**
+   * @return number of rows sent to the UI at once if the rows are sent in windows
+   */
+  protected int getRowWindowSize() {
+    return CONFIG.getPropertyValue(TableRowWindowSizeProperty.class);
+  }
+
+  /**
+   * @return <code>true</code> if the rows of the table may currently be sent in windows. Hierarchical tables, tables in
+   *         tile mode and tables with user filters or grouped columns are always sent completely, because the UI needs
+   *         all rows to display them correctly.
+   */
+  protected boolean isRowWindowApplicable() {
+    if (m_rowWindowSize <= 0 || getModel().isHierarchical() || getModel().isTileMode()) {
+      return false;
+    }
+    if (getModel().getUserFilterManager() != null && !getModel().getUserFilterManager().getFilters().isEmpty()) {
+      return false;
+    }
+    return getModel().getColumnSet().getVisibleColumns().stream().noneMatch(IColumn::isGroupingActive);
+  }
+
   @Override
   public String getObjectType() {
     return "Table";
@@ -509,12 +579,22 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void disposeAllRows() {
     m_tableRowIds.clear();
     m_tableRows.clear();
+    m_deliveredRows = null;
+    if (m_cellDiff != null) {
+      m_cellDiff.clear();
+    }
   }
 
   protected void disposeRow(ITableRow row) {
     String rowId = m_tableRowIds.get(row);
     m_tableRowIds.remove(row);
     m_tableRows.remove(rowId);
+    if (m_cellDiff != null) {
+      m_cellDiff.forget(rowId);
+    }
+    if (m_deliveredRows != null) {
+      m_deliveredRows.remove(row);
+    }
   }
 
   protected void disposeRows(Collection<ITableRow> rows) {
@@ -567,7 +647,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    json.put(PROP_ROWS, tableRowsToJson(getInitialRows()));
+    m_totalRowCount = 0;
+    m_remainingRowCount = 0;
+    if (m_deliveredRows != null) {
+      m_totalRowCount = computeAcceptedRowCount();
+      m_remainingRowCount = m_totalRowCount - m_deliveredRows.size();
+      json.put(PROP_TOTAL_ROW_COUNT, m_totalRowCount);
+      json.put(PROP_REMAINING_ROW_COUNT, m_remainingRowCount);
+    }
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -585,13 +673,181 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
-        jsonRows.put(tableRowToJson(row));
+        JSONObject jsonRow = tableRowToJson(row);
+        if (m_cellDiff != null) {
+          m_cellDiff.remember(jsonRow.getString("id"), jsonRow.getJSONArray(PROP_CELLS));
+        }
+        if (m_deliveredRows != null) {
+          m_deliveredRows.add(row);
+        }
+        jsonRows.put(jsonRow);
         acceptedRows.add(row);
       }
     }
     return jsonRows;
   }
 
+  /**
+   * @return the rows to be sent with the initial {@link #toJson()}. If the rows are sent in windows (see
+   *         {@link TableRowWindowSizeProperty}), only the first rows and the selected rows are returned, the others
+   *         are requested by the UI using {@link #EVENT_FETCH_ROWS}.
+   */
+  protected List<ITableRow> getInitialRows() {
+    m_deliveredRows = null;
+    List<ITableRow> rows = getModel().getRows();
+    if (!isRowWindowApplicable()) {
+      return rows;
+    }
+    Set<ITableRow> selectedRows = new HashSet<>(getModel().getSelectedRows());
+    List<ITableRow> initialRows = new ArrayList<>();
+    int acceptedRowCount = 0;
+    for (ITableRow row : rows) {
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      acceptedRowCount++;
+      if (acceptedRowCount <= m_rowWindowSize || selectedRows.contains(row)) {
+        initialRows.add(row);
+      }
+    }
+    if (initialRows.size() < acceptedRowCount) {
+      m_deliveredRows = new HashSet<>();
+    }
+    return initialRows;
+  }
+
+  /**
+   * @return <code>true</code> if the row has been sent to the UI. Rows not yet requested by the UI (see
+   *         {@link TableRowWindowSizeProperty}) must not be referenced by any event.
+   */
+  public boolean isRowDelivered(ITableRow row) {
+    return m_deliveredRows == null || m_deliveredRows.contains(row);
+  }
+
+  protected List<ITableRow> filterDeliveredRows(Collection<ITableRow> rows) {
+    return rows.stream().filter(this::isRowDelivered).collect(Collectors.toList());
+  }
+
+  /**
+   * @return number of accepted rows, including the rows not yet sent to the UI
+   */
+  protected int computeAcceptedRowCount() {
+    int acceptedRowCount = 0;
+    for (ITableRow row : getModel().getRows()) {
+      if (isRowAccepted(row)) {
+        acceptedRowCount++;
+      }
+    }
+    return acceptedRowCount;
+  }
+
+  /**
+   * Sends the next <code>count</code> rows not yet sent to the UI (in the order of the model).
+   */
+  protected void deliverRows(int count) {
+    if (m_deliveredRows == null || count <= 0) {
+      return;
+    }
+    List<ITableRow> rows = new ArrayList<>();
+    for (ITableRow row : getModel().getRows()) {
+      if (rows.size() == count) {
+        break;
+      }
+      if (isRowAccepted(row) && !m_deliveredRows.contains(row)) {
+        rows.add(row);
+      }
+    }
+    ensureRowsDelivered(rows);
+  }
+
+  protected void deliverAllRows() {
+    deliverRows(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Sends the given rows if they have not been sent to the UI yet, so that they may be referenced by events. Other rows
+   * are not sent.
+   */
+  protected void ensureRowsDelivered(Collection<ITableRow> rows) {
+    if (m_deliveredRows == null || rows.isEmpty()) {
+      return;
+    }
+    Set<ITableRow> missingRows = new HashSet<>();
+    for (ITableRow row : rows) {
+      if (isRowAccepted(row) && !m_deliveredRows.contains(row)) {
+        missingRows.add(row);
+      }
+    }
+    if (missingRows.isEmpty()) {
+      return;
+    }
+    List<ITableRow> sortedRows = new ArrayList<>(missingRows.size());
+    boolean appended = true; // false if rows have to be inserted between the rows already sent
+    for (ITableRow row : getModel().getRows()) {
+      if (missingRows.contains(row)) {
+        sortedRows.add(row);
+      }
+      else if (!sortedRows.isEmpty() && m_deliveredRows.contains(row)) {
+        appended = false;
+      }
+    }
+    Set<ITableRow> acceptedRows = new HashSet<>();
+    JSONObject jsonEvent = new JSONObject();
+    putProperty(jsonEvent, PROP_ROWS, tableRowsToJson(sortedRows, acceptedRows));
+    addActionEvent(EVENT_ROWS_INSERTED, jsonEvent);
+    m_listeners.fireEvent(new JsonTableEvent(this, JsonTreeEvent.TYPE_NODES_INSERTED, acceptedRows));
+    if (!appended) {
+      sendRowOrder(getModel().getRows());
+    }
+  }
+
+  /**
+   * Informs the UI about the number of rows of the table and the number of rows which may still be requested. Stops
+   * sending the rows in windows as soon as all rows are sent.
+   */
+  protected void updateRemainingRowCount() {
+    int totalRowCount = 0;
+    int remainingRowCount = 0;
+    if (m_deliveredRows != null) {
+      totalRowCount = computeAcceptedRowCount();
+      remainingRowCount = totalRowCount - m_deliveredRows.size();
+    }
+    if (remainingRowCount <= 0) {
+      m_deliveredRows = null;
+      totalRowCount = 0;
+      remainingRowCount = 0;
+    }
+    if (totalRowCount != m_totalRowCount) {
+      m_totalRowCount = totalRowCount;
+      addPropertyChangeEvent(PROP_TOTAL_ROW_COUNT, totalRowCount);
+    }
+    if (remainingRowCount != m_remainingRowCount) {
+      m_remainingRowCount = remainingRowCount;
+      addPropertyChangeEvent(PROP_REMAINING_ROW_COUNT, remainingRowCount);
+    }
+  }
+
+  /**
+   * Like {@link #tableRowsToJson(Collection)}, but replaces the {@link #PROP_CELLS} of rows already sent to the UI by
+   * {@link #PROP_CELL_UPDATES} containing the changed cells only (see {@link JsonTableCellDiff}). Must only be called if
+   * {@link #isRowDiffEnabled()} is <code>true</code>.
+   */
+  protected JSONArray tableRowDiffsToJson(Collection<ITableRow> rows) {
+    JSONArray jsonRows = new JSONArray();
+    for (ITableRow row : rows) {
+      if (isRowAccepted(row)) {
+        JSONObject jsonRow = tableRowToJson(row);
+        JSONArray cellUpdates = m_cellDiff.diff(jsonRow.getString("id"), jsonRow.getJSONArray(PROP_CELLS));
+        if (cellUpdates != null) {
+          jsonRow.remove(PROP_CELLS);
+          jsonRow.put(PROP_CELL_UPDATES, cellUpdates);
+        }
+        jsonRows.put(jsonRow);
+      }
+    }
+    return jsonRows;
+  }
+
   @Override
   public void handleUiEvent(JsonEvent event) {
     if (EVENT_ROW_CLICK.equals(event.getType())) {
@@ -660,6 +916,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_FETCH_ROWS.equals(event.getType())) {
+      handleUiFetchRows(event);
+    }
+    else if (EVENT_SELECT_ALL_ROWS.equals(event.getType())) {
+      handleUiSelectAllRows(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -812,7 +1074,26 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  protected void handleUiFetchRows(JsonEvent event) {
+    deliverRows(m_rowWindowSize);
+    updateRemainingRowCount();
+  }
+
+  /**
+   * Sent by the UI instead of {@link #EVENT_ROWS_SELECTED} to select all rows if not all rows have been sent yet. The
+   * rows selected are sent before the selection.
+   */
+  protected void handleUiSelectAllRows(JsonEvent event) {
+    List<ITableRow> rows = getModel().getRows().stream()
+        .filter(this::isRowAccepted)
+        .collect(Collectors.toList());
+    getModel().getUIFacade().setSelectedRowsFromUI(rows);
+  }
+
   protected void handleUiGroup(JsonEvent event) {
+    // Groups and their aggregations are computed by the UI, it needs all rows
+    deliverAllRows();
+    updateRemainingRowCount();
     if (!event.getData().optBoolean("groupingRequested")) {
       addTableEventFilterCondition(TableEvent.TYPE_ROW_ORDER_CHANGED);
     }
@@ -900,6 +1181,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (row == null || !isRowAccepted(row)) {
       return;
     }
+    ensureRowsDelivered(CollectionUtility.arrayList(row));
     if (field == null) {
       // Cell is not editable, simply ignore the request for editing it.
       // This may happen if the JSON request contained other events that
@@ -964,6 +1246,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
       return;
     }
 
+    // User filters are applied by the UI, it needs all rows
+    deliverAllRows();
+    updateRemainingRowCount();
     TableEventFilterCondition condition = addTableEventFilterCondition(TableEvent.TYPE_USER_FILTER_ADDED);
     condition.setUserFilter(filterState);
     getModel().getUIFacade().fireFilterAddedFromUI(filterState);
@@ -1022,7 +1307,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject jsonRow = new JSONObject();
     putProperty(jsonRow, "id", getOrCreateRowId(row));
     putProperty(jsonRow, "parentRow", getOrCreateRowId(getModel().findParentRow(row)));
-    putProperty(jsonRow, "cells", jsonCells);
+    putProperty(jsonRow, PROP_CELLS, jsonCells);
     putProperty(jsonRow, "checked", row.isChecked());
     putProperty(jsonRow, "enabled", row.isEnabled());
     putProperty(jsonRow, "expanded", row.isExpanded());
@@ -1092,7 +1377,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
         continue;
       }
       String rowId = getTableRowId(row);
-      if (rowId == null) { // Ignore rows that are not yet sent to the UI
+      if (rowId == null || !isRowDelivered(row)) { // Ignore rows that are not yet sent to the UI
         continue;
       }
       jsonRowIds.put(rowId);
@@ -1359,6 +1644,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     for (TableEvent event : coalescedEvents) {
       processEvent(event);
     }
+    if (m_rowWindowSize > 0) {
+      updateRemainingRowCount();
+    }
   }
 
   protected void processEvent(TableEvent event) {
@@ -1430,6 +1718,19 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
+    if (m_deliveredRows == null && modelRows.size() > m_rowWindowSize && isRowWindowApplicable()) {
+      // Start sending the rows in windows, all rows known so far have been sent
+      m_deliveredRows = new HashSet<>(m_tableRowIds.keySet());
+      m_deliveredRows.removeAll(modelRows);
+    }
+    if (m_deliveredRows != null) {
+      // Send the rows inserted in between the rows already sent and fill up the current window,
+      // the UI requests the other rows when needed
+      if (restoreRowWindow(getModel().getRows())) {
+        deliverRows(m_rowWindowSize - m_deliveredRows.size());
+      }
+      return;
+    }
     Set<ITableRow> acceptedRows = new HashSet<>();
     JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
     if (jsonRows.length() == 0) {
@@ -1442,7 +1743,11 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
-    JSONArray jsonRows = tableRowsToJson(modelRows);
+    if (m_deliveredRows != null) {
+      // Rows not yet sent to the UI are sent with their current state when requested
+      modelRows = filterDeliveredRows(modelRows);
+    }
+    JSONArray jsonRows = m_cellDiff != null ? tableRowDiffsToJson(modelRows) : tableRowsToJson(modelRows);
     if (jsonRows.length() == 0) {
       return;
     }
@@ -1466,7 +1771,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
       if (rowId == null) { // Ignore rows that are not yet sent to the UI (may happen when a filtered row is deleted)
         continue;
       }
-      jsonRowIds.put(rowId);
+      if (isRowDelivered(row)) {
+        jsonRowIds.put(rowId);
+      }
       disposeRow(row);
       disposedRows.add(row);
     }
@@ -1505,11 +1812,16 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     m_tableRows.clear();
     m_tableRowIds.clear();
+    m_deliveredRows = null;
+    if (m_cellDiff != null) {
+      m_cellDiff.clear();
+    }
     addActionEvent(EVENT_ALL_ROWS_DELETED);
     m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_DELETED, disposedRows));
   }
 
   protected void handleModelRowsSelected(Collection<ITableRow> modelRows) {
+    ensureRowsDelivered(modelRows);
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_IDS, rowIdsToJson(modelRows));
     addActionEvent(EVENT_ROWS_SELECTED, jsonEvent);
@@ -1518,7 +1830,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : modelRows) {
-      if (!isRowAccepted(row)) {
+      if (!isRowAccepted(row) || !isRowDelivered(row)) {
         continue;
       }
       JSONObject jsonRow = new JSONObject();
@@ -1537,6 +1849,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsExpanded(List<ITableRow> rows) {
     JSONArray jsonRows = new JSONArray();
     rows.stream().filter(this::isRowAccepted)
+        .filter(this::isRowDelivered)
         .map(row -> {
           JSONObject jsonRow = new JSONObject();
           putProperty(jsonRow, "id", getTableRowId(row));
@@ -1550,10 +1863,54 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowOrderChanged(Collection<ITableRow> modelRows) {
+    if (m_deliveredRows != null && !restoreRowWindow(modelRows)) {
+      return;
+    }
+    sendRowOrder(modelRows);
+  }
+
+  /**
+   * Ensures the rows sent to the UI (apart from the selected rows) are the first rows of the table after the row order
+   * changed. Rows moved in between the rows already sent are sent as well. If there are too many of them (e.g. because
+   * the table was sorted), the rows sent are deleted in the UI and the window is reset to the first rows.
+   *
+   * @return <code>true</code> if the row order still has to be sent to the UI
+   */
+  protected boolean restoreRowWindow(Collection<ITableRow> modelRows) {
+    Set<ITableRow> windowRows = new HashSet<>(m_deliveredRows);
+    windowRows.removeAll(getModel().getSelectedRows()); // selected rows are sent regardless of their position
+    List<ITableRow> missingRows = new ArrayList<>();
+    int windowRowCount = 0;
+    for (ITableRow row : modelRows) {
+      if (windowRowCount == windowRows.size()) {
+        break;
+      }
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      if (windowRows.contains(row)) {
+        windowRowCount++;
+      }
+      else if (!m_deliveredRows.contains(row)) {
+        missingRows.add(row);
+      }
+    }
+    if (missingRows.size() <= m_rowWindowSize) {
+      ensureRowsDelivered(missingRows);
+      return true;
+    }
+    handleModelAllRowsDeleted();
+    m_deliveredRows = new HashSet<>();
+    deliverRows(m_rowWindowSize);
+    handleModelRowsSelected(getModel().getSelectedRows());
+    return false;
+  }
+
+  protected void sendRowOrder(Collection<ITableRow> modelRows) {
     JSONArray jsonRowIds = new JSONArray();
     List<String> rowIds = new ArrayList<>();
     for (ITableRow row : modelRows) {
-      if (isRowAccepted(row)) {
+      if (isRowAccepted(row) && isRowDelivered(row)) {
         String rowId = getTableRowId(row);
         jsonRowIds.put(rowId);
         rowIds.add(rowId);
@@ -1567,7 +1924,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
       List<String> missingRowIds = new ArrayList<>(m_tableRows.keySet());
       missingRowIds.removeAll(rowIds);
       for (String id : missingRowIds) {
-        jsonRowIds.put(id);
+        if (isRowDelivered(m_tableRows.get(id))) {
+          jsonRowIds.put(id);
+        }
       }
     }
 
@@ -1665,6 +2024,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (row == null || !isRowAccepted(row)) {
       return;
     }
+    ensureRowsDelivered(event.getRows());
 
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_ID, getOrCreateRowId(row));
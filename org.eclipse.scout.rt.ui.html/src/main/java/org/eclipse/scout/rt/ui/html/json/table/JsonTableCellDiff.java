@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json.table;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Remembers the cells of the table rows sent to the UI and computes which of them changed when a row is updated.
+ * <p>
+ * The changed cells are encoded as a flat array of alternating cell index and cell, e.g.
+ * <code>[2, "new text", 5, {"text": "1'000", "value": 1000}]</code>. The cell index is the index in the
+ * <code>cells</code> array of the row, i.e. the index of the column among the columns sent to the UI. Cells are
+ * compared by value, see {@link #equalCells(Object, Object)}.
+ * <p>
+ * This class is not thread-safe. It is used by {@link JsonTable} while holding the UI session lock.
+ *
+ * @since 23.2
+ */
+public class JsonTableCellDiff {
+
+  private final Map<String, JSONArray> m_sentCells = new HashMap<>();
+
+  /**
+   * Remembers the given cells as the ones sent to the UI for the row with the given id. The cells are not copied, they
+   * must not be modified after being sent.
+   */
+  public void remember(String rowId, JSONArray cells) {
+    m_sentCells.put(rowId, cells);
+  }
+
+  /**
+   * Computes the changed cells of the row with the given id and remembers the given cells as the ones sent to the UI.
+   *
+   * @return the changed cells (see class comment) or <code>null</code> if the cells of this row were not sent before
+   *         or if their number changed. In this case the UI has to receive all cells.
+   */
+  public JSONArray diff(String rowId, JSONArray cells) {
+    JSONArray previous = m_sentCells.put(rowId, cells);
+    if (previous == null || previous.length() != cells.length()) {
+      return null;
+    }
+    JSONArray cellUpdates = new JSONArray();
+    for (int i = 0; i < cells.length(); i++) {
+      if (!equalCells(cells.opt(i), previous.opt(i))) {
+        cellUpdates.put(i);
+        cellUpdates.put(cells.get(i));
+      }
+    }
+    return cellUpdates;
+  }
+
+  public void forget(String rowId) {
+    m_sentCells.remove(rowId);
+  }
+
+  public void clear() {
+    m_sentCells.clear();
+  }
+
+  /**
+   * @return number of rows whose cells are remembered
+   */
+  public int size() {
+    return m_sentCells.size();
+  }
+
+  /**
+   * Compares two cells (or cell properties) by value. Cells are either plain strings or {@link JSONObject}s.
+   */
+  protected boolean equalCells(Object a, Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a instanceof JSONObject && b instanceof JSONObject) {
+      JSONObject o1 = (JSONObject) a;
+      JSONObject o2 = (JSONObject) b;
+      if (o1.length() != o2.length()) {
+        return false;
+      }
+      for (Iterator<String> it = o1.keys(); it.hasNext();) {
+        String key = it.next();
+        if (!equalCells(o1.opt(key), o2.opt(key))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a instanceof JSONArray && b instanceof JSONArray) {
+      JSONArray a1 = (JSONArray) a;
+      JSONArray a2 = (JSONArray) b;
+      if (a1.length() != a2.length()) {
+        return false;
+      }
+      for (int i = 0; i < a1.length(); i++) {
+        if (!equalCells(a1.opt(i), a2.opt(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return Objects.equals(a, b);
+  }
+}
@@ -15,7 +15,9 @@ import java.util.List;
 
 import javax.management.MXBean;
 
+import org.eclipse.scout.rt.client.ClientSessionMemoryEstimator;
 import org.eclipse.scout.rt.ui.html.ISessionStore;
+import org.eclipse.scout.rt.ui.html.UiSessionMemoryEstimator;
 
 /**
  * Jmx control collecting statistics of all {@link ISessionStore}
@@ -31,6 +33,13 @@ public interface ISessionMonitorMBean {
 
   int getNumClientSessions();
 
+  /**
+   * @return estimated number of bytes retained by all UI sessions and client sessions, see
+   *         {@link UiSessionMemoryEstimator} and {@link ClientSessionMemoryEstimator}
+   * @since 23.2
+   */
+  long getEstimatedMemory();
+
   /**
    * @return all session details ordered by uiState, clientState, uiSessionId
    */
@@ -49,9 +58,18 @@ public interface ISessionMonitorMBean {
     private final String m_uiState;
     private final String m_clientState;
     private final long m_lastAccessed;
+    private final long m_estimatedUiMemory;
+    private final long m_estimatedClientMemory;
 
-    @ConstructorProperties({"httpSessionId", "uiSessionId", "clientSessionId", "userId", "uiState", "clientState", "lastAccessed"})
     public SessionDetail(String httpSessionId, String uiSessionId, String clientSessionId, String userId, String uiState, String clientState, long lastAccessed) {//NOSONAR
+      this(httpSessionId, uiSessionId, clientSessionId, userId, uiState, clientState, lastAccessed, -1L, -1L);
+    }
+
+    /**
+     * @since 23.2
+     */
+    @ConstructorProperties({"httpSessionId", "uiSessionId", "clientSessionId", "userId", "uiState", "clientState", "lastAccessed", "estimatedUiMemory", "estimatedClientMemory"})
+    public SessionDetail(String httpSessionId, String uiSessionId, String clientSessionId, String userId, String uiState, String clientState, long lastAccessed, long estimatedUiMemory, long estimatedClientMemory) {//NOSONAR
       m_httpSessionId = httpSessionId;
       m_uiSessionId = uiSessionId;
       m_clientSessionId = clientSessionId;
@@ -59,6 +77,8 @@ public interface ISessionMonitorMBean {
       m_uiState = uiState;
       m_clientState = clientState;
       m_lastAccessed = lastAccessed;
+      m_estimatedUiMemory = estimatedUiMemory;
+      m_estimatedClientMemory = estimatedClientMemory;
     }
 
     public String getHttpSessionId() {
@@ -93,6 +113,23 @@ public interface ISessionMonitorMBean {
       return (System.currentTimeMillis() - m_lastAccessed) / 1000L;
     }
 
+    /**
+     * @return estimated number of bytes retained by the UI session or -1 if unknown
+     * @since 23.2
+     */
+    public long getEstimatedUiMemory() {
+      return m_estimatedUiMemory;
+    }
+
+    /**
+     * @return estimated number of bytes retained by the client session or -1 if unknown. If a client session is used by
+     *         several UI sessions, each of their details contains the full estimation.
+     * @since 23.2
+     */
+    public long getEstimatedClientMemory() {
+      return m_estimatedClientMemory;
+    }
+
     public static String toCsvHeader() {
       return ""
           + "UiState | "
@@ -102,7 +139,9 @@ public interface ISessionMonitorMBean {
           + "UserId | "
           + "HttpSession | "
           + "UiSession | "
-          + "ClientSession";
+          + "ClientSession | "
+          + "UiMemory[KB] | "
+          + "ClientMemory[KB]";
     }
 
     public String toCsvRow() {
@@ -114,7 +153,13 @@ public interface ISessionMonitorMBean {
           + m_userId + " | "
           + m_httpSessionId + " | "
           + m_uiSessionId + " | "
-          + m_clientSessionId;
+          + m_clientSessionId + " | "
+          + toKiloBytes(m_estimatedUiMemory) + " | "
+          + toKiloBytes(m_estimatedClientMemory);
+    }
+
+    protected static long toKiloBytes(long bytes) {
+      return bytes < 0 ? bytes : bytes / 1024L;
     }
 
     @Override
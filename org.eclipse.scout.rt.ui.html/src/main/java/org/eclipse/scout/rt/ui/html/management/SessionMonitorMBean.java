@@ -25,8 +25,10 @@ import javax.annotation.PreDestroy;
 import javax.management.ObjectName;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.scout.rt.client.ClientSessionMemoryEstimator;
 import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.CreateImmediately;
 import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
 import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
@@ -110,6 +112,28 @@ public class SessionMonitorMBean implements ISessionMonitorMBean {
         .count();
   }
 
+  @Override
+  public long getEstimatedMemory() {
+    long uiMemory = m_uiSessionRefs
+        .keySet()
+        .stream()
+        .map(Reference::get)
+        .filter(Objects::nonNull)
+        .mapToLong(IUiSession::getEstimatedMemory)
+        .filter(bytes -> bytes > 0)
+        .sum();
+    ClientSessionMemoryEstimator estimator = BEANS.get(ClientSessionMemoryEstimator.class);
+    long clientMemory = m_clientSessionRefs
+        .keySet()
+        .stream()
+        .map(Reference::get)
+        .filter(Objects::nonNull)
+        .mapToLong(estimator::estimate)
+        .filter(bytes -> bytes > 0)
+        .sum();
+    return uiMemory + clientMemory;
+  }
+
   @Override
   public List<String> getSessionTable() {
     List<SessionDetail> details = getSessionDetails();
@@ -162,12 +186,15 @@ public class SessionMonitorMBean implements ISessionMonitorMBean {
     String clientSessionId = "";
     String userId = "";
     long lastAccessed = 0L;
+    long estimatedUiMemory = -1L;
+    long estimatedClientMemory = -1L;
     String uiState = "";
     String clientState = "";
     if (uiSession != null) {
       httpSessionId = uiSession.getHttpSessionId();
       uiSessionId = uiSession.getUiSessionId();
       lastAccessed = uiSession.getLastAccessedTime();
+      estimatedUiMemory = uiSession.getEstimatedMemory();
       if (uiSession.isDisposed()) {
         uiState = "Disposed";
       }
@@ -181,6 +208,7 @@ public class SessionMonitorMBean implements ISessionMonitorMBean {
     if (clientSession != null) {
       clientSessionId = clientSession.getId();
       userId = clientSession.getUserId();
+      estimatedClientMemory = BEANS.get(ClientSessionMemoryEstimator.class).estimate(clientSession);
       if (clientSession.isStopping()) {
         if (clientSession.isActive()) {
           clientState = "Stopping";
@@ -205,6 +233,8 @@ public class SessionMonitorMBean implements ISessionMonitorMBean {
         userId,
         uiState,
         clientState,
-        lastAccessed);
+        lastAccessed,
+        estimatedUiMemory,
+        estimatedClientMemory);
   }
 }